@@ -0,0 +1,190 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import de.mrapp.android.validation.Validator;
+import de.mrapp.android.validation.validators.misc.DomainNameValidator;
+import de.mrapp.android.validation.validators.misc.EmailAddressValidator;
+import de.mrapp.android.validation.validators.misc.IPv4AddressValidator;
+import de.mrapp.android.validation.validators.misc.IPv6AddressValidator;
+import de.mrapp.android.validation.validators.misc.IRIValidator;
+import de.mrapp.android.validation.validators.misc.PhoneNumberValidator;
+
+/**
+ * Measures the throughput of the validators, which are based on regular expressions, when
+ * validating adversarial texts. Such texts almost match the regular expressions, but fail at
+ * their very end, which forces backtracking regular expression engines to try many alternatives
+ * before rejecting them.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+@State(Scope.Benchmark)
+public class AdversarialRegexBenchmark {
+
+    /**
+     * Contains all validators, which are benchmarked, together with the patterns, adversarial
+     * texts are composed of.
+     */
+    public enum Target {
+
+        /**
+         * If the validator of the class {@link EmailAddressValidator} should be benchmarked.
+         */
+        EMAIL_ADDRESS("a@a", ".a", "!"),
+
+        /**
+         * If the validator of the class {@link DomainNameValidator} should be benchmarked.
+         */
+        DOMAIN_NAME("", "a-a.", "!"),
+
+        /**
+         * If the validator of the class {@link IRIValidator} should be benchmarked.
+         */
+        IRI("http://", "a-a.", "!"),
+
+        /**
+         * If the validator of the class {@link PhoneNumberValidator} should be benchmarked.
+         */
+        PHONE_NUMBER("+", "1 ", "x"),
+
+        /**
+         * If the validator of the class {@link IPv4AddressValidator} should be benchmarked.
+         */
+        IPV4_ADDRESS("", "255.", "x"),
+
+        /**
+         * If the validator of the class {@link IPv6AddressValidator} should be benchmarked.
+         */
+        IPV6_ADDRESS("", "fe80:", "x");
+
+        /**
+         * The prefix of adversarial texts.
+         */
+        private final String prefix;
+
+        /**
+         * The pattern, which is repeated by adversarial texts.
+         */
+        private final String pattern;
+
+        /**
+         * The suffix of adversarial texts, which causes the validation to fail.
+         */
+        private final String suffix;
+
+        /**
+         * Creates a new target.
+         *
+         * @param prefix
+         *         The prefix of adversarial texts as a {@link String}
+         * @param pattern
+         *         The pattern, which is repeated by adversarial texts, as a {@link String}
+         * @param suffix
+         *         The suffix of adversarial texts, which causes the validation to fail, as a
+         *         {@link String}
+         */
+        Target(final String prefix, final String pattern, final String suffix) {
+            this.prefix = prefix;
+            this.pattern = pattern;
+            this.suffix = suffix;
+        }
+
+        /**
+         * Creates and returns the validator, which should be benchmarked.
+         *
+         * @param errorMessage
+         *         The error message of the validator as a {@link String}
+         * @return The validator, which has been created, as an instance of the type
+         * {@link Validator}
+         */
+        private Validator<CharSequence> createValidator(final String errorMessage) {
+            switch (this) {
+                case EMAIL_ADDRESS:
+                    return new EmailAddressValidator(errorMessage);
+                case DOMAIN_NAME:
+                    return new DomainNameValidator(errorMessage);
+                case IRI:
+                    return new IRIValidator(errorMessage);
+                case PHONE_NUMBER:
+                    return new PhoneNumberValidator(errorMessage);
+                case IPV4_ADDRESS:
+                    return new IPv4AddressValidator(errorMessage);
+                default:
+                    return new IPv6AddressValidator(errorMessage);
+            }
+        }
+
+        /**
+         * Creates and returns an adversarial text.
+         *
+         * @param length
+         *         The length of the text, which should be created, as an {@link Integer} value
+         * @return The text, which has been created, as a {@link String}
+         */
+        private String createText(final int length) {
+            return prefix + TextInput.repeat(pattern, length) + suffix;
+        }
+
+    }
+
+    /**
+     * The validator, which is benchmarked.
+     */
+    @Param({"EMAIL_ADDRESS", "DOMAIN_NAME", "IRI", "PHONE_NUMBER", "IPV4_ADDRESS",
+            "IPV6_ADDRESS"})
+    public Target target;
+
+    /**
+     * The number of characters, which are repeated by the adversarial text.
+     */
+    @Param({"16", "256", "4096"})
+    public int length;
+
+    /**
+     * The validator, which is benchmarked.
+     */
+    private Validator<CharSequence> validator;
+
+    /**
+     * The adversarial text, which is validated.
+     */
+    private String text;
+
+    /**
+     * Creates the validator, which is benchmarked, and the adversarial text.
+     */
+    @Setup
+    public void setUp() {
+        validator = target.createValidator("error");
+        text = target.createText(length);
+    }
+
+    /**
+     * Validates the adversarial text.
+     *
+     * @return The result of the validation as a {@link Boolean} value
+     */
+    @Benchmark
+    public boolean validate() {
+        return validator.validate(text);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.regex.Pattern;
+
+import de.mrapp.android.validation.Constraint;
+import de.mrapp.android.validation.Constraints;
+
+/**
+ * Measures the throughput and allocation rate of all constraints, which can be created by using
+ * the factory methods of the class {@link Constraints}.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+@State(Scope.Benchmark)
+public class ConstraintsBenchmark {
+
+    /**
+     * The constraint, which has been created by using the method
+     * {@link Constraints#regex(Pattern)}.
+     */
+    private Constraint<CharSequence> regex;
+
+    /**
+     * The constraint, which has been created by using the method
+     * {@link Constraints#minLength(int)}.
+     */
+    private Constraint<CharSequence> minLength;
+
+    /**
+     * The constraint, which has been created by using the method
+     * {@link Constraints#containsNumber()}.
+     */
+    private Constraint<CharSequence> containsNumber;
+
+    /**
+     * The constraint, which has been created by using the method
+     * {@link Constraints#containsLetter()}.
+     */
+    private Constraint<CharSequence> containsLetter;
+
+    /**
+     * The constraint, which has been created by using the method
+     * {@link Constraints#containsSymbol()}.
+     */
+    private Constraint<CharSequence> containsSymbol;
+
+    /**
+     * The constraint, which has been created by using the method
+     * {@link Constraints#negate(Constraint)}.
+     */
+    private Constraint<CharSequence> negate;
+
+    /**
+     * The constraint, which has been created by using the method
+     * {@link Constraints#conjunctive(Constraint[])}.
+     */
+    private Constraint<CharSequence> conjunctive;
+
+    /**
+     * The constraint, which has been created by using the method
+     * {@link Constraints#disjunctive(Constraint[])}.
+     */
+    private Constraint<CharSequence> disjunctive;
+
+    /**
+     * Creates the constraints, which are benchmarked.
+     */
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        regex = Constraints.regex(Pattern.compile(".*[A-Z].*"));
+        minLength = Constraints.minLength(8);
+        containsNumber = Constraints.containsNumber();
+        containsLetter = Constraints.containsLetter();
+        containsSymbol = Constraints.containsSymbol();
+        negate = Constraints.negate(Constraints.containsSymbol());
+        conjunctive = Constraints.conjunctive(Constraints.minLength(8),
+                Constraints.containsNumber(), Constraints.containsLetter());
+        disjunctive = Constraints.disjunctive(Constraints.containsSymbol(),
+                Constraints.containsNumber(), Constraints.containsLetter());
+    }
+
+    /**
+     * Verifies a text by using the constraint, which has been created by using the method
+     * {@link Constraints#regex(Pattern)}.
+     *
+     * @param input
+     *         The input, which provides the text, which should be verified, as an instance of the
+     *         class {@link TextInput}
+     * @return True, if the text satisfies the constraint, false otherwise
+     */
+    @Benchmark
+    public boolean regex(final TextInput input) {
+        return regex.isSatisfied(input.text);
+    }
+
+    /**
+     * Verifies a text by using the constraint, which has been created by using the method
+     * {@link Constraints#minLength(int)}.
+     *
+     * @param input
+     *         The input, which provides the text, which should be verified, as an instance of the
+     *         class {@link TextInput}
+     * @return True, if the text satisfies the constraint, false otherwise
+     */
+    @Benchmark
+    public boolean minLength(final TextInput input) {
+        return minLength.isSatisfied(input.text);
+    }
+
+    /**
+     * Verifies a text by using the constraint, which has been created by using the method
+     * {@link Constraints#containsNumber()}.
+     *
+     * @param input
+     *         The input, which provides the text, which should be verified, as an instance of the
+     *         class {@link TextInput}
+     * @return True, if the text satisfies the constraint, false otherwise
+     */
+    @Benchmark
+    public boolean containsNumber(final TextInput input) {
+        return containsNumber.isSatisfied(input.text);
+    }
+
+    /**
+     * Verifies a text by using the constraint, which has been created by using the method
+     * {@link Constraints#containsLetter()}.
+     *
+     * @param input
+     *         The input, which provides the text, which should be verified, as an instance of the
+     *         class {@link TextInput}
+     * @return True, if the text satisfies the constraint, false otherwise
+     */
+    @Benchmark
+    public boolean containsLetter(final TextInput input) {
+        return containsLetter.isSatisfied(input.text);
+    }
+
+    /**
+     * Verifies a text by using the constraint, which has been created by using the method
+     * {@link Constraints#containsSymbol()}.
+     *
+     * @param input
+     *         The input, which provides the text, which should be verified, as an instance of the
+     *         class {@link TextInput}
+     * @return True, if the text satisfies the constraint, false otherwise
+     */
+    @Benchmark
+    public boolean containsSymbol(final TextInput input) {
+        return containsSymbol.isSatisfied(input.text);
+    }
+
+    /**
+     * Verifies a text by using the constraint, which has been created by using the method
+     * {@link Constraints#negate(Constraint)}.
+     *
+     * @param input
+     *         The input, which provides the text, which should be verified, as an instance of the
+     *         class {@link TextInput}
+     * @return True, if the text satisfies the constraint, false otherwise
+     */
+    @Benchmark
+    public boolean negate(final TextInput input) {
+        return negate.isSatisfied(input.text);
+    }
+
+    /**
+     * Verifies a text by using the constraint, which has been created by using the method
+     * {@link Constraints#conjunctive(Constraint[])}.
+     *
+     * @param input
+     *         The input, which provides the text, which should be verified, as an instance of the
+     *         class {@link TextInput}
+     * @return True, if the text satisfies the constraint, false otherwise
+     */
+    @Benchmark
+    public boolean conjunctive(final TextInput input) {
+        return conjunctive.isSatisfied(input.text);
+    }
+
+    /**
+     * Verifies a text by using the constraint, which has been created by using the method
+     * {@link Constraints#disjunctive(Constraint[])}.
+     *
+     * @param input
+     *         The input, which provides the text, which should be verified, as an instance of the
+     *         class {@link TextInput}
+     * @return True, if the text satisfies the constraint, false otherwise
+     */
+    @Benchmark
+    public boolean disjunctive(final TextInput input) {
+        return disjunctive.isSatisfied(input.text);
+    }
+
+}
\ No newline at end of file
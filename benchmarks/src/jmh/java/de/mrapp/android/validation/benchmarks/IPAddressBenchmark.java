@@ -0,0 +1,190 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.regex.Pattern;
+
+import de.mrapp.android.validation.Validator;
+import de.mrapp.android.validation.validators.misc.IPv4AddressValidator;
+import de.mrapp.android.validation.validators.misc.IPv6AddressValidator;
+
+/**
+ * Compares the throughput of the validators {@link IPv4AddressValidator} and {@link
+ * IPv6AddressValidator} to the regular expressions, which have been used by these validators
+ * before version 2.2.0, when validating valid, invalid and adversarial texts.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+@State(Scope.Benchmark)
+public class IPAddressBenchmark {
+
+    /**
+     * Contains all kinds of texts, which are validated.
+     */
+    public enum Input {
+
+        /**
+         * If valid IPv4 addresses should be validated.
+         */
+        IPV4_VALID("192.168.100.254"),
+
+        /**
+         * If invalid IPv4 addresses should be validated.
+         */
+        IPV4_INVALID("192.168.100.256"),
+
+        /**
+         * If adversarial texts, which consist of many octets, should be validated as IPv4
+         * addresses.
+         */
+        IPV4_ADVERSARIAL("255." + TextInput.repeat("255.", 1024) + "x"),
+
+        /**
+         * If valid IPv6 addresses should be validated.
+         */
+        IPV6_VALID("fe80::0202:b3ff:fe1e:8329"),
+
+        /**
+         * If invalid IPv6 addresses should be validated.
+         */
+        IPV6_INVALID("fe80:0000:0000:0000:0202:b3ff:fe1e:832g"),
+
+        /**
+         * If adversarial texts, which consist of many groups, should be validated as IPv6
+         * addresses.
+         */
+        IPV6_ADVERSARIAL("fe80:" + TextInput.repeat("fe80:", 1024) + ":x");
+
+        /**
+         * The text, which is validated.
+         */
+        private final String text;
+
+        /**
+         * Creates a new kind of texts.
+         *
+         * @param text
+         *         The text, which is validated, as a {@link String}
+         */
+        Input(final String text) {
+            this.text = text;
+        }
+
+        /**
+         * Returns, whether the text is validated as an IPv4 address, or not.
+         *
+         * @return True, if the text is validated as an IPv4 address, false otherwise
+         */
+        private boolean isIPv4() {
+            return this == IPV4_VALID || this == IPV4_INVALID || this == IPV4_ADVERSARIAL;
+        }
+
+    }
+
+    /**
+     * The regular expression, which has previously been used to validate IPv4 addresses.
+     */
+    private static final Pattern IPV4_REGEX =
+            Pattern.compile("(^$)" + "|(^([01]?\\d\\d?|2[0-4]\\d|25[0-5])\\." +
+                    "([01]?\\d\\d?|2[0-4]\\d|25[0-5])\\." +
+                    "([01]?\\d\\d?|2[0-4]\\d|25[0-5])\\." +
+                    "([01]?\\d\\d?|2[0-4]\\d|25[0-5])$)");
+
+    /**
+     * The regular expression, which has previously been used to validate IPv6 addresses.
+     */
+    private static final Pattern IPV6_REGEX =
+            Pattern.compile("(^$)" + "|(^(?:[0-9a-fA-F]{1,4}:){7}[0-9a-fA-F]{1,4}$)" +
+                    "|(^((?:[0-9A-Fa-f]{1,4}(?::[0-9A-Fa-f]{1,4})*)?)::" +
+                    "((?:[0-9A-Fa-f]{1,4}(?::[0-9A-Fa-f]{1,4})*)?)$)");
+
+    /**
+     * The kind of texts, which are validated.
+     */
+    @Param({"IPV4_VALID", "IPV4_INVALID", "IPV4_ADVERSARIAL", "IPV6_VALID", "IPV6_INVALID",
+            "IPV6_ADVERSARIAL"})
+    public Input input;
+
+    /**
+     * The validator, which is benchmarked.
+     */
+    private Validator<CharSequence> validator;
+
+    /**
+     * The regular expression, the validator is compared to.
+     */
+    private Pattern regex;
+
+    /**
+     * The array, IPv4 addresses are parsed into.
+     */
+    private int[] iPv4Address;
+
+    /**
+     * The array, IPv6 addresses are parsed into.
+     */
+    private long[] iPv6Address;
+
+    /**
+     * Creates the validator, which is benchmarked.
+     */
+    @Setup
+    public void setUp() {
+        validator = input.isIPv4() ? new IPv4AddressValidator("error") :
+                new IPv6AddressValidator("error");
+        regex = input.isIPv4() ? IPV4_REGEX : IPV6_REGEX;
+        iPv4Address = new int[1];
+        iPv6Address = new long[2];
+    }
+
+    /**
+     * Validates the text by using the validator.
+     *
+     * @return The result of the validation as a {@link Boolean} value
+     */
+    @Benchmark
+    public boolean validator() {
+        return validator.validate(input.text);
+    }
+
+    /**
+     * Parses the text by using the parse-method of the validator's class.
+     *
+     * @return True, if the text has been parsed, false otherwise
+     */
+    @Benchmark
+    public boolean parse() {
+        return input.isIPv4() ? IPv4AddressValidator.parse(input.text, iPv4Address) :
+                IPv6AddressValidator.parse(input.text, iPv6Address);
+    }
+
+    /**
+     * Validates the text by using the regular expression, which has previously been used by the
+     * validator.
+     *
+     * @return True, if the text matches the regular expression, false otherwise
+     */
+    @Benchmark
+    public boolean regex() {
+        return regex.matcher(input.text).matches();
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.benchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A benchmark state, which provides texts of different lengths and character sets, which are
+ * validated by the benchmarks.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+@State(Scope.Benchmark)
+public class TextInput {
+
+    /**
+     * Contains all character sets, texts can be composed of.
+     */
+    public enum Charset {
+
+        /**
+         * If the text consists of ASCII letters.
+         */
+        ASCII_LETTERS("abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ"),
+
+        /**
+         * If the text consists of ASCII digits.
+         */
+        ASCII_DIGITS("0123456789"),
+
+        /**
+         * If the text consists of characters outside of the basic multilingual plane, which are
+         * encoded as surrogate pairs.
+         */
+        NON_BMP("\uD83D\uDE00\uD835\uDC00\uD840\uDC00");
+
+        /**
+         * The characters, the text is composed of.
+         */
+        private final String characters;
+
+        /**
+         * Creates a new character set.
+         *
+         * @param characters
+         *         The characters, the text is composed of, as a {@link String}
+         */
+        Charset(final String characters) {
+            this.characters = characters;
+        }
+
+    }
+
+    /**
+     * The length of the text in UTF-16 code units.
+     */
+    @Param({"0", "16", "1024", "100000"})
+    public int length;
+
+    /**
+     * The character set, the text is composed of.
+     */
+    @Param({"ASCII_LETTERS", "ASCII_DIGITS", "NON_BMP"})
+    public Charset charset;
+
+    /**
+     * The text, which is validated by the benchmarks.
+     */
+    public CharSequence text;
+
+    /**
+     * Creates the text, which is validated by the benchmarks.
+     */
+    @Setup
+    public void setUp() {
+        text = repeat(charset.characters, length);
+    }
+
+    /**
+     * Creates and returns a text of a specific length by repeating a specific pattern.
+     *
+     * @param pattern
+     *         The pattern, which should be repeated, as a {@link String}. The pattern may not be
+     *         empty
+     * @param length
+     *         The length of the text, which should be created, as an {@link Integer} value
+     * @return The text, which has been created, as a {@link String}
+     */
+    public static String repeat(final String pattern, final int length) {
+        StringBuilder builder = new StringBuilder(length);
+
+        while (builder.length() < length) {
+            builder.append(pattern, 0, Math.min(pattern.length(), length - builder.length()));
+        }
+
+        return builder.toString();
+    }
+
+}
\ No newline at end of file
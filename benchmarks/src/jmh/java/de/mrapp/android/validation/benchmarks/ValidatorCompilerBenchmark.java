@@ -0,0 +1,95 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import de.mrapp.android.validation.Validator;
+import de.mrapp.android.validation.regex.ValidatorCompiler;
+import de.mrapp.android.validation.validators.ConjunctiveValidator;
+import de.mrapp.android.validation.validators.DisjunctiveValidator;
+import de.mrapp.android.validation.validators.text.Case;
+import de.mrapp.android.validation.validators.text.LetterOrNumberValidator;
+import de.mrapp.android.validation.validators.text.MaxLengthValidator;
+import de.mrapp.android.validation.validators.text.MinLengthValidator;
+import de.mrapp.android.validation.validators.text.NoWhitespaceValidator;
+import de.mrapp.android.validation.validators.text.NumberValidator;
+import de.mrapp.android.validation.validators.text.RegexValidator;
+
+/**
+ * Compares the throughput of a tree of validators, which is evaluated node by node, to the
+ * throughput of the same tree, after it has been compiled by the class {@link
+ * ValidatorCompiler}.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+@State(Scope.Benchmark)
+public class ValidatorCompilerBenchmark {
+
+    /**
+     * The tree of validators, which is evaluated node by node.
+     */
+    private Validator<CharSequence> tree;
+
+    /**
+     * The tree of validators, which has been compiled.
+     */
+    private Validator<CharSequence> compiledTree;
+
+    /**
+     * Creates the validators, which are benchmarked.
+     */
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        tree = ConjunctiveValidator.create("error",
+                new LetterOrNumberValidator("error", Case.CASE_INSENSITIVE, false),
+                new NoWhitespaceValidator("error"), new MinLengthValidator("error", 8),
+                new MaxLengthValidator("error", 64),
+                DisjunctiveValidator.create("error", new NumberValidator("error"),
+                        new RegexValidator("error", "[a-z].*")));
+        compiledTree = ValidatorCompiler.compile(tree);
+    }
+
+    /**
+     * Validates the text by evaluating the tree of validators node by node.
+     *
+     * @param input
+     *         The text, which should be validated, as an instance of the class {@link
+     *         TextInput}
+     * @return The result of the validation as a {@link Boolean} value
+     */
+    @Benchmark
+    public boolean tree(final TextInput input) {
+        return tree.validate(input.text);
+    }
+
+    /**
+     * Validates the text by using the compiled tree of validators.
+     *
+     * @param input
+     *         The text, which should be validated, as an instance of the class {@link
+     *         TextInput}
+     * @return The result of the validation as a {@link Boolean} value
+     */
+    @Benchmark
+    public boolean compiledTree(final TextInput input) {
+        return compiledTree.validate(input.text);
+    }
+
+}
\ No newline at end of file
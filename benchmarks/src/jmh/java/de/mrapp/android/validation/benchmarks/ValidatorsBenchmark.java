@@ -0,0 +1,436 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.regex.Pattern;
+
+import de.mrapp.android.validation.Validator;
+import de.mrapp.android.validation.validators.ConjunctiveValidator;
+import de.mrapp.android.validation.validators.DisjunctiveValidator;
+import de.mrapp.android.validation.validators.NegateValidator;
+import de.mrapp.android.validation.validators.NotNullValidator;
+import de.mrapp.android.validation.validators.misc.DomainNameValidator;
+import de.mrapp.android.validation.validators.misc.EmailAddressValidator;
+import de.mrapp.android.validation.validators.misc.IPv4AddressValidator;
+import de.mrapp.android.validation.validators.misc.IPv6AddressValidator;
+import de.mrapp.android.validation.validators.misc.IRIValidator;
+import de.mrapp.android.validation.validators.misc.PhoneNumberValidator;
+import de.mrapp.android.validation.validators.text.BeginsWithUppercaseLetterValidator;
+import de.mrapp.android.validation.validators.text.Case;
+import de.mrapp.android.validation.validators.text.LetterOrNumberValidator;
+import de.mrapp.android.validation.validators.text.LetterValidator;
+import de.mrapp.android.validation.validators.text.MaxLengthValidator;
+import de.mrapp.android.validation.validators.text.MinLengthValidator;
+import de.mrapp.android.validation.validators.text.NoWhitespaceValidator;
+import de.mrapp.android.validation.validators.text.NotEmptyValidator;
+import de.mrapp.android.validation.validators.text.NumberValidator;
+import de.mrapp.android.validation.validators.text.RegexValidator;
+
+/**
+ * Measures the throughput and allocation rate of all validators, which are provided by the
+ * validation core and do not refer to a view.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+@State(Scope.Benchmark)
+public class ValidatorsBenchmark {
+
+    /**
+     * The error message, which is used by the validators.
+     */
+    private static final String ERROR_MESSAGE = "error";
+
+    /**
+     * The validator of the class {@link NotNullValidator}, which is benchmarked.
+     */
+    private Validator<Object> notNull;
+
+    /**
+     * The validator of the class {@link RegexValidator}, which is benchmarked.
+     */
+    private Validator<CharSequence> regex;
+
+    /**
+     * The validator of the class {@link NotEmptyValidator}, which is benchmarked.
+     */
+    private Validator<CharSequence> notEmpty;
+
+    /**
+     * The validator of the class {@link MinLengthValidator}, which is benchmarked.
+     */
+    private Validator<CharSequence> minLength;
+
+    /**
+     * The validator of the class {@link MaxLengthValidator}, which is benchmarked.
+     */
+    private Validator<CharSequence> maxLength;
+
+    /**
+     * The validator of the class {@link NoWhitespaceValidator}, which is benchmarked.
+     */
+    private Validator<CharSequence> noWhitespace;
+
+    /**
+     * The validator of the class {@link NumberValidator}, which is benchmarked.
+     */
+    private Validator<CharSequence> number;
+
+    /**
+     * The validator of the class {@link LetterValidator}, which is benchmarked.
+     */
+    private Validator<CharSequence> letter;
+
+    /**
+     * The validator of the class {@link LetterOrNumberValidator}, which is benchmarked.
+     */
+    private Validator<CharSequence> letterOrNumber;
+
+    /**
+     * The validator of the class {@link BeginsWithUppercaseLetterValidator}, which is benchmarked.
+     */
+    private Validator<CharSequence> beginsWithUppercaseLetter;
+
+    /**
+     * The validator of the class {@link IPv4AddressValidator}, which is benchmarked.
+     */
+    private Validator<CharSequence> iPv4Address;
+
+    /**
+     * The validator of the class {@link IPv6AddressValidator}, which is benchmarked.
+     */
+    private Validator<CharSequence> iPv6Address;
+
+    /**
+     * The validator of the class {@link DomainNameValidator}, which is benchmarked.
+     */
+    private Validator<CharSequence> domainName;
+
+    /**
+     * The validator of the class {@link EmailAddressValidator}, which is benchmarked.
+     */
+    private Validator<CharSequence> emailAddress;
+
+    /**
+     * The validator of the class {@link IRIValidator}, which is benchmarked.
+     */
+    private Validator<CharSequence> iri;
+
+    /**
+     * The validator of the class {@link PhoneNumberValidator}, which is benchmarked.
+     */
+    private Validator<CharSequence> phoneNumber;
+
+    /**
+     * The validator of the class {@link NegateValidator}, which is benchmarked.
+     */
+    private Validator<CharSequence> negate;
+
+    /**
+     * The validator of the class {@link ConjunctiveValidator}, which is benchmarked.
+     */
+    private Validator<CharSequence> conjunctive;
+
+    /**
+     * The validator of the class {@link DisjunctiveValidator}, which is benchmarked.
+     */
+    private Validator<CharSequence> disjunctive;
+
+    /**
+     * Creates the validators, which are benchmarked.
+     */
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        notNull = new NotNullValidator(ERROR_MESSAGE);
+        regex = new RegexValidator(ERROR_MESSAGE, Pattern.compile("[a-zA-Z0-9]*"));
+        notEmpty = new NotEmptyValidator(ERROR_MESSAGE);
+        minLength = new MinLengthValidator(ERROR_MESSAGE, 8);
+        maxLength = new MaxLengthValidator(ERROR_MESSAGE, 1024);
+        noWhitespace = new NoWhitespaceValidator(ERROR_MESSAGE);
+        number = new NumberValidator(ERROR_MESSAGE);
+        letter = new LetterValidator(ERROR_MESSAGE, Case.CASE_INSENSITIVE, true, '-');
+        letterOrNumber =
+                new LetterOrNumberValidator(ERROR_MESSAGE, Case.CASE_INSENSITIVE, true, '-');
+        beginsWithUppercaseLetter = new BeginsWithUppercaseLetterValidator(ERROR_MESSAGE);
+        iPv4Address = new IPv4AddressValidator(ERROR_MESSAGE);
+        iPv6Address = new IPv6AddressValidator(ERROR_MESSAGE);
+        domainName = new DomainNameValidator(ERROR_MESSAGE);
+        emailAddress = new EmailAddressValidator(ERROR_MESSAGE);
+        iri = new IRIValidator(ERROR_MESSAGE);
+        phoneNumber = new PhoneNumberValidator(ERROR_MESSAGE);
+        negate = NegateValidator.create(ERROR_MESSAGE, new NumberValidator(ERROR_MESSAGE));
+        conjunctive = ConjunctiveValidator.create(ERROR_MESSAGE,
+                new NotEmptyValidator(ERROR_MESSAGE), new MaxLengthValidator(ERROR_MESSAGE, 1024),
+                new NoWhitespaceValidator(ERROR_MESSAGE));
+        disjunctive = DisjunctiveValidator.create(ERROR_MESSAGE,
+                new NumberValidator(ERROR_MESSAGE),
+                new LetterValidator(ERROR_MESSAGE, Case.CASE_INSENSITIVE, false),
+                new EmailAddressValidator(ERROR_MESSAGE));
+    }
+
+    /**
+     * Validates a text by using the validator of the class {@link NotNullValidator}.
+     *
+     * @param input
+     *         The input, which provides the text, which should be validated, as an instance of the
+     *         class {@link TextInput}
+     * @return The result of the validation as a {@link Boolean} value
+     */
+    @Benchmark
+    public boolean notNull(final TextInput input) {
+        return notNull.validate(input.text);
+    }
+
+    /**
+     * Validates a text by using the validator of the class {@link RegexValidator}.
+     *
+     * @param input
+     *         The input, which provides the text, which should be validated, as an instance of the
+     *         class {@link TextInput}
+     * @return The result of the validation as a {@link Boolean} value
+     */
+    @Benchmark
+    public boolean regex(final TextInput input) {
+        return regex.validate(input.text);
+    }
+
+    /**
+     * Validates a text by using the validator of the class {@link NotEmptyValidator}.
+     *
+     * @param input
+     *         The input, which provides the text, which should be validated, as an instance of the
+     *         class {@link TextInput}
+     * @return The result of the validation as a {@link Boolean} value
+     */
+    @Benchmark
+    public boolean notEmpty(final TextInput input) {
+        return notEmpty.validate(input.text);
+    }
+
+    /**
+     * Validates a text by using the validator of the class {@link MinLengthValidator}.
+     *
+     * @param input
+     *         The input, which provides the text, which should be validated, as an instance of the
+     *         class {@link TextInput}
+     * @return The result of the validation as a {@link Boolean} value
+     */
+    @Benchmark
+    public boolean minLength(final TextInput input) {
+        return minLength.validate(input.text);
+    }
+
+    /**
+     * Validates a text by using the validator of the class {@link MaxLengthValidator}.
+     *
+     * @param input
+     *         The input, which provides the text, which should be validated, as an instance of the
+     *         class {@link TextInput}
+     * @return The result of the validation as a {@link Boolean} value
+     */
+    @Benchmark
+    public boolean maxLength(final TextInput input) {
+        return maxLength.validate(input.text);
+    }
+
+    /**
+     * Validates a text by using the validator of the class {@link NoWhitespaceValidator}.
+     *
+     * @param input
+     *         The input, which provides the text, which should be validated, as an instance of the
+     *         class {@link TextInput}
+     * @return The result of the validation as a {@link Boolean} value
+     */
+    @Benchmark
+    public boolean noWhitespace(final TextInput input) {
+        return noWhitespace.validate(input.text);
+    }
+
+    /**
+     * Validates a text by using the validator of the class {@link NumberValidator}.
+     *
+     * @param input
+     *         The input, which provides the text, which should be validated, as an instance of the
+     *         class {@link TextInput}
+     * @return The result of the validation as a {@link Boolean} value
+     */
+    @Benchmark
+    public boolean number(final TextInput input) {
+        return number.validate(input.text);
+    }
+
+    /**
+     * Validates a text by using the validator of the class {@link LetterValidator}.
+     *
+     * @param input
+     *         The input, which provides the text, which should be validated, as an instance of the
+     *         class {@link TextInput}
+     * @return The result of the validation as a {@link Boolean} value
+     */
+    @Benchmark
+    public boolean letter(final TextInput input) {
+        return letter.validate(input.text);
+    }
+
+    /**
+     * Validates a text by using the validator of the class {@link LetterOrNumberValidator}.
+     *
+     * @param input
+     *         The input, which provides the text, which should be validated, as an instance of the
+     *         class {@link TextInput}
+     * @return The result of the validation as a {@link Boolean} value
+     */
+    @Benchmark
+    public boolean letterOrNumber(final TextInput input) {
+        return letterOrNumber.validate(input.text);
+    }
+
+    /**
+     * Validates a text by using the validator of the class
+     * {@link BeginsWithUppercaseLetterValidator}.
+     *
+     * @param input
+     *         The input, which provides the text, which should be validated, as an instance of the
+     *         class {@link TextInput}
+     * @return The result of the validation as a {@link Boolean} value
+     */
+    @Benchmark
+    public boolean beginsWithUppercaseLetter(final TextInput input) {
+        return beginsWithUppercaseLetter.validate(input.text);
+    }
+
+    /**
+     * Validates a text by using the validator of the class {@link IPv4AddressValidator}.
+     *
+     * @param input
+     *         The input, which provides the text, which should be validated, as an instance of the
+     *         class {@link TextInput}
+     * @return The result of the validation as a {@link Boolean} value
+     */
+    @Benchmark
+    public boolean iPv4Address(final TextInput input) {
+        return iPv4Address.validate(input.text);
+    }
+
+    /**
+     * Validates a text by using the validator of the class {@link IPv6AddressValidator}.
+     *
+     * @param input
+     *         The input, which provides the text, which should be validated, as an instance of the
+     *         class {@link TextInput}
+     * @return The result of the validation as a {@link Boolean} value
+     */
+    @Benchmark
+    public boolean iPv6Address(final TextInput input) {
+        return iPv6Address.validate(input.text);
+    }
+
+    /**
+     * Validates a text by using the validator of the class {@link DomainNameValidator}.
+     *
+     * @param input
+     *         The input, which provides the text, which should be validated, as an instance of the
+     *         class {@link TextInput}
+     * @return The result of the validation as a {@link Boolean} value
+     */
+    @Benchmark
+    public boolean domainName(final TextInput input) {
+        return domainName.validate(input.text);
+    }
+
+    /**
+     * Validates a text by using the validator of the class {@link EmailAddressValidator}.
+     *
+     * @param input
+     *         The input, which provides the text, which should be validated, as an instance of the
+     *         class {@link TextInput}
+     * @return The result of the validation as a {@link Boolean} value
+     */
+    @Benchmark
+    public boolean emailAddress(final TextInput input) {
+        return emailAddress.validate(input.text);
+    }
+
+    /**
+     * Validates a text by using the validator of the class {@link IRIValidator}.
+     *
+     * @param input
+     *         The input, which provides the text, which should be validated, as an instance of the
+     *         class {@link TextInput}
+     * @return The result of the validation as a {@link Boolean} value
+     */
+    @Benchmark
+    public boolean iri(final TextInput input) {
+        return iri.validate(input.text);
+    }
+
+    /**
+     * Validates a text by using the validator of the class {@link PhoneNumberValidator}.
+     *
+     * @param input
+     *         The input, which provides the text, which should be validated, as an instance of the
+     *         class {@link TextInput}
+     * @return The result of the validation as a {@link Boolean} value
+     */
+    @Benchmark
+    public boolean phoneNumber(final TextInput input) {
+        return phoneNumber.validate(input.text);
+    }
+
+    /**
+     * Validates a text by using the validator of the class {@link NegateValidator}.
+     *
+     * @param input
+     *         The input, which provides the text, which should be validated, as an instance of the
+     *         class {@link TextInput}
+     * @return The result of the validation as a {@link Boolean} value
+     */
+    @Benchmark
+    public boolean negate(final TextInput input) {
+        return negate.validate(input.text);
+    }
+
+    /**
+     * Validates a text by using the validator of the class {@link ConjunctiveValidator}.
+     *
+     * @param input
+     *         The input, which provides the text, which should be validated, as an instance of the
+     *         class {@link TextInput}
+     * @return The result of the validation as a {@link Boolean} value
+     */
+    @Benchmark
+    public boolean conjunctive(final TextInput input) {
+        return conjunctive.validate(input.text);
+    }
+
+    /**
+     * Validates a text by using the validator of the class {@link DisjunctiveValidator}.
+     *
+     * @param input
+     *         The input, which provides the text, which should be validated, as an instance of the
+     *         class {@link TextInput}
+     * @return The result of the validation as a {@link Boolean} value
+     */
+    @Benchmark
+    public boolean disjunctive(final TextInput input) {
+        return disjunctive.validate(input.text);
+    }
+
+}
\ No newline at end of file
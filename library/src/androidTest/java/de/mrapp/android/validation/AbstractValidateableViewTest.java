@@ -17,18 +17,28 @@ import android.content.Context;
 import android.graphics.Color;
 import android.graphics.drawable.Drawable;
 import android.os.Parcelable;
+import android.support.annotation.NonNull;
 import android.support.v4.content.ContextCompat;
 import android.test.AndroidTestCase;
 import android.util.AttributeSet;
 import android.util.Xml;
 
+import junit.framework.Assert;
+
 import org.xmlpull.v1.XmlPullParser;
 
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
 import de.mrapp.android.validation.AbstractValidateableView.SavedState;
+import de.mrapp.android.validation.metrics.SlowValidationException;
+import de.mrapp.android.validation.metrics.ValidationMetrics;
+import de.mrapp.android.validation.metrics.ValidationWatchdog;
 
 /**
  * Tests the functionality of the class {@link AbstractValidateableView}.
@@ -399,6 +409,341 @@ public class AbstractValidateableViewTest extends AndroidTestCase {
         assertEquals(validateOnFocusLost, abstractValidateableView.isValidatedOnFocusLost());
     }
 
+    /**
+     * Tests the functionality of the method, which allows to set the delay, which is used to
+     * coalesce validations, which are caused by value changes.
+     */
+    public final void testSetValidationDelay() {
+        AbstractValidateableViewImplementation abstractValidateableView =
+                new AbstractValidateableViewImplementation(getContext());
+        assertEquals(AbstractValidateableView.VALIDATION_DELAY_NONE,
+                abstractValidateableView.getValidationDelay());
+        abstractValidateableView
+                .setValidationDelay(AbstractValidateableView.VALIDATION_DELAY_FRAME);
+        assertEquals(AbstractValidateableView.VALIDATION_DELAY_FRAME,
+                abstractValidateableView.getValidationDelay());
+        abstractValidateableView.setValidationDelay(200);
+        assertEquals(200, abstractValidateableView.getValidationDelay());
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * set the delay, which is used to coalesce validations, which are caused by value changes, if
+     * the delay is less than -1.
+     */
+    public final void testSetValidationDelayThrowsException() {
+        AbstractValidateableViewImplementation abstractValidateableView =
+                new AbstractValidateableViewImplementation(getContext());
+
+        try {
+            abstractValidateableView.setValidationDelay(-2);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+
+        }
+    }
+
+    /**
+     * Tests, if validations, which are requested because of value changes, are deferred, if a
+     * validation delay is used, while explicit validations are still performed immediately.
+     */
+    public final void testRequestValidationWithValidationDelay() {
+        AbstractValidateableViewImplementation abstractValidateableView =
+                new AbstractValidateableViewImplementation(getContext());
+        abstractValidateableView.addValidator(Validators.notEmpty("foo"));
+        abstractValidateableView.setValidationDelay(1000);
+        abstractValidateableView.requestValidation();
+        assertNull(abstractValidateableView.getError());
+        assertFalse(abstractValidateableView.validate());
+        assertEquals("foo", abstractValidateableView.getError());
+        abstractValidateableView.setValidationDelay(AbstractValidateableView.VALIDATION_DELAY_NONE);
+        abstractValidateableView.setError(null);
+        abstractValidateableView.requestValidation();
+        assertEquals("foo", abstractValidateableView.getError());
+    }
+
+    /**
+     * Tests, if asynchronous validators are passed to the executor, which is used to execute them,
+     * if all other validators succeeded, and if their results are published afterwards.
+     */
+    public final void testValidateWithAsyncValidator() {
+        final List<Runnable> tasks = new LinkedList<>();
+        ValidationListenerImplementation validationListener =
+                new ValidationListenerImplementation();
+        AbstractValidateableViewImplementation abstractValidateableView =
+                new AbstractValidateableViewImplementation(getContext());
+        abstractValidateableView.addValidationListener(validationListener);
+        abstractValidateableView.setAsyncValidationExecutor(new Executor() {
+
+            @Override
+            public void execute(@NonNull final Runnable command) {
+                tasks.add(command);
+            }
+
+        });
+        abstractValidateableView.addValidator(Validators.async(Validators.notEmpty("foo")));
+        assertFalse(abstractValidateableView.validate());
+        assertTrue(abstractValidateableView.isValidating());
+        assertEquals(1, tasks.size());
+        assertNull(abstractValidateableView.getError());
+        assertFalse(validationListener.hasOnValidationFailureBeenCalled());
+        tasks.get(0).run();
+        assertFalse(abstractValidateableView.isValidating());
+        assertEquals("foo", abstractValidateableView.getError());
+        assertTrue(validationListener.hasOnValidationFailureBeenCalled());
+        validationListener.reset();
+        abstractValidateableView.getView().setText("text");
+        assertFalse(abstractValidateableView.validate());
+        assertTrue(abstractValidateableView.isValidating());
+        assertEquals(2, tasks.size());
+        tasks.get(1).run();
+        assertFalse(abstractValidateableView.isValidating());
+        assertNull(abstractValidateableView.getError());
+        assertTrue(validationListener.hasOnValidationSuccessBeenCalled());
+        abstractValidateableView.getView().setText("");
+        abstractValidateableView.addValidator(Validators.notEmpty("bar"));
+        assertFalse(abstractValidateableView.validate());
+        assertFalse(abstractValidateableView.isValidating());
+        assertEquals(2, tasks.size());
+        assertEquals("bar", abstractValidateableView.getError());
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to set the validation policy.
+     */
+    public final void testSetValidationPolicy() {
+        AbstractValidateableViewImplementation abstractValidateableView =
+                new AbstractValidateableViewImplementation(getContext());
+        assertEquals(ValidationPolicy.COLLECT_ALL, abstractValidateableView.getValidationPolicy());
+        abstractValidateableView.setValidationPolicy(ValidationPolicy.FAIL_FAST);
+        assertEquals(ValidationPolicy.FAIL_FAST, abstractValidateableView.getValidationPolicy());
+    }
+
+    /**
+     * Ensures, that a {@link NullPointerException} is thrown by the method, which allows to set
+     * the validation policy, if the policy is null.
+     */
+    public final void testSetValidationPolicyThrowsException() {
+        AbstractValidateableViewImplementation abstractValidateableView =
+                new AbstractValidateableViewImplementation(getContext());
+
+        try {
+            abstractValidateableView.setValidationPolicy(null);
+            Assert.fail();
+        } catch (NullPointerException e) {
+
+        }
+    }
+
+    /**
+     * Tests, if the validation is stopped after the first validator failed, when using the
+     * validation policy <code>FAIL_FAST</code>.
+     */
+    public final void testValidateWithFailFastPolicy() {
+        final int[] invocations = new int[1];
+        AbstractValidateableViewImplementation abstractValidateableView =
+                new AbstractValidateableViewImplementation(getContext());
+        abstractValidateableView.addValidator(Validators.notEmpty("foo"));
+        abstractValidateableView.addValidator(new Validator<CharSequence>() {
+
+            @Override
+            public boolean validate(final CharSequence value) {
+                invocations[0]++;
+                return false;
+            }
+
+            @Override
+            public CharSequence getErrorMessage() {
+                return "bar";
+            }
+
+        });
+        assertFalse(abstractValidateableView.validate());
+        assertEquals(1, invocations[0]);
+        abstractValidateableView.setValidationPolicy(ValidationPolicy.FAIL_FAST);
+        assertFalse(abstractValidateableView.validate());
+        assertEquals(1, invocations[0]);
+        assertEquals("foo", abstractValidateableView.getError());
+    }
+
+    /**
+     * Tests, if the validators are applied in the order of their costs, when using the validation
+     * policy <code>COST_ORDERED</code>.
+     */
+    public final void testValidateWithCostOrderedPolicy() {
+        AbstractValidateableViewImplementation abstractValidateableView =
+                new AbstractValidateableViewImplementation(getContext());
+        abstractValidateableView.addValidator(Validators.regex("foo", Pattern.compile(".+")));
+        abstractValidateableView.addValidator(Validators.notEmpty("bar"));
+        assertFalse(abstractValidateableView.validate());
+        assertEquals("foo", abstractValidateableView.getError());
+        abstractValidateableView.setValidationPolicy(ValidationPolicy.COST_ORDERED);
+        assertFalse(abstractValidateableView.validate());
+        assertEquals("bar", abstractValidateableView.getError());
+    }
+
+    /**
+     * Tests, if the properties of validators, which are encapsulated by a {@link
+     * ValidatorAdapter}, are taken into account, when validating the view's value.
+     */
+    public final void testValidateWithValidatorAdapter() {
+        AbstractValidateableViewImplementation abstractValidateableView =
+                new AbstractValidateableViewImplementation(getContext());
+        abstractValidateableView.setValidationPolicy(ValidationPolicy.COST_ORDERED);
+        abstractValidateableView.addValidator(Validators.regex("foo", Pattern.compile(".+")));
+        ValidatorAdapter<CharSequence> validatorAdapter =
+                ValidatorAdapter.create(Validators.notEmpty("bar"));
+        validatorAdapter.setErrorMessage("baz");
+        abstractValidateableView.addValidator(validatorAdapter);
+        assertFalse(abstractValidateableView.validate());
+        assertEquals("baz", abstractValidateableView.getError());
+    }
+
+    /**
+     * Tests, if the preprocessor, which is used to normalize the view's value, is taken into
+     * account, when validating the value.
+     */
+    public final void testValidateWithPreprocessor() {
+        AbstractValidateableViewImplementation abstractValidateableView =
+                new AbstractValidateableViewImplementation(getContext());
+        abstractValidateableView.addValidator(Validators.notEmpty("foo"));
+        abstractValidateableView.getView().setText("  ");
+        assertTrue(abstractValidateableView.validate());
+        Preprocessor<CharSequence> preprocessor = Preprocessors.trim();
+        abstractValidateableView.setPreprocessor(preprocessor);
+        assertEquals(preprocessor, abstractValidateableView.getPreprocessor());
+        assertFalse(abstractValidateableView.validate());
+        assertEquals("  ", abstractValidateableView.getView().getText().toString());
+    }
+
+    /**
+     * Tests, if listeners are notified, when a validator exceeds its budget.
+     */
+    public final void testValidateWhenBudgetIsExceeded() {
+        final boolean[] budgetExceeded = new boolean[1];
+        ValidationListenerImplementation validationListener =
+                new ValidationListenerImplementation();
+        ValidationBudgetListener<CharSequence> validationBudgetListener =
+                new ValidationBudgetListener<CharSequence>() {
+
+                    @Override
+                    public void onValidationBudgetExceeded(
+                            @NonNull final Validateable<CharSequence> view,
+                            @NonNull final Validator<CharSequence> validator) {
+                        budgetExceeded[0] = true;
+                    }
+
+                    @Override
+                    public void onValidationSuccess(
+                            @NonNull final Validateable<CharSequence> view) {
+
+                    }
+
+                    @Override
+                    public void onValidationFailure(
+                            @NonNull final Validateable<CharSequence> view,
+                            @NonNull final Validator<CharSequence> validator) {
+                        Assert.fail();
+                    }
+
+                };
+        AbstractValidateableViewImplementation abstractValidateableView =
+                new AbstractValidateableViewImplementation(getContext());
+        abstractValidateableView.addValidationListener(validationListener);
+        abstractValidateableView.addValidationListener(validationBudgetListener);
+        abstractValidateableView
+                .addValidator(Validators.regex("foo", Pattern.compile("(a+)+b"), 10));
+        abstractValidateableView.getView().setText("aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaac");
+        assertFalse(abstractValidateableView.validate());
+        assertEquals("foo", abstractValidateableView.getError());
+        assertTrue(budgetExceeded[0]);
+        assertTrue(validationListener.hasOnValidationFailureBeenCalled());
+    }
+
+    /**
+     * Ensures, that a {@link NullPointerException} is thrown by the method, which allows to set
+     * the executor, which is used to execute asynchronous validators, if the executor is null.
+     */
+    public final void testSetAsyncValidationExecutorThrowsException() {
+        AbstractValidateableViewImplementation abstractValidateableView =
+                new AbstractValidateableViewImplementation(getContext());
+
+        try {
+            abstractValidateableView.setAsyncValidationExecutor(null);
+            Assert.fail();
+        } catch (NullPointerException e) {
+
+        }
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to set the metrics, the view's
+     * validations should be recorded in.
+     */
+    public final void testSetValidationMetrics() {
+        Validator<CharSequence> validator = Validators.notEmpty("foo");
+        ValidationMetrics validationMetrics = new ValidationMetrics();
+        AbstractValidateableViewImplementation abstractValidateableView =
+                new AbstractValidateableViewImplementation(getContext());
+        assertNull(abstractValidateableView.getValidationMetrics());
+        abstractValidateableView.setValidationMetrics(validationMetrics);
+        assertEquals(validationMetrics, abstractValidateableView.getValidationMetrics());
+        abstractValidateableView.addValidator(validator);
+        abstractValidateableView.validate();
+        abstractValidateableView.getView().setText("text");
+        abstractValidateableView.validate();
+        ValidationMetrics.Snapshot snapshot = validationMetrics.snapshot();
+        assertEquals(2, snapshot.getValidatorTime().getCount());
+        assertEquals(2, snapshot.getUiTime().getCount());
+        assertEquals(1, snapshot.getValidatorStatistics().size());
+        assertEquals(2, snapshot.getValidatorStatistics().get(0).getInvocationCount());
+        assertEquals(1, snapshot.getValidatorStatistics().get(0).getFailureCount());
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to set the watchdog, the view's
+     * validators should be checked by.
+     */
+    public final void testSetValidationWatchdog() {
+        Validator<CharSequence> validator = new Validator<CharSequence>() {
+
+            @Override
+            public CharSequence getErrorMessage() {
+                return "foo";
+            }
+
+            @Override
+            public boolean validate(final CharSequence value) {
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                return true;
+            }
+
+        };
+        ValidationWatchdog validationWatchdog = new ValidationWatchdog(1, TimeUnit.MILLISECONDS,
+                ValidationWatchdog.THROWING_SINK);
+        AbstractValidateableViewImplementation abstractValidateableView =
+                new AbstractValidateableViewImplementation(getContext());
+        abstractValidateableView.addValidator(validator);
+        abstractValidateableView.getView().setText("text");
+        assertTrue(abstractValidateableView.validate());
+        assertNull(abstractValidateableView.getValidationWatchdog());
+        abstractValidateableView.setValidationWatchdog(validationWatchdog);
+        assertEquals(validationWatchdog, abstractValidateableView.getValidationWatchdog());
+
+        try {
+            abstractValidateableView.validate();
+            Assert.fail();
+        } catch (SlowValidationException e) {
+            assertEquals(4, e.getInputLength());
+            assertTrue(e.getDuration() > e.getBudget());
+        }
+    }
+
     /**
      * Tests the functionality of the onSaveInstanceState-method.
      */
@@ -408,10 +753,12 @@ public class AbstractValidateableViewTest extends AndroidTestCase {
         abstractValidateableView.addValidator(Validators.notEmpty("foo"));
         abstractValidateableView.validateOnValueChange(false);
         abstractValidateableView.validateOnFocusLost(false);
+        abstractValidateableView.setValidationDelay(200);
         abstractValidateableView.validate();
         SavedState savedState = (SavedState) abstractValidateableView.onSaveInstanceState();
         assertFalse(savedState.validateOnValueChange);
         assertFalse(savedState.validateOnFocusLost);
+        assertEquals(200, savedState.validationDelay);
         assertTrue(savedState.validated);
     }
 
@@ -426,6 +773,7 @@ public class AbstractValidateableViewTest extends AndroidTestCase {
         abstractValidateableView.addValidator(validator);
         abstractValidateableView.validateOnValueChange(false);
         abstractValidateableView.validateOnFocusLost(false);
+        abstractValidateableView.setValidationDelay(200);
         abstractValidateableView.validate();
         Parcelable parcelable = abstractValidateableView.onSaveInstanceState();
         AbstractValidateableViewImplementation restoredAbstractValidateableView =
@@ -434,6 +782,7 @@ public class AbstractValidateableViewTest extends AndroidTestCase {
         restoredAbstractValidateableView.onRestoreInstanceState(parcelable);
         assertFalse(restoredAbstractValidateableView.isValidatedOnValueChange());
         assertFalse(restoredAbstractValidateableView.isValidatedOnFocusLost());
+        assertEquals(200, restoredAbstractValidateableView.getValidationDelay());
         assertEquals(errorMessage, restoredAbstractValidateableView.getError());
     }
 
@@ -15,12 +15,23 @@ package de.mrapp.android.validation;
 
 import android.content.Context;
 import android.os.Build;
+import android.support.annotation.NonNull;
 import android.test.AndroidTestCase;
 import android.util.AttributeSet;
 import android.util.Xml;
+import android.widget.TextView;
+
+import de.mrapp.android.validation.validators.text.Case;
+import de.mrapp.android.validation.validators.text.NumberValidator;
 
 import org.xmlpull.v1.XmlPullParser;
 
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.regex.Pattern;
+
 /**
  * Tests the functionality of the class {@link EditText}.
  *
@@ -94,4 +105,143 @@ public class EditTextTest extends AndroidTestCase {
         assertEquals(maxNumberOfCharacters, editText.getMaxNumberOfCharacters());
     }
 
+    /**
+     * Tests, if the validator, which ensures, that the maximum number of characters is not
+     * exceeded, is reused and provides the correct error message.
+     */
+    public final void testValidateMaxNumberOfCharacters() {
+        String pattern = getContext().getString(R.string.edit_text_size_violation_error_message);
+        EditText editText = new EditText(getContext());
+        editText.validateOnValueChange(false);
+        editText.setMaxNumberOfCharacters(5);
+        editText.setText("123456");
+        Collection<Validator<CharSequence>> violation =
+                editText.onGetRightErrorMessage(editText.getValue());
+        assertNotNull(violation);
+        assertEquals(1, violation.size());
+        Validator<CharSequence> validator = violation.iterator().next();
+        assertEquals(String.format(pattern, 6, 5), validator.getErrorMessage().toString());
+        assertFalse(editText.validate());
+        editText.setText("1234567");
+        assertSame(violation, editText.onGetRightErrorMessage(editText.getValue()));
+        assertEquals(String.format(pattern, 7, 5), validator.getErrorMessage().toString());
+        editText.setText("12345");
+        assertNull(editText.onGetRightErrorMessage(editText.getValue()));
+        assertTrue(editText.validate());
+        editText.setMaxNumberOfCharacters(-1);
+        editText.setText("1234567");
+        assertNull(editText.onGetRightErrorMessage(editText.getValue()));
+    }
+
+    /**
+     * Tests, if the maximum number of characters is verified by using the value, which is
+     * validated by the view's validators, rather than the text of the edit text.
+     */
+    public final void testValidateMaxNumberOfCharactersWithPreprocessor() {
+        EditText editText = new EditText(getContext());
+        editText.validateOnValueChange(false);
+        editText.setMaxNumberOfCharacters(5);
+        editText.setPreprocessor(Preprocessors.trim());
+        editText.setText("12345  ");
+        assertTrue(editText.validate());
+        editText.setText("123456 ");
+        assertFalse(editText.validate());
+    }
+
+    /**
+     * Tests, if the message, which shows how many characters have already been entered, shows the
+     * number of characters, which is validated, and if it is not modified, when an error message
+     * is rendered afterwards.
+     */
+    public final void testMaxNumberOfCharactersMessage() {
+        String pattern = getContext().getString(R.string.edit_text_size_violation_error_message);
+        EditText editText = new EditText(getContext());
+        editText.validateOnValueChange(false);
+        editText.setMaxNumberOfCharacters(5);
+        editText.setPreprocessor(Preprocessors.trim());
+        TextView rightMessage = (TextView) editText.findViewById(R.id.right_error_message);
+        editText.setText("1234  ");
+        assertEquals(String.format(pattern, 4, 5), rightMessage.getText().toString());
+        assertTrue(editText.validate());
+        assertEquals(String.format(pattern, 4, 5), rightMessage.getText().toString());
+        editText.setText("123456 ");
+        CharSequence message = rightMessage.getText();
+        assertEquals(String.format(pattern, 6, 5), message.toString());
+        editText.onGetRightErrorMessage("1234567");
+        assertEquals(String.format(pattern, 6, 5), message.toString());
+        assertFalse(editText.validate());
+        assertEquals(String.format(pattern, 6, 5), rightMessage.getText().toString());
+    }
+
+    /**
+     * Tests, if incremental validators are correctly evaluated, when the text of the edit text is
+     * changed.
+     */
+    public final void testValidateIncrementally() {
+        EditText editText = new EditText(getContext());
+        editText.addValidator(Validators.letter("foo", Case.CASE_INSENSITIVE, false));
+        editText.addValidator(Validators.noWhitespace("bar"));
+        editText.setText("abc");
+        assertTrue(editText.validate());
+        editText.append("1");
+        assertFalse(editText.validate());
+        editText.getText().replace(3, 4, "d");
+        assertTrue(editText.validate());
+        editText.getText().insert(1, " ");
+        assertFalse(editText.validate());
+        editText.getText().delete(1, 2);
+        assertTrue(editText.validate());
+        editText.setText("a b");
+        assertFalse(editText.validate());
+        editText.setText("");
+        assertTrue(editText.validate());
+    }
+
+    /**
+     * Ensures, that an incremental validator is not evaluated incrementally, if its regular
+     * expression has been changed.
+     */
+    public final void testValidateIncrementallyWhenRegexHasBeenChanged() {
+        NumberValidator numberValidator = new NumberValidator("foo");
+        EditText editText = new EditText(getContext());
+        editText.addValidator(numberValidator);
+        editText.setText("1234");
+        assertTrue(editText.validate());
+        numberValidator.setRegex(Pattern.compile("[0-9]{0,3}"));
+        assertFalse(editText.validate());
+        editText.getText().delete(3, 4);
+        assertTrue(editText.validate());
+    }
+
+    /**
+     * Ensures, that the result of an asynchronous validation is not published, if the text has
+     * been changed in the meantime, even if the text is not validated on value changes.
+     */
+    public final void testChangeTextWhileValidatingAsynchronously() {
+        final List<Runnable> tasks = new LinkedList<>();
+        EditText editText = new EditText(getContext());
+        editText.validateOnValueChange(false);
+        editText.addValidator(Validators.async(Validators.maxLength("foo", 2)));
+        editText.setAsyncValidationExecutor(new Executor() {
+
+            @Override
+            public void execute(@NonNull final Runnable command) {
+                tasks.add(command);
+            }
+
+        });
+        editText.setText("abc");
+        assertFalse(editText.validate());
+        assertTrue(editText.isValidating());
+        editText.setText("ab");
+        assertFalse(editText.isValidating());
+        tasks.get(0).run();
+        assertNull(editText.getError());
+        editText.setText("abcd");
+        assertFalse(editText.validate());
+        tasks.get(1).run();
+        assertFalse(editText.isValidating());
+        assertEquals("foo", editText.getError());
+    }
+
 }
\ No newline at end of file
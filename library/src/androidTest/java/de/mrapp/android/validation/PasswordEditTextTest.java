@@ -16,6 +16,7 @@ package de.mrapp.android.validation;
 import android.content.Context;
 import android.graphics.Color;
 import android.os.Build;
+import android.support.annotation.NonNull;
 import android.test.AndroidTestCase;
 import android.util.AttributeSet;
 import android.util.Xml;
@@ -26,6 +27,8 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
 
+import de.mrapp.android.validation.strength.EntropyEstimator;
+
 /**
  * Tests the functionality of the class {@link PasswordEditText}.
  *
@@ -230,6 +233,20 @@ public class PasswordEditTextTest extends AndroidTestCase {
         assertTrue(passwordEditText.getConstraints().isEmpty());
     }
 
+    /**
+     * Tests the functionality of the method, which allows to set the estimator, which is used to
+     * estimate the password strength.
+     */
+    public final void testSetPasswordStrengthEstimator() {
+        PasswordStrengthEstimator estimator = new EntropyEstimator();
+        PasswordEditText passwordEditText = new PasswordEditText(getContext());
+        assertNull(passwordEditText.getPasswordStrengthEstimator());
+        passwordEditText.setPasswordStrengthEstimator(estimator);
+        assertEquals(estimator, passwordEditText.getPasswordStrengthEstimator());
+        passwordEditText.setPasswordStrengthEstimator(null);
+        assertNull(passwordEditText.getPasswordStrengthEstimator());
+    }
+
     /**
      * Tests the functionality of the method, which allows to add a helper text.
      */
@@ -717,4 +734,53 @@ public class PasswordEditTextTest extends AndroidTestCase {
         assertEquals(prefix + ": " + helperText2, passwordEditText.getHelperText().toString());
     }
 
+    /**
+     * Tests, if the helper text is set correctly, when verifying the password strength by using
+     * an estimator.
+     */
+    public final void testVerifyPasswordStrengthWithEstimator() {
+        CharSequence helperText1 = "helperText1";
+        CharSequence helperText2 = "helperText2";
+        PasswordEditText passwordEditText = new PasswordEditText(getContext());
+        passwordEditText.setPasswordVerificationPrefix(null);
+        passwordEditText.addConstraint(Constraints.containsLetter());
+        passwordEditText.addAllHelperTexts(helperText1, helperText2);
+        passwordEditText.setPasswordStrengthEstimator(new PasswordStrengthEstimator() {
+
+            @Override
+            public float estimate(@NonNull final CharSequence password) {
+                return password.length() > 4 ? 1 : 0;
+            }
+
+        });
+        passwordEditText.setText("abc");
+        assertEquals(helperText1, passwordEditText.getHelperText().toString());
+        passwordEditText.setText("12345");
+        assertEquals(helperText2, passwordEditText.getHelperText().toString());
+    }
+
+    /**
+     * Tests, if the styled helper text is reused, as long as the password strength bucket does
+     * not change, and if it is updated, when the prefix is changed.
+     */
+    public final void testStyledHelperTextIsReused() {
+        CharSequence helperText1 = "helperText1";
+        CharSequence helperText2 = "helperText2";
+        PasswordEditText passwordEditText = new PasswordEditText(getContext());
+        passwordEditText.setPasswordVerificationPrefix("prefix");
+        passwordEditText
+                .addAllConstraints(Constraints.containsLetter(), Constraints.containsNumber());
+        passwordEditText.addAllHelperTexts(helperText1, helperText2);
+        passwordEditText.setText("abc");
+        CharSequence styledHelperText = passwordEditText.getHelperText();
+        passwordEditText.setText("abcd");
+        assertSame(styledHelperText, passwordEditText.getHelperText());
+        passwordEditText.setText("abcd1");
+        assertEquals("prefix: " + helperText2, passwordEditText.getHelperText().toString());
+        passwordEditText.setText("abc");
+        assertSame(styledHelperText, passwordEditText.getHelperText());
+        passwordEditText.setPasswordVerificationPrefix("newPrefix");
+        assertEquals("newPrefix: " + helperText1, passwordEditText.getHelperText().toString());
+    }
+
 }
\ No newline at end of file
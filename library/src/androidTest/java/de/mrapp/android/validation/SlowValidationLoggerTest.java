@@ -0,0 +1,65 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import android.test.AndroidTestCase;
+
+import junit.framework.Assert;
+
+/**
+ * Tests the functionality of the class {@link SlowValidationLogger}.
+ *
+ * @author Michael Rapp
+ */
+public class SlowValidationLoggerTest extends AndroidTestCase {
+
+    /**
+     * Tests, if all properties are correctly initialized by the default constructor.
+     */
+    public final void testDefaultConstructor() {
+        SlowValidationLogger logger = new SlowValidationLogger();
+        assertEquals(SlowValidationLogger.DEFAULT_TAG, logger.getTag());
+    }
+
+    /**
+     * Tests, if all properties are correctly initialized by the constructor, which allows to
+     * specify the tag.
+     */
+    public final void testConstructor() {
+        SlowValidationLogger logger = new SlowValidationLogger("foo");
+        assertEquals("foo", logger.getTag());
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the constructor, if the tag
+     * is empty.
+     */
+    public final void testConstructorThrowsExceptionWhenTagIsEmpty() {
+        try {
+            new SlowValidationLogger("");
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+
+        }
+    }
+
+    /**
+     * Tests, if a validator, which exceeded the budget, can be logged.
+     */
+    public final void testOnSlowValidation() {
+        new SlowValidationLogger().onSlowValidation(Validators.notEmpty("foo"), 4, 2000000,
+                1000000);
+    }
+
+}
\ No newline at end of file
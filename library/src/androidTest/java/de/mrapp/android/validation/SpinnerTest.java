@@ -17,13 +17,23 @@ import android.content.Context;
 import android.content.res.ColorStateList;
 import android.graphics.Color;
 import android.os.Build;
+import android.support.annotation.NonNull;
 import android.test.AndroidTestCase;
 import android.util.AttributeSet;
 import android.util.Xml;
 import android.widget.ArrayAdapter;
 
+import junit.framework.Assert;
+
 import org.xmlpull.v1.XmlPullParser;
 
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import de.mrapp.android.validation.adapter.PagedSpinnerAdapter;
+
 /**
  * Tests the functionality of the class {@link Spinner}.
  *
@@ -150,4 +160,74 @@ public class SpinnerTest extends AndroidTestCase {
         assertEquals(colorStateList, spinner.getHintTextColors());
     }
 
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the setFilter-method, if the
+     * spinner's adapter is not a paged adapter.
+     */
+    public final void testSetFilterThrowsExceptionWhenAdapterIsNotPaged() {
+        ArrayAdapter<CharSequence> adapter = new ArrayAdapter<CharSequence>(getContext(),
+                android.R.layout.simple_spinner_dropdown_item,
+                new CharSequence[]{"entry1", "entry2"});
+        Spinner spinner = new Spinner(getContext());
+        spinner.setAdapter(adapter);
+
+        try {
+            spinner.setFilter("entry");
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+
+        }
+    }
+
+    /**
+     * Ensures, that an item, which is selected while the index, which is used for filtering, is
+     * built, remains selected, once the filter has been applied.
+     */
+    public final void testSetFilterWhenSelectionHasBeenChangedMeanwhile() {
+        final List<CharSequence> labels =
+                Arrays.<CharSequence>asList("apple", "apricot", "banana", "blueberry");
+        final List<Runnable> tasks = new LinkedList<>();
+        PagedSpinnerAdapter<CharSequence> adapter =
+                new PagedSpinnerAdapter<>(getContext(),
+                        new PagedSpinnerAdapter.DataSource<CharSequence>() {
+
+                            @Override
+                            public int getCount() {
+                                return labels.size();
+                            }
+
+                            @NonNull
+                            @Override
+                            public List<CharSequence> loadPage(final int offset,
+                                                               final int count) {
+                                return labels.subList(offset, offset + count);
+                            }
+
+                            @NonNull
+                            @Override
+                            public CharSequence getLabel(@NonNull final CharSequence item) {
+                                return item;
+                            }
+
+                        }, android.R.layout.simple_spinner_item);
+        adapter.setIndexExecutor(new Executor() {
+
+            @Override
+            public void execute(@NonNull final Runnable command) {
+                tasks.add(command);
+            }
+
+        });
+        Spinner spinner = new Spinner(getContext());
+        spinner.setAdapter(adapter);
+        spinner.setSelection(1);
+        spinner.setFilter("b");
+        assertEquals(1, tasks.size());
+        spinner.setSelection(4);
+        tasks.get(0).run();
+        assertEquals(2, adapter.getCount());
+        assertEquals(2, spinner.getSelectedItemPosition());
+        assertEquals("blueberry", spinner.getSelectedItem());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.support.annotation.NonNull;
+import android.test.AndroidTestCase;
+
+import junit.framework.Assert;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the functionality of the class {@link ValidationGroup}.
+ *
+ * @author Michael Rapp
+ */
+public class ValidationGroupTest extends AndroidTestCase {
+
+    /**
+     * Creates and returns a view, which validates, whether its value is not empty.
+     *
+     * @param text
+     *         The text of the view, which should be created, as a {@link String}
+     * @param errorMessage
+     *         The error message of the view's validator as a {@link String}
+     * @return The view, which has been created, as an instance of the class {@link EditText}
+     */
+    private EditText createView(final String text, final String errorMessage) {
+        EditText editText = new EditText(getContext());
+        editText.validateOnValueChange(false);
+        editText.setText(text);
+        editText.addValidator(Validators.notEmpty(errorMessage));
+        return editText;
+    }
+
+    /**
+     * Tests the functionality of the methods, which allow to add and remove views.
+     */
+    public final void testAddAndRemoveViews() {
+        EditText view1 = createView("text", "foo");
+        EditText view2 = createView("text", "bar");
+        ValidationGroup validationGroup = new ValidationGroup();
+        validationGroup.addView(view1);
+        validationGroup.addView(view2);
+        validationGroup.addView(view1);
+        assertEquals(2, validationGroup.getViews().size());
+        assertSame(view1, validationGroup.getViews().get(0));
+        assertSame(view2, validationGroup.getViews().get(1));
+        validationGroup.removeView(view1);
+        assertEquals(1, validationGroup.getViews().size());
+        assertSame(view2, validationGroup.getViews().get(0));
+        validationGroup.removeAllViews();
+        assertTrue(validationGroup.getViews().isEmpty());
+    }
+
+    /**
+     * Ensures, that a {@link NullPointerException} is thrown by the addView-method, if the view is
+     * null.
+     */
+    public final void testAddViewThrowsExceptionWhenViewIsNull() {
+        try {
+            new ValidationGroup().addView(null);
+            Assert.fail();
+        } catch (NullPointerException e) {
+
+        }
+    }
+
+    /**
+     * Tests the functionality of the validate-method.
+     */
+    public final void testValidate() {
+        ValidationListenerImplementation validationListener =
+                new ValidationListenerImplementation();
+        EditText view1 = createView("text", "foo");
+        EditText view2 = createView("", "bar");
+        EditText view3 = createView("", "baz");
+        view2.addValidationListener(validationListener);
+        ValidationGroup validationGroup = new ValidationGroup();
+        validationGroup.addView(view1);
+        validationGroup.addView(view2);
+        validationGroup.addView(view3);
+        ValidationGroup.Result result = validationGroup.validate();
+        assertFalse(result.isValid());
+        assertSame(view2, result.getFirstInvalidView());
+        assertEquals(2, result.getInvalidViews().size());
+        assertSame(view3, result.getInvalidViews().get(1));
+        assertNull(view1.getError());
+        assertEquals("bar", view2.getError());
+        assertEquals("baz", view3.getError());
+        assertTrue(view2.isActivated());
+        assertTrue(validationListener.hasOnValidationFailureBeenCalled());
+        view2.setText("text");
+        view3.setText("text");
+        result = validationGroup.validate();
+        assertTrue(result.isValid());
+        assertNull(result.getFirstInvalidView());
+        assertNull(view2.getError());
+        assertFalse(view2.isActivated());
+    }
+
+    /**
+     * Ensures, that views, whose asynchronous validators are still executed, are reported as
+     * pending instead of being considered valid.
+     */
+    public final void testValidateWithAsyncValidator() {
+        final List<Runnable> tasks = new LinkedList<>();
+        EditText view1 = createView("text", "foo");
+        EditText view2 = createView("text", "bar");
+        view1.addValidator(Validators.async(Validators.maxLength("baz", 2)));
+        view1.setAsyncValidationExecutor(new Executor() {
+
+            @Override
+            public void execute(@NonNull final Runnable command) {
+                tasks.add(command);
+            }
+
+        });
+        ValidationGroup validationGroup = new ValidationGroup();
+        validationGroup.addView(view1);
+        validationGroup.addView(view2);
+        ValidationGroup.Result result = validationGroup.validate();
+        assertFalse(result.isValid());
+        assertTrue(result.isPending());
+        assertTrue(result.getInvalidViews().isEmpty());
+        assertEquals(1, result.getPendingViews().size());
+        assertSame(view1, result.getPendingViews().get(0));
+        assertEquals(1, tasks.size());
+        tasks.get(0).run();
+        assertFalse(view1.isValidating());
+        assertEquals("baz", view1.getError());
+    }
+
+    /**
+     * Tests the functionality of the validate-method, which applies the validators in a
+     * background thread.
+     */
+    public final void testValidateWithExecutor() throws InterruptedException {
+        final List<Runnable> tasks = new LinkedList<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final ValidationGroup.Result[] results = new ValidationGroup.Result[1];
+        EditText view1 = createView("", "foo");
+        EditText view2 = createView("text", "bar");
+        ValidationGroup validationGroup = new ValidationGroup();
+        validationGroup.addView(view1);
+        validationGroup.addView(view2);
+        validationGroup.validate(new Executor() {
+
+            @Override
+            public void execute(@NonNull final Runnable command) {
+                tasks.add(command);
+            }
+
+        }, new ValidationGroup.Callback() {
+
+            @Override
+            public void onValidated(@NonNull final ValidationGroup group,
+                                    @NonNull final ValidationGroup.Result result) {
+                results[0] = result;
+                latch.countDown();
+            }
+
+        });
+        assertEquals(1, tasks.size());
+        assertNull(view1.getError());
+        tasks.get(0).run();
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertFalse(results[0].isValid());
+        assertSame(view1, results[0].getFirstInvalidView());
+        assertEquals("foo", view1.getError());
+        assertNull(view2.getError());
+    }
+
+    /**
+     * Ensures, that the result of a validation, which has been performed in a background thread,
+     * does not overwrite the result of a newer validation of the same view.
+     */
+    public final void testValidateWithExecutorWhenViewHasBeenValidatedMeanwhile()
+            throws InterruptedException {
+        final List<Runnable> tasks = new LinkedList<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final ValidationGroup.Result[] results = new ValidationGroup.Result[1];
+        EditText view1 = createView("", "foo");
+        EditText view2 = createView("", "bar");
+        ValidationGroup validationGroup = new ValidationGroup();
+        validationGroup.addView(view1);
+        validationGroup.addView(view2);
+        validationGroup.validate(new Executor() {
+
+            @Override
+            public void execute(@NonNull final Runnable command) {
+                tasks.add(command);
+            }
+
+        }, new ValidationGroup.Callback() {
+
+            @Override
+            public void onValidated(@NonNull final ValidationGroup group,
+                                    @NonNull final ValidationGroup.Result result) {
+                results[0] = result;
+                latch.countDown();
+            }
+
+        });
+        view1.setText("text");
+        assertTrue(view1.validate());
+        tasks.get(0).run();
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertNull(view1.getError());
+        assertEquals("bar", view2.getError());
+        assertEquals(1, results[0].getInvalidViews().size());
+        assertSame(view2, results[0].getFirstInvalidView());
+    }
+
+    /**
+     * Ensures, that the result of a validation, which has been performed in a background thread,
+     * is not applied to a view, whose value has been changed in the meantime, even if the view's
+     * value is not validated on value changes.
+     */
+    public final void testValidateWithExecutorWhenValueHasBeenChangedMeanwhile()
+            throws InterruptedException {
+        final List<Runnable> tasks = new LinkedList<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final ValidationGroup.Result[] results = new ValidationGroup.Result[1];
+        EditText view1 = createView("", "foo");
+        EditText view2 = createView("", "bar");
+        assertFalse(view1.isValidatedOnValueChange());
+        ValidationGroup validationGroup = new ValidationGroup();
+        validationGroup.addView(view1);
+        validationGroup.addView(view2);
+        validationGroup.validate(new Executor() {
+
+            @Override
+            public void execute(@NonNull final Runnable command) {
+                tasks.add(command);
+            }
+
+        }, new ValidationGroup.Callback() {
+
+            @Override
+            public void onValidated(@NonNull final ValidationGroup group,
+                                    @NonNull final ValidationGroup.Result result) {
+                results[0] = result;
+                latch.countDown();
+            }
+
+        });
+        view1.setText("text");
+        assertNull(view1.getError());
+        tasks.get(0).run();
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertNull(view1.getError());
+        assertEquals("bar", view2.getError());
+        assertEquals(1, results[0].getInvalidViews().size());
+        assertSame(view2, results[0].getFirstInvalidView());
+    }
+
+    /**
+     * Ensures, that the results of a validation, which has been cancelled, are not applied.
+     */
+    public final void testCancel() throws InterruptedException {
+        final List<Runnable> tasks = new LinkedList<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final boolean[] validated = new boolean[1];
+        EditText view = createView("", "foo");
+        ValidationGroup validationGroup = new ValidationGroup();
+        validationGroup.addView(view);
+        validationGroup.validate(new Executor() {
+
+            @Override
+            public void execute(@NonNull final Runnable command) {
+                tasks.add(command);
+            }
+
+        }, new ValidationGroup.Callback() {
+
+            @Override
+            public void onValidated(@NonNull final ValidationGroup group,
+                                    @NonNull final ValidationGroup.Result result) {
+                validated[0] = true;
+            }
+
+        });
+        validationGroup.cancel();
+        tasks.get(0).run();
+        new Handler(Looper.getMainLooper()).post(new Runnable() {
+
+            @Override
+            public void run() {
+                latch.countDown();
+            }
+
+        });
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertFalse(validated[0]);
+        assertNull(view.getError());
+    }
+
+}
\ No newline at end of file
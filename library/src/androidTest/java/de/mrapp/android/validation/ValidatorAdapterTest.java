@@ -0,0 +1,203 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import android.graphics.drawable.Drawable;
+import android.support.v4.content.ContextCompat;
+import android.test.AndroidTestCase;
+
+import junit.framework.Assert;
+
+import de.mrapp.android.validation.validators.text.NotEmptyValidator;
+
+/**
+ * Tests the functionality of the class {@link ValidatorAdapter}.
+ *
+ * @author Michael Rapp
+ */
+public class ValidatorAdapterTest extends AndroidTestCase {
+
+    /**
+     * Tests, if all properties are correctly initialized by the constructor.
+     */
+    public final void testConstructor() {
+        Validator<CharSequence> validator = new NotEmptyValidator("foo");
+        ValidatorAdapter<CharSequence> validatorAdapter = new ValidatorAdapter<>(validator);
+        assertEquals(validator, validatorAdapter.getValidator());
+        assertEquals("foo", validatorAdapter.getErrorMessage());
+        assertNull(validatorAdapter.getIcon());
+    }
+
+    /**
+     * Ensures, that a {@link NullPointerException} is thrown by the constructor, if the validator
+     * is null.
+     */
+    public final void testConstructorThrowsException() {
+        try {
+            new ValidatorAdapter<>(null);
+            Assert.fail();
+        } catch (NullPointerException e) {
+
+        }
+    }
+
+    /**
+     * Tests the functionality of the static create-method.
+     */
+    public final void testCreate() {
+        Validator<CharSequence> validator = new NotEmptyValidator("foo");
+        ValidatorAdapter<CharSequence> validatorAdapter = ValidatorAdapter.create(validator);
+        assertEquals(validator, validatorAdapter.getValidator());
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to set the error message, if a char
+     * sequence is passed.
+     */
+    public final void testSetErrorMessageWithCharSequenceParameter() {
+        ValidatorAdapter<CharSequence> validatorAdapter =
+                ValidatorAdapter.create(new NotEmptyValidator("foo"));
+        validatorAdapter.setErrorMessage("bar");
+        assertEquals("bar", validatorAdapter.getErrorMessage());
+        validatorAdapter.setErrorMessage(null);
+        assertEquals("foo", validatorAdapter.getErrorMessage());
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * set the error message, if the error message is empty.
+     */
+    public final void testSetErrorMessageThrowsExceptionWhenErrorMessageIsEmpty() {
+        try {
+            ValidatorAdapter.create(new NotEmptyValidator("foo")).setErrorMessage("");
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+
+        }
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to set the error message, if a context
+     * and resource ID are passed.
+     */
+    public final void testSetErrorMessageWithContextAndResourceIdParameters() {
+        CharSequence errorMessage = getContext().getText(android.R.string.cancel);
+        ValidatorAdapter<CharSequence> validatorAdapter =
+                ValidatorAdapter.create(new NotEmptyValidator("foo"));
+        validatorAdapter.setErrorMessage(getContext(), android.R.string.cancel);
+        assertEquals(errorMessage, validatorAdapter.getErrorMessage());
+    }
+
+    /**
+     * Ensures, that a {@link NullPointerException} is thrown by the method, which allows to set the
+     * error message, if the context is null.
+     */
+    public final void testSetErrorMessageThrowsExceptionWhenContextIsNull() {
+        try {
+            ValidatorAdapter.create(new NotEmptyValidator("foo"))
+                    .setErrorMessage(null, android.R.string.cancel);
+            Assert.fail();
+        } catch (NullPointerException e) {
+
+        }
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to set the icon, if a drawable is
+     * passed.
+     */
+    public final void testSetIconWithDrawableParameter() {
+        Drawable icon = ContextCompat.getDrawable(getContext(), android.R.drawable.ic_dialog_info);
+        ValidatorAdapter<CharSequence> validatorAdapter =
+                ValidatorAdapter.create(new NotEmptyValidator("foo"));
+        validatorAdapter.setIcon(icon);
+        assertEquals(icon, validatorAdapter.getIcon());
+        validatorAdapter.setIcon(null);
+        assertNull(validatorAdapter.getIcon());
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to set the icon, if a context and
+     * resource ID are passed.
+     */
+    public final void testSetIconWithContextAndResourceIdParameters() {
+        ValidatorAdapter<CharSequence> validatorAdapter =
+                ValidatorAdapter.create(new NotEmptyValidator("foo"));
+        validatorAdapter.setIcon(getContext(), android.R.drawable.ic_dialog_info);
+        assertNotNull(validatorAdapter.getIcon());
+    }
+
+    /**
+     * Ensures, that a {@link NullPointerException} is thrown by the method, which allows to set the
+     * icon, if the context is null.
+     */
+    public final void testSetIconThrowsExceptionWhenContextIsNull() {
+        try {
+            ValidatorAdapter.create(new NotEmptyValidator("foo"))
+                    .setIcon(null, android.R.drawable.ic_dialog_info);
+            Assert.fail();
+        } catch (NullPointerException e) {
+
+        }
+    }
+
+    /**
+     * Tests the functionality of the validate-method.
+     */
+    public final void testValidate() {
+        ValidatorAdapter<CharSequence> validatorAdapter =
+                ValidatorAdapter.create(new NotEmptyValidator("foo"));
+        assertTrue(validatorAdapter.validate("a"));
+        assertFalse(validatorAdapter.validate(""));
+    }
+
+    /**
+     * Tests the functionality of the static unwrap-method.
+     */
+    public final void testUnwrap() {
+        Validator<CharSequence> validator = new NotEmptyValidator("foo");
+        assertEquals(validator, ValidatorAdapter.unwrap(validator));
+        assertEquals(validator, ValidatorAdapter.unwrap(ValidatorAdapter.create(validator)));
+        assertEquals(validator, ValidatorAdapter
+                .unwrap(ValidatorAdapter.create(ValidatorAdapter.create(validator))));
+        assertEquals(validator, ValidatorAdapter.unwrap(Validators.cached(validator, 2)));
+        assertEquals(validator, ValidatorAdapter
+                .unwrap(ValidatorAdapter.create(Validators.cached(validator, 2))));
+    }
+
+    /**
+     * Tests the functionality of the static unwrapAdapters-method.
+     */
+    public final void testUnwrapAdapters() {
+        Validator<CharSequence> validator = Validators.cached(new NotEmptyValidator("foo"), 2);
+        assertEquals(validator, ValidatorAdapter.unwrapAdapters(validator));
+        assertEquals(validator,
+                ValidatorAdapter.unwrapAdapters(ValidatorAdapter.create(validator)));
+    }
+
+    /**
+     * Tests the functionality of the static method, which allows to retrieve the icon of a
+     * validator.
+     */
+    public final void testGetIconOfValidator() {
+        Drawable icon = ContextCompat.getDrawable(getContext(), android.R.drawable.ic_dialog_info);
+        ValidatorAdapter<CharSequence> validatorAdapter =
+                ValidatorAdapter.create(new NotEmptyValidator("foo"));
+        validatorAdapter.setIcon(icon);
+        assertEquals(icon, ValidatorAdapter.getIcon(validatorAdapter));
+        assertNull(ValidatorAdapter.getIcon(new NotEmptyValidator("foo")));
+        assertNull(ValidatorAdapter.getIcon(null));
+    }
+
+}
\ No newline at end of file
@@ -15,9 +15,14 @@ package de.mrapp.android.validation;
 
 import android.test.AndroidTestCase;
 
+import junit.framework.Assert;
+
 import java.util.regex.Pattern;
 
+import de.mrapp.android.validation.regex.AutomatonValidator;
+import de.mrapp.android.validation.validators.text.CachingValidator;
 import de.mrapp.android.validation.validators.text.Case;
+import de.mrapp.android.validation.validators.text.RegexValidator;
 
 /**
  * Tests the functionality of the class {@link Validators}.
@@ -101,6 +106,39 @@ public class ValidatorsTest extends AndroidTestCase {
         assertNotNull(Validators.disjunctive(getContext(), Validators.notEmpty("foo")));
     }
 
+    /**
+     * Tests the functionality of the async-method.
+     */
+    public final void testAsync() {
+        assertNotNull(Validators.async(Validators.notEmpty("foo")));
+    }
+
+    /**
+     * Tests the functionality of the cached-method.
+     */
+    public final void testCached() {
+        Validator<CharSequence> validator = Validators.notEmpty("foo");
+        CachingValidator cachingValidator = Validators.cached(validator, 10);
+        assertEquals(validator, cachingValidator.getValidator());
+        assertEquals(10, cachingValidator.getCapacity());
+        assertTrue(cachingValidator.validate("a"));
+        assertTrue(cachingValidator.validate("a"));
+        assertEquals(1, cachingValidator.getHitCount());
+    }
+
+    /**
+     * Tests the functionality of the compile-method.
+     */
+    @SuppressWarnings("unchecked")
+    public final void testCompile() {
+        Validator<CharSequence> validator = Validators.compile(Validators
+                .conjunctive("foo", Validators.notEmpty("bar"), Validators.number("bar")));
+        assertTrue(validator instanceof AutomatonValidator);
+        assertTrue(validator.validate("123"));
+        assertFalse(validator.validate(""));
+        assertFalse(validator.validate("12a"));
+    }
+
     /**
      * Tests the functionality of the notNull-method, which expects a char sequence as a parameter.
      */
@@ -146,6 +184,63 @@ public class ValidatorsTest extends AndroidTestCase {
         assertNotNull(Validators.regex(getContext(), Pattern.compile(".")));
     }
 
+    /**
+     * Tests the functionality of the regex-method, which expects a char sequence and a string as
+     * parameters.
+     */
+    public final void testRegexWithCharSequenceAndStringParameters() {
+        assertNotNull(Validators.regex("foo", "."));
+    }
+
+    /**
+     * Tests the functionality of the regex-method, which expects a context, a resource id and a
+     * string as parameters.
+     */
+    public final void testRegexWithContextResourceIdAndStringParameters() {
+        assertNotNull(Validators.regex(getContext(), android.R.string.cancel, "."));
+    }
+
+    /**
+     * Tests the functionality of the regex-method, which expects a context and a string as
+     * parameters.
+     */
+    public final void testRegexWithContextAndStringParameters() {
+        assertNotNull(Validators.regex(getContext(), "."));
+    }
+
+    /**
+     * Tests the functionality of the regex-method, which expects a char sequence, a pattern and a
+     * matching budget as parameters.
+     */
+    public final void testRegexWithCharSequencePatternAndBudgetParameters() {
+        RegexValidator validator =
+                (RegexValidator) Validators.regex("foo", Pattern.compile("."), 100);
+        assertEquals(100, validator.getMatchingBudget());
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the regex-method, which
+     * expects a char sequence, a pattern and a matching budget as parameters, if the budget is
+     * less than 1.
+     */
+    public final void testRegexWithCharSequencePatternAndBudgetParametersThrowsException() {
+        try {
+            Validators.regex("foo", Pattern.compile("."), 0);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+
+        }
+    }
+
+    /**
+     * Tests the functionality of the regex-method, which expects a context, a resource id, a
+     * pattern and a matching budget as parameters.
+     */
+    public final void testRegexWithContextResourceIdPatternAndBudgetParameters() {
+        assertNotNull(Validators.regex(getContext(), android.R.string.cancel, Pattern.compile("."),
+                100));
+    }
+
     /**
      * Tests the functionality of the notEmpty-method, which expects a char sequence as a
      * parameter.
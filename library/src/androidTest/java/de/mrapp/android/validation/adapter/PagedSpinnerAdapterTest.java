@@ -0,0 +1,339 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.adapter;
+
+import android.support.annotation.NonNull;
+import android.os.Looper;
+import android.test.AndroidTestCase;
+import android.widget.LinearLayout;
+import android.widget.TextView;
+
+import junit.framework.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the functionality of the class {@link PagedSpinnerAdapter}.
+ *
+ * @author Michael Rapp
+ */
+public class PagedSpinnerAdapterTest extends AndroidTestCase {
+
+    /**
+     * A data source, which provides a specific number of labels and counts the number of pages,
+     * which have been loaded. Optionally, it fails to load pages.
+     */
+    private static class DataSourceImplementation
+            implements PagedSpinnerAdapter.DataSource<CharSequence> {
+
+        /**
+         * The labels, which are provided by the data source.
+         */
+        private final List<CharSequence> labels;
+
+        /**
+         * The number of pages, which have been loaded.
+         */
+        private int loadedPages;
+
+        /**
+         * True, if loading pages should fail, false otherwise.
+         */
+        private boolean failing;
+
+        /**
+         * Creates a new data source, which provides a specific number of labels.
+         *
+         * @param count
+         *         The number of labels, which should be provided, as an {@link Integer} value
+         */
+        DataSourceImplementation(final int count) {
+            labels = new ArrayList<>(count);
+
+            for (int i = 0; i < count; i++) {
+                labels.add(i % 2 == 0 ? "Entry " + i : "Item " + i);
+            }
+        }
+
+        @Override
+        public int getCount() {
+            return labels.size();
+        }
+
+        @NonNull
+        @Override
+        public List<CharSequence> loadPage(final int offset, final int count) {
+            if (failing) {
+                throw new IllegalStateException("Failed to load page");
+            }
+
+            loadedPages++;
+            return labels.subList(offset, offset + count);
+        }
+
+        @NonNull
+        @Override
+        public CharSequence getLabel(@NonNull final CharSequence item) {
+            return item;
+        }
+
+    }
+
+    /**
+     * An executor, which runs tasks synchronously.
+     */
+    private static final Executor SYNCHRONOUS_EXECUTOR = new Executor() {
+
+        @Override
+        public void execute(@NonNull final Runnable command) {
+            command.run();
+        }
+
+    };
+
+    /**
+     * Creates and returns a {@link PagedSpinnerAdapter}, which may be used for test purposes. The
+     * adapter builds its index synchronously.
+     *
+     * @param dataSource
+     *         The data source, which should be used by the adapter, as an instance of the class
+     *         {@link DataSourceImplementation}
+     * @return The adapter, which has been created, as an instance of the class {@link
+     * PagedSpinnerAdapter}
+     */
+    private PagedSpinnerAdapter<CharSequence> createAdapter(
+            final DataSourceImplementation dataSource) {
+        PagedSpinnerAdapter<CharSequence> adapter = new PagedSpinnerAdapter<>(getContext(),
+                dataSource, android.R.layout.simple_spinner_item);
+        adapter.setIndexExecutor(SYNCHRONOUS_EXECUTOR);
+        return adapter;
+    }
+
+    /**
+     * Tests, if all properties are set correctly by the constructor.
+     */
+    public final void testConstructor() {
+        PagedSpinnerAdapter<CharSequence> adapter =
+                createAdapter(new DataSourceImplementation(10));
+        assertEquals(PagedSpinnerAdapter.DEFAULT_PAGE_SIZE, adapter.getPageSize());
+        assertEquals(PagedSpinnerAdapter.DEFAULT_MAX_CACHED_PAGES, adapter.getMaxCachedPages());
+        assertEquals(0, adapter.getCachedPageCount());
+        assertNull(adapter.getFilter());
+        assertEquals(10, adapter.getCount());
+    }
+
+    /**
+     * Ensures, that a {@link NullPointerException} is thrown by the constructor, if the data
+     * source is null.
+     */
+    public final void testConstructorThrowsExceptionWhenDataSourceIsNull() {
+        try {
+            new PagedSpinnerAdapter<CharSequence>(getContext(), null,
+                    android.R.layout.simple_spinner_item);
+            Assert.fail();
+        } catch (NullPointerException e) {
+
+        }
+    }
+
+    /**
+     * Tests the functionality of the getItem-method, which should only load the page, which
+     * contains the item, and evict the least recently used pages.
+     */
+    public final void testGetItem() {
+        DataSourceImplementation dataSource = new DataSourceImplementation(50000);
+        PagedSpinnerAdapter<CharSequence> adapter = createAdapter(dataSource);
+        adapter.setPageSize(100);
+        adapter.setMaxCachedPages(2);
+        assertEquals("Entry 42000", adapter.getItem(42000));
+        assertEquals("Item 42099", adapter.getItem(42099));
+        assertEquals(1, dataSource.loadedPages);
+        assertEquals("Entry 0", adapter.getItem(0));
+        assertEquals("Item 42001", adapter.getItem(42001));
+        assertEquals(2, dataSource.loadedPages);
+        assertEquals("Entry 100", adapter.getItem(100));
+        assertEquals(2, adapter.getCachedPageCount());
+        assertEquals("Item 1", adapter.getItem(1));
+        assertEquals(4, dataSource.loadedPages);
+        assertEquals(42000, adapter.getItemId(42000));
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the setPageSize-method, if
+     * the page size is less than 1.
+     */
+    public final void testSetPageSizeThrowsExceptionWhenPageSizeIsLessThanOne() {
+        try {
+            createAdapter(new DataSourceImplementation(10)).setPageSize(0);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+
+        }
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the setMaxCachedPages-method,
+     * if the maximum number of cached pages is less than 1.
+     */
+    public final void testSetMaxCachedPagesThrowsExceptionWhenValueIsLessThanOne() {
+        try {
+            createAdapter(new DataSourceImplementation(10)).setMaxCachedPages(0);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+
+        }
+    }
+
+    /**
+     * Tests the functionality of the setFilter-method.
+     */
+    public final void testSetFilter() {
+        DataSourceImplementation dataSource = new DataSourceImplementation(1000);
+        PagedSpinnerAdapter<CharSequence> adapter = createAdapter(dataSource);
+        adapter.setFilter("item 99");
+        assertEquals("item 99", adapter.getFilter().toString());
+        assertEquals(6, adapter.getCount());
+        assertEquals(0, adapter.getCachedPageCount());
+        assertEquals("Item 99", adapter.getItem(0));
+        assertEquals("Item 999", adapter.getItem(5));
+        assertEquals(999, adapter.getSourcePosition(5));
+        assertEquals(5, adapter.getPosition(999));
+        assertEquals(-1, adapter.getPosition(998));
+        assertEquals(999, adapter.getItemId(5));
+        adapter.setFilter("99");
+        assertEquals(11, adapter.getCount());
+        adapter.setFilter("");
+        assertNull(adapter.getFilter());
+        assertEquals(1000, adapter.getCount());
+        assertEquals(998, adapter.getPosition(998));
+    }
+
+    /**
+     * Tests the functionality of the invalidate-method.
+     */
+    public final void testInvalidate() {
+        DataSourceImplementation dataSource = new DataSourceImplementation(10);
+        PagedSpinnerAdapter<CharSequence> adapter = createAdapter(dataSource);
+        adapter.setFilter("entry");
+        assertEquals(5, adapter.getCount());
+        dataSource.labels.set(1, "Entry 1");
+        assertEquals(5, adapter.getCount());
+        adapter.invalidate();
+        assertEquals(0, adapter.getCachedPageCount());
+        assertEquals(6, adapter.getCount());
+        assertEquals("Entry 1", adapter.getItem(1));
+    }
+
+    /**
+     * Tests the functionality of the getView-method.
+     */
+    public final void testGetView() {
+        PagedSpinnerAdapter<CharSequence> adapter =
+                createAdapter(new DataSourceImplementation(10));
+        TextView view = (TextView) adapter.getView(3, null, null);
+        assertEquals("Item 3", view.getText().toString());
+        assertSame(view, adapter.getView(4, view, null));
+        assertEquals("Entry 4", view.getText().toString());
+    }
+
+    /**
+     * Tests, if the index is built by using the default executor and the filter is applied on
+     * the main thread afterwards.
+     *
+     * @throws InterruptedException
+     *         The exception, which is thrown, if the test is interrupted
+     */
+    public final void testSetFilterWithDefaultExecutor() throws InterruptedException {
+        final PagedSpinnerAdapter<CharSequence> adapter =
+                new PagedSpinnerAdapter<>(getContext(), new DataSourceImplementation(1000),
+                        android.R.layout.simple_spinner_item);
+        final CountDownLatch latch = new CountDownLatch(1);
+        final boolean[] onMainThread = new boolean[1];
+        final int[] count = new int[1];
+        adapter.setFilter("item 99", new PagedSpinnerAdapter.FilterListener() {
+
+            @Override
+            public void onApplyFilter(@NonNull final PagedSpinnerAdapter<?> filteredAdapter) {
+
+            }
+
+            @Override
+            public void onFilterApplied(@NonNull final PagedSpinnerAdapter<?> filteredAdapter) {
+                onMainThread[0] = Looper.myLooper() == Looper.getMainLooper();
+                count[0] = filteredAdapter.getCount();
+                latch.countDown();
+            }
+
+        });
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(onMainThread[0]);
+        assertEquals(6, count[0]);
+    }
+
+    /**
+     * Ensures, that an exception, which is thrown by the data source while building the index,
+     * is rethrown and that the filter can be applied again afterwards.
+     */
+    public final void testSetFilterWhenDataSourceFails() {
+        DataSourceImplementation dataSource = new DataSourceImplementation(10);
+        dataSource.failing = true;
+        PagedSpinnerAdapter<CharSequence> adapter = createAdapter(dataSource);
+
+        try {
+            adapter.setFilter("entry");
+            Assert.fail();
+        } catch (IllegalStateException e) {
+
+        }
+
+        assertEquals(10, adapter.getCount());
+        dataSource.failing = false;
+        adapter.setFilter("entry");
+        assertEquals(5, adapter.getCount());
+    }
+
+    /**
+     * Ensures, that an {@link IllegalStateException} is thrown by the getView-method, if the
+     * layout does not contain a text view.
+     */
+    public final void testGetViewThrowsExceptionWhenLayoutContainsNoTextView() {
+        PagedSpinnerAdapter<CharSequence> adapter =
+                createAdapter(new DataSourceImplementation(10));
+
+        try {
+            adapter.getView(0, new LinearLayout(getContext()), null);
+            Assert.fail();
+        } catch (IllegalStateException e) {
+
+        }
+    }
+
+    /**
+     * Ensures, that a {@link NullPointerException} is thrown by the setIndexExecutor-method, if
+     * the executor is null.
+     */
+    public final void testSetIndexExecutorThrowsExceptionWhenExecutorIsNull() {
+        try {
+            createAdapter(new DataSourceImplementation(10)).setIndexExecutor(null);
+            Assert.fail();
+        } catch (NullPointerException e) {
+
+        }
+    }
+
+}
\ No newline at end of file
@@ -17,6 +17,7 @@ import android.content.Context;
 import android.content.res.ColorStateList;
 import android.graphics.Color;
 import android.test.AndroidTestCase;
+import android.view.View;
 import android.widget.ArrayAdapter;
 
 import junit.framework.Assert;
@@ -98,7 +99,13 @@ public class ProxySpinnerAdapterTest extends AndroidTestCase {
     public final void testGetView() {
         CharSequence[] entries = new CharSequence[]{"entry1", "entry2"};
         ProxySpinnerAdapter proxySpinnerAdapter = createAdapter(entries);
-        assertNotNull(proxySpinnerAdapter.getView(0, null, null));
+        View hintView = proxySpinnerAdapter.getView(0, null, null);
+        assertNotNull(hintView);
+        assertSame(hintView, proxySpinnerAdapter.getView(0, hintView, null));
+        View itemView = proxySpinnerAdapter.getView(1, hintView, null);
+        assertNotSame(hintView, itemView);
+        assertSame(itemView, proxySpinnerAdapter.getView(2, itemView, null));
+        assertNotSame(itemView, proxySpinnerAdapter.getView(0, itemView, null));
     }
 
     /**
@@ -107,7 +114,13 @@ public class ProxySpinnerAdapterTest extends AndroidTestCase {
     public final void testGetDropDownView() {
         CharSequence[] entries = new CharSequence[]{"entry1", "entry2"};
         ProxySpinnerAdapter proxySpinnerAdapter = createAdapter(entries);
-        assertNotNull(proxySpinnerAdapter.getDropDownView(0, null, null));
+        View hintView = proxySpinnerAdapter.getDropDownView(0, null, null);
+        assertNotNull(hintView);
+        assertSame(hintView, proxySpinnerAdapter.getDropDownView(0, hintView, null));
+        View itemView = proxySpinnerAdapter.getDropDownView(1, hintView, null);
+        assertNotSame(hintView, itemView);
+        assertSame(itemView, proxySpinnerAdapter.getDropDownView(2, itemView, null));
+        assertNotSame(itemView, proxySpinnerAdapter.getDropDownView(0, itemView, null));
     }
 
     /**
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.strength;
+
+import android.test.AndroidTestCase;
+
+/**
+ * Tests the functionality of the class {@link AssetDictionaries}.
+ *
+ * @author Michael Rapp
+ */
+public class AssetDictionariesTest extends AndroidTestCase {
+
+    /**
+     * Tests the functionality of the method, which allows to create the default dictionary.
+     */
+    public final void testCreateDefault() {
+        RankedDictionary dictionary = AssetDictionaries.createDefault(getContext());
+        assertEquals(1, dictionary.getRank("123456"));
+        assertEquals(2, dictionary.getRank("Password"));
+        assertEquals(0, dictionary.getRank("xK9#mQ2$vL7!"));
+    }
+
+    /**
+     * Tests, if the default dictionary allows to detect commonly used passwords.
+     */
+    public final void testEstimateWithDefaultDictionary() {
+        EntropyEstimator estimator = new EntropyEstimator();
+        estimator.addDictionary(AssetDictionaries.createDefault(getContext()));
+        assertTrue(estimator.estimate("qwerty123") < 0.5f);
+        assertTrue(estimator.estimate("iloveyou2000") < 0.5f);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalStateException} is thrown, if a dictionary is queried, whose
+     * asset does not exist.
+     */
+    public final void testThrowsExceptionWhenAssetDoesNotExist() {
+        RankedDictionary dictionary =
+                AssetDictionaries.fromCompiledDictionary(getContext(), "nonexistent.dict");
+
+        try {
+            dictionary.getRank("password");
+            fail();
+        } catch (IllegalStateException e) {
+
+        }
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown, if the path, which is passed to
+     * the method, which allows to create a dictionary from a word list, is empty.
+     */
+    public final void testFromWordListThrowsExceptionWhenPathIsEmpty() {
+        try {
+            AssetDictionaries.fromWordList(getContext(), "");
+            fail();
+        } catch (IllegalArgumentException e) {
+
+        }
+    }
+
+}
\ No newline at end of file
@@ -51,32 +51,6 @@ public class EqualValidatorTest extends AndroidTestCase {
         }
     }
 
-    /**
-     * Tests, if all properties are correctly initialized by the constructor, which expects a
-     * context and a resource ID as parameters.
-     */
-    public final void testConstructorWithContextAndResourceIdParameters() {
-        CharSequence errorMessage = getContext().getText(android.R.string.cancel);
-        EditText editText = new EditText(getContext());
-        EqualValidator equalValidator =
-                new EqualValidator(getContext(), android.R.string.cancel, editText);
-        assertEquals(errorMessage, equalValidator.getErrorMessage());
-        assertEquals(editText, equalValidator.getEditText());
-    }
-
-    /**
-     * Ensures, that an {@link IllegalArgumentException} is thrown by the constructor, which expects
-     * a context and a resource ID as parameters, if the edit text widget is null.
-     */
-    public final void testConstructorWithContextAndResourceIdParametersThrowsException() {
-        try {
-            new EqualValidator(getContext(), android.R.string.cancel, null);
-            Assert.fail();
-        } catch (NullPointerException e) {
-
-        }
-    }
-
     /**
      * Tests the functionality of the method, which allows to set the edit text widget.
      */
@@ -15,9 +15,11 @@ package de.mrapp.android.validation;
 
 import android.annotation.TargetApi;
 import android.content.Context;
+import android.content.res.Configuration;
 import android.content.res.TypedArray;
 import android.graphics.PorterDuff;
 import android.graphics.drawable.Drawable;
+import android.os.AsyncTask;
 import android.os.Build;
 import android.os.Parcel;
 import android.os.Parcelable;
@@ -26,6 +28,8 @@ import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.annotation.StringRes;
 import android.support.v4.content.ContextCompat;
+import android.support.v4.view.ViewCompat;
+import android.text.TextUtils;
 import android.util.AttributeSet;
 import android.view.View;
 import android.view.ViewGroup;
@@ -33,10 +37,19 @@ import android.widget.LinearLayout;
 import android.widget.TextView;
 
 import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
+import de.mrapp.android.validation.metrics.ValidationMetrics;
+import de.mrapp.android.validation.metrics.ValidationWatchdog;
+
+import static de.mrapp.android.util.Condition.ensureAtLeast;
 import static de.mrapp.android.util.Condition.ensureNotNull;
 
 /**
@@ -95,6 +108,12 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
          */
         public boolean validateOnFocusLost;
 
+        /**
+         * The delay, which is used to coalesce validations, which are caused by value changes, in
+         * milliseconds.
+         */
+        public int validationDelay;
+
         /**
          * Creates a new data structure, which allows to store the internal state of a {@link
          * EditText}. This constructor is used when reading from a parcel. It reads the state of the
@@ -109,6 +128,7 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
             validated = source.readInt() == 1;
             validateOnValueChange = source.readInt() == 1;
             validateOnFocusLost = source.readInt() == 1;
+            validationDelay = source.readInt();
         }
 
         /**
@@ -129,6 +149,399 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
             destination.writeInt(validated ? 1 : 0);
             destination.writeInt(validateOnValueChange ? 1 : 0);
             destination.writeInt(validateOnFocusLost ? 1 : 0);
+            destination.writeInt(validationDelay);
+        }
+
+    }
+
+    /**
+     * A task, which allows to execute the asynchronous validators of the view in a background
+     * thread and to publish the result on the main thread afterwards.
+     */
+    private class AsyncValidationTask implements Runnable {
+
+        /**
+         * The value, which is validated.
+         */
+        private final ValueType value;
+
+        /**
+         * A list, which contains the asynchronous validators, which are executed.
+         */
+        private final List<Validator<ValueType>> asyncValidators;
+
+        /**
+         * The validator, whose error message should be shown at the right edge of the view, or
+         * null, if no error message should be shown.
+         */
+        private final Validator<ValueType> rightValidator;
+
+        /**
+         * A list, which contains the asynchronous validators, which failed.
+         */
+        private final List<Validator<ValueType>> failedValidators;
+
+        /**
+         * True, if the execution of the validators should be stopped after the first validator
+         * failed, false otherwise.
+         */
+        private final boolean failFast;
+
+        /**
+         * The metrics, the latencies of the validators are recorded in, or null, if no metrics
+         * are collected.
+         */
+        private final ValidationMetrics metrics;
+
+        /**
+         * The thread, the task has been created on.
+         */
+        private final Thread thread;
+
+        /**
+         * True, if the task has been cancelled, false otherwise.
+         */
+        private volatile boolean cancelled;
+
+        /**
+         * Creates a new task, which allows to execute the asynchronous validators of the view in a
+         * background thread.
+         *
+         * @param value
+         *         The value, which should be validated, as an instance of the generic type
+         *         ValueType. The value must not be modified while the task is executed
+         * @param asyncValidators
+         *         A list, which contains the asynchronous validators, which should be executed, as
+         *         an instance of the type {@link List}. The list may not be null
+         * @param rightValidator
+         *         The validator, whose error message should be shown at the right edge of the
+         *         view, as an instance of the type {@link Validator} or null, if no error message
+         *         should be shown
+         * @param failFast
+         *         True, if the execution of the validators should be stopped after the first
+         *         validator failed, false otherwise
+         */
+        AsyncValidationTask(final ValueType value,
+                            @NonNull final List<Validator<ValueType>> asyncValidators,
+                            @Nullable final Validator<ValueType> rightValidator,
+                            final boolean failFast) {
+            this.value = value;
+            this.asyncValidators = asyncValidators;
+            this.rightValidator = rightValidator;
+            this.failFast = failFast;
+            this.failedValidators = new ArrayList<>();
+            this.metrics = getEffectiveValidationMetrics();
+            this.thread = Thread.currentThread();
+            this.cancelled = false;
+        }
+
+        /**
+         * Cancels the task. The result of a cancelled task is not published.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        /**
+         * Publishes the result of the task, if it has not been cancelled. This method must be
+         * invoked on the main thread.
+         */
+        private void publishResult() {
+            if (!cancelled && asyncValidationTask == this) {
+                asyncValidationTask = null;
+
+                for (Validator<ValueType> validator : failedValidators) {
+                    notifyOnValidationFailure(validator);
+                }
+
+                adaptValidationResult(failedValidators.isEmpty() ? null : failedValidators.get(0),
+                        rightValidator);
+            }
+        }
+
+        @Override
+        public void run() {
+            for (Validator<ValueType> validator : asyncValidators) {
+                if (cancelled) {
+                    return;
+                }
+
+                long start = metrics != null ? System.nanoTime() : 0;
+                boolean valid = validator.validate(value);
+
+                if (metrics != null) {
+                    metrics.recordValidator(ValidatorAdapter.unwrap(validator),
+                            System.nanoTime() - start, valid);
+                }
+
+                if (!valid) {
+                    failedValidators.add(validator);
+
+                    if (failFast) {
+                        break;
+                    }
+                }
+            }
+
+            if (!cancelled) {
+                if (Thread.currentThread() == thread) {
+                    publishResult();
+                } else {
+                    post(new Runnable() {
+
+                        @Override
+                        public void run() {
+                            publishResult();
+                        }
+
+                    });
+                }
+            }
+        }
+
+    }
+
+    /**
+     * A validation of the view's value, whose result has not been applied to the view yet. This
+     * allows to validate the values of multiple views, before any of them is adapted, e.g. by
+     * using a {@link ValidationGroup}. A validation is created on the main thread. Its validators
+     * may be applied in a background thread afterwards, but its result must be applied on the main
+     * thread.
+     */
+    final class Validation {
+
+        /**
+         * The value, which is validated.
+         */
+        private final ValueType value;
+
+        /**
+         * True, if no further validators should be applied after the first validator failed,
+         * false otherwise.
+         */
+        private final boolean failFast;
+
+        /**
+         * A list, which contains the validators, which are applied to the value, excluding
+         * asynchronous ones.
+         */
+        private final List<Validator<ValueType>> syncValidators;
+
+        /**
+         * A list, which contains the validators, whose error messages should be shown at the
+         * right edge of the view, or null, if no such validators failed.
+         */
+        private final Collection<Validator<ValueType>> rightValidators;
+
+        /**
+         * A list, which contains the validators, which failed, in the order, the listeners
+         * should be notified about them.
+         */
+        private final List<Validator<ValueType>> failedValidators;
+
+        /**
+         * A list, which contains the failed validators, which exceeded their budget.
+         */
+        private final List<Validator<ValueType>> budgetExceededValidators;
+
+        /**
+         * The validator, whose error message and icon should be shown at the left edge of the
+         * view, or null, if no validator failed.
+         */
+        private Validator<ValueType> leftValidator;
+
+        /**
+         * The metrics, the validation is recorded in, or null, if no metrics are collected.
+         */
+        private final ValidationMetrics metrics;
+
+        /**
+         * The watchdog, validators, which are applied on the main thread, are checked by, or
+         * null, if no watchdog is used.
+         */
+        private final ValidationWatchdog watchdog;
+
+        /**
+         * The generation of the view's validations, the validation belongs to.
+         */
+        private final int generation;
+
+        /**
+         * The time, which has been spent in validators so far, in nanoseconds.
+         */
+        private long validatorTime;
+
+        /**
+         * Adds a validator, which failed.
+         *
+         * @param validator
+         *         The validator, which failed, as an instance of the type {@link Validator}. The
+         *         validator may not be null
+         * @param budgetExceeded
+         *         True, if the validator failed, because it exceeded its budget, false otherwise
+         */
+        private void addFailure(@NonNull final Validator<ValueType> validator,
+                                final boolean budgetExceeded) {
+            failedValidators.add(validator);
+
+            if (budgetExceeded) {
+                budgetExceededValidators.add(validator);
+            }
+
+            if (leftValidator == null) {
+                leftValidator = validator;
+            }
+        }
+
+        /**
+         * Creates a new validation of a specific value. The results of the view's methods
+         * <code>onGetLeftErrorMessage():Collection</code> and
+         * <code>onGetRightErrorMessage():Collection</code> are obtained immediately.
+         *
+         * @param value
+         *         The value, which should be validated, as an instance of the generic type
+         *         ValueType
+         */
+        Validation(final ValueType value) {
+            this.value = value;
+            this.generation = validationGeneration;
+            this.failFast = validationPolicy != ValidationPolicy.COLLECT_ALL;
+            this.syncValidators = new ArrayList<>();
+            this.failedValidators = new ArrayList<>();
+            this.budgetExceededValidators = new ArrayList<>();
+            this.metrics = getEffectiveValidationMetrics();
+            this.watchdog = validationWatchdog != null ? validationWatchdog :
+                    ValidationWatchdog.getGlobal();
+            long start = metrics != null ? System.nanoTime() : 0;
+            Collection<Validator<ValueType>> subValidators = onGetLeftErrorMessage();
+
+            if (subValidators != null) {
+                for (Validator<ValueType> validator : subValidators) {
+                    addFailure(validator, false);
+                }
+            }
+
+            if (leftValidator == null || !failFast) {
+                for (Validator<ValueType> validator : getOrderedValidators()) {
+                    if (!(ValidatorAdapter.unwrap(validator) instanceof AsyncValidator)) {
+                        syncValidators.add(validator);
+                    }
+                }
+            }
+
+            this.rightValidators = onGetRightErrorMessage(value);
+
+            if (metrics != null) {
+                validatorTime = System.nanoTime() - start;
+            }
+        }
+
+        /**
+         * Applies the view's validators, except for asynchronous ones, to the value.
+         *
+         * @param concurrently
+         *         True, if the validators are applied in a background thread, false otherwise. If
+         *         true, the view's method <code>isValid(Validator, Object):boolean</code> is not
+         *         used, because it may depend on the view's state, and the watchdog is not
+         *         used, because it is only concerned with the main thread
+         */
+        void run(final boolean concurrently) {
+            boolean timed = metrics != null || (watchdog != null && !concurrently);
+
+            for (Validator<ValueType> validator : syncValidators) {
+                if (leftValidator != null && failFast) {
+                    break;
+                }
+
+                long start = timed ? System.nanoTime() : 0;
+                ValidationOutcome outcome;
+
+                if (concurrently) {
+                    outcome = validateWithinBudget(validator, value);
+                } else {
+                    budgetExceeded = false;
+                    outcome = AbstractValidateableView.this.isValid(validator, value) ?
+                            ValidationOutcome.VALID : (budgetExceeded ?
+                            ValidationOutcome.BUDGET_EXCEEDED : ValidationOutcome.INVALID);
+                }
+
+                if (timed) {
+                    long time = System.nanoTime() - start;
+                    validatorTime += time;
+
+                    if (metrics != null) {
+                        metrics.recordValidator(ValidatorAdapter.unwrap(validator), time,
+                                outcome == ValidationOutcome.VALID);
+                    }
+
+                    if (watchdog != null && !concurrently) {
+                        watchdog.check(ValidatorAdapter.unwrap(validator), value, time);
+                    }
+                }
+
+                if (outcome != ValidationOutcome.VALID) {
+                    addFailure(validator, outcome == ValidationOutcome.BUDGET_EXCEEDED);
+                }
+            }
+        }
+
+        /**
+         * Returns, whether the validation is stale, because the view's value has been validated
+         * again, or because it has been changed, since the validation has been created. The
+         * result of a stale validation must not be applied. This method must be invoked on the
+         * main thread.
+         *
+         * @return True, if the validation is stale, false otherwise
+         */
+        boolean isStale() {
+            return generation != validationGeneration;
+        }
+
+        /**
+         * Notifies the listeners about the result of the validation and adapts the view
+         * accordingly. If all validators succeeded, the view's asynchronous validators are
+         * started, if any. In such case, the view is only adapted, once their results have been
+         * published. This method must be invoked on the main thread.
+         *
+         * @return True, if the validation succeeded, false, if it failed or if asynchronous
+         * validators have been started
+         */
+        boolean apply() {
+            long start = metrics != null ? System.nanoTime() : 0;
+
+            for (Validator<ValueType> validator : failedValidators) {
+                if (budgetExceededValidators.contains(validator)) {
+                    notifyOnValidationBudgetExceeded(validator);
+                } else {
+                    notifyOnValidationFailure(validator);
+                }
+            }
+
+            Validator<ValueType> rightValidator = null;
+
+            if (rightValidators != null) {
+                for (Validator<ValueType> validator : rightValidators) {
+                    notifyOnValidationFailure(validator);
+
+                    if (rightValidator == null) {
+                        rightValidator = validator;
+                    }
+                }
+            }
+
+            boolean result;
+
+            if (leftValidator == null && startAsyncValidation(value, rightValidator)) {
+                result = false;
+            } else {
+                result = adaptValidationResult(leftValidator, rightValidator);
+            }
+
+            if (metrics != null) {
+                metrics.recordValidation(validatorTime, System.nanoTime() - start);
+            }
+
+            return result;
         }
 
     }
@@ -145,6 +558,30 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
      */
     private static final boolean DEFAULT_VALIDATE_ON_FOCUS_LOST = true;
 
+    /**
+     * The validation delay, which causes the view's value to be validated immediately, when it has
+     * been changed.
+     */
+    public static final int VALIDATION_DELAY_NONE = 0;
+
+    /**
+     * The validation delay, which causes the view's value to be validated at most once per frame,
+     * when it has been changed.
+     */
+    public static final int VALIDATION_DELAY_FRAME = -1;
+
+    /**
+     * The delay, which is used to coalesce validations, which are caused by value changes, by
+     * default.
+     */
+    private static final int DEFAULT_VALIDATION_DELAY = VALIDATION_DELAY_NONE;
+
+    /**
+     * The policy, which specifies how the view's validators are applied, by default.
+     */
+    private static final ValidationPolicy DEFAULT_VALIDATION_POLICY =
+            ValidationPolicy.COLLECT_ALL;
+
     /**
      * The parent view of the view, whose value should be able to be validated.
      */
@@ -204,6 +641,91 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
      */
     private Set<ValidationListener<ValueType>> listeners;
 
+    /**
+     * The delay, which is used to coalesce validations, which are caused by value changes, in
+     * milliseconds.
+     */
+    private int validationDelay;
+
+    /**
+     * The runnable, which is used to validate the view's value, after it has been changed.
+     */
+    private Runnable pendingValidation;
+
+    /**
+     * True, if a validation, which has been caused by a value change, is pending, false otherwise.
+     */
+    private boolean validationPending;
+
+    /**
+     * True, if the last validator, which has been applied by the method {@link
+     * #isValid(Validator, Object)}, exceeded its budget, false otherwise.
+     */
+    private boolean budgetExceeded;
+
+    /**
+     * The executor, which is used to execute asynchronous validators.
+     */
+    private Executor asyncValidationExecutor;
+
+    /**
+     * The task, which currently executes the view's asynchronous validators, or null, if no
+     * asynchronous validation is currently running.
+     */
+    private AsyncValidationTask asyncValidationTask;
+
+    /**
+     * The preprocessor, which is used to normalize the view's value before it is validated, or
+     * null, if no preprocessor is used.
+     */
+    private Preprocessor<ValueType> preprocessor;
+
+    /**
+     * The policy, which specifies how the view's validators are applied.
+     */
+    private ValidationPolicy validationPolicy;
+
+    /**
+     * A list, which contains the view's validators ordered by their costs, or null, if the list
+     * has not been created yet.
+     */
+    private List<Validator<ValueType>> costOrderedValidators;
+
+    /**
+     * The accent color of the view's theme, or null, if it has not been obtained yet.
+     */
+    private Integer accentColor;
+
+    /**
+     * The color, which is currently applied to the view's line, or null, if no color has been
+     * applied yet.
+     */
+    private Integer lineColor;
+
+    /**
+     * True, if the view's line currently indicates a validation error, false otherwise.
+     */
+    private boolean lineIndicatesError;
+
+    /**
+     * The metrics, the view's validations are recorded in, or null, if the global metrics should
+     * be used.
+     */
+    private ValidationMetrics validationMetrics;
+
+    /**
+     * The watchdog, the view's validators are checked by, or null, if the global watchdog should
+     * be used.
+     */
+    private ValidationWatchdog validationWatchdog;
+
+    /**
+     * The generation of the view's validations, which is incremented whenever a validation is
+     * created or a validation of a changed value is requested. It allows to detect stale
+     * validations.
+     */
+    private int validationGeneration;
+
     /**
      * Initializes the view.
      *
@@ -214,6 +736,12 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
     private void initialize(@Nullable final AttributeSet attributeSet) {
         validators = new LinkedHashSet<>();
         listeners = new LinkedHashSet<>();
+        pendingValidation = createPendingValidation();
+        validationPending = false;
+        asyncValidationExecutor = AsyncTask.THREAD_POOL_EXECUTOR;
+        asyncValidationTask = null;
+        preprocessor = null;
+        costOrderedValidators = null;
         setOrientation(VERTICAL);
         inflateView();
         inflateErrorMessageTextViews();
@@ -238,6 +766,8 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
             obtainErrorColor(typedArray);
             obtainValidateOnValueChange(typedArray);
             obtainValidateOnFocusLost(typedArray);
+            obtainValidationDelay(typedArray);
+            obtainValidationPolicy(typedArray);
         } finally {
             typedArray.recycle();
         }
@@ -308,6 +838,33 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
                         DEFAULT_VALIDATE_ON_FOCUS_LOST));
     }
 
+    /**
+     * Obtains the delay, which should be used to coalesce validations, which are caused by value
+     * changes, from a specific typed array.
+     *
+     * @param typedArray
+     *         The typed array, the delay should be obtained from, as an instance of the class
+     *         {@link TypedArray}. The typed array may not be null
+     */
+    private void obtainValidationDelay(@NonNull final TypedArray typedArray) {
+        setValidationDelay(typedArray.getInt(R.styleable.AbstractValidateableView_validationDelay,
+                DEFAULT_VALIDATION_DELAY));
+    }
+
+    /**
+     * Obtains the policy, which specifies how the view's validators should be applied, from a
+     * specific typed array.
+     *
+     * @param typedArray
+     *         The typed array, the validation policy should be obtained from, as an instance of
+     *         the class {@link TypedArray}. The typed array may not be null
+     */
+    private void obtainValidationPolicy(@NonNull final TypedArray typedArray) {
+        int value = typedArray.getInt(R.styleable.AbstractValidateableView_validationPolicy,
+                DEFAULT_VALIDATION_POLICY.ordinal());
+        setValidationPolicy(ValidationPolicy.values()[value]);
+    }
+
     /**
      * Inflates the view, whose value should be able to be validated.
      */
@@ -316,7 +873,7 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
         view = createView();
         view.setOnFocusChangeListener(createFocusChangeListener());
         view.setBackgroundResource(R.drawable.validateable_view_background);
-        setLineColor(getAccentColor());
+        adaptLineColor(false);
 
         if (parentView != null) {
             parentView.addView(view, LayoutParams.MATCH_PARENT, LayoutParams.WRAP_CONTENT);
@@ -358,6 +915,132 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
         };
     }
 
+    /**
+     * Creates and returns a runnable, which allows to validate the value of the view, after it has
+     * been changed.
+     *
+     * @return The runnable, which has been created, as an instance of the type {@link Runnable}
+     */
+    private Runnable createPendingValidation() {
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                if (validationPending) {
+                    validate();
+                }
+            }
+
+        };
+    }
+
+    /**
+     * Cancels a pending validation, which has been caused by a value change.
+     */
+    private void cancelPendingValidation() {
+        if (validationPending) {
+            validationPending = false;
+            removeCallbacks(pendingValidation);
+        }
+    }
+
+    /**
+     * Cancels the asynchronous validation, which is currently running, if any.
+     */
+    private void cancelAsyncValidation() {
+        if (asyncValidationTask != null) {
+            asyncValidationTask.cancel();
+            asyncValidationTask = null;
+        }
+    }
+
+    /**
+     * Starts to execute the view's asynchronous validators in a background thread, if any.
+     *
+     * @param value
+     *         The value, which should be validated, as an instance of the generic type ValueType
+     * @param rightValidator
+     *         The validator, whose error message should be shown at the right edge of the view,
+     *         once the asynchronous validation has been finished, as an instance of the type {@link
+     *         Validator} or null, if no error message should be shown
+     * @return True, if an asynchronous validation has been started, false otherwise
+     */
+    private boolean startAsyncValidation(final ValueType value,
+                                         @Nullable final Validator<ValueType> rightValidator) {
+        List<Validator<ValueType>> asyncValidators = null;
+
+        for (Validator<ValueType> validator : getOrderedValidators()) {
+            if (ValidatorAdapter.unwrap(validator) instanceof AsyncValidator) {
+                if (asyncValidators == null) {
+                    asyncValidators = new ArrayList<>();
+                }
+
+                asyncValidators.add(validator);
+            }
+        }
+
+        if (asyncValidators != null) {
+            asyncValidationTask = new AsyncValidationTask(getImmutableValue(value), asyncValidators,
+                    rightValidator, validationPolicy != ValidationPolicy.COLLECT_ALL);
+            asyncValidationExecutor.execute(asyncValidationTask);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Adapts the view depending on the result of a validation.
+     *
+     * @param leftValidator
+     *         The validator, whose error message and icon should be shown at the left edge of the
+     *         view, as an instance of the type {@link Validator} or null, if no error message
+     *         should be shown
+     * @param rightValidator
+     *         The validator, whose error message should be shown at the right edge of the view,
+     *         as an instance of the type {@link Validator} or null, if no error message should be
+     *         shown
+     * @return True, if the validation succeeded, false otherwise
+     */
+    private boolean adaptValidationResult(@Nullable final Validator<ValueType> leftValidator,
+                                          @Nullable final Validator<ValueType> rightValidator) {
+        setLeftMessage(leftValidator != null ? leftValidator.getErrorMessage() : null,
+                ValidatorAdapter.getIcon(leftValidator));
+        adaptRightMessage(rightValidator != null ? rightValidator.getErrorMessage() : null);
+
+        if (leftValidator == null && rightValidator == null) {
+            notifyOnValidationSuccess();
+            onValidate(true);
+            setActivated(false);
+            adaptLineColor(false);
+            return true;
+        }
+
+        onValidate(false);
+        setActivated(true);
+        adaptLineColor(true);
+        return false;
+    }
+
+    /**
+     * Shows the error message of the validator, which failed, at the right edge of the view. The
+     * message, which is currently shown, is only replaced, if it differs from the error message.
+     * If no validator failed, the message is only removed, if it is highlighted as an error.
+     *
+     * @param errorMessage
+     *         The error message, which should be shown, as an instance of the type {@link
+     *         CharSequence} or null, if no validator failed
+     */
+    private void adaptRightMessage(@Nullable final CharSequence errorMessage) {
+        boolean error = (Boolean) rightMessage.getTag();
+
+        if (errorMessage != null ?
+                !error || !TextUtils.equals(rightMessage.getText(), errorMessage) : error) {
+            setRightMessage(errorMessage);
+            onRightMessageReplaced();
+        }
+    }
+
     /**
      * Notifies all registered listeners, that a validation succeeded.
      */
@@ -381,80 +1064,173 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
     }
 
     /**
-     * Validates the current value of the view in order to retrieve the error message and icon,
-     * which should be shown at the left edge of the view, if a validation fails.
+     * Notifies all registered listeners, that a validator exceeded its budget. Listeners, which
+     * do not implement the interface {@link ValidationBudgetListener}, are notified about a failed
+     * validation instead.
      *
-     * @return The validator, which failed or null, if the validation succeeded
+     * @param validator
+     *         The validator, which exceeded its budget, as an instance of the type {@link
+     *         Validator}. The validator may not be null
      */
-    private Validator<ValueType> validateLeft() {
-        Validator<ValueType> result = null;
-        Collection<Validator<ValueType>> subValidators = onGetLeftErrorMessage();
+    private void notifyOnValidationBudgetExceeded(@NonNull final Validator<ValueType> validator) {
+        for (ValidationListener<ValueType> listener : listeners) {
+            if (listener instanceof ValidationBudgetListener) {
+                ((ValidationBudgetListener<ValueType>) listener)
+                        .onValidationBudgetExceeded(this, validator);
+            } else {
+                listener.onValidationFailure(this, validator);
+            }
+        }
+    }
 
-        if (subValidators != null) {
-            for (Validator<ValueType> validator : subValidators) {
-                notifyOnValidationFailure(validator);
+    /**
+     * Returns the costs of a specific validator.
+     *
+     * @param validator
+     *         The validator, whose costs should be returned, as an instance of the type {@link
+     *         Validator}. The validator may not be null
+     * @return The costs of the given validator as an {@link Integer} value
+     */
+    private static int getCost(@NonNull final Validator<?> validator) {
+        Validator<?> unwrappedValidator = ValidatorAdapter.unwrap(validator);
+        return unwrappedValidator instanceof CostAware ?
+                ((CostAware) unwrappedValidator).getCost() : CostAware.COST_MEDIUM;
+    }
 
-                if (result == null) {
-                    result = validator;
-                }
-            }
+    /**
+     * Returns the view's validators in the order, they should be applied, according to the
+     * validation policy.
+     *
+     * @return The view's validators in the order, they should be applied, as an instance of the
+     * type {@link Collection}
+     */
+    private Collection<Validator<ValueType>> getOrderedValidators() {
+        if (validationPolicy != ValidationPolicy.COST_ORDERED) {
+            return validators;
         }
 
-        for (Validator<ValueType> validator : validators) {
-            if (!validator.validate(getValue())) {
-                notifyOnValidationFailure(validator);
+        if (costOrderedValidators == null) {
+            costOrderedValidators = new ArrayList<>(validators);
+            Collections.sort(costOrderedValidators, new Comparator<Validator<ValueType>>() {
 
-                if (result == null) {
-                    result = validator;
+                @Override
+                public int compare(final Validator<ValueType> lhs, final Validator<ValueType> rhs) {
+                    int lhsCost = getCost(lhs);
+                    int rhsCost = getCost(rhs);
+                    return lhsCost < rhsCost ? -1 : (lhsCost == rhsCost ? 0 : 1);
                 }
-            }
+
+            });
         }
 
-        return result;
+        return costOrderedValidators;
     }
 
     /**
-     * Validates the current value of the view in order to retrieve the error message and icon,
-     * which should be shown at the right edge of the view, if a validation fails.
+     * Creates a validation of the view's current value, whose result has not been applied to the
+     * view yet. Pending and running validations of the view are cancelled. This method must be
+     * invoked on the main thread.
      *
-     * @return The validator, which failed or null, if the validation succeeded
+     * @param immutable
+     *         True, if the value should be copied, such that it can be validated in a background
+     *         thread, false otherwise
+     * @return The validation, which has been created, as an instance of the class {@link
+     * Validation}
      */
-    private Validator<ValueType> validateRight() {
-        Validator<ValueType> result = null;
-        Collection<Validator<ValueType>> subValidators = onGetRightErrorMessage();
+    final Validation prepareValidation(final boolean immutable) {
+        cancelPendingValidation();
+        cancelAsyncValidation();
+        validationGeneration++;
+        ValueType value = getValue();
+
+        if (preprocessor != null) {
+            value = preprocessor.process(value);
+        }
 
-        if (subValidators != null) {
-            for (Validator<ValueType> validator : subValidators) {
-                notifyOnValidationFailure(validator);
+        return new Validation(immutable ? getImmutableValue(value) : value);
+    }
 
-                if (result == null) {
-                    result = validator;
-                }
-            }
+    /**
+     * Validates a specific value by using a specific validator. If the validator is a {@link
+     * BudgetedValidator}, it is taken into account, whether it exceeded its budget.
+     *
+     * @param validator
+     *         The validator, which should be used, as an instance of the type {@link Validator}.
+     *         The validator may not be null
+     * @param value
+     *         The value, which should be validated, as an instance of the generic type ValueType
+     * @param <ValueType>
+     *         The type of the value
+     * @return The outcome of the validation as a value of the enum {@link ValidationOutcome}
+     */
+    @SuppressWarnings("unchecked")
+    private static <ValueType> ValidationOutcome validateWithinBudget(
+            @NonNull final Validator<ValueType> validator, final ValueType value) {
+        Validator<?> unwrappedValidator = ValidatorAdapter.unwrapAdapters(validator);
+
+        if (unwrappedValidator instanceof BudgetedValidator) {
+            return ((BudgetedValidator<ValueType>) unwrappedValidator).validateWithinBudget(value);
         }
 
-        return result;
+        return validator.validate(value) ? ValidationOutcome.VALID : ValidationOutcome.INVALID;
     }
 
     /**
-     * Returns the color of the theme attribute <code>android.R.attr.colorAccent</code>.
+     * Returns the metrics, the view's validations should be recorded in. If the view does not use
+     * metrics of its own, the global metrics are returned.
+     *
+     * @return The metrics, the view's validations should be recorded in, as an instance of the
+     * class {@link ValidationMetrics} or null, if no metrics should be collected
+     */
+    private ValidationMetrics getEffectiveValidationMetrics() {
+        return validationMetrics != null ? validationMetrics : ValidationMetrics.getGlobal();
+    }
+
+    /**
+     * Returns the color of the theme attribute <code>android.R.attr.colorAccent</code>. The color
+     * is only obtained from the theme once and is cached afterwards.
      *
      * @return The color of the theme attribute <code>android.R.attr.colorAccent</code>
      */
     private int getAccentColor() {
-        TypedArray typedArray =
-                getContext().getTheme().obtainStyledAttributes(new int[]{R.attr.colorAccent});
-        return typedArray.getColor(0, 0);
+        if (accentColor == null) {
+            TypedArray typedArray =
+                    getContext().getTheme().obtainStyledAttributes(new int[]{R.attr.colorAccent});
+
+            try {
+                accentColor = typedArray.getColor(0, 0);
+            } finally {
+                typedArray.recycle();
+            }
+        }
+
+        return accentColor;
     }
 
     /**
-     * Sets the color of the view's line.
+     * Adapts the color of the view's line, depending on whether it should indicate a validation
+     * error, or not.
+     *
+     * @param error
+     *         True, if the line should indicate a validation error, false otherwise
+     */
+    private void adaptLineColor(final boolean error) {
+        lineIndicatesError = error;
+        setLineColor(error ? getErrorColor() : getAccentColor());
+    }
+
+    /**
+     * Sets the color of the view's line. The color filter of the line's drawable is only replaced,
+     * if the color differs from the one, which is currently applied.
      *
      * @param color
      *         The color, which should be set, as an {@link Integer} value
      */
     private void setLineColor(@ColorInt final int color) {
-        view.getBackground().setColorFilter(color, PorterDuff.Mode.SRC_ATOP);
+        if (lineColor == null || lineColor != color) {
+            lineColor = color;
+            view.getBackground().setColorFilter(color, PorterDuff.Mode.SRC_ATOP);
+        }
     }
 
     /**
@@ -590,6 +1366,30 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
         }
     }
 
+    /**
+     * Shows a specific message, which is given as a range of a character array, at the right edge
+     * of the view. Unlike {@link #setRightMessage(CharSequence, boolean)}, this method does not
+     * require to create a {@link CharSequence} from the characters.
+     *
+     * @param message
+     *         The array, which contains the message, which should be shown, as a {@link Character}
+     *         array. The array may not be null
+     * @param start
+     *         The index of the first character of the message as an {@link Integer} value
+     * @param length
+     *         The length of the message as an {@link Integer} value
+     * @param error
+     *         True, if the message should be highlighted as an error, false otherwise
+     */
+    protected final void setRightMessage(@NonNull final char[] message, final int start,
+                                         final int length, final boolean error) {
+        ensureNotNull(message, "The message may not be null");
+        rightMessage.setVisibility(View.VISIBLE);
+        rightMessage.setText(message, start, length);
+        rightMessage.setTextColor(error ? getErrorColor() : getHelperTextColor());
+        rightMessage.setTag(error);
+    }
+
     /**
      * The method, which is invoked in order to validate the current value of the view and to
      * retrieve the error message, which should be shown at the left edge of the view, if a
@@ -616,6 +1416,98 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
         return null;
     }
 
+    /**
+     * The method, which is invoked in order to validate a specific value of the view and to
+     * retrieve the error message, which should be shown at the right edge of the view, if a
+     * validation fails. The value is the one, which is validated by the view's validators. By
+     * default, the method <code>onGetRightErrorMessage():Collection</code> is invoked. This method
+     * may be overridden by subclasses in order to perform internal validations.
+     *
+     * @param value
+     *         The value, which is validated, as an instance of the generic type ValueType
+     * @return A collection, which contains the validators, which failed or null, if the validation
+     * succeeded, as an instance of the type {@link Collection}
+     */
+    protected Collection<Validator<ValueType>> onGetRightErrorMessage(final ValueType value) {
+        return onGetRightErrorMessage();
+    }
+
+    /**
+     * The method, which is invoked, when the message at the right edge of the view has been
+     * replaced or removed in order to show the result of a validation. This method may be
+     * overridden by subclasses, which show messages of their own at the right edge of the view.
+     */
+    protected void onRightMessageReplaced() {
+
+    }
+
+    /**
+     * Returns a copy of a specific value, which is not modified, when the view's value is changed.
+     * Such a copy is passed to the view's asynchronous validators. This method should be overridden
+     * by subclasses, if the value, which is returned by the method
+     * <code>getValue():ValueType</code>, is mutable.
+     *
+     * @param value
+     *         The value, which should be copied, as an instance of the generic type ValueType
+     * @return A copy of the given value as an instance of the generic type ValueType
+     */
+    protected ValueType getImmutableValue(final ValueType value) {
+        return value;
+    }
+
+    /**
+     * The method, which is invoked in order to validate a specific value by using one of the view's
+     * validators. This method may be overridden by subclasses in order to validate the value more
+     * efficiently, e.g. by reusing results of previous validations.
+     *
+     * @param validator
+     *         The validator, which should be used, as an instance of the type {@link Validator}.
+     *         The validator may not be null
+     * @param value
+     *         The value, which should be validated, as an instance of the generic type ValueType
+     * @return True, if the validation succeeded, false otherwise
+     */
+    protected boolean isValid(@NonNull final Validator<ValueType> validator,
+                              final ValueType value) {
+        ValidationOutcome outcome = validateWithinBudget(validator, value);
+        budgetExceeded = outcome == ValidationOutcome.BUDGET_EXCEEDED;
+        return outcome == ValidationOutcome.VALID;
+    }
+
+    /**
+     * Invalidates the validations of the view's previous value, because the value has been
+     * changed. The asynchronous validation, which is currently running, if any, is cancelled and
+     * validations, which have been created before, become stale. This method must be invoked by
+     * subclasses on every value change, regardless of whether the value is validated on value
+     * changes, or not.
+     */
+    protected final void invalidateValidation() {
+        cancelAsyncValidation();
+        validationGeneration++;
+    }
+
+    /**
+     * Requests the view's value to be validated, because it has been changed. Depending on the
+     * validation delay, the value is either validated immediately, or multiple subsequent requests
+     * are coalesced into a single validation, which is performed later.
+     */
+    protected final void requestValidation() {
+        invalidateValidation();
+
+        if (validationDelay == VALIDATION_DELAY_NONE) {
+            validate();
+        } else if (validationDelay == VALIDATION_DELAY_FRAME) {
+            if (!validationPending) {
+                validationPending = true;
+                ViewCompat.postOnAnimation(this, pendingValidation);
+            }
+        } else {
+            cancelPendingValidation();
+            validationPending = true;
+            postDelayed(pendingValidation, validationDelay);
+        }
+    }
+
     /**
      * The method, which is invoked when the value of the view has been validated. This method may
      * be overridden by subclasses in order to adapt the view depending on the validation result.
@@ -739,6 +1631,7 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
     public final void addValidator(@NonNull final Validator<ValueType> validator) {
         ensureNotNull(validator, "The validator may not be null");
         validators.add(validator);
+        costOrderedValidators = null;
     }
 
     @Override
@@ -761,6 +1654,7 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
     public final void removeValidator(@NonNull final Validator<ValueType> validator) {
         ensureNotNull(validator, "The validator may not be null");
         validators.remove(validator);
+        costOrderedValidators = null;
     }
 
     @Override
@@ -783,6 +1677,7 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
     @Override
     public final void removeAllValidators() {
         validators.clear();
+        costOrderedValidators = null;
     }
 
     /**
@@ -946,24 +1841,9 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
 
     @Override
     public final boolean validate() {
-        Validator<ValueType> leftValidator = validateLeft();
-        Validator<ValueType> rightValidator = validateRight();
-        setLeftMessage(leftValidator != null ? leftValidator.getErrorMessage() : null,
-                leftValidator != null ? leftValidator.getIcon() : null);
-        setRightMessage(rightValidator != null ? rightValidator.getErrorMessage() : null);
-
-        if (leftValidator == null && rightValidator == null) {
-            notifyOnValidationSuccess();
-            onValidate(true);
-            setActivated(false);
-            setLineColor(getAccentColor());
-            return true;
-        }
-
-        onValidate(false);
-        setActivated(true);
-        setLineColor(getErrorColor());
-        return false;
+        Validation validation = prepareValidation(false);
+        validation.run(false);
+        return validation.apply();
     }
 
     @Override
@@ -976,6 +1856,172 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
         this.validateOnValueChange = validateOnValueChange;
     }
 
+    /**
+     * Returns the delay, which is used to coalesce validations, which are caused by value changes.
+     *
+     * @return The delay, which is used to coalesce validations, which are caused by value changes,
+     * in milliseconds as an {@link Integer} value, <code>VALIDATION_DELAY_NONE</code>, if the value
+     * is validated immediately, or <code>VALIDATION_DELAY_FRAME</code>, if the value is validated
+     * at most once per frame
+     */
+    public final int getValidationDelay() {
+        return validationDelay;
+    }
+
+    /**
+     * Sets the delay, which should be used to coalesce validations, which are caused by value
+     * changes. If the value of the view is changed multiple times within the delay, it is only
+     * validated once. Explicit calls of the method <code>validate():boolean</code> are not affected
+     * by the delay.
+     *
+     * @param delay
+     *         The delay, which should be set, in milliseconds as an {@link Integer} value,
+     *         <code>VALIDATION_DELAY_NONE</code>, if the value should be validated immediately, or
+     *         <code>VALIDATION_DELAY_FRAME</code>, if the value should be validated at most once
+     *         per frame. The delay must be at least <code>VALIDATION_DELAY_FRAME</code>
+     */
+    public final void setValidationDelay(final int delay) {
+        ensureAtLeast(delay, VALIDATION_DELAY_FRAME, "The delay must be at least -1");
+        cancelPendingValidation();
+        this.validationDelay = delay;
+    }
+
+    /**
+     * Returns the preprocessor, which is used to normalize the view's value before it is
+     * validated.
+     *
+     * @return The preprocessor, which is used to normalize the view's value before it is
+     * validated, as an instance of the type {@link Preprocessor} or null, if no preprocessor is
+     * used
+     */
+    public final Preprocessor<ValueType> getPreprocessor() {
+        return preprocessor;
+    }
+
+    /**
+     * Sets the preprocessor, which should be used to normalize the view's value before it is
+     * validated. The value is retrieved and normalized only once per validation and the result is
+     * passed to all validators.
+     *
+     * @param preprocessor
+     *         The preprocessor, which should be set, as an instance of the type {@link
+     *         Preprocessor} or null, if no preprocessor should be used
+     */
+    public final void setPreprocessor(@Nullable final Preprocessor<ValueType> preprocessor) {
+        this.preprocessor = preprocessor;
+    }
+
+    /**
+     * Returns the policy, which specifies how the view's validators are applied.
+     *
+     * @return The policy, which specifies how the view's validators are applied, as a value of the
+     * enum {@link ValidationPolicy}
+     */
+    public final ValidationPolicy getValidationPolicy() {
+        return validationPolicy;
+    }
+
+    /**
+     * Sets the policy, which specifies how the view's validators should be applied. By default,
+     * the policy <code>COLLECT_ALL</code> is used.
+     *
+     * @param validationPolicy
+     *         The policy, which should be set, as a value of the enum {@link ValidationPolicy}.
+     *         The policy may not be null
+     */
+    public final void setValidationPolicy(@NonNull final ValidationPolicy validationPolicy) {
+        ensureNotNull(validationPolicy, "The validation policy may not be null");
+        this.validationPolicy = validationPolicy;
+    }
+
+    /**
+     * Returns the executor, which is used to execute the view's asynchronous validators.
+     *
+     * @return The executor, which is used to execute the view's asynchronous validators, as an
+     * instance of the type {@link Executor}
+     */
+    public final Executor getAsyncValidationExecutor() {
+        return asyncValidationExecutor;
+    }
+
+    /**
+     * Returns, whether the view's asynchronous validators are currently executed, or not. While
+     * they are executed, the view's value is not considered valid, i.e. the method
+     * <code>validate():boolean</code> returns false. Once their results have been published, the
+     * registered listeners are notified.
+     *
+     * @return True, if the view's asynchronous validators are currently executed, false otherwise
+     */
+    public final boolean isValidating() {
+        return asyncValidationTask != null;
+    }
+
+    /**
+     * Sets the executor, which should be used to execute the view's asynchronous validators. By
+     * default, the executor <code>AsyncTask.THREAD_POOL_EXECUTOR</code> is used.
+     *
+     * @param executor
+     *         The executor, which should be set, as an instance of the type {@link Executor}. The
+     *         executor may not be null
+     */
+    public final void setAsyncValidationExecutor(@NonNull final Executor executor) {
+        ensureNotNull(executor, "The executor may not be null");
+        this.asyncValidationExecutor = executor;
+    }
+
+    /**
+     * Returns the metrics, the view's validations are recorded in.
+     *
+     * @return The metrics, the view's validations are recorded in, as an instance of the class
+     * {@link ValidationMetrics} or null, if the global metrics are used
+     */
+    public final ValidationMetrics getValidationMetrics() {
+        return validationMetrics;
+    }
+
+    /**
+     * Sets the metrics, the view's validations should be recorded in. For each validator, its
+     * latency and whether it failed is recorded. Furthermore, the time, each validation spends in
+     * validators, is distinguished from the time, which is spent for updating the view. By
+     * default, the global metrics, which can be set by using the static method
+     * <code>ValidationMetrics.setGlobal(ValidationMetrics):void</code>, are used, if any.
+     *
+     * @param validationMetrics
+     *         The metrics, which should be set, as an instance of the class {@link
+     *         ValidationMetrics} or null, if the global metrics should be used
+     */
+    public final void setValidationMetrics(@Nullable final ValidationMetrics validationMetrics) {
+        this.validationMetrics = validationMetrics;
+    }
+
+    /**
+     * Returns the watchdog, the view's validators are checked by.
+     *
+     * @return The watchdog, the view's validators are checked by, as an instance of the class
+     * {@link ValidationWatchdog} or null, if the global watchdog is used
+     */
+    public final ValidationWatchdog getValidationWatchdog() {
+        return validationWatchdog;
+    }
+
+    /**
+     * Sets the watchdog, the view's validators should be checked by. Each invocation of a
+     * validator on the main thread, which exceeds the watchdog's budget, is reported to the
+     * watchdog's sink, e.g. in order to detect slow validators while testing. Asynchronous
+     * validators and validators, which are applied in a background thread by a {@link
+     * ValidationGroup}, are not checked. By default, the global watchdog, which can be set by
+     * using the static method <code>ValidationWatchdog.setGlobal(ValidationWatchdog):void</code>,
+     * is used, if any.
+     *
+     * @param validationWatchdog
+     *         The watchdog, which should be set, as an instance of the class {@link
+     *         ValidationWatchdog} or null, if the global watchdog should be used
+     */
+    public final void setValidationWatchdog(
+            @Nullable final ValidationWatchdog validationWatchdog) {
+        this.validationWatchdog = validationWatchdog;
+    }
+
     @Override
     public final boolean isValidatedOnFocusLost() {
         return validateOnFocusLost;
@@ -1006,6 +2052,7 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
         savedState.validated = getError() != null;
         savedState.validateOnValueChange = isValidatedOnValueChange();
         savedState.validateOnFocusLost = isValidatedOnFocusLost();
+        savedState.validationDelay = getValidationDelay();
         return savedState;
     }
 
@@ -1020,10 +2067,25 @@ public abstract class AbstractValidateableView<ViewType extends View, ValueType>
 
             validateOnValueChange(savedState.validateOnValueChange);
             validateOnFocusLost(savedState.validateOnFocusLost);
+            setValidationDelay(savedState.validationDelay);
             super.onRestoreInstanceState(savedState.getSuperState());
         } else {
             super.onRestoreInstanceState(state);
         }
     }
 
+    @Override
+    protected void onConfigurationChanged(final Configuration newConfig) {
+        super.onConfigurationChanged(newConfig);
+        accentColor = null;
+        adaptLineColor(lineIndicatesError);
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        cancelPendingValidation();
+        cancelAsyncValidation();
+        super.onDetachedFromWindow();
+    }
+
 }
\ No newline at end of file
@@ -16,6 +16,7 @@ package de.mrapp.android.validation;
 import android.annotation.TargetApi;
 import android.content.Context;
 import android.content.res.ColorStateList;
+import android.content.res.Configuration;
 import android.content.res.TypedArray;
 import android.graphics.Paint;
 import android.graphics.Rect;
@@ -63,9 +64,17 @@ import android.widget.TextView.OnEditorActionListener;
 import org.xmlpull.v1.XmlPullParserException;
 
 import java.io.IOException;
+import java.text.DecimalFormatSymbols;
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Locale;
+import java.util.Map;
+
+import de.mrapp.android.validation.util.CounterFormat;
+import de.mrapp.android.validation.validators.text.CharacterSet;
+import de.mrapp.android.validation.validators.text.MaxLengthValidator;
 
 import static de.mrapp.android.util.Condition.ensureAtLeast;
 
@@ -148,6 +157,28 @@ public class EditText extends AbstractValidateableView<android.widget.EditText,
 
     }
 
+    /**
+     * The state of an {@link IncrementalValidator}, which is used by the view.
+     */
+    private static final class IncrementalState {
+
+        /**
+         * The character set, the number of matching characters has been counted for.
+         */
+        private CharacterSet characterSet;
+
+        /**
+         * The number of characters of the text, which are contained by the character set.
+         */
+        private int matchCount;
+
+        /**
+         * The version of the text, the number of matching characters corresponds to.
+         */
+        private int textVersion;
+
+    }
+
     /**
      * The maximum number of characters, the edit should be allowed to contain by default.
      */
@@ -193,6 +224,49 @@ public class EditText extends AbstractValidateableView<android.widget.EditText,
      */
     private int maxNumberOfCharacters;
 
+    /**
+     * A map, which contains the states of the incremental validators, which have been used by the
+     * view.
+     */
+    private Map<Validator<CharSequence>, IncrementalState> incrementalStates;
+
+    /**
+     * The version of the view's text, which is incremented whenever the text is changed.
+     */
+    private int textVersion;
+
+    /**
+     * The validator, which ensures, that the text does not exceed the maximum number of
+     * characters, or null, if the number of characters is not restricted.
+     */
+    private MaxLengthValidator maxNumberOfCharactersValidator;
+
+    /**
+     * A collection, which only contains the validator, which ensures, that the text does not
+     * exceed the maximum number of characters. It is returned, if the validator fails.
+     */
+    private Collection<Validator<CharSequence>> maxNumberOfCharactersViolation;
+
+    /**
+     * The format, which is used to render the message, which shows how many characters have
+     * already been entered, before it is shown, or null, if it has not been created yet. Its
+     * buffer is never shown by the text view.
+     */
+    private CounterFormat maxNumberOfCharactersFormat;
+
+    /**
+     * The format, whose buffer is currently shown by the text view, which shows how many
+     * characters have already been entered, or null, if no such buffer is shown. As the text view
+     * references the buffer, it must not be rendered again.
+     */
+    private CounterFormat shownMaxNumberOfCharactersFormat;
+
+    /**
+     * The number of characters, which is currently shown by the message, which shows how many
+     * characters have already been entered, or -1, if the message must be updated.
+     */
+    private int shownNumberOfCharacters;
+
     /**
      * Initializes the view.
      *
@@ -201,6 +275,9 @@ public class EditText extends AbstractValidateableView<android.widget.EditText,
      *         {@link AttributeSet} or null, if no attributes should be obtained
      */
     private void initialize(@Nullable final AttributeSet attributeSet) {
+        incrementalStates = new HashMap<>();
+        textVersion = 0;
+        shownNumberOfCharacters = -1;
         obtainStyledAttributes(attributeSet);
         getView().addTextChangedListener(createTextChangeListener());
     }
@@ -461,73 +538,191 @@ public class EditText extends AbstractValidateableView<android.widget.EditText,
             @Override
             public final void beforeTextChanged(final CharSequence s, final int start,
                                                 final int count, final int after) {
+                Iterator<Map.Entry<Validator<CharSequence>, IncrementalState>> iterator =
+                        incrementalStates.entrySet().iterator();
+
+                while (iterator.hasNext()) {
+                    Map.Entry<Validator<CharSequence>, IncrementalState> entry = iterator.next();
+
+                    if (!getValidators().contains(entry.getKey())) {
+                        iterator.remove();
+                    } else {
+                        IncrementalState state = entry.getValue();
 
+                        if (state.textVersion == textVersion) {
+                            state.matchCount -=
+                                    countMatches(state.characterSet, s, start, start + count);
+                        }
+                    }
+                }
             }
 
             @Override
             public final void onTextChanged(final CharSequence s, final int start, final int before,
                                             final int count) {
+                textVersion++;
 
+                for (IncrementalState state : incrementalStates.values()) {
+                    if (state.textVersion == textVersion - 1) {
+                        state.matchCount +=
+                                countMatches(state.characterSet, s, start, start + count);
+                        state.textVersion = textVersion;
+                    }
+                }
             }
 
             @Override
             public final void afterTextChanged(final Editable s) {
+                adaptMaxNumberOfCharactersMessage();
+                invalidateValidation();
+
                 if (isValidatedOnValueChange()) {
-                    validate();
+                    requestValidation();
                 }
-
-                adaptMaxNumberOfCharactersMessage();
             }
 
         };
     }
 
     /**
-     * Returns the message, which shows how many characters, in relation to the maximum number of
-     * characters, the edit text is allowed to contain, have already been entered.
+     * Counts the characters within a specific range of a text, which are contained by a specific
+     * character set.
+     *
+     * @param characterSet
+     *         The character set as an instance of the type {@link CharacterSet}. The character set
+     *         may not be null
+     * @param text
+     *         The text as an instance of the type {@link CharSequence}. The text may not be null
+     * @param start
+     *         The index of the first character, which should be counted, as an {@link Integer}
+     *         value
+     * @param end
+     *         The index after the last character, which should be counted, as an {@link Integer}
+     *         value
+     * @return The number of characters, which are contained by the given character set, as an
+     * {@link Integer} value
+     */
+    private int countMatches(@NonNull final CharacterSet characterSet,
+                             @NonNull final CharSequence text, final int start, final int end) {
+        int matchCount = 0;
+
+        for (int i = start; i < end; i++) {
+            if (characterSet.contains(text.charAt(i))) {
+                matchCount++;
+            }
+        }
+
+        return matchCount;
+    }
+
+    /**
+     * Returns the number of characters of the edit text's value, after the preprocessor, if any,
+     * has been applied. This is the number of characters, which is verified when validating the
+     * value and shown by the message, which shows how many characters have already been entered.
+     *
+     * @return The number of characters of the edit text's value as an {@link Integer} value
+     */
+    private int getNumberOfCharacters() {
+        CharSequence value = getValue();
+        Preprocessor<CharSequence> preprocessor = getPreprocessor();
+
+        if (preprocessor != null) {
+            value = preprocessor.process(value);
+        }
+
+        return value != null ? value.length() : 0;
+    }
+
+    /**
+     * Renders the message, which shows how many characters, in relation to the maximum number of
+     * characters, the edit text is allowed to contain, have already been entered. The format,
+     * which is returned, is reused and therefore overwritten, when this method is invoked again.
      *
-     * @return The message, which shows how many characters, in relation to the maximum number of
-     * characters, the edit text is allowed to contain, have already been typed, as an instance of
-     * the type {@link CharSequence}
+     * @param numberOfCharacters
+     *         The number of characters, which have been entered, as an {@link Integer} value
+     * @return The format, the message has been rendered by, as an instance of the class {@link
+     * CounterFormat}
      */
-    private CharSequence getMaxNumberOfCharactersMessage() {
-        int maxLength = getMaxNumberOfCharacters();
-        int currentLength = getView().length();
-        return String
-                .format(getResources().getString(R.string.edit_text_size_violation_error_message),
-                        currentLength, maxLength);
+    private CounterFormat formatMaxNumberOfCharactersMessage(final int numberOfCharacters) {
+        if (maxNumberOfCharactersFormat == null) {
+            maxNumberOfCharactersFormat = new CounterFormat(
+                    getResources().getString(R.string.edit_text_size_violation_error_message),
+                    DecimalFormatSymbols.getInstance().getZeroDigit());
+        }
+
+        maxNumberOfCharactersFormat.format(numberOfCharacters, getMaxNumberOfCharacters());
+        return maxNumberOfCharactersFormat;
     }
 
     /**
      * Adapts the text view, which shows the message, which shows how many characters, in relation
      * ot the maximum number of characters, the edit text is allowed to contain, have already been
-     * entered.
+     * entered. The message is only rendered, if the number of characters differs from the one,
+     * which is currently shown. It is rendered into a buffer, which is not shown, and the buffers
+     * are swapped afterwards.
      */
     private void adaptMaxNumberOfCharactersMessage() {
         if (getMaxNumberOfCharacters() != -1) {
-            setRightMessage(getMaxNumberOfCharactersMessage(),
-                    getView().length() > getMaxNumberOfCharacters());
+            int numberOfCharacters = getNumberOfCharacters();
+
+            if (numberOfCharacters != shownNumberOfCharacters) {
+                CounterFormat message = formatMaxNumberOfCharactersMessage(numberOfCharacters);
+                setRightMessage(message.getChars(), 0, message.length(),
+                        numberOfCharacters > getMaxNumberOfCharacters());
+                maxNumberOfCharactersFormat = shownMaxNumberOfCharactersFormat;
+                shownMaxNumberOfCharactersFormat = message;
+                shownNumberOfCharacters = numberOfCharacters;
+            }
         } else {
             setRightMessage(null);
+            shownNumberOfCharacters = -1;
         }
     }
 
     @Override
-    protected final Collection<Validator<CharSequence>> onGetRightErrorMessage() {
-        CharSequence errorMessage = getMaxNumberOfCharactersMessage();
+    protected final Collection<Validator<CharSequence>> onGetRightErrorMessage(
+            final CharSequence value) {
+        if (maxNumberOfCharactersValidator != null &&
+                !maxNumberOfCharactersValidator.validate(value)) {
+            maxNumberOfCharactersValidator.setErrorMessage(
+                    formatMaxNumberOfCharactersMessage(value.length()).toString());
+            return maxNumberOfCharactersViolation;
+        }
 
-        if (getMaxNumberOfCharacters() != -1) {
-            Validator<CharSequence> validator =
-                    Validators.maxLength(errorMessage, getMaxNumberOfCharacters());
+        return null;
+    }
 
-            if (!validator.validate(getValue())) {
-                Collection<Validator<CharSequence>> result = new LinkedList<>();
-                result.add(validator);
-                return result;
+    @Override
+    protected final boolean isValid(@NonNull final Validator<CharSequence> validator,
+                                    final CharSequence value) {
+        Validator<?> unwrappedValidator = ValidatorAdapter.unwrap(validator);
+
+        if (unwrappedValidator instanceof IncrementalValidator && value == getView().getText()) {
+            IncrementalValidator<?> incrementalValidator =
+                    (IncrementalValidator<?>) unwrappedValidator;
+            CharacterSet characterSet = incrementalValidator.getCharacterSet();
+
+            if (characterSet == null) {
+                return super.isValid(validator, value);
+            }
+
+            IncrementalState state = incrementalStates.get(validator);
+
+            if (state == null) {
+                state = new IncrementalState();
+                incrementalStates.put(validator, state);
             }
+
+            if (state.characterSet != characterSet || state.textVersion != textVersion) {
+                state.characterSet = characterSet;
+                state.matchCount = countMatches(characterSet, value, 0, value.length());
+                state.textVersion = textVersion;
+            }
+
+            return incrementalValidator.validate(state.matchCount, value.length());
         }
 
-        return null;
+        return super.isValid(validator, value);
     }
 
     @Override
@@ -535,6 +730,11 @@ public class EditText extends AbstractValidateableView<android.widget.EditText,
         adaptMaxNumberOfCharactersMessage();
     }
 
+    @Override
+    protected final void onRightMessageReplaced() {
+        shownNumberOfCharacters = -1;
+    }
+
     @Override
     protected final android.widget.EditText createView() {
         return new android.widget.EditText(getContext());
@@ -550,6 +750,11 @@ public class EditText extends AbstractValidateableView<android.widget.EditText,
         return getView().getText();
     }
 
+    @Override
+    protected final CharSequence getImmutableValue(final CharSequence value) {
+        return value != null ? value.toString() : null;
+    }
+
     /**
      * Creates a new view, which allows to enter text.
      *
@@ -648,6 +853,21 @@ public class EditText extends AbstractValidateableView<android.widget.EditText,
         }
 
         this.maxNumberOfCharacters = maxNumberOfCharacters;
+
+        if (maxNumberOfCharacters == -1) {
+            maxNumberOfCharactersValidator = null;
+            maxNumberOfCharactersViolation = null;
+        } else if (maxNumberOfCharactersValidator == null) {
+            maxNumberOfCharactersValidator = new MaxLengthValidator(
+                    formatMaxNumberOfCharactersMessage(getView().length()).toString(),
+                    maxNumberOfCharacters);
+            maxNumberOfCharactersViolation = Collections
+                    .<Validator<CharSequence>>singletonList(maxNumberOfCharactersValidator);
+        } else {
+            maxNumberOfCharactersValidator.setMaxLength(maxNumberOfCharacters);
+        }
+
+        shownNumberOfCharacters = -1;
         adaptMaxNumberOfCharactersMessage();
     }
 
@@ -2293,6 +2513,15 @@ public class EditText extends AbstractValidateableView<android.widget.EditText,
 
     // CHECKSTYLE:ON
 
+    @Override
+    protected final void onConfigurationChanged(final Configuration newConfig) {
+        super.onConfigurationChanged(newConfig);
+        maxNumberOfCharactersFormat = null;
+        shownMaxNumberOfCharactersFormat = null;
+        shownNumberOfCharacters = -1;
+        adaptMaxNumberOfCharactersMessage();
+    }
+
     @Override
     protected final Parcelable onSaveInstanceState() {
         Parcelable superState = super.onSaveInstanceState();
@@ -24,10 +24,12 @@ import android.support.annotation.Nullable;
 import android.support.annotation.StringRes;
 import android.support.v4.content.ContextCompat;
 import android.text.Editable;
-import android.text.Html;
 import android.text.InputType;
+import android.text.SpannableStringBuilder;
+import android.text.Spanned;
 import android.text.TextUtils;
 import android.text.TextWatcher;
+import android.text.style.ForegroundColorSpan;
 import android.util.AttributeSet;
 
 import java.util.ArrayList;
@@ -35,6 +37,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
+import de.mrapp.android.validation.constraints.text.ConstraintScanner;
+
 import static de.mrapp.android.util.Condition.ensureNotEmpty;
 import static de.mrapp.android.util.Condition.ensureNotNull;
 
@@ -51,11 +55,113 @@ import static de.mrapp.android.util.Condition.ensureNotNull;
  */
 public class PasswordEditText extends EditText {
 
+    /**
+     * A helper text, which has been styled in order to be shown depending on the password
+     * strength, together with the properties it has been styled with.
+     */
+    private static final class StyledHelperText {
+
+        /**
+         * The helper text, which has been styled.
+         */
+        private final CharSequence helperText;
+
+        /**
+         * The color, the helper text has been highlighted with.
+         */
+        private final int color;
+
+        /**
+         * The prefix, which has been prepended to the helper text, or null, if no prefix has been
+         * prepended.
+         */
+        private final String prefix;
+
+        /**
+         * The color, the prefix has been highlighted with.
+         */
+        private final int prefixColor;
+
+        /**
+         * The styled helper text.
+         */
+        private final CharSequence styledText;
+
+        /**
+         * Creates a new styled helper text.
+         *
+         * @param helperText
+         *         The helper text, which should be styled, as an instance of the type {@link
+         *         CharSequence}. The helper text may not be null
+         * @param color
+         *         The color, the helper text should be highlighted with, as an {@link Integer}
+         *         value
+         * @param prefix
+         *         The prefix, which should be prepended to the helper text, as a {@link String}
+         *         or null, if no prefix should be prepended
+         * @param prefixColor
+         *         The color, the prefix should be highlighted with, as an {@link Integer} value
+         */
+        StyledHelperText(@NonNull final CharSequence helperText, final int color,
+                         @Nullable final String prefix, final int prefixColor) {
+            this.helperText = helperText;
+            this.color = color;
+            this.prefix = prefix;
+            this.prefixColor = prefixColor;
+            SpannableStringBuilder builder = new SpannableStringBuilder();
+
+            if (prefix != null) {
+                builder.append(prefix).append(": ");
+                builder.setSpan(new ForegroundColorSpan(prefixColor), 0, builder.length(),
+                        Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
+            }
+
+            int start = builder.length();
+            builder.append(helperText);
+            builder.setSpan(new ForegroundColorSpan(color), start, builder.length(),
+                    Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
+            this.styledText = builder;
+        }
+
+        /**
+         * Returns, whether the helper text has been styled with specific properties.
+         *
+         * @param helperText
+         *         The helper text as an instance of the type {@link CharSequence}
+         * @param color
+         *         The color of the helper text as an {@link Integer} value
+         * @param prefix
+         *         The prefix as a {@link String} or null, if no prefix is used
+         * @param prefixColor
+         *         The color of the prefix as an {@link Integer} value
+         * @return True, if the helper text has been styled with the given properties, false
+         * otherwise
+         */
+        boolean isStyledWith(@NonNull final CharSequence helperText, final int color,
+                             @Nullable final String prefix, final int prefixColor) {
+            return this.helperText == helperText && this.color == color &&
+                    TextUtils.equals(this.prefix, prefix) && this.prefixColor == prefixColor;
+        }
+
+    }
+
     /**
      * A list, which contains the constraints, which are used to verify the password strength.
      */
     private List<Constraint<CharSequence>> constraints;
 
+    /**
+     * The scanner, which is used to evaluate the constraints within a single pass. It keeps track
+     * of the characters of the password, while it is edited.
+     */
+    private ConstraintScanner constraintScanner;
+
+    /**
+     * The estimator, which is used to estimate the password strength, or null, if the password
+     * strength is determined by the constraints.
+     */
+    private PasswordStrengthEstimator passwordStrengthEstimator;
+
     /**
      * A list, which contains the helper texts, which are shown depending on the password strength.
      */
@@ -82,6 +188,13 @@ public class PasswordEditText extends EditText {
      */
     private int regularHelperTextColor;
 
+    /**
+     * An array, which contains the styled helper texts, which have been shown depending on the
+     * password strength, indexed by the strength bucket they correspond to. Each styled helper
+     * text is only reused, as long as the helper text, its color and the prefix remain unchanged.
+     */
+    private StyledHelperText[] styledHelperTexts;
+
     /**
      * Initializes the view.
      *
@@ -91,6 +204,7 @@ public class PasswordEditText extends EditText {
      */
     private void initialize(@Nullable final AttributeSet attributeSet) {
         constraints = new ArrayList<>();
+        constraintScanner = new ConstraintScanner();
         helperTexts = new ArrayList<>();
         helperTextColors = new ArrayList<>();
         regularHelperText = getHelperText();
@@ -148,13 +262,13 @@ public class PasswordEditText extends EditText {
             @Override
             public final void beforeTextChanged(final CharSequence s, final int start,
                                                 final int count, final int after) {
-
+                constraintScanner.remove(s, start, start + count);
             }
 
             @Override
             public final void onTextChanged(final CharSequence s, final int start, final int before,
                                             final int count) {
-
+                constraintScanner.insert(s, start, start + count);
             }
 
             @Override
@@ -170,31 +284,31 @@ public class PasswordEditText extends EditText {
      * added and adapts the appearance of the view accordingly.
      */
     private void verifyPasswordStrength() {
-        if (isEnabled() && !constraints.isEmpty() && !TextUtils.isEmpty(getText())) {
+        if (isEnabled() && (passwordStrengthEstimator != null || !constraints.isEmpty()) &&
+                !TextUtils.isEmpty(getText())) {
             float score = getPasswordStrength();
             adaptHelperText(score);
         } else {
-            setHelperText(regularHelperText);
+            showHelperText(regularHelperText);
         }
     }
 
     /**
-     * Returns the strength of the current password, depending on the constraints, which have been
+     * Returns the strength of the current password. If an estimator has been set, it is used to
+     * estimate the password strength, otherwise it depends on the constraints, which have been
      * added.
      *
-     * @return The fraction of constraints, which are satisfied, as a {@link Float} value between
-     * 0.0 and 1.0
+     * @return The password strength, respectively the fraction of constraints, which are
+     * satisfied, as a {@link Float} value between 0.0 and 1.0
      */
     private float getPasswordStrength() {
-        int absoluteScore = 0;
         CharSequence password = getView().getText();
 
-        for (Constraint<CharSequence> constraint : constraints) {
-            if (constraint.isSatisfied(password)) {
-                absoluteScore++;
-            }
+        if (passwordStrengthEstimator != null) {
+            return passwordStrengthEstimator.estimate(password);
         }
 
+        int absoluteScore = constraintScanner.countSatisfied(constraints, password);
         return ((float) absoluteScore / (float) constraints.size());
     }
 
@@ -202,70 +316,88 @@ public class PasswordEditText extends EditText {
      * Adapts the helper text, depending on a specific password strength.
      *
      * @param score
-     *         The password strength as a {@link Float} value between 0.0 and 1.0, which represents
-     *         the fraction of constraints, which are satisfied
+     *         The password strength as a {@link Float} value between 0.0 and 1.0
      */
     private void adaptHelperText(final float score) {
         if (!helperTexts.isEmpty()) {
-            CharSequence helperText = getHelperText(score);
-
-            if (helperText != null) {
-                int color = getHelperTextColor(score);
-                helperText = "<font color=\"" + color + "\">" + helperText + "</font>";
-                String prefix = getPasswordVerificationPrefix();
-
-                if (prefix != null) {
-                    prefix = "<font color=\"" + regularHelperTextColor + "\">" + prefix +
-                            ": </font>";
-                } else {
-                    prefix = "";
-                }
-
-                setHelperText(Html.fromHtml(prefix + helperText));
-            } else {
-                setHelperText(regularHelperText);
-            }
+            int index = getBucketIndex(score, helperTexts.size());
+            showHelperText(getStyledHelperText(index, getHelperTextColor(score)));
         } else {
-            setHelperText(regularHelperText);
+            showHelperText(regularHelperText);
         }
     }
 
     /**
-     * Returns the helper text, which corresponds to a specific password strength.
+     * Shows a specific helper text. The helper text of the view is only changed, if it is not
+     * already shown, in order to avoid unnecessary layout passes.
      *
-     * @param score
-     *         The password strength as a {@link Float} value between 0.0 and 1.0, which represents
-     *         the fraction of constraints, which are satisfied
-     * @return The helper text as an instance of the type {@link CharSequence} or null, if no helper
-     * text for the given password strength is available
+     * @param helperText
+     *         The helper text, which should be shown, as an instance of the type {@link
+     *         CharSequence} or null, if no helper text should be shown
      */
-    private CharSequence getHelperText(final float score) {
-        if (!helperTexts.isEmpty()) {
-            float interval = 1.0f / helperTexts.size();
-            int index = (int) Math.floor(score / interval) - 1;
-            index = Math.max(index, 0);
-            index = Math.min(index, helperTexts.size() - 1);
-            return helperTexts.get(index);
+    private void showHelperText(@Nullable final CharSequence helperText) {
+        if (getHelperText() != helperText) {
+            setHelperText(helperText);
+        }
+    }
+
+    /**
+     * Returns the styled helper text, which corresponds to a specific strength bucket. Previously
+     * styled helper texts are reused, as long as the helper text, its color and the prefix remain
+     * unchanged.
+     *
+     * @param index
+     *         The index of the strength bucket as an {@link Integer} value
+     * @param color
+     *         The color, the helper text should be highlighted with, as an {@link Integer} value
+     * @return The styled helper text as an instance of the type {@link CharSequence}
+     */
+    private CharSequence getStyledHelperText(final int index, final int color) {
+        if (styledHelperTexts == null || styledHelperTexts.length != helperTexts.size()) {
+            styledHelperTexts = new StyledHelperText[helperTexts.size()];
         }
 
-        return null;
+        CharSequence helperText = helperTexts.get(index);
+        String prefix = getPasswordVerificationPrefix();
+        StyledHelperText styledHelperText = styledHelperTexts[index];
+
+        if (styledHelperText == null ||
+                !styledHelperText.isStyledWith(helperText, color, prefix, regularHelperTextColor)) {
+            styledHelperText =
+                    new StyledHelperText(helperText, color, prefix, regularHelperTextColor);
+            styledHelperTexts[index] = styledHelperText;
+        }
+
+        return styledHelperText.styledText;
+    }
+
+    /**
+     * Returns the index of the strength bucket, a specific password strength corresponds to.
+     *
+     * @param score
+     *         The password strength as a {@link Float} value between 0.0 and 1.0
+     * @param bucketCount
+     *         The number of strength buckets as an {@link Integer} value. The number of buckets
+     *         must be at least 1
+     * @return The index of the strength bucket as an {@link Integer} value
+     */
+    private int getBucketIndex(final float score, final int bucketCount) {
+        float interval = 1.0f / bucketCount;
+        int index = (int) Math.floor(score / interval) - 1;
+        index = Math.max(index, 0);
+        return Math.min(index, bucketCount - 1);
     }
 
     /**
      * Returns the color of the helper text, which corresponds to a specific password strength.
      *
      * @param score
-     *         The password strength as a {@link Float} value between 0.0 and 1.0, which represents
-     *         the fraction of constraints, which are satisfied
+     *         The password strength as a {@link Float} value between 0.0 and 1.0
      * @return The color of the helper text as an {@link Integer} value
      */
     private int getHelperTextColor(final float score) {
         if (!helperTextColors.isEmpty()) {
-            float interval = 1.0f / helperTextColors.size();
-            int index = (int) Math.floor(score / interval) - 1;
-            index = Math.max(index, 0);
-            index = Math.min(index, helperTextColors.size() - 1);
-            return helperTextColors.get(index);
+            return helperTextColors.get(getBucketIndex(score, helperTextColors.size()));
         }
 
         return regularHelperTextColor;
@@ -455,6 +587,33 @@ public class PasswordEditText extends EditText {
         constraints.clear();
     }
 
+    /**
+     * Returns the estimator, which is used to estimate the password strength.
+     *
+     * @return The estimator, which is used to estimate the password strength, as an instance of
+     * the type {@link PasswordStrengthEstimator} or null, if the password strength is determined
+     * by the constraints
+     */
+    public final PasswordStrengthEstimator getPasswordStrengthEstimator() {
+        return passwordStrengthEstimator;
+    }
+
+    /**
+     * Sets the estimator, which should be used to estimate the password strength. If an estimator
+     * is set, it determines which of the helper texts and helper text colors are shown instead of
+     * the constraints. The estimator is invoked whenever the password is changed.
+     *
+     * @param passwordStrengthEstimator
+     *         The estimator, which should be set, as an instance of the type {@link
+     *         PasswordStrengthEstimator} or null, if the password strength should be determined by
+     *         the constraints
+     */
+    public final void setPasswordStrengthEstimator(
+            @Nullable final PasswordStrengthEstimator passwordStrengthEstimator) {
+        this.passwordStrengthEstimator = passwordStrengthEstimator;
+        verifyPasswordStrength();
+    }
+
     /**
      * Returns a collection, which contains the helper texts, which are shown, depending on the
      * password strength. Helper texts at higher indices are supposed to indicate a higher password
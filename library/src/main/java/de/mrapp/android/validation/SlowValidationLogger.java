@@ -0,0 +1,83 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import android.support.annotation.NonNull;
+import android.util.Log;
+
+import de.mrapp.android.validation.metrics.SlowValidationException;
+import de.mrapp.android.validation.metrics.ValidationWatchdog;
+
+import static de.mrapp.android.util.Condition.ensureNotEmpty;
+
+/**
+ * A sink of a {@link ValidationWatchdog}, which logs validators, which exceeded the watchdog's
+ * budget, as warnings. The stack trace of each warning points to the code, which triggered the
+ * slow validation.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public class SlowValidationLogger implements ValidationWatchdog.Sink {
+
+    /**
+     * The tag, which is used by default.
+     */
+    public static final String DEFAULT_TAG = "ValidationWatchdog";
+
+    /**
+     * The tag, which is used to log warnings.
+     */
+    private final String tag;
+
+    /**
+     * Creates a new sink, which logs validators, which exceeded the budget, by using the tag
+     * {@link #DEFAULT_TAG}.
+     */
+    public SlowValidationLogger() {
+        this(DEFAULT_TAG);
+    }
+
+    /**
+     * Creates a new sink, which logs validators, which exceeded the budget, by using a specific
+     * tag.
+     *
+     * @param tag
+     *         The tag, which should be used to log warnings, as a {@link String}. The tag may
+     *         neither be null, nor empty
+     */
+    public SlowValidationLogger(@NonNull final String tag) {
+        ensureNotEmpty(tag, "The tag may not be empty");
+        this.tag = tag;
+    }
+
+    /**
+     * Returns the tag, which is used to log warnings.
+     *
+     * @return The tag, which is used to log warnings, as a {@link String}
+     */
+    public final String getTag() {
+        return tag;
+    }
+
+    @Override
+    public final void onSlowValidation(@NonNull final Validator<?> validator,
+                                       final int inputLength, final long duration,
+                                       final long budget) {
+        SlowValidationException exception =
+                new SlowValidationException(validator, inputLength, duration, budget);
+        Log.w(tag, exception.getMessage(), exception);
+    }
+
+}
\ No newline at end of file
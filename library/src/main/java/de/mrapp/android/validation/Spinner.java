@@ -41,8 +41,11 @@ import android.widget.FrameLayout;
 import android.widget.ImageView;
 import android.widget.SpinnerAdapter;
 
+import de.mrapp.android.validation.adapter.PagedSpinnerAdapter;
 import de.mrapp.android.validation.adapter.ProxySpinnerAdapter;
 
+import static de.mrapp.android.util.Condition.ensureTrue;
+
 /**
  * A view, which allows to choose a value from a drop down menu. The value may be validated
  * according to the pattern, which is suggested by the Material Design guidelines.
@@ -276,8 +279,10 @@ public class Spinner extends AbstractValidateableView<android.widget.Spinner, Ob
                     getOnItemSelectedListener().onItemSelected(parent, view, position, id);
                 }
 
+                invalidateValidation();
+
                 if (isValidatedOnValueChange() && position != 0) {
-                    validate();
+                    requestValidation();
                 }
             }
 
@@ -469,6 +474,48 @@ public class Spinner extends AbstractValidateableView<android.widget.Spinner, Ob
         }
     }
 
+    /**
+     * Sets the prefix, which should be used to filter the spinner's items. This requires the
+     * spinner's adapter to be a {@link PagedSpinnerAdapter}. If the item, which is selected, when
+     * the filter is applied, does still match the filter, it remains selected. Otherwise, the hint
+     * is shown. As the filter may be applied asynchronously, items, which are selected in the
+     * meantime, are taken into account.
+     *
+     * @param filter
+     *         The prefix, which should be set, as an instance of the type {@link CharSequence} or
+     *         null, if the items should not be filtered
+     * @see PagedSpinnerAdapter#setFilter(CharSequence)
+     */
+    public final void setFilter(@Nullable final CharSequence filter) {
+        SpinnerAdapter adapter =
+                getAdapter() != null ? ((ProxySpinnerAdapter) getAdapter()).getAdapter() : null;
+        ensureTrue(adapter instanceof PagedSpinnerAdapter,
+                "The spinner's adapter must be a PagedSpinnerAdapter");
+        PagedSpinnerAdapter<?> pagedAdapter = (PagedSpinnerAdapter<?>) adapter;
+        pagedAdapter.setFilter(filter, new PagedSpinnerAdapter.FilterListener() {
+
+            /**
+             * The position of the selected item within the data source, or -1, if no item is
+             * selected.
+             */
+            private int sourcePosition = -1;
+
+            @Override
+            public void onApplyFilter(@NonNull final PagedSpinnerAdapter<?> adapter) {
+                int selectedPosition = getSelectedItemPosition();
+                sourcePosition = selectedPosition > 0 ?
+                        adapter.getSourcePosition(selectedPosition - 1) : -1;
+            }
+
+            @Override
+            public void onFilterApplied(@NonNull final PagedSpinnerAdapter<?> adapter) {
+                int position = sourcePosition != -1 ? adapter.getPosition(sourcePosition) : -1;
+                setSelection(position != -1 ? position + 1 : 0);
+            }
+
+        });
+    }
+
     // ------------- Methods of the class android.widget.Spinner -------------
 
     /**
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import android.support.annotation.NonNull;
+
+/**
+ * Defines the interface, a class, which should be notified, when a view has been validated, must
+ * implement, if it should distinguish between validators, which failed, and validators, which
+ * exceeded their budget.
+ *
+ * @param <Type>
+ *         The type of the values, which should be validated
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public interface ValidationBudgetListener<Type> extends ValidationListener<Type> {
+
+    /**
+     * The method, which is invoked, when a validation has been aborted, because a validator
+     * exceeded its budget. In this case, the method {@link #onValidationFailure(Validateable,
+     * Validator)} is not invoked for the validator.
+     *
+     * @param view
+     *         The view, whose value has been validated, as an instance of the type {@link
+     *         Validateable}
+     * @param validator
+     *         The validator, which exceeded its budget, as an instance of the type {@link
+     *         BudgetedValidator}
+     */
+    void onValidationBudgetExceeded(@NonNull Validateable<Type> view,
+                                    @NonNull Validator<Type> validator);
+
+}
\ No newline at end of file
@@ -0,0 +1,418 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static de.mrapp.android.util.Condition.ensureNotNull;
+
+/**
+ * A group of views, whose values can be validated at once, e.g. when a form is submitted. Unlike
+ * validating each view on its own, the values of all views are validated first, before the
+ * results are applied to the views in a single pass. Optionally, the validators can be applied in
+ * a background thread. In such case, the validators must be thread-safe.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public class ValidationGroup {
+
+    /**
+     * The result of validating the views of a {@link ValidationGroup}.
+     */
+    public static final class Result {
+
+        /**
+         * A list, which contains the views, whose validation failed, in the order, they have
+         * been added to the group.
+         */
+        private final List<AbstractValidateableView<?, ?>> invalidViews;
+
+        /**
+         * A list, which contains the views, whose asynchronous validators are still executed, in
+         * the order, they have been added to the group.
+         */
+        private final List<AbstractValidateableView<?, ?>> pendingViews;
+
+        /**
+         * Creates a new result of validating the views of a group.
+         *
+         * @param invalidViews
+         *         A list, which contains the views, whose validation failed, as an instance of
+         *         the type {@link List}. The list may not be null
+         * @param pendingViews
+         *         A list, which contains the views, whose asynchronous validators are still
+         *         executed, as an instance of the type {@link List}. The list may not be null
+         */
+        Result(@NonNull final List<AbstractValidateableView<?, ?>> invalidViews,
+               @NonNull final List<AbstractValidateableView<?, ?>> pendingViews) {
+            this.invalidViews = Collections.unmodifiableList(invalidViews);
+            this.pendingViews = Collections.unmodifiableList(pendingViews);
+        }
+
+        /**
+         * Returns, whether the validation of all views succeeded, or not. Views, whose
+         * asynchronous validators are still executed, are not considered valid.
+         *
+         * @return True, if the validation of all views succeeded, false otherwise
+         */
+        public boolean isValid() {
+            return invalidViews.isEmpty() && pendingViews.isEmpty();
+        }
+
+        /**
+         * Returns, whether the asynchronous validators of any views are still executed, or not.
+         * Once their results have been published, the listeners of the views are notified.
+         *
+         * @return True, if the asynchronous validators of any views are still executed, false
+         * otherwise
+         */
+        public boolean isPending() {
+            return !pendingViews.isEmpty();
+        }
+
+        /**
+         * Returns the first view, whose validation failed.
+         *
+         * @return The first view, whose validation failed, as an instance of the class {@link
+         * AbstractValidateableView} or null, if the validation of all views succeeded
+         */
+        @Nullable
+        public AbstractValidateableView<?, ?> getFirstInvalidView() {
+            return invalidViews.isEmpty() ? null : invalidViews.get(0);
+        }
+
+        /**
+         * Returns the views, whose validation failed.
+         *
+         * @return An unmodifiable list, which contains the views, whose validation failed, in the
+         * order, they have been added to the group, as an instance of the type {@link List}
+         */
+        @NonNull
+        public List<AbstractValidateableView<?, ?>> getInvalidViews() {
+            return invalidViews;
+        }
+
+        /**
+         * Returns the views, whose asynchronous validators are still executed.
+         *
+         * @return An unmodifiable list, which contains the views, whose asynchronous validators
+         * are still executed, in the order, they have been added to the group, as an instance of
+         * the type {@link List}
+         */
+        @NonNull
+        public List<AbstractValidateableView<?, ?>> getPendingViews() {
+            return pendingViews;
+        }
+
+    }
+
+    /**
+     * Defines the interface, a class, which should be notified, when the views of a {@link
+     * ValidationGroup} have been validated in a background thread, must implement.
+     */
+    public interface Callback {
+
+        /**
+         * The method, which is invoked on the main thread, when the views of a group have been
+         * validated and the results have been applied to the views.
+         *
+         * @param group
+         *         The group, whose views have been validated, as an instance of the class {@link
+         *         ValidationGroup}
+         * @param result
+         *         The result of the validation as an instance of the class {@link Result}
+         */
+        void onValidated(@NonNull ValidationGroup group, @NonNull Result result);
+
+    }
+
+    /**
+     * A task, which allows to apply the validators of the group's views in a background thread
+     * and to apply the results on the main thread afterwards.
+     */
+    private class ValidationTask implements Runnable {
+
+        /**
+         * The views, which are validated.
+         */
+        private final List<AbstractValidateableView<?, ?>> validatedViews;
+
+        /**
+         * The validations of the views.
+         */
+        private final List<AbstractValidateableView<?, ?>.Validation> validations;
+
+        /**
+         * The callback, which is notified, when the results have been applied.
+         */
+        private final Callback callback;
+
+        /**
+         * True, if the task has been cancelled, false otherwise.
+         */
+        private volatile boolean cancelled;
+
+        /**
+         * Creates a new task, which allows to apply the validators of the group's views in a
+         * background thread.
+         *
+         * @param validatedViews
+         *         The views, which should be validated, as an instance of the type {@link List}.
+         *         The list may not be null
+         * @param validations
+         *         The validations of the views as an instance of the type {@link List}. The list
+         *         may not be null
+         * @param callback
+         *         The callback, which should be notified, when the results have been applied, as
+         *         an instance of the type {@link Callback}. The callback may not be null
+         */
+        ValidationTask(@NonNull final List<AbstractValidateableView<?, ?>> validatedViews,
+                       @NonNull final List<AbstractValidateableView<?, ?>.Validation> validations,
+                       @NonNull final Callback callback) {
+            this.validatedViews = validatedViews;
+            this.validations = validations;
+            this.callback = callback;
+            this.cancelled = false;
+        }
+
+        /**
+         * Cancels the task. The results of a cancelled task are not applied.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        /**
+         * Applies the results of the task to the views, if it has not been cancelled. This method
+         * must be invoked on the main thread.
+         */
+        private void publishResult() {
+            if (!cancelled && validationTask == this) {
+                validationTask = null;
+                callback.onValidated(ValidationGroup.this, apply(validatedViews, validations));
+            }
+        }
+
+        @Override
+        public void run() {
+            for (AbstractValidateableView<?, ?>.Validation validation : validations) {
+                if (cancelled) {
+                    return;
+                }
+
+                validation.run(true);
+            }
+
+            if (!cancelled) {
+                handler.post(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        publishResult();
+                    }
+
+                });
+            }
+        }
+
+    }
+
+    /**
+     * A list, which contains the group's views.
+     */
+    private final List<AbstractValidateableView<?, ?>> views;
+
+    /**
+     * The handler, which is used to apply the results of validations, which have been performed
+     * in a background thread, on the main thread.
+     */
+    private final Handler handler;
+
+    /**
+     * The task, which currently applies the validators in a background thread, or null, if no
+     * such validation is currently running.
+     */
+    private ValidationTask validationTask;
+
+    /**
+     * Creates the validations of all views of the group.
+     *
+     * @param immutable
+     *         True, if the views' values should be copied, such that they can be validated in a
+     *         background thread, false otherwise
+     * @return A list, which contains the validations, as an instance of the type {@link List}
+     */
+    private List<AbstractValidateableView<?, ?>.Validation> prepareValidations(
+            final boolean immutable) {
+        cancel();
+        List<AbstractValidateableView<?, ?>.Validation> validations =
+                new ArrayList<>(views.size());
+
+        for (AbstractValidateableView<?, ?> view : views) {
+            validations.add(view.prepareValidation(immutable));
+        }
+
+        return validations;
+    }
+
+    /**
+     * Applies the results of specific validations to the corresponding views. If a validation has
+     * become stale in the meantime, because the view has been validated again or its value has
+     * been changed, its result is discarded and the view's current value is validated instead.
+     * This also applies to views, whose values are not validated on value changes.
+     *
+     * @param validatedViews
+     *         The views, which have been validated, as an instance of the type {@link List}. The
+     *         list may not be null
+     * @param validations
+     *         The validations of the views as an instance of the type {@link List}. The list may
+     *         not be null
+     * @return The result of the validation as an instance of the class {@link Result}
+     */
+    private Result apply(
+            @NonNull final List<AbstractValidateableView<?, ?>> validatedViews,
+            @NonNull final List<AbstractValidateableView<?, ?>.Validation> validations) {
+        List<AbstractValidateableView<?, ?>> invalidViews = new ArrayList<>();
+        List<AbstractValidateableView<?, ?>> pendingViews = new ArrayList<>();
+
+        for (int i = 0; i < validations.size(); i++) {
+            AbstractValidateableView<?, ?> view = validatedViews.get(i);
+            AbstractValidateableView<?, ?>.Validation validation = validations.get(i);
+            boolean valid = validation.isStale() ? view.validate() : validation.apply();
+
+            if (!valid) {
+                if (view.isValidating()) {
+                    pendingViews.add(view);
+                } else {
+                    invalidViews.add(view);
+                }
+            }
+        }
+
+        return new Result(invalidViews, pendingViews);
+    }
+
+    /**
+     * Creates a new group of views, whose values can be validated at once.
+     */
+    public ValidationGroup() {
+        this.views = new ArrayList<>();
+        this.handler = new Handler(Looper.getMainLooper());
+    }
+
+    /**
+     * Returns the group's views.
+     *
+     * @return An unmodifiable list, which contains the group's views, in the order, they have been
+     * added, as an instance of the type {@link List}
+     */
+    public final List<AbstractValidateableView<?, ?>> getViews() {
+        return Collections.unmodifiableList(views);
+    }
+
+    /**
+     * Adds a view to the group. If the view has already been added, the group is not modified.
+     *
+     * @param view
+     *         The view, which should be added, as an instance of the class {@link
+     *         AbstractValidateableView}. The view may not be null
+     */
+    public final void addView(@NonNull final AbstractValidateableView<?, ?> view) {
+        ensureNotNull(view, "The view may not be null");
+
+        if (!views.contains(view)) {
+            views.add(view);
+        }
+    }
+
+    /**
+     * Removes a view from the group.
+     *
+     * @param view
+     *         The view, which should be removed, as an instance of the class {@link
+     *         AbstractValidateableView}. The view may not be null
+     */
+    public final void removeView(@NonNull final AbstractValidateableView<?, ?> view) {
+        ensureNotNull(view, "The view may not be null");
+        views.remove(view);
+    }
+
+    /**
+     * Removes all views from the group.
+     */
+    public final void removeAllViews() {
+        views.clear();
+    }
+
+    /**
+     * Validates the values of all views of the group. The values are validated first, before the
+     * results are applied to the views. This method must be invoked on the main thread.
+     *
+     * @return The result of the validation as an instance of the class {@link Result}
+     */
+    public final Result validate() {
+        List<AbstractValidateableView<?, ?>> validatedViews = new ArrayList<>(views);
+        List<AbstractValidateableView<?, ?>.Validation> validations = prepareValidations(false);
+
+        for (AbstractValidateableView<?, ?>.Validation validation : validations) {
+            validation.run(false);
+        }
+
+        return apply(validatedViews, validations);
+    }
+
+    /**
+     * Validates the values of all views of the group by applying the validators in a background
+     * thread. The values are obtained on the main thread, when this method is invoked, and the
+     * results are applied to the views on the main thread, once all validators have been applied.
+     * A validation, which is still running, is cancelled. This method must be invoked on the main
+     * thread.
+     *
+     * @param executor
+     *         The executor, which should be used to apply the validators, as an instance of the
+     *         type {@link Executor}. The executor may not be null
+     * @param callback
+     *         The callback, which should be notified, when the results have been applied, as an
+     *         instance of the type {@link Callback}. The callback may not be null
+     */
+    public final void validate(@NonNull final Executor executor,
+                               @NonNull final Callback callback) {
+        ensureNotNull(executor, "The executor may not be null");
+        ensureNotNull(callback, "The callback may not be null");
+        List<AbstractValidateableView<?, ?>> validatedViews = new ArrayList<>(views);
+        validationTask = new ValidationTask(validatedViews, prepareValidations(true), callback);
+        executor.execute(validationTask);
+    }
+
+    /**
+     * Cancels the validation, which is currently running in a background thread, if any. The
+     * results of a cancelled validation are not applied to the views.
+     */
+    public final void cancel() {
+        if (validationTask != null) {
+            validationTask.cancel();
+            validationTask = null;
+        }
+    }
+
+}
\ No newline at end of file
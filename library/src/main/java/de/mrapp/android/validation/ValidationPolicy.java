@@ -0,0 +1,43 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+/**
+ * Contains all policies, which specify how the validators of a view are applied.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public enum ValidationPolicy {
+
+    /**
+     * If all validators should be applied in the order, they have been added, and all registered
+     * listeners should be notified about each validator, which failed.
+     */
+    COLLECT_ALL,
+
+    /**
+     * If the validators should be applied in the order, they have been added, until the first
+     * validator fails.
+     */
+    FAIL_FAST,
+
+    /**
+     * If the validators should be applied in the order of their costs, starting with the cheapest
+     * one, until the first validator fails. The costs of validators, which implement the interface
+     * {@link CostAware}, are taken into account.
+     */
+    COST_ORDERED
+
+}
\ No newline at end of file
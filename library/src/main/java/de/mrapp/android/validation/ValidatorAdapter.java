@@ -0,0 +1,235 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import android.content.Context;
+import android.graphics.drawable.Drawable;
+import android.support.annotation.DrawableRes;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.StringRes;
+import android.support.v4.content.ContextCompat;
+
+import de.mrapp.android.validation.validators.text.CachingValidator;
+
+import static de.mrapp.android.util.Condition.ensureNotEmpty;
+import static de.mrapp.android.util.Condition.ensureNotNull;
+
+/**
+ * An adapter, which allows to specify the error message of a validator by using a string resource
+ * and to specify the icon, which should be shown by a view, if the validation fails. As validators
+ * do not depend on the Android SDK, such Android-specific properties are added by wrapping them.
+ * Whether the encapsulated validator is an {@link AsyncValidator}, an {@link IncrementalValidator}
+ * or {@link CostAware}, is still respected by the views.
+ *
+ * @param <Type>
+ *         The type of the values, which should be validated
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public class ValidatorAdapter<Type> implements Validator<Type> {
+
+    /**
+     * The encapsulated validator.
+     */
+    private final Validator<Type> validator;
+
+    /**
+     * The error message, which should be shown, if the validation fails, or null, if the error
+     * message of the encapsulated validator should be shown.
+     */
+    private CharSequence errorMessage;
+
+    /**
+     * The icon, which should be shown, if the validation fails.
+     */
+    private Drawable icon;
+
+    /**
+     * Creates a new adapter, which allows to specify the error message of a validator by using a
+     * string resource and to specify the icon, which should be shown, if the validation fails.
+     *
+     * @param validator
+     *         The validator, which should be encapsulated, as an instance of the type {@link
+     *         Validator}. The validator may not be null
+     */
+    public ValidatorAdapter(@NonNull final Validator<Type> validator) {
+        ensureNotNull(validator, "The validator may not be null");
+        this.validator = validator;
+        this.errorMessage = null;
+        this.icon = null;
+    }
+
+    /**
+     * Creates and returns an adapter, which allows to specify the error message of a validator by
+     * using a string resource and to specify the icon, which should be shown, if the validation
+     * fails.
+     *
+     * @param <Type>
+     *         The type of the values, which should be validated
+     * @param validator
+     *         The validator, which should be encapsulated, as an instance of the type {@link
+     *         Validator}. The validator may not be null
+     * @return The adapter, which has been created, as an instance of the class {@link
+     * ValidatorAdapter}
+     */
+    public static <Type> ValidatorAdapter<Type> create(@NonNull final Validator<Type> validator) {
+        return new ValidatorAdapter<>(validator);
+    }
+
+    /**
+     * Returns the validator, which is encapsulated by a specific validator, if it is an adapter or
+     * a {@link CachingValidator}. Nested adapters and caches are resolved recursively.
+     *
+     * @param validator
+     *         The validator, which should be unwrapped, as an instance of the type {@link
+     *         Validator}. The validator may not be null
+     * @return The encapsulated validator or the given validator, if it is neither an adapter, nor
+     * a cache, as an instance of the type {@link Validator}
+     */
+    static Validator<?> unwrap(@NonNull final Validator<?> validator) {
+        Validator<?> result = unwrapAdapters(validator);
+
+        while (result instanceof CachingValidator) {
+            result = unwrapAdapters(((CachingValidator) result).getValidator());
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the validator, which is encapsulated by a specific validator, if it is an adapter.
+     * Nested adapters are resolved recursively, whereas caches are not.
+     *
+     * @param validator
+     *         The validator, which should be unwrapped, as an instance of the type {@link
+     *         Validator}. The validator may not be null
+     * @return The encapsulated validator or the given validator, if it is not an adapter, as an
+     * instance of the type {@link Validator}
+     */
+    static Validator<?> unwrapAdapters(@NonNull final Validator<?> validator) {
+        Validator<?> result = validator;
+
+        while (result instanceof ValidatorAdapter) {
+            result = ((ValidatorAdapter<?>) result).getValidator();
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the icon, which should be shown, if a specific validator fails.
+     *
+     * @param validator
+     *         The validator, whose icon should be returned, as an instance of the type {@link
+     *         Validator} or null
+     * @return The icon, which should be shown, if the given validator fails, as an instance of the
+     * class {@link Drawable} or null, if no icon should be shown
+     */
+    @Nullable
+    static Drawable getIcon(@Nullable final Validator<?> validator) {
+        return validator instanceof ValidatorAdapter ?
+                ((ValidatorAdapter<?>) validator).getIcon() : null;
+    }
+
+    /**
+     * Returns the encapsulated validator.
+     *
+     * @return The encapsulated validator as an instance of the type {@link Validator}
+     */
+    public final Validator<Type> getValidator() {
+        return validator;
+    }
+
+    /**
+     * Sets the error message, which should be shown, if the validation fails.
+     *
+     * @param errorMessage
+     *         The error message, which should be set, as an instance of the type {@link
+     *         CharSequence} or null, if the error message of the encapsulated validator should be
+     *         shown. The error message may not be empty
+     */
+    public final void setErrorMessage(@Nullable final CharSequence errorMessage) {
+        if (errorMessage != null) {
+            ensureNotEmpty(errorMessage, "The error message may not be empty");
+        }
+
+        this.errorMessage = errorMessage;
+    }
+
+    /**
+     * Sets the error message, which should be shown, if the validation fails.
+     *
+     * @param context
+     *         The context, which should be used to retrieve the error message, as an instance of
+     *         the class {@link Context}. The context may not be null
+     * @param resourceId
+     *         The resource ID of the string resource, which contains the error message, which
+     *         should be set, as an {@link Integer} value. The resource ID must correspond to a
+     *         valid string resource
+     */
+    public final void setErrorMessage(@NonNull final Context context,
+                                      @StringRes final int resourceId) {
+        ensureNotNull(context, "The context may not be null");
+        this.errorMessage = context.getText(resourceId);
+    }
+
+    /**
+     * Returns the icon, which should be shown, if the validation fails.
+     *
+     * @return The icon, which should be shown, if the validation fails, as an instance of the class
+     * {@link Drawable} or null, if no icon should be shown
+     */
+    public final Drawable getIcon() {
+        return icon;
+    }
+
+    /**
+     * Sets the icon, which should be shown, if the validation fails.
+     *
+     * @param icon
+     *         The icon, which should be set, as an instance of the class {@link Drawable} or null,
+     *         if no icon should be shown
+     */
+    public final void setIcon(@Nullable final Drawable icon) {
+        this.icon = icon;
+    }
+
+    /**
+     * Sets the icon, which should be shown, if the validation fails.
+     *
+     * @param context
+     *         The context, which should be used to retrieve the icon, as an instance of the class
+     *         {@link Context}. The context may not be null
+     * @param resourceId
+     *         The resource ID of the drawable resource, which contains the icon, which should be
+     *         set, as an {@link Integer} value. The resource ID must correspond to a valid drawable
+     *         resource
+     */
+    public final void setIcon(@NonNull final Context context, @DrawableRes final int resourceId) {
+        ensureNotNull(context, "The context may not be null");
+        this.icon = ContextCompat.getDrawable(context, resourceId);
+    }
+
+    @Override
+    public final boolean validate(final Type value) {
+        return validator.validate(value);
+    }
+
+    @Override
+    public final CharSequence getErrorMessage() {
+        return errorMessage != null ? errorMessage : validator.getErrorMessage();
+    }
+
+}
\ No newline at end of file
@@ -19,6 +19,8 @@ import android.support.annotation.StringRes;
 
 import java.util.regex.Pattern;
 
+import de.mrapp.android.validation.regex.ValidatorCompiler;
+import de.mrapp.android.validation.validators.BackgroundValidator;
 import de.mrapp.android.validation.validators.ConjunctiveValidator;
 import de.mrapp.android.validation.validators.DisjunctiveValidator;
 import de.mrapp.android.validation.validators.NegateValidator;
@@ -30,6 +32,7 @@ import de.mrapp.android.validation.validators.misc.IPv6AddressValidator;
 import de.mrapp.android.validation.validators.misc.IRIValidator;
 import de.mrapp.android.validation.validators.misc.PhoneNumberValidator;
 import de.mrapp.android.validation.validators.text.BeginsWithUppercaseLetterValidator;
+import de.mrapp.android.validation.validators.text.CachingValidator;
 import de.mrapp.android.validation.validators.text.Case;
 import de.mrapp.android.validation.validators.text.EqualValidator;
 import de.mrapp.android.validation.validators.text.LetterOrNumberValidator;
@@ -41,6 +44,9 @@ import de.mrapp.android.validation.validators.text.NotEmptyValidator;
 import de.mrapp.android.validation.validators.text.NumberValidator;
 import de.mrapp.android.validation.validators.text.RegexValidator;
 
+import static de.mrapp.android.util.Condition.ensureAtLeast;
+import static de.mrapp.android.util.Condition.ensureNotNull;
+
 /**
  * An utility class, which provides factory methods, which allow to create various validators.
  *
@@ -57,6 +63,25 @@ public final class Validators {
 
     }
 
+    /**
+     * Returns the text of a specific string resource, which should be used as the error message of
+     * a validator.
+     *
+     * @param context
+     *         The context, which should be used to retrieve the text, as an instance of the class
+     *         {@link Context}. The context may not be null
+     * @param resourceId
+     *         The resource ID of the string resource, which contains the text, as an {@link
+     *         Integer} value. The resource ID must correspond to a valid string resource
+     * @return The text of the given string resource as an instance of the type {@link
+     * CharSequence}
+     */
+    private static CharSequence getText(@NonNull final Context context,
+                                        @StringRes final int resourceId) {
+        ensureNotNull(context, "The context may not be null");
+        return context.getText(resourceId);
+    }
+
     /**
      * Creates and returns a validator, which allows to negate the result of an other validator.
      *
@@ -95,7 +120,7 @@ public final class Validators {
     public static <Type> Validator<Type> negate(@NonNull final Context context,
                                                 @StringRes final int resourceId,
                                                 @NonNull final Validator<Type> validator) {
-        return NegateValidator.create(context, resourceId, validator);
+        return NegateValidator.create(getText(context, resourceId), validator);
     }
 
     /**
@@ -113,7 +138,7 @@ public final class Validators {
      */
     public static <Type> Validator<Type> negate(@NonNull final Context context,
                                                 @NonNull final Validator<Type> validator) {
-        return NegateValidator.create(context, R.string.default_error_message, validator);
+        return NegateValidator.create(getText(context, R.string.default_error_message), validator);
     }
 
     /**
@@ -158,7 +183,7 @@ public final class Validators {
     public static <Type> Validator<Type> conjunctive(@NonNull final Context context,
                                                      @StringRes final int resourceId,
                                                      @NonNull final Validator<Type>... validators) {
-        return ConjunctiveValidator.create(context, resourceId, validators);
+        return ConjunctiveValidator.create(getText(context, resourceId), validators);
     }
 
     /**
@@ -178,7 +203,8 @@ public final class Validators {
     @SafeVarargs
     public static <Type> Validator<Type> conjunctive(@NonNull final Context context,
                                                      @NonNull final Validator<Type>... validators) {
-        return ConjunctiveValidator.create(context, R.string.default_error_message, validators);
+        return ConjunctiveValidator
+                .create(getText(context, R.string.default_error_message), validators);
     }
 
     /**
@@ -223,7 +249,7 @@ public final class Validators {
     public static <Type> Validator<Type> disjunctive(@NonNull final Context context,
                                                      @StringRes final int resourceId,
                                                      @NonNull final Validator<Type>... validators) {
-        return DisjunctiveValidator.create(context, resourceId, validators);
+        return DisjunctiveValidator.create(getText(context, resourceId), validators);
     }
 
     /**
@@ -243,7 +269,63 @@ public final class Validators {
     @SafeVarargs
     public static <Type> Validator<Type> disjunctive(@NonNull final Context context,
                                                      @NonNull final Validator<Type>... validators) {
-        return DisjunctiveValidator.create(context, R.string.default_error_message, validators);
+        return DisjunctiveValidator
+                .create(getText(context, R.string.default_error_message), validators);
+    }
+
+    /**
+     * Creates and returns a validator, which allows to execute an other validator in a background
+     * thread, when used by an {@link AbstractValidateableView}.
+     *
+     * @param <Type>
+     *         The type of the values, which should be validated
+     * @param validator
+     *         The validator, which should be executed in a background thread, as an instance of
+     *         the type {@link Validator}. The validator may not be null and must be thread-safe
+     * @return The validator, which has been created, as an instance of the type {@link
+     * AsyncValidator}
+     */
+    public static <Type> AsyncValidator<Type> async(@NonNull final Validator<Type> validator) {
+        return BackgroundValidator.create(validator);
+    }
+
+    /**
+     * Creates and returns a validator, which memoizes the results of an other validator in a
+     * bounded cache. Texts are compared by their content, which allows to validate mutable texts
+     * without copying them, if their results are already cached.
+     *
+     * @param validator
+     *         The validator, whose results should be memoized, as an instance of the type {@link
+     *         Validator}. The validator may not be null. Its results must only depend on the
+     *         content of the validated texts
+     * @param capacity
+     *         The maximum number of results, which should be cached, as an {@link Integer} value.
+     *         The capacity must be at least 1
+     * @return The validator, which has been created, as an instance of the class {@link
+     * CachingValidator}
+     */
+    public static CachingValidator cached(@NonNull final Validator<CharSequence> validator,
+                                          final int capacity) {
+        return CachingValidator.create(validator, capacity);
+    }
+
+    /**
+     * Compiles a tree of validators, which are combined by using the methods {@link
+     * #conjunctive(CharSequence, Validator[])}, {@link #disjunctive(CharSequence, Validator[])}
+     * and {@link #negate(CharSequence, Validator)}, into a single deterministic finite automaton,
+     * which scans texts only once. Validators, which cannot be compiled, are evaluated
+     * separately.
+     *
+     * @param validator
+     *         The root of the tree as an instance of the type {@link Validator}. The validator may
+     *         not be null
+     * @return The validator, which has been compiled, as an instance of the type {@link
+     * Validator}
+     * @see ValidatorCompiler
+     */
+    public static Validator<CharSequence> compile(
+            @NonNull final Validator<CharSequence> validator) {
+        return ValidatorCompiler.compile(validator);
     }
 
     /**
@@ -272,7 +354,7 @@ public final class Validators {
      */
     public static Validator<Object> notNull(@NonNull final Context context,
                                             @StringRes final int resourceId) {
-        return new NotNullValidator(context, resourceId);
+        return new NotNullValidator(getText(context, resourceId));
     }
 
     /**
@@ -284,7 +366,7 @@ public final class Validators {
      * @return The validator, which has been created, as an instance of the type {@link Validator}
      */
     public static Validator<Object> notNull(@NonNull final Context context) {
-        return new NotNullValidator(context, R.string.default_error_message);
+        return new NotNullValidator(getText(context, R.string.default_error_message));
     }
 
     /**
@@ -323,7 +405,7 @@ public final class Validators {
     public static Validator<CharSequence> regex(@NonNull final Context context,
                                                 @StringRes final int resourceId,
                                                 @NonNull final Pattern regex) {
-        return new RegexValidator(context, resourceId, regex);
+        return new RegexValidator(getText(context, resourceId), regex);
     }
 
     /**
@@ -340,7 +422,115 @@ public final class Validators {
      */
     public static Validator<CharSequence> regex(@NonNull final Context context,
                                                 @NonNull final Pattern regex) {
-        return new RegexValidator(context, R.string.default_error_message, regex);
+        return new RegexValidator(getText(context, R.string.default_error_message), regex);
+    }
+
+    /**
+     * Creates and returns a validator, which allows to validate texts to ensure, that they match a
+     * certain regular expression. Identical regular expressions are only compiled once.
+     *
+     * @param errorMessage
+     *         The error message, which should be shown, if the validation fails, as an instance of
+     *         the type {@link CharSequence}. The error message may not be null
+     * @param regex
+     *         The regular expression, which should be used to validate the texts, as a {@link
+     *         String}. The regular expression may not be null
+     * @return The validator, which has been created, as an instance of the type {@link Validator}
+     */
+    public static Validator<CharSequence> regex(@NonNull final CharSequence errorMessage,
+                                                @NonNull final String regex) {
+        return new RegexValidator(errorMessage, regex);
+    }
+
+    /**
+     * Creates and returns a validator, which allows to validate texts to ensure, that they match
+     * certain regular expressions. Identical regular expressions are only compiled once.
+     *
+     * @param context
+     *         The context, which should be used to retrieve the error message, as an instance of
+     *         the class {@link Context}. The context may not be null
+     * @param resourceId
+     *         The resource ID of the string resource, which contains the error message, which
+     *         should be set, as an {@link Integer} value. The resource ID must correspond to a
+     *         valid string resource
+     * @param regex
+     *         The regular expression, which should be used to validate the texts, as a {@link
+     *         String}. The regular expression may not be null
+     * @return The validator, which has been created, as an instance of the type {@link Validator}
+     */
+    public static Validator<CharSequence> regex(@NonNull final Context context,
+                                                @StringRes final int resourceId,
+                                                @NonNull final String regex) {
+        return new RegexValidator(getText(context, resourceId), regex);
+    }
+
+    /**
+     * Creates and returns a validator, which allows to validate texts to ensure, that they match
+     * certain regular expressions. Identical regular expressions are only compiled once.
+     *
+     * @param context
+     *         The context, which should be used to retrieve the error message, as an instance of
+     *         the class {@link Context}. The context may not be null
+     * @param regex
+     *         The regular expression, which should be used to validate the texts, as a {@link
+     *         String}. The regular expression may not be null
+     * @return The validator, which has been created, as an instance of the type {@link Validator}
+     */
+    public static Validator<CharSequence> regex(@NonNull final Context context,
+                                                @NonNull final String regex) {
+        return new RegexValidator(getText(context, R.string.default_error_message), regex);
+    }
+
+    /**
+     * Creates and returns a validator, which allows to validate texts to ensure, that they match a
+     * certain regular expression. Matching is aborted, if it exceeds a specific budget, in which
+     * case the texts are regarded as invalid.
+     *
+     * @param errorMessage
+     *         The error message, which should be shown, if the validation fails, as an instance of
+     *         the type {@link CharSequence}. The error message may not be null
+     * @param regex
+     *         The regular expression, which should be used to validate the texts, as an instance of
+     *         the class {@link Pattern}. The regular expression may not be null
+     * @param matchingBudget
+     *         The maximum number of steps, which may be taken in order to validate a text, as an
+     *         {@link Integer} value. The budget must be at least 1
+     * @return The validator, which has been created, as an instance of the type {@link Validator}
+     */
+    public static Validator<CharSequence> regex(@NonNull final CharSequence errorMessage,
+                                                @NonNull final Pattern regex,
+                                                final int matchingBudget) {
+        ensureAtLeast(matchingBudget, 1, "The budget must be at least 1");
+        RegexValidator validator = new RegexValidator(errorMessage, regex);
+        validator.setMatchingBudget(matchingBudget);
+        return validator;
+    }
+
+    /**
+     * Creates and returns a validator, which allows to validate texts to ensure, that they match a
+     * certain regular expression. Matching is aborted, if it exceeds a specific budget, in which
+     * case the texts are regarded as invalid.
+     *
+     * @param context
+     *         The context, which should be used to retrieve the error message, as an instance of
+     *         the class {@link Context}. The context may not be null
+     * @param resourceId
+     *         The resource ID of the string resource, which contains the error message, which
+     *         should be set, as an {@link Integer} value. The resource ID must correspond to a
+     *         valid string resource
+     * @param regex
+     *         The regular expression, which should be used to validate the texts, as an instance of
+     *         the class {@link Pattern}. The regular expression may not be null
+     * @param matchingBudget
+     *         The maximum number of steps, which may be taken in order to validate a text, as an
+     *         {@link Integer} value. The budget must be at least 1
+     * @return The validator, which has been created, as an instance of the type {@link Validator}
+     */
+    public static Validator<CharSequence> regex(@NonNull final Context context,
+                                                @StringRes final int resourceId,
+                                                @NonNull final Pattern regex,
+                                                final int matchingBudget) {
+        return regex(getText(context, resourceId), regex, matchingBudget);
     }
 
     /**
@@ -371,7 +561,7 @@ public final class Validators {
      */
     public static Validator<CharSequence> notEmpty(@NonNull final Context context,
                                                    @StringRes final int resourceId) {
-        return new NotEmptyValidator(context, resourceId);
+        return new NotEmptyValidator(getText(context, resourceId));
     }
 
     /**
@@ -384,7 +574,7 @@ public final class Validators {
      * @return The validator, which has been created, as an instance of the type {@link Validator}
      */
     public static Validator<CharSequence> notEmpty(@NonNull final Context context) {
-        return new NotEmptyValidator(context, R.string.default_error_message);
+        return new NotEmptyValidator(getText(context, R.string.default_error_message));
     }
 
     /**
@@ -425,7 +615,7 @@ public final class Validators {
     public static Validator<CharSequence> minLength(@NonNull final Context context,
                                                     @StringRes final int resourceId,
                                                     final int minLength) {
-        return new MinLengthValidator(context, resourceId, minLength);
+        return new MinLengthValidator(getText(context, resourceId), minLength);
     }
 
     /**
@@ -443,7 +633,7 @@ public final class Validators {
      */
     public static Validator<CharSequence> minLength(@NonNull final Context context,
                                                     final int minLength) {
-        return new MinLengthValidator(context, R.string.default_error_message, minLength);
+        return new MinLengthValidator(getText(context, R.string.default_error_message), minLength);
     }
 
     /**
@@ -482,7 +672,7 @@ public final class Validators {
     public static Validator<CharSequence> maxLength(@NonNull final Context context,
                                                     @StringRes final int resourceId,
                                                     final int maxLength) {
-        return new MaxLengthValidator(context, resourceId, maxLength);
+        return new MaxLengthValidator(getText(context, resourceId), maxLength);
     }
 
     /**
@@ -499,7 +689,7 @@ public final class Validators {
      */
     public static Validator<CharSequence> maxLength(@NonNull final Context context,
                                                     final int maxLength) {
-        return new MaxLengthValidator(context, R.string.default_error_message, maxLength);
+        return new MaxLengthValidator(getText(context, R.string.default_error_message), maxLength);
     }
 
     /**
@@ -530,7 +720,7 @@ public final class Validators {
      */
     public static Validator<CharSequence> noWhitespace(@NonNull final Context context,
                                                        @StringRes final int resourceId) {
-        return new NoWhitespaceValidator(context, resourceId);
+        return new NoWhitespaceValidator(getText(context, resourceId));
     }
 
     /**
@@ -543,7 +733,7 @@ public final class Validators {
      * @return The validator, which has been created, as an instance of the type {@link Validator}
      */
     public static Validator<CharSequence> noWhitespace(@NonNull final Context context) {
-        return new NoWhitespaceValidator(context, R.string.default_error_message);
+        return new NoWhitespaceValidator(getText(context, R.string.default_error_message));
     }
 
     /**
@@ -574,7 +764,7 @@ public final class Validators {
      */
     public static Validator<CharSequence> number(@NonNull final Context context,
                                                  @StringRes final int resourceId) {
-        return new NumberValidator(context, resourceId);
+        return new NumberValidator(getText(context, resourceId));
     }
 
     /**
@@ -587,7 +777,7 @@ public final class Validators {
      * @return The validator, which has been created, as an instance of the type {@link Validator}
      */
     public static Validator<CharSequence> number(@NonNull final Context context) {
-        return new NumberValidator(context, R.string.default_error_message);
+        return new NumberValidator(getText(context, R.string.default_error_message));
     }
 
     /**
@@ -650,7 +840,7 @@ public final class Validators {
                                                  @NonNull final Case caseSensitivity,
                                                  final boolean allowSpaces,
                                                  @NonNull final char... allowedCharacters) {
-        return new LetterValidator(context, resourceId, caseSensitivity, allowSpaces,
+        return new LetterValidator(getText(context, resourceId), caseSensitivity, allowSpaces,
                 allowedCharacters);
     }
 
@@ -680,8 +870,8 @@ public final class Validators {
                                                  @NonNull final Case caseSensitivity,
                                                  final boolean allowSpaces,
                                                  @NonNull final char... allowedCharacters) {
-        return new LetterValidator(context, R.string.default_error_message, caseSensitivity,
-                allowSpaces, allowedCharacters);
+        return new LetterValidator(getText(context, R.string.default_error_message),
+                caseSensitivity, allowSpaces, allowedCharacters);
     }
 
     /**
@@ -745,8 +935,8 @@ public final class Validators {
                                                          @NonNull final Case caseSensitivity,
                                                          final boolean allowSpaces,
                                                          @NonNull final char... allowedCharacters) {
-        return new LetterOrNumberValidator(context, resourceId, caseSensitivity, allowSpaces,
-                allowedCharacters);
+        return new LetterOrNumberValidator(getText(context, resourceId), caseSensitivity,
+                allowSpaces, allowedCharacters);
     }
 
     /**
@@ -775,8 +965,8 @@ public final class Validators {
                                                          @NonNull final Case caseSensitivity,
                                                          final boolean allowSpaces,
                                                          @NonNull final char... allowedCharacters) {
-        return new LetterOrNumberValidator(context, R.string.default_error_message, caseSensitivity,
-                allowSpaces, allowedCharacters);
+        return new LetterOrNumberValidator(getText(context, R.string.default_error_message),
+                caseSensitivity, allowSpaces, allowedCharacters);
     }
 
     /**
@@ -808,7 +998,7 @@ public final class Validators {
      */
     public static Validator<CharSequence> beginsWithUppercaseLetter(@NonNull final Context context,
                                                                     @StringRes final int resourceId) {
-        return new BeginsWithUppercaseLetterValidator(context, resourceId);
+        return new BeginsWithUppercaseLetterValidator(getText(context, resourceId));
     }
 
     /**
@@ -822,7 +1012,8 @@ public final class Validators {
      */
     public static Validator<CharSequence> beginsWithUppercaseLetter(
             @NonNull final Context context) {
-        return new BeginsWithUppercaseLetterValidator(context, R.string.default_error_message);
+        return new BeginsWithUppercaseLetterValidator(
+                getText(context, R.string.default_error_message));
     }
 
     /**
@@ -861,7 +1052,7 @@ public final class Validators {
     public static Validator<CharSequence> equal(@NonNull final Context context,
                                                 @StringRes final int resourceId,
                                                 @NonNull final EditText editText) {
-        return new EqualValidator(context, resourceId, editText);
+        return new EqualValidator(getText(context, resourceId), editText);
     }
 
     /**
@@ -878,7 +1069,7 @@ public final class Validators {
      */
     public static Validator<CharSequence> equal(@NonNull final Context context,
                                                 @NonNull final EditText editText) {
-        return new EqualValidator(context, R.string.default_error_message, editText);
+        return new EqualValidator(getText(context, R.string.default_error_message), editText);
     }
 
     /**
@@ -909,7 +1100,7 @@ public final class Validators {
      */
     public static Validator<CharSequence> iPv4Address(@NonNull final Context context,
                                                       @StringRes final int resourceId) {
-        return new IPv4AddressValidator(context, resourceId);
+        return new IPv4AddressValidator(getText(context, resourceId));
     }
 
     /**
@@ -922,7 +1113,7 @@ public final class Validators {
      * @return The validator, which has been created, as an instance of the type {@link Validator}
      */
     public static Validator<CharSequence> iPv4Address(@NonNull final Context context) {
-        return new IPv4AddressValidator(context, R.string.default_error_message);
+        return new IPv4AddressValidator(getText(context, R.string.default_error_message));
     }
 
     /**
@@ -953,7 +1144,7 @@ public final class Validators {
      */
     public static Validator<CharSequence> iPv6Address(@NonNull final Context context,
                                                       @StringRes final int resourceId) {
-        return new IPv6AddressValidator(context, resourceId);
+        return new IPv6AddressValidator(getText(context, resourceId));
     }
 
     /**
@@ -966,7 +1157,7 @@ public final class Validators {
      * @return The validator, which has been created, as an instance of the type {@link Validator}
      */
     public static Validator<CharSequence> iPv6Address(@NonNull final Context context) {
-        return new IPv6AddressValidator(context, R.string.default_error_message);
+        return new IPv6AddressValidator(getText(context, R.string.default_error_message));
     }
 
     /**
@@ -997,7 +1188,7 @@ public final class Validators {
      */
     public static Validator<CharSequence> domainName(@NonNull final Context context,
                                                      @StringRes final int resourceId) {
-        return new DomainNameValidator(context, resourceId);
+        return new DomainNameValidator(getText(context, resourceId));
     }
 
     /**
@@ -1010,7 +1201,7 @@ public final class Validators {
      * @return The validator, which has been created, as an instance of the type {@link Validator}
      */
     public static Validator<CharSequence> domainName(@NonNull final Context context) {
-        return new DomainNameValidator(context, R.string.default_error_message);
+        return new DomainNameValidator(getText(context, R.string.default_error_message));
     }
 
     /**
@@ -1041,7 +1232,7 @@ public final class Validators {
      */
     public static Validator<CharSequence> emailAddress(@NonNull final Context context,
                                                        @StringRes final int resourceId) {
-        return new EmailAddressValidator(context, resourceId);
+        return new EmailAddressValidator(getText(context, resourceId));
     }
 
     /**
@@ -1054,7 +1245,7 @@ public final class Validators {
      * @return The validator, which has been created, as an instance of the type {@link Validator}
      */
     public static Validator<CharSequence> emailAddress(@NonNull final Context context) {
-        return new EmailAddressValidator(context, R.string.default_error_message);
+        return new EmailAddressValidator(getText(context, R.string.default_error_message));
     }
 
     /**
@@ -1087,7 +1278,7 @@ public final class Validators {
      */
     public static Validator<CharSequence> iri(@NonNull final Context context,
                                               @StringRes final int resourceId) {
-        return new IRIValidator(context, resourceId);
+        return new IRIValidator(getText(context, resourceId));
     }
 
     /**
@@ -1101,7 +1292,7 @@ public final class Validators {
      * @return The validator, which has been created, as an instance of the type {@link Validator}
      */
     public static Validator<CharSequence> iri(@NonNull final Context context) {
-        return new IRIValidator(context, R.string.default_error_message);
+        return new IRIValidator(getText(context, R.string.default_error_message));
     }
 
     /**
@@ -1136,7 +1327,7 @@ public final class Validators {
      */
     public static Validator<CharSequence> phoneNumber(@NonNull final Context context,
                                                       @StringRes final int resourceId) {
-        return new PhoneNumberValidator(context, resourceId);
+        return new PhoneNumberValidator(getText(context, resourceId));
     }
 
     /**
@@ -1151,7 +1342,7 @@ public final class Validators {
      * @return The validator, which has been created, as an instance of the type {@link Validator}
      */
     public static Validator<CharSequence> phoneNumber(@NonNull final Context context) {
-        return new PhoneNumberValidator(context, R.string.default_error_message);
+        return new PhoneNumberValidator(getText(context, R.string.default_error_message));
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,766 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.adapter;
+
+import android.content.Context;
+import android.os.AsyncTask;
+import android.os.Handler;
+import android.os.Looper;
+import android.support.annotation.LayoutRes;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.text.TextUtils;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.BaseAdapter;
+import android.widget.TextView;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import de.mrapp.android.validation.util.PrefixIndex;
+
+import static de.mrapp.android.util.Condition.ensureAtLeast;
+import static de.mrapp.android.util.Condition.ensureNotNull;
+import static de.mrapp.android.util.Condition.ensureTrue;
+
+/**
+ * A spinner adapter, which loads its items page by page from a data source, instead of keeping all
+ * of them in memory. Only a limited number of recently used pages is cached. Optionally, the items
+ * can be filtered by a prefix, which is matched against the beginning of their labels and of the
+ * words they contain. The index, which is used for filtering, is built from the labels once and
+ * does not retain the items themselves. As building the index requires to load all items, it is
+ * built in a background thread by default.
+ *
+ * @param <Type>
+ *         The type of the adapter's items
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public class PagedSpinnerAdapter<Type> extends BaseAdapter {
+
+    /**
+     * Defines the interface, a class, which provides the items of a {@link PagedSpinnerAdapter},
+     * must implement. When the index, which is used for filtering, is built, pages are loaded by
+     * using the adapter's index executor. Unless a synchronous executor is used, the data source
+     * must therefore allow to load pages and to retrieve labels in a background thread.
+     *
+     * @param <Type>
+     *         The type of the items
+     */
+    public interface DataSource<Type> {
+
+        /**
+         * Returns the total number of items.
+         *
+         * @return The total number of items as an {@link Integer} value
+         */
+        int getCount();
+
+        /**
+         * Loads the items, which belong to a specific range.
+         *
+         * @param offset
+         *         The position of the first item, which should be loaded, as an {@link Integer}
+         *         value
+         * @param count
+         *         The number of items, which should be loaded, as an {@link Integer} value
+         * @return A list, which contains the items, which have been loaded, as an instance of the
+         * type {@link List}. The list must contain exactly the given number of items
+         */
+        @NonNull
+        List<Type> loadPage(int offset, int count);
+
+        /**
+         * Returns the label of a specific item. The label is displayed by the adapter's views and
+         * used for filtering.
+         *
+         * @param item
+         *         The item, whose label should be returned, as an instance of the generic type
+         *         Type. The item may not be null
+         * @return The label of the given item as an instance of the type {@link CharSequence}. The
+         * label may not be null
+         */
+        @NonNull
+        CharSequence getLabel(@NonNull Type item);
+
+    }
+
+    /**
+     * Defines the interface, a class, which should be notified, when a filter has been applied
+     * to the items of a {@link PagedSpinnerAdapter}, must implement.
+     */
+    public interface FilterListener {
+
+        /**
+         * The method, which is invoked, when a filter is about to be applied. While this method
+         * is invoked, the adapter's positions still refer to the previously shown items. It is
+         * invoked on the main thread, unless the index has been built synchronously.
+         *
+         * @param adapter
+         *         The adapter, the filter is applied to, as an instance of the class {@link
+         *         PagedSpinnerAdapter}. The adapter may not be null
+         */
+        void onApplyFilter(@NonNull PagedSpinnerAdapter<?> adapter);
+
+        /**
+         * The method, which is invoked, when a filter has been applied. It is invoked on the
+         * main thread, unless the index has been built synchronously.
+         *
+         * @param adapter
+         *         The adapter, the filter has been applied to, as an instance of the class {@link
+         *         PagedSpinnerAdapter}. The adapter may not be null
+         */
+        void onFilterApplied(@NonNull PagedSpinnerAdapter<?> adapter);
+
+    }
+
+    /**
+     * A task, which allows to build the index, which is used for filtering, by using the
+     * adapter's index executor. If the data source fails to provide the items, the exception is
+     * rethrown on the main thread, after the task has been discarded.
+     */
+    private final class IndexTask implements Runnable {
+
+        /**
+         * The total number of items.
+         */
+        private final int sourceCount;
+
+        /**
+         * The number of items, which are loaded at once.
+         */
+        private final int pageSize;
+
+        /**
+         * The pages, which were cached, when the task has been created, mapped to their indices.
+         */
+        private final Map<Integer, List<Type>> cachedPages;
+
+        /**
+         * The thread, the task has been created on.
+         */
+        private final Thread thread;
+
+        /**
+         * True, if the task has been cancelled, false otherwise.
+         */
+        private volatile boolean cancelled;
+
+        /**
+         * Creates a new task, which allows to build the index, which is used for filtering.
+         */
+        IndexTask() {
+            this.sourceCount = getSourceCount();
+            this.pageSize = PagedSpinnerAdapter.this.pageSize;
+            this.cachedPages = new HashMap<>(pages);
+            this.thread = Thread.currentThread();
+            this.cancelled = false;
+        }
+
+        /**
+         * Builds the index from the labels of all items.
+         *
+         * @return The index, which has been built, as an instance of the class {@link
+         * PrefixIndex} or null, if the task has been cancelled
+         */
+        private PrefixIndex buildIndex() {
+            List<CharSequence> labels = new ArrayList<>(sourceCount);
+
+            for (int offset = 0; offset < sourceCount; offset += pageSize) {
+                if (cancelled) {
+                    return null;
+                }
+
+                List<Type> page = cachedPages.get(offset / pageSize);
+
+                for (Type item : page != null ? page :
+                        loadPage(offset, Math.min(pageSize, sourceCount - offset))) {
+                    labels.add(dataSource.getLabel(item));
+                }
+            }
+
+            return new PrefixIndex(labels);
+        }
+
+        /**
+         * Runs a specific runnable on the thread, the task has been created on. If the task is
+         * executed on a different thread, the runnable is posted to the main thread.
+         *
+         * @param runnable
+         *         The runnable, which should be run, as an instance of the type {@link Runnable}.
+         *         The runnable may not be null
+         */
+        private void publish(@NonNull final Runnable runnable) {
+            if (Thread.currentThread() == thread) {
+                runnable.run();
+            } else {
+                handler.post(runnable);
+            }
+        }
+
+        /**
+         * Discards the task and rethrows the exception, which occurred while building the index,
+         * if the task has not been cancelled. The filter is applied again, when it is set the
+         * next time.
+         *
+         * @param exception
+         *         The exception, which occurred, as an instance of the class {@link
+         *         RuntimeException}. The exception may not be null
+         */
+        private void publishFailure(@NonNull final RuntimeException exception) {
+            if (!cancelled && indexTask == this) {
+                indexTask = null;
+                filterListener = null;
+                throw exception;
+            }
+        }
+
+        /**
+         * Publishes the index, which has been built, if the task has not been cancelled.
+         *
+         * @param builtIndex
+         *         The index, which has been built, as an instance of the class {@link
+         *         PrefixIndex}. The index may not be null
+         */
+        private void publishResult(@NonNull final PrefixIndex builtIndex) {
+            if (!cancelled && indexTask == this) {
+                indexTask = null;
+                index = builtIndex;
+                applyFilter();
+            }
+        }
+
+        @Override
+        public void run() {
+            final PrefixIndex builtIndex;
+
+            try {
+                builtIndex = buildIndex();
+            } catch (final RuntimeException e) {
+                publish(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        publishFailure(e);
+                    }
+
+                });
+
+                return;
+            }
+
+            if (builtIndex != null) {
+                publish(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        publishResult(builtIndex);
+                    }
+
+                });
+            }
+        }
+
+    }
+
+    /**
+     * The number of items, which are loaded at once, by default.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    /**
+     * The maximum number of pages, which are cached, by default.
+     */
+    public static final int DEFAULT_MAX_CACHED_PAGES = 8;
+
+    /**
+     * The context, which is used by the adapter.
+     */
+    private final Context context;
+
+    /**
+     * The data source, which provides the adapter's items.
+     */
+    private final DataSource<Type> dataSource;
+
+    /**
+     * The resource id of the layout, which is used to display the selected item.
+     */
+    private final int viewResourceId;
+
+    /**
+     * The resource id of the layout, which is used to display the items of the drop-down list.
+     */
+    private int dropDownViewResourceId;
+
+    /**
+     * The number of items, which are loaded at once.
+     */
+    private int pageSize;
+
+    /**
+     * The maximum number of pages, which are cached.
+     */
+    private int maxCachedPages;
+
+    /**
+     * The pages, which are currently cached, mapped to their indices. The map is ordered by
+     * access, which allows to evict the least recently used page first.
+     */
+    private final Map<Integer, List<Type>> pages;
+
+    /**
+     * The total number of items, or -1, if it has not been retrieved from the data source yet.
+     */
+    private int count;
+
+    /**
+     * The index, which is used to filter the items, or null, if it has not been built yet.
+     */
+    private PrefixIndex index;
+
+    /**
+     * The prefix, which is used to filter the items, or null, if the items are not filtered.
+     */
+    private CharSequence filter;
+
+    /**
+     * The positions of the items, which are currently shown, within the data source, or null, if
+     * the items are not filtered.
+     */
+    private int[] filteredPositions;
+
+    /**
+     * The executor, which is used to build the index.
+     */
+    private Executor indexExecutor;
+
+    /**
+     * The task, which is currently building the index, or null, if the index is not being built.
+     */
+    private IndexTask indexTask;
+
+    /**
+     * The listener, which should be notified, when the current filter has been applied, or null,
+     * if no listener should be notified.
+     */
+    private FilterListener filterListener;
+
+    /**
+     * The handler, which is used to publish the index on the main thread.
+     */
+    private final Handler handler;
+
+    /**
+     * Returns the total number of items, which are provided by the data source.
+     *
+     * @return The total number of items as an {@link Integer} value
+     */
+    private int getSourceCount() {
+        if (count == -1) {
+            count = dataSource.getCount();
+        }
+
+        return count;
+    }
+
+    /**
+     * Loads the items, which belong to a specific range, from the data source.
+     *
+     * @param offset
+     *         The position of the first item, which should be loaded, as an {@link Integer} value
+     * @param itemCount
+     *         The number of items, which should be loaded, as an {@link Integer} value
+     * @return A list, which contains the items, which have been loaded, as an instance of the
+     * type {@link List}
+     */
+    private List<Type> loadPage(final int offset, final int itemCount) {
+        List<Type> page = dataSource.loadPage(offset, itemCount);
+        ensureNotNull(page, "The page may not be null");
+        ensureTrue(page.size() == itemCount,
+                "The page must contain " + itemCount + " items, but contains " + page.size());
+        return page;
+    }
+
+    /**
+     * Returns the page with a specific index. If the page is not cached, it is loaded from the
+     * data source and added to the cache.
+     *
+     * @param pageIndex
+     *         The index of the page, which should be returned, as an {@link Integer} value
+     * @return A list, which contains the items of the page, as an instance of the type {@link
+     * List}
+     */
+    private List<Type> getPage(final int pageIndex) {
+        List<Type> page = pages.get(pageIndex);
+
+        if (page == null) {
+            int offset = pageIndex * pageSize;
+            page = loadPage(offset, Math.min(pageSize, getSourceCount() - offset));
+            pages.put(pageIndex, page);
+        }
+
+        return page;
+    }
+
+    /**
+     * Applies the current filter to the items. If the index, which is used for filtering, has not
+     * been built yet, it is built by using the index executor and the filter is applied
+     * afterwards. Until then, the previously shown items remain unchanged.
+     */
+    private void applyFilter() {
+        if (filter != null && index == null) {
+            if (indexTask == null) {
+                indexTask = new IndexTask();
+                indexExecutor.execute(indexTask);
+            }
+
+            return;
+        }
+
+        FilterListener listener = filterListener;
+        filterListener = null;
+
+        if (listener != null) {
+            listener.onApplyFilter(this);
+        }
+
+        filteredPositions = filter != null ? index.find(filter) : null;
+        notifyDataSetChanged();
+
+        if (listener != null) {
+            listener.onFilterApplied(this);
+        }
+    }
+
+    /**
+     * Returns the view, which is used to display a specific item.
+     *
+     * @param position
+     *         The position of the item as an {@link Integer} value
+     * @param convertView
+     *         The view, which should be reused, as an instance of the class {@link View} or null,
+     *         if no view should be reused
+     * @param parent
+     *         The parent view as an instance of the class {@link ViewGroup}
+     * @param resourceId
+     *         The resource id of the layout, which should be inflated, if no view should be
+     *         reused, as an {@link Integer} value
+     * @return The view, which is used to display the given item, as an instance of the class
+     * {@link View}
+     */
+    private View getView(final int position, @Nullable final View convertView,
+                         final ViewGroup parent, @LayoutRes final int resourceId) {
+        View view = convertView;
+
+        if (view == null) {
+            view = LayoutInflater.from(context).inflate(resourceId, parent, false);
+        }
+
+        TextView textView = view instanceof TextView ? (TextView) view :
+                (TextView) view.findViewById(android.R.id.text1);
+
+        if (textView == null) {
+            throw new IllegalStateException("The layout must either consist of a TextView or " +
+                    "contain one with the id android.R.id.text1");
+        }
+
+        textView.setText(dataSource.getLabel(getItem(position)));
+        return view;
+    }
+
+    /**
+     * Creates a new spinner adapter, which loads its items page by page from a data source.
+     *
+     * @param context
+     *         The context, which should be used by the adapter, as an instance of the class {@link
+     *         Context}. The context may not be null
+     * @param dataSource
+     *         The data source, which provides the adapter's items, as an instance of the type
+     *         {@link DataSource}. The data source may not be null
+     * @param resourceId
+     *         The resource id of the layout, which should be used to display the items, as an
+     *         {@link Integer} value. The layout must either consist of a {@link TextView}, or
+     *         contain one with the id <code>android.R.id.text1</code>
+     */
+    public PagedSpinnerAdapter(@NonNull final Context context,
+                               @NonNull final DataSource<Type> dataSource,
+                               @LayoutRes final int resourceId) {
+        ensureNotNull(context, "The context may not be null");
+        ensureNotNull(dataSource, "The data source may not be null");
+        this.context = context;
+        this.dataSource = dataSource;
+        this.viewResourceId = resourceId;
+        this.dropDownViewResourceId = resourceId;
+        this.pageSize = DEFAULT_PAGE_SIZE;
+        this.maxCachedPages = DEFAULT_MAX_CACHED_PAGES;
+        this.pages = new LinkedHashMap<Integer, List<Type>>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Integer, List<Type>> eldest) {
+                return size() > maxCachedPages;
+            }
+
+        };
+        this.count = -1;
+        this.indexExecutor = AsyncTask.THREAD_POOL_EXECUTOR;
+        this.handler = new Handler(Looper.getMainLooper());
+    }
+
+    /**
+     * Sets the resource id of the layout, which should be used to display the items of the
+     * drop-down list.
+     *
+     * @param resourceId
+     *         The resource id of the layout, which should be set, as an {@link Integer} value. The
+     *         layout must either consist of a {@link TextView}, or contain one with the id
+     *         <code>android.R.id.text1</code>
+     */
+    public final void setDropDownViewResource(@LayoutRes final int resourceId) {
+        this.dropDownViewResourceId = resourceId;
+    }
+
+    /**
+     * Returns the number of items, which are loaded at once.
+     *
+     * @return The number of items, which are loaded at once, as an {@link Integer} value
+     */
+    public final int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Sets the number of items, which should be loaded at once. Changing the page size discards
+     * all cached pages.
+     *
+     * @param pageSize
+     *         The number of items, which should be loaded at once, as an {@link Integer} value. The
+     *         number of items must be at least 1
+     */
+    public final void setPageSize(final int pageSize) {
+        ensureAtLeast(pageSize, 1, "The page size must be at least 1");
+
+        if (this.pageSize != pageSize) {
+            this.pageSize = pageSize;
+            this.pages.clear();
+        }
+    }
+
+    /**
+     * Returns the maximum number of pages, which are cached.
+     *
+     * @return The maximum number of pages, which are cached, as an {@link Integer} value
+     */
+    public final int getMaxCachedPages() {
+        return maxCachedPages;
+    }
+
+    /**
+     * Sets the maximum number of pages, which should be cached. If more pages are loaded, the
+     * least recently used ones are discarded.
+     *
+     * @param maxCachedPages
+     *         The maximum number of pages, which should be cached, as an {@link Integer} value. The
+     *         maximum number of pages must be at least 1
+     */
+    public final void setMaxCachedPages(final int maxCachedPages) {
+        ensureAtLeast(maxCachedPages, 1, "The maximum number of cached pages must be at least 1");
+        this.maxCachedPages = maxCachedPages;
+
+        while (pages.size() > maxCachedPages) {
+            pages.remove(pages.keySet().iterator().next());
+        }
+    }
+
+    /**
+     * Returns the number of pages, which are currently cached.
+     *
+     * @return The number of pages, which are currently cached, as an {@link Integer} value
+     */
+    public final int getCachedPageCount() {
+        return pages.size();
+    }
+
+    /**
+     * Returns the prefix, which is used to filter the items.
+     *
+     * @return The prefix, which is used to filter the items, as an instance of the type {@link
+     * CharSequence} or null, if the items are not filtered
+     */
+    public final CharSequence getFilter() {
+        return filter;
+    }
+
+    /**
+     * Sets the prefix, which should be used to filter the items. Only items, whose label starts
+     * with the prefix, or contains a word, which starts with the prefix, are shown. The
+     * comparison is case-insensitive. When a filter is set for the first time, the labels of all
+     * items are retrieved by using the index executor in order to build an index. Until the
+     * index has been built, the previously shown items remain unchanged. If the data source fails
+     * to provide the items, the exception is rethrown on the main thread.
+     *
+     * @param filter
+     *         The prefix, which should be set, as an instance of the type {@link CharSequence} or
+     *         null, if the items should not be filtered
+     */
+    public final void setFilter(@Nullable final CharSequence filter) {
+        setFilter(filter, null);
+    }
+
+    /**
+     * Sets the prefix, which should be used to filter the items, and notifies a listener, once
+     * the filter has been applied. If the filter is changed again before, the listener is not
+     * notified.
+     *
+     * @param filter
+     *         The prefix, which should be set, as an instance of the type {@link CharSequence} or
+     *         null, if the items should not be filtered
+     * @param listener
+     *         The listener, which should be notified, when the filter has been applied, as an
+     *         instance of the type {@link FilterListener} or null, if no listener should be
+     *         notified
+     * @see #setFilter(CharSequence)
+     */
+    public final void setFilter(@Nullable final CharSequence filter,
+                                @Nullable final FilterListener listener) {
+        CharSequence newFilter = TextUtils.isEmpty(filter) ? null : filter.toString();
+        filterListener = listener;
+
+        if (!TextUtils.equals(this.filter, newFilter) ||
+                (newFilter != null && index == null && indexTask == null)) {
+            this.filter = newFilter;
+            applyFilter();
+        } else if (indexTask == null && listener != null) {
+            filterListener = null;
+            listener.onFilterApplied(this);
+        }
+    }
+
+    /**
+     * Returns the executor, which is used to build the index, which is used for filtering.
+     *
+     * @return The executor, which is used to build the index, as an instance of the type {@link
+     * Executor}
+     */
+    public final Executor getIndexExecutor() {
+        return indexExecutor;
+    }
+
+    /**
+     * Sets the executor, which should be used to build the index, which is used for filtering.
+     * By default, the executor <code>AsyncTask.THREAD_POOL_EXECUTOR</code> is used. If an
+     * executor, which runs tasks synchronously, is set, the index is built immediately.
+     *
+     * @param executor
+     *         The executor, which should be set, as an instance of the type {@link Executor}. The
+     *         executor may not be null
+     */
+    public final void setIndexExecutor(@NonNull final Executor executor) {
+        ensureNotNull(executor, "The executor may not be null");
+        this.indexExecutor = executor;
+    }
+
+    /**
+     * Returns the position of the item, which is shown at a specific position of the adapter,
+     * within the data source.
+     *
+     * @param position
+     *         The position of the item within the adapter as an {@link Integer} value
+     * @return The position of the item within the data source as an {@link Integer} value
+     */
+    public final int getSourcePosition(final int position) {
+        return filteredPositions != null ? filteredPositions[position] : position;
+    }
+
+    /**
+     * Returns the position, at which the item, which has a specific position within the data
+     * source, is shown by the adapter.
+     *
+     * @param sourcePosition
+     *         The position of the item within the data source as an {@link Integer} value
+     * @return The position of the item within the adapter as an {@link Integer} value or -1, if
+     * the item does not match the filter
+     */
+    public final int getPosition(final int sourcePosition) {
+        if (filteredPositions != null) {
+            int position = Arrays.binarySearch(filteredPositions, sourcePosition);
+            return position >= 0 ? position : -1;
+        }
+
+        return sourcePosition >= 0 && sourcePosition < getSourceCount() ? sourcePosition : -1;
+    }
+
+    /**
+     * Discards all cached items, as well as the index, which is used for filtering. This method
+     * must be called, when the data source's items have been changed. If the items are
+     * filtered, no items are shown until the index has been rebuilt.
+     */
+    public final void invalidate() {
+        count = -1;
+        pages.clear();
+        index = null;
+
+        if (indexTask != null) {
+            indexTask.cancelled = true;
+            indexTask = null;
+        }
+
+        filteredPositions = filter != null ? new int[0] : null;
+        notifyDataSetChanged();
+
+        if (filter != null) {
+            applyFilter();
+        }
+    }
+
+    @Override
+    public final int getCount() {
+        return filteredPositions != null ? filteredPositions.length : getSourceCount();
+    }
+
+    @Override
+    public final Type getItem(final int position) {
+        int sourcePosition = getSourcePosition(position);
+        return getPage(sourcePosition / pageSize).get(sourcePosition % pageSize);
+    }
+
+    @Override
+    public final long getItemId(final int position) {
+        return getSourcePosition(position);
+    }
+
+    @Override
+    public final boolean hasStableIds() {
+        return true;
+    }
+
+    @Override
+    public final View getView(final int position, final View convertView, final ViewGroup parent) {
+        return getView(position, convertView, parent, viewResourceId);
+    }
+
+    @Override
+    public final View getDropDownView(final int position, final View convertView,
+                                      final ViewGroup parent) {
+        return getView(position, convertView, parent, dropDownViewResourceId);
+    }
+
+}
\ No newline at end of file
@@ -37,6 +37,19 @@ import static de.mrapp.android.util.Condition.ensureNotNull;
  */
 public class ProxySpinnerAdapter implements SpinnerAdapter, ListAdapter {
 
+    /**
+     * The tag, which is used to identify the views, which are used to display the hint. As a
+     * spinner's adapter must only have a single view type, convert views must be identified by
+     * their tag, rather than by their view type.
+     */
+    private static final Object HINT_VIEW_TAG = new Object();
+
+    /**
+     * The tag, which is used to identify the empty views, which are used instead of the hint
+     * within the drop-down list.
+     */
+    private static final Object HINT_DROP_DOWN_VIEW_TAG = new Object();
+
     /**
      * The context, which is used by the adapter.
      */
@@ -78,9 +91,33 @@ public class ProxySpinnerAdapter implements SpinnerAdapter, ListAdapter {
             view.setTextColor(hintColor);
         }
 
+        view.setTag(HINT_VIEW_TAG);
         return view;
     }
 
+    /**
+     * Returns a convert view, which can be passed to the proxied adapter. Views, which have been
+     * created by this adapter in order to display the hint, are never passed to the proxied
+     * adapter.
+     *
+     * @param convertView
+     *         The convert view as an instance of the class {@link View} or null, if no convert view
+     *         is available
+     * @return The convert view, which can be passed to the proxied adapter, as an instance of the
+     * class {@link View} or null, if no such view is available
+     */
+    private View getItemConvertView(@Nullable final View convertView) {
+        if (convertView != null) {
+            Object tag = convertView.getTag();
+
+            if (tag == HINT_VIEW_TAG || tag == HINT_DROP_DOWN_VIEW_TAG) {
+                return null;
+            }
+        }
+
+        return convertView;
+    }
+
     /**
      * Creates a new spinner adapter, which acts as a proxy for an other adapter in order to
      * initially show a hint instead of the adapter's first item.
@@ -127,20 +164,27 @@ public class ProxySpinnerAdapter implements SpinnerAdapter, ListAdapter {
     @Override
     public final View getView(final int position, final View convertView, final ViewGroup parent) {
         if (position == 0) {
-            return inflateHintView(parent);
+            return convertView != null && convertView.getTag() == HINT_VIEW_TAG ? convertView :
+                    inflateHintView(parent);
         }
 
-        return adapter.getView(position - 1, null, parent);
+        return adapter.getView(position - 1, getItemConvertView(convertView), parent);
     }
 
     @Override
     public final View getDropDownView(final int position, final View convertView,
                                       final ViewGroup parent) {
         if (position == 0) {
-            return new View(context);
+            if (convertView != null && convertView.getTag() == HINT_DROP_DOWN_VIEW_TAG) {
+                return convertView;
+            }
+
+            View view = new View(context);
+            view.setTag(HINT_DROP_DOWN_VIEW_TAG);
+            return view;
         }
 
-        return adapter.getDropDownView(position - 1, null, parent);
+        return adapter.getDropDownView(position - 1, getItemConvertView(convertView), parent);
     }
 
     @Override
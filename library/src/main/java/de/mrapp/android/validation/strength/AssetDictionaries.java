@@ -0,0 +1,189 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.strength;
+
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+import android.content.res.AssetManager;
+import android.support.annotation.NonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import static de.mrapp.android.util.Condition.ensureNotEmpty;
+import static de.mrapp.android.util.Condition.ensureNotNull;
+
+/**
+ * An utility class, which provides factory methods, which allow to create dictionaries, which are
+ * loaded lazily from the assets of an app, when they are queried for the first time.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public final class AssetDictionaries {
+
+    /**
+     * The path of the asset, which contains the word list of the default dictionary. It contains
+     * commonly used passwords, names and words.
+     */
+    public static final String DEFAULT_WORD_LIST = "password_dictionary.txt";
+
+    /**
+     * Creates a new utility class, which provides factory methods, which allow to create
+     * dictionaries, which are loaded lazily from the assets of an app.
+     */
+    private AssetDictionaries() {
+
+    }
+
+    /**
+     * Reads the content of a specific asset into a buffer.
+     *
+     * @param assetManager
+     *         The asset manager, which should be used to open the asset, as an instance of the
+     *         class {@link AssetManager}. The asset manager may not be null
+     * @param path
+     *         The path of the asset as a {@link String}. The path may neither be null, nor empty
+     * @return The buffer, which contains the content of the asset, as an instance of the class
+     * {@link ByteBuffer}
+     * @throws IOException
+     *         The exception, which is thrown, if the asset could not be read
+     */
+    private static ByteBuffer read(@NonNull final AssetManager assetManager,
+                                   @NonNull final String path) throws IOException {
+        InputStream inputStream = assetManager.open(path);
+
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int count;
+
+            while ((count = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, count);
+            }
+
+            return ByteBuffer.wrap(outputStream.toByteArray());
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    /**
+     * Creates and returns the default dictionary, which contains commonly used passwords, names
+     * and words.
+     *
+     * @param context
+     *         The context, which should be used to access the assets, as an instance of the class
+     *         {@link Context}. The context may not be null
+     * @return The dictionary, which has been created, as an instance of the class {@link
+     * RankedDictionary}
+     */
+    public static RankedDictionary createDefault(@NonNull final Context context) {
+        return fromWordList(context, DEFAULT_WORD_LIST);
+    }
+
+    /**
+     * Creates and returns a dictionary, which is compiled from a word list, which is stored as an
+     * asset. The asset must contain one word per line, encoded in UTF-8 and ordered by their
+     * frequency.
+     *
+     * @param context
+     *         The context, which should be used to access the assets, as an instance of the class
+     *         {@link Context}. The context may not be null
+     * @param path
+     *         The path of the asset as a {@link String}. The path may neither be null, nor empty
+     * @return The dictionary, which has been created, as an instance of the class {@link
+     * RankedDictionary}
+     */
+    public static RankedDictionary fromWordList(@NonNull final Context context,
+                                                @NonNull final String path) {
+        ensureNotNull(context, "The context may not be null");
+        ensureNotNull(path, "The path may not be null");
+        ensureNotEmpty(path, "The path may not be empty");
+        final AssetManager assetManager = context.getAssets();
+        return new RankedDictionary(new RankedDictionary.Source() {
+
+            @NonNull
+            @Override
+            public ByteBuffer load() throws IOException {
+                InputStream inputStream = assetManager.open(path);
+
+                try {
+                    return RankedDictionary.compile(RankedDictionary.readWords(inputStream));
+                } finally {
+                    inputStream.close();
+                }
+            }
+
+        });
+    }
+
+    /**
+     * Creates and returns a dictionary, whose data has been compiled by using the method {@link
+     * RankedDictionary#compile(java.util.Collection)} and is stored as an asset. If the asset is
+     * stored uncompressed, e.g. by using the <code>noCompress</code> option of the Android Gradle
+     * plugin, it is memory-mapped. Otherwise, it is read into memory.
+     *
+     * @param context
+     *         The context, which should be used to access the assets, as an instance of the class
+     *         {@link Context}. The context may not be null
+     * @param path
+     *         The path of the asset as a {@link String}. The path may neither be null, nor empty
+     * @return The dictionary, which has been created, as an instance of the class {@link
+     * RankedDictionary}
+     */
+    public static RankedDictionary fromCompiledDictionary(@NonNull final Context context,
+                                                          @NonNull final String path) {
+        ensureNotNull(context, "The context may not be null");
+        ensureNotNull(path, "The path may not be null");
+        ensureNotEmpty(path, "The path may not be empty");
+        final AssetManager assetManager = context.getAssets();
+        return new RankedDictionary(new RankedDictionary.Source() {
+
+            @NonNull
+            @Override
+            public ByteBuffer load() throws IOException {
+                AssetFileDescriptor descriptor;
+
+                try {
+                    descriptor = assetManager.openFd(path);
+                } catch (FileNotFoundException e) {
+                    // Compressed assets cannot be opened as file descriptors
+                    return read(assetManager, path);
+                }
+
+                try {
+                    FileInputStream inputStream = descriptor.createInputStream();
+
+                    try {
+                        return inputStream.getChannel()
+                                .map(FileChannel.MapMode.READ_ONLY, descriptor.getStartOffset(),
+                                        descriptor.getLength());
+                    } finally {
+                        inputStream.close();
+                    }
+                } finally {
+                    descriptor.close();
+                }
+            }
+
+        });
+    }
+
+}
\ No newline at end of file
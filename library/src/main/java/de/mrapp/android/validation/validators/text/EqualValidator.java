@@ -13,9 +13,7 @@
  */
 package de.mrapp.android.validation.validators.text;
 
-import android.content.Context;
 import android.support.annotation.NonNull;
-import android.support.annotation.StringRes;
 import android.text.TextUtils;
 
 import de.mrapp.android.validation.EditText;
@@ -53,27 +51,6 @@ public class EqualValidator extends AbstractValidator<CharSequence> {
         setEditText(editText);
     }
 
-    /**
-     * Creates a new validator, which allows to validate texts to ensure, that they are equal to the
-     * text, which is contained by an {@link EditText} widget.
-     *
-     * @param context
-     *         The context, which should be used to retrieve the error message, as an instance of
-     *         the class {@link Context}. The context may not be null
-     * @param resourceId
-     *         The resource ID of the string resource, which contains the error message, which
-     *         should be set, as an {@link Integer} value. The resource ID must correspond to a
-     *         valid string resource
-     * @param editText
-     *         The edit text widget, which contains the content, the texts should be equal to, as an
-     *         instance of the class {@link EditText}. The widget may not be null
-     */
-    public EqualValidator(@NonNull final Context context, @StringRes final int resourceId,
-                          @NonNull final EditText editText) {
-        super(context, resourceId);
-        setEditText(editText);
-    }
-
     /**
      * Returns the edit text widget, which contains the content, the texts should be equal to.
      *
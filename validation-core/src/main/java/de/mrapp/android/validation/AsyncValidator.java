@@ -0,0 +1,35 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+/**
+ * Defines the interface, a validator, which should be executed in a background thread, must
+ * implement. Such validators are suited for expensive checks, e.g. the evaluation of large regular
+ * expressions or lookups in dictionaries. When used by an <code>AbstractValidateableView</code>,
+ * they are executed after all other validators succeeded and their results are published on the
+ * main thread, unless the view's value has been changed or validated again in the meantime. The
+ * view's method <code>validate():boolean</code> therefore returns false, while the asynchronous
+ * validators are still executed, and the view's method <code>isValidating():boolean</code> returns
+ * true until their results have been published. As the method
+ * <code>validate(Type):boolean</code> of such validators is invoked in a background thread, it must
+ * not access any views and must be thread-safe.
+ *
+ * @param <Type>
+ *         The type of the values, which should be validated
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public interface AsyncValidator<Type> extends Validator<Type> {
+
+}
\ No newline at end of file
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import android.support.annotation.NonNull;
+
+import java.util.BitSet;
+
+import static de.mrapp.android.validation.util.Condition.ensureNotNull;
+
+/**
+ * The result of validating multiple values by using a {@link BatchValidator}. For each value it
+ * provides, whether its validation failed, and the index of the first validator, which failed.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public final class BatchResult {
+
+    /**
+     * The index, which is returned as the index of the failed validator, if a value is valid.
+     */
+    public static final int NO_FAILURE = -1;
+
+    /**
+     * A bitset, which specifies, which values are invalid.
+     */
+    private final BitSet failures;
+
+    /**
+     * An array, which contains the index of the first failed validator for each value, or
+     * {@link #NO_FAILURE}, if the value is valid.
+     */
+    private final int[] failedValidators;
+
+    /**
+     * The number of values, which have been validated.
+     */
+    private final int size;
+
+    /**
+     * Ensures, that a specific index refers to a value, which has been validated.
+     *
+     * @param index
+     *         The index, which should be checked, as an {@link Integer} value
+     */
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index: " + index);
+        }
+    }
+
+    /**
+     * Creates a new result of validating multiple values.
+     *
+     * @param failedValidators
+     *         An array, which contains the index of the first failed validator for each value, or
+     *         {@link #NO_FAILURE}, if the value is valid, as an {@link Integer} array. The array
+     *         may not be null. It may be longer than the number of values
+     * @param size
+     *         The number of values, which have been validated, as an {@link Integer} value
+     */
+    BatchResult(@NonNull final int[] failedValidators, final int size) {
+        ensureNotNull(failedValidators, "The array may not be null");
+        this.failedValidators = failedValidators;
+        this.size = size;
+        this.failures = new BitSet(size);
+
+        for (int i = 0; i < size; i++) {
+            if (failedValidators[i] != NO_FAILURE) {
+                failures.set(i);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of values, which have been validated.
+     *
+     * @return The number of values, which have been validated, as an {@link Integer} value
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the number of values, whose validation failed.
+     *
+     * @return The number of values, whose validation failed, as an {@link Integer} value
+     */
+    public int getFailureCount() {
+        return failures.cardinality();
+    }
+
+    /**
+     * Returns, whether all values are valid, or not.
+     *
+     * @return True, if all values are valid, false otherwise
+     */
+    public boolean isValid() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * Returns, whether the value at a specific index is valid, or not.
+     *
+     * @param index
+     *         The index of the value as an {@link Integer} value. The index must be at least 0 and
+     *         less than the number of values
+     * @return True, if the value at the given index is valid, false otherwise
+     */
+    public boolean isValid(final int index) {
+        checkIndex(index);
+        return !failures.get(index);
+    }
+
+    /**
+     * Returns the index of the first validator, which failed to validate the value at a specific
+     * index.
+     *
+     * @param index
+     *         The index of the value as an {@link Integer} value. The index must be at least 0 and
+     *         less than the number of values
+     * @return The index of the first validator, which failed, as an {@link Integer} value or
+     * {@link #NO_FAILURE}, if the value is valid
+     */
+    public int getFailedValidatorIndex(final int index) {
+        checkIndex(index);
+        return failedValidators[index];
+    }
+
+    /**
+     * Returns the index of the first invalid value, which occurs at or after a specific index.
+     * This allows to iterate all invalid values.
+     *
+     * @param fromIndex
+     *         The index to start searching at as an {@link Integer} value. The index must be at
+     *         least 0
+     * @return The index of the first invalid value, which occurs at or after the given index, as
+     * an {@link Integer} value or -1, if no such value exists
+     */
+    public int getNextFailure(final int fromIndex) {
+        return failures.nextSetBit(fromIndex);
+    }
+
+    /**
+     * Returns a bitset, which specifies, which values are invalid.
+     *
+     * @return A bitset, which specifies, which values are invalid, as an instance of the class
+     * {@link BitSet}. Modifying the bitset does not affect the result
+     */
+    public BitSet getFailures() {
+        return (BitSet) failures.clone();
+    }
+
+}
\ No newline at end of file
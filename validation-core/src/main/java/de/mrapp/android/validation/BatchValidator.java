@@ -0,0 +1,277 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import android.support.annotation.NonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static de.mrapp.android.validation.util.Condition.ensureAtLeast;
+import static de.mrapp.android.validation.util.Condition.ensureNotNull;
+
+/**
+ * Allows to validate a large number of values, e.g. a column of a data set, which should be
+ * imported, by using the same validators. For each value the validators are applied in the order
+ * of declaration until the first one fails. The results are returned as a {@link BatchResult},
+ * which does only require a bitset and a single index per value. Optionally, the values can be
+ * validated in parallel by using a {@link ForkJoinPool}. In such case, the validators must be
+ * thread-safe.
+ *
+ * @param <Type>
+ *         The type of the values, which should be validated
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public final class BatchValidator<Type> {
+
+    /**
+     * A task, which allows to validate a range of values by using a {@link ForkJoinPool}. The
+     * range is split recursively until it contains less values than {@link #SPLIT_THRESHOLD}.
+     */
+    private class ValidationTask extends RecursiveAction {
+
+        /**
+         * The constant serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The values, which should be validated.
+         */
+        private final Type[] values;
+
+        /**
+         * The array, the index of the first failed validator should be written to for each value.
+         */
+        private final int[] failedValidators;
+
+        /**
+         * The index of the first value, which should be validated.
+         */
+        private final int start;
+
+        /**
+         * The index after the last value, which should be validated.
+         */
+        private final int end;
+
+        /**
+         * Creates a new task, which allows to validate a range of values.
+         *
+         * @param values
+         *         The values, which should be validated, as an array of the generic type Type.
+         *         The array may not be null
+         * @param failedValidators
+         *         The array, the index of the first failed validator should be written to for
+         *         each value, as an {@link Integer} array. The array may not be null
+         * @param start
+         *         The index of the first value, which should be validated, as an {@link Integer}
+         *         value
+         * @param end
+         *         The index after the last value, which should be validated, as an {@link
+         *         Integer} value
+         */
+        ValidationTask(@NonNull final Type[] values, @NonNull final int[] failedValidators,
+                       final int start, final int end) {
+            this.values = values;
+            this.failedValidators = failedValidators;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= SPLIT_THRESHOLD) {
+                validate(values, failedValidators, start, end);
+            } else {
+                int middle = (start + end) >>> 1;
+                invokeAll(new ValidationTask(values, failedValidators, start, middle),
+                        new ValidationTask(values, failedValidators, middle, end));
+            }
+        }
+
+    }
+
+    /**
+     * The maximum number of values, which are validated by a single task, when validating in
+     * parallel.
+     */
+    private static final int SPLIT_THRESHOLD = 1024;
+
+    /**
+     * The initial capacity of the array, which stores the results, if the number of values is not
+     * known in advance.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * An array, which contains the validators, which are applied to each value.
+     */
+    private final Validator<Type>[] validators;
+
+    /**
+     * Validates a specific value.
+     *
+     * @param value
+     *         The value, which should be validated, as an instance of the generic type Type
+     * @return The index of the first validator, which failed, as an {@link Integer} value or
+     * {@link BatchResult#NO_FAILURE}, if all validators succeeded
+     */
+    private int validate(final Type value) {
+        for (int i = 0; i < validators.length; i++) {
+            if (!validators[i].validate(value)) {
+                return i;
+            }
+        }
+
+        return BatchResult.NO_FAILURE;
+    }
+
+    /**
+     * Validates a range of values.
+     *
+     * @param values
+     *         The values, which should be validated, as an array of the generic type Type. The
+     *         array may not be null
+     * @param failedValidators
+     *         The array, the index of the first failed validator should be written to for each
+     *         value, as an {@link Integer} array. The array may not be null
+     * @param start
+     *         The index of the first value, which should be validated, as an {@link Integer} value
+     * @param end
+     *         The index after the last value, which should be validated, as an {@link Integer}
+     *         value
+     */
+    private void validate(@NonNull final Type[] values, @NonNull final int[] failedValidators,
+                          final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            failedValidators[i] = validate(values[i]);
+        }
+    }
+
+    /**
+     * Creates a new validator, which allows to validate a large number of values by using the
+     * same validators.
+     *
+     * @param validators
+     *         The validators, which should be applied to each value, as an array of the type
+     *         {@link Validator}. The validators may neither be null, nor empty
+     */
+    @SafeVarargs
+    public BatchValidator(@NonNull final Validator<Type>... validators) {
+        ensureNotNull(validators, "The validators may not be null");
+        ensureAtLeast(validators.length, 1, "The validators may not be empty");
+
+        for (Validator<Type> validator : validators) {
+            ensureNotNull(validator, "The validator may not be null");
+        }
+
+        this.validators = validators.clone();
+    }
+
+    /**
+     * Creates and returns a validator, which allows to validate a large number of values by using
+     * the same validators.
+     *
+     * @param <Type>
+     *         The type of the values, which should be validated
+     * @param validators
+     *         The validators, which should be applied to each value, as an array of the type
+     *         {@link Validator}. The validators may neither be null, nor empty
+     * @return The validator, which has been created, as an instance of the class {@link
+     * BatchValidator}
+     */
+    @SafeVarargs
+    public static <Type> BatchValidator<Type> create(
+            @NonNull final Validator<Type>... validators) {
+        return new BatchValidator<>(validators);
+    }
+
+    /**
+     * Returns the validators, which are applied to each value.
+     *
+     * @return An array, which contains the validators, which are applied to each value, as an
+     * array of the type {@link Validator}
+     */
+    public Validator<Type>[] getValidators() {
+        return validators.clone();
+    }
+
+    /**
+     * Validates the values, which are contained by a specific array.
+     *
+     * @param values
+     *         The values, which should be validated, as an array of the generic type Type. The
+     *         array may not be null
+     * @return The result of the validation as an instance of the class {@link BatchResult}
+     */
+    public BatchResult validate(@NonNull final Type[] values) {
+        ensureNotNull(values, "The values may not be null");
+        int[] failedValidators = new int[values.length];
+        validate(values, failedValidators, 0, values.length);
+        return new BatchResult(failedValidators, values.length);
+    }
+
+    /**
+     * Validates the values, which are contained by a specific iterable. The values are validated
+     * in the order, they are returned by the iterable's iterator.
+     *
+     * @param values
+     *         The values, which should be validated, as an instance of the type {@link Iterable}.
+     *         The iterable may not be null
+     * @return The result of the validation as an instance of the class {@link BatchResult}
+     */
+    public BatchResult validate(@NonNull final Iterable<? extends Type> values) {
+        ensureNotNull(values, "The values may not be null");
+        int[] failedValidators = new int[values instanceof Collection ?
+                ((Collection<?>) values).size() : INITIAL_CAPACITY];
+        int size = 0;
+
+        for (Type value : values) {
+            if (size == failedValidators.length) {
+                failedValidators = Arrays.copyOf(failedValidators,
+                        Math.max(INITIAL_CAPACITY, failedValidators.length * 2));
+            }
+
+            failedValidators[size++] = validate(value);
+        }
+
+        return new BatchResult(failedValidators, size);
+    }
+
+    /**
+     * Validates the values, which are contained by a specific array, in parallel by using a
+     * specific {@link ForkJoinPool}. The validators must be thread-safe. The method blocks until
+     * all values have been validated. On Android, this method requires API level 21 or higher.
+     *
+     * @param values
+     *         The values, which should be validated, as an array of the generic type Type. The
+     *         array may not be null
+     * @param pool
+     *         The pool, which should be used to validate the values, as an instance of the class
+     *         {@link ForkJoinPool}. The pool may not be null
+     * @return The result of the validation as an instance of the class {@link BatchResult}
+     */
+    public BatchResult validate(@NonNull final Type[] values, @NonNull final ForkJoinPool pool) {
+        ensureNotNull(values, "The values may not be null");
+        ensureNotNull(pool, "The pool may not be null");
+        int[] failedValidators = new int[values.length];
+        pool.invoke(new ValidationTask(values, failedValidators, 0, values.length));
+        return new BatchResult(failedValidators, values.length);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+/**
+ * Defines the interface, a validator, whose validations may be aborted, because they exceed a
+ * budget, must implement. This allows to distinguish values, which are invalid, from values,
+ * which could not be validated within the budget. When using the method <code>validate</code>,
+ * values, whose validation exceeded the budget, are considered to be invalid.
+ *
+ * @param <Type>
+ *         The type of the values, which should be validated
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public interface BudgetedValidator<Type> extends Validator<Type> {
+
+    /**
+     * Validates a specific value within the validator's budget.
+     *
+     * @param value
+     *         The value, which should be validated, as an instance of the generic type Type
+     * @return The outcome of the validation as a value of the enum {@link ValidationOutcome}
+     */
+    ValidationOutcome validateWithinBudget(Type value);
+
+}
\ No newline at end of file
@@ -105,6 +105,19 @@ public final class Constraints {
         return new RegexConstraint(regex);
     }
 
+    /**
+     * Creates and returns a constraint, which allows to verify texts in order to check, if they
+     * match a certain regular expression. Identical regular expressions are only compiled once.
+     *
+     * @param regex
+     *         The regular expression, which should be used to verify the texts, as a {@link
+     *         String}. The regular expression may not be null
+     * @return The constraint, which has been created, as an instance of the type {@link Constraint}
+     */
+    public static Constraint<CharSequence> regex(@NonNull final String regex) {
+        return new RegexConstraint(regex);
+    }
+
     /**
      * Creates and returns a constraint, which allows to verify texts in order to check, if they
      * have at least a specific length.
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+/**
+ * Defines the interface, a validator, which should provide a hint about the costs of a validation,
+ * must implement. The costs are relative values, which are used to apply cheap validators before
+ * expensive ones. Validators, which do not implement this interface, are assumed to have the costs
+ * <code>COST_MEDIUM</code>.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public interface CostAware {
+
+    /**
+     * The costs of a validation, which only requires a constant amount of time, e.g. checking the
+     * length of a text.
+     */
+    int COST_LOW = 1;
+
+    /**
+     * The costs of a validation, which requires a single pass over a value, e.g. checking each
+     * character of a text.
+     */
+    int COST_MEDIUM = 10;
+
+    /**
+     * The costs of a validation, which is expensive, e.g. matching a text against a regular
+     * expression.
+     */
+    int COST_HIGH = 100;
+
+    /**
+     * Returns the relative costs of a validation.
+     *
+     * @return The relative costs of a validation as an {@link Integer} value. The costs must be at
+     * least 0
+     */
+    int getCost();
+
+}
\ No newline at end of file
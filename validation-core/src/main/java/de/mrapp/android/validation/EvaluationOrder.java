@@ -0,0 +1,170 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import static de.mrapp.android.validation.util.Condition.ensureAtLeast;
+
+/**
+ * Records the costs and results of the single validators or constraints, a composite validator or
+ * constraint consists of, in order to determine the order, they should be evaluated in. Children,
+ * which are cheap and likely to decide the overall result on their own, are evaluated first. This
+ * does not change the overall result, as long as the children do not have any side effects. If
+ * the statistics are updated from multiple threads at the same time, some measurements may get
+ * lost, which only affects the order, but not the results.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public final class EvaluationOrder {
+
+    /**
+     * The number of evaluations, after which the order is adapted.
+     */
+    private static final int REORDER_INTERVAL = 32;
+
+    /**
+     * An array, which contains the number of times, each child has been evaluated.
+     */
+    private final long[] evaluations;
+
+    /**
+     * An array, which contains the number of times, each child decided the overall result on its
+     * own.
+     */
+    private final long[] decisions;
+
+    /**
+     * An array, which contains the total time in nanoseconds, which has been needed to evaluate
+     * each child.
+     */
+    private final long[] durations;
+
+    /**
+     * The order, the children are currently evaluated in.
+     */
+    private volatile int[] order;
+
+    /**
+     * The number of evaluations since the order has been adapted for the last time.
+     */
+    private int evaluationsSinceReorder;
+
+    /**
+     * Returns the expected costs of evaluating a specific child, in relation to the probability,
+     * that it decides the overall result on its own.
+     *
+     * @param index
+     *         The index of the child as an {@link Integer} value
+     * @return The expected costs as a {@link Double} value
+     */
+    private double getRank(final int index) {
+        double averageDuration = (durations[index] + 1d) / (evaluations[index] + 1d);
+        double decisionProbability = (decisions[index] + 1d) / (evaluations[index] + 2d);
+        return averageDuration / decisionProbability;
+    }
+
+    /**
+     * Adapts the order, the children are evaluated in, depending on the statistics, which have
+     * been recorded so far. An insertion sort is used, as the order usually changes only slightly.
+     */
+    private void reorder() {
+        int[] newOrder = order.clone();
+        double[] ranks = new double[newOrder.length];
+
+        for (int i = 0; i < ranks.length; i++) {
+            ranks[i] = getRank(newOrder[i]);
+        }
+
+        for (int i = 1; i < newOrder.length; i++) {
+            int index = newOrder[i];
+            double rank = ranks[i];
+            int j = i - 1;
+
+            while (j >= 0 && ranks[j] > rank) {
+                newOrder[j + 1] = newOrder[j];
+                ranks[j + 1] = ranks[j];
+                j--;
+            }
+
+            newOrder[j + 1] = index;
+            ranks[j + 1] = rank;
+        }
+
+        order = newOrder;
+    }
+
+    /**
+     * Creates a new evaluation order, which initially corresponds to the order of declaration.
+     *
+     * @param size
+     *         The number of children as an {@link Integer} value. The number of children must be
+     *         at least 1
+     */
+    public EvaluationOrder(final int size) {
+        ensureAtLeast(size, 1, "The size must be at least 1");
+        this.evaluations = new long[size];
+        this.decisions = new long[size];
+        this.durations = new long[size];
+        this.order = new int[size];
+        this.evaluationsSinceReorder = 0;
+
+        for (int i = 0; i < size; i++) {
+            this.order[i] = i;
+        }
+    }
+
+    /**
+     * Returns the order, the children should currently be evaluated in. The returned array must
+     * not be modified.
+     *
+     * @return An array, which contains the indices of the children in the order, they should be
+     * evaluated in, as an {@link Integer} array
+     */
+    public int[] getOrder() {
+        return order;
+    }
+
+    /**
+     * Records the result of evaluating a specific child.
+     *
+     * @param index
+     *         The index of the child, which has been evaluated, as an {@link Integer} value
+     * @param decisive
+     *         True, if the child decided the overall result on its own, i.e. if a child of a
+     *         conjunction failed or a child of a disjunction succeeded, false otherwise
+     * @param duration
+     *         The time in nanoseconds, which has been needed to evaluate the child, as a {@link
+     *         Long} value
+     */
+    public void record(final int index, final boolean decisive, final long duration) {
+        evaluations[index]++;
+        durations[index] += Math.max(0, duration);
+
+        if (decisive) {
+            decisions[index]++;
+        }
+    }
+
+    /**
+     * Must be called after all children, which are needed to determine the overall result, have
+     * been evaluated. The order is adapted periodically.
+     */
+    public void finish() {
+        if (++evaluationsSinceReorder >= REORDER_INTERVAL) {
+            evaluationsSinceReorder = 0;
+            reorder();
+        }
+    }
+
+}
\ No newline at end of file
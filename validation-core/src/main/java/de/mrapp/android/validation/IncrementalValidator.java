@@ -0,0 +1,61 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import android.support.annotation.Nullable;
+
+import de.mrapp.android.validation.validators.text.CharacterSet;
+
+/**
+ * Defines the interface, a class, which should be able to validate texts incrementally, must
+ * implement. The result of such a validator must only depend on the length of a text and the
+ * number of its characters, which are contained by a specific character set. This allows views to
+ * keep track of that number while the text is edited, instead of scanning the whole text each time
+ * it is validated.
+ *
+ * @param <Type>
+ *         The type of the values, which should be validated
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public interface IncrementalValidator<Type extends CharSequence> extends Validator<Type> {
+
+    /**
+     * Returns the character set, which specifies the characters, which are relevant for the
+     * validation. Character sets must be immutable. If the properties of the validator are
+     * changed, a new character set must be returned by this method. If the validator's current
+     * properties do not allow to validate texts incrementally, null must be returned, in which
+     * case the method <code>validate(Type):boolean</code> is used instead.
+     *
+     * @return The character set, which specifies the characters, which are relevant for the
+     * validation, as an instance of the type {@link CharacterSet} or null, if texts can currently
+     * not be validated incrementally
+     */
+    @Nullable
+    CharacterSet getCharacterSet();
+
+    /**
+     * Validates a text, which contains a specific number of characters, which are contained by the
+     * validator's character set.
+     *
+     * @param matchCount
+     *         The number of characters of the text, which are contained by the validator's
+     *         character set, as an {@link Integer} value
+     * @param length
+     *         The length of the text as an {@link Integer} value
+     * @return True, if the validation succeeded, false otherwise
+     */
+    boolean validate(int matchCount, int length);
+
+}
\ No newline at end of file
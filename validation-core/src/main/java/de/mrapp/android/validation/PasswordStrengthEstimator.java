@@ -0,0 +1,40 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import android.support.annotation.NonNull;
+
+/**
+ * Defines the interface, a class, which should be able to estimate the strength of passwords, must
+ * implement. Estimators are invoked whenever a password is changed, i.e. typically once per
+ * keystroke, and should therefore be able to take advantage of the previous password, if the
+ * password has only been changed slightly.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public interface PasswordStrengthEstimator {
+
+    /**
+     * Estimates the strength of a specific password.
+     *
+     * @param password
+     *         The password, whose strength should be estimated, as an instance of the type {@link
+     *         CharSequence}. The password may not be null
+     * @return The strength of the given password as a {@link Float} value between 0.0 (weakest)
+     * and 1.0 (strongest)
+     */
+    float estimate(@NonNull CharSequence password);
+
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+/**
+ * Defines the interface, a class, which should be able to normalize values of a specific type
+ * before they are validated, must implement.
+ *
+ * @param <Type>
+ *         The type of the values, which should be normalized
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public interface Preprocessor<Type> {
+
+    /**
+     * Normalizes a specific value.
+     *
+     * @param value
+     *         The value, which should be normalized, as an instance of the generic type Type
+     * @return The normalized value as an instance of the generic type Type. If the given value is
+     * already normalized, it may be returned as it is
+     */
+    Type process(Type value);
+
+}
\ No newline at end of file
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import android.support.annotation.NonNull;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+import de.mrapp.android.validation.preprocessors.ChainedPreprocessor;
+import de.mrapp.android.validation.preprocessors.text.LowerCasePreprocessor;
+import de.mrapp.android.validation.preprocessors.text.NormalizePreprocessor;
+import de.mrapp.android.validation.preprocessors.text.TrimPreprocessor;
+
+/**
+ * An utility class, which provides factory methods, which allow to create various preprocessors.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public final class Preprocessors {
+
+    /**
+     * Creates a new utility class, which provides factory methods, which allow to create various
+     * preprocessors.
+     */
+    private Preprocessors() {
+
+    }
+
+    /**
+     * Creates and returns a preprocessor, which allows to apply multiple preprocessors one after
+     * another.
+     *
+     * @param <Type>
+     *         The type of the values, which should be normalized
+     * @param preprocessors
+     *         The single preprocessors, which should be applied in the given order, as an array of
+     *         the type {@link Preprocessor}. The preprocessors may neither be null, nor empty
+     * @return The preprocessor, which has been created, as an instance of the type {@link
+     * Preprocessor}
+     */
+    @SafeVarargs
+    public static <Type> Preprocessor<Type> chain(
+            @NonNull final Preprocessor<Type>... preprocessors) {
+        return ChainedPreprocessor.create(preprocessors);
+    }
+
+    /**
+     * Creates and returns a preprocessor, which allows to remove leading and trailing whitespace
+     * from texts.
+     *
+     * @return The preprocessor, which has been created, as an instance of the type {@link
+     * Preprocessor}
+     */
+    public static Preprocessor<CharSequence> trim() {
+        return new TrimPreprocessor();
+    }
+
+    /**
+     * Creates and returns a preprocessor, which allows to convert texts to lower case, regardless
+     * of the device's language.
+     *
+     * @return The preprocessor, which has been created, as an instance of the type {@link
+     * Preprocessor}
+     */
+    public static Preprocessor<CharSequence> lowerCase() {
+        return lowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Creates and returns a preprocessor, which allows to convert texts to lower case.
+     *
+     * @param locale
+     *         The locale, which should be used to convert texts to lower case, as an instance of
+     *         the class {@link Locale}. The locale may not be null
+     * @return The preprocessor, which has been created, as an instance of the type {@link
+     * Preprocessor}
+     */
+    public static Preprocessor<CharSequence> lowerCase(@NonNull final Locale locale) {
+        return new LowerCasePreprocessor(locale);
+    }
+
+    /**
+     * Creates and returns a preprocessor, which allows to convert texts to the Unicode
+     * normalization form NFC.
+     *
+     * @return The preprocessor, which has been created, as an instance of the type {@link
+     * Preprocessor}
+     */
+    public static Preprocessor<CharSequence> normalize() {
+        return normalize(Normalizer.Form.NFC);
+    }
+
+    /**
+     * Creates and returns a preprocessor, which allows to convert texts to a specific Unicode
+     * normalization form.
+     *
+     * @param form
+     *         The normalization form, texts should be converted to, as a value of the enum {@link
+     *         Normalizer.Form}. The normalization form may not be null
+     * @return The preprocessor, which has been created, as an instance of the type {@link
+     * Preprocessor}
+     */
+    public static Preprocessor<CharSequence> normalize(@NonNull final Normalizer.Form form) {
+        return new NormalizePreprocessor(form);
+    }
+
+}
\ No newline at end of file
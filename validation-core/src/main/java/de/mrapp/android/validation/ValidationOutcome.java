@@ -0,0 +1,40 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+/**
+ * Contains all possible outcomes of a validation, which is limited by a budget.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public enum ValidationOutcome {
+
+    /**
+     * If the value is valid.
+     */
+    VALID,
+
+    /**
+     * If the value is invalid.
+     */
+    INVALID,
+
+    /**
+     * If the validation has been aborted, because it exceeded its budget. Such values should be
+     * treated as invalid.
+     */
+    BUDGET_EXCEEDED
+
+}
\ No newline at end of file
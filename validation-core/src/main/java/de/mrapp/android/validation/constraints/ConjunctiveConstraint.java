@@ -16,9 +16,10 @@ package de.mrapp.android.validation.constraints;
 import android.support.annotation.NonNull;
 
 import de.mrapp.android.validation.Constraint;
+import de.mrapp.android.validation.EvaluationOrder;
 
-import static de.mrapp.android.util.Condition.ensureAtLeast;
-import static de.mrapp.android.util.Condition.ensureNotNull;
+import static de.mrapp.android.validation.util.Condition.ensureAtLeast;
+import static de.mrapp.android.validation.util.Condition.ensureNotNull;
 
 /**
  * A validator, which allows to combine multiple constraints in a conjunctive manner. Only if all
@@ -36,6 +37,12 @@ public class ConjunctiveConstraint<Type> implements Constraint<Type> {
      */
     private Constraint<Type>[] constraints;
 
+    /**
+     * The order, the single constraints are evaluated in, if they are reordered adaptively, or
+     * null, if they are evaluated in the order of declaration.
+     */
+    private EvaluationOrder evaluationOrder;
+
     /**
      * Creates a new constraint, which allows to combine multiple constraints in a conjunctive
      * manner.
@@ -86,17 +93,63 @@ public class ConjunctiveConstraint<Type> implements Constraint<Type> {
         ensureNotNull(constraints, "The constraints may not be null");
         ensureAtLeast(constraints.length, 1, "The constraints may not be empty");
         this.constraints = constraints;
+        this.evaluationOrder =
+                evaluationOrder != null ? new EvaluationOrder(constraints.length) : null;
+    }
+
+    /**
+     * Returns, whether the single constraints are reordered adaptively, or not.
+     *
+     * @return True, if the single constraints are reordered adaptively, false otherwise
+     */
+    public final boolean isReorderedAdaptively() {
+        return evaluationOrder != null;
+    }
+
+    /**
+     * Sets, whether the single constraints should be reordered adaptively, or not. If enabled, the
+     * costs and results of the single constraints are recorded at runtime in order to evaluate the
+     * cheapest ones, which are most likely not to be satisfied, first. This does not change the
+     * result, as long as the single constraints do not have any side effects.
+     *
+     * @param reorderAdaptively
+     *         True, if the single constraints should be reordered adaptively, false otherwise
+     */
+    public final void reorderAdaptively(final boolean reorderAdaptively) {
+        if (reorderAdaptively != isReorderedAdaptively()) {
+            evaluationOrder = reorderAdaptively ? new EvaluationOrder(constraints.length) : null;
+        }
     }
 
     @Override
     public final boolean isSatisfied(final Type value) {
-        for (Constraint<Type> constraint : constraints) {
-            if (!constraint.isSatisfied(value)) {
-                return false;
+        EvaluationOrder evaluationOrder = this.evaluationOrder;
+
+        if (evaluationOrder == null) {
+            for (Constraint<Type> constraint : constraints) {
+                if (!constraint.isSatisfied(value)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        boolean result = true;
+
+        for (int index : evaluationOrder.getOrder()) {
+            long startTime = System.nanoTime();
+            boolean satisfied = constraints[index].isSatisfied(value);
+            evaluationOrder.record(index, !satisfied, System.nanoTime() - startTime);
+
+            if (!satisfied) {
+                result = false;
+                break;
             }
         }
 
-        return true;
+        evaluationOrder.finish();
+        return result;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.constraints.text;
+
+import android.support.annotation.NonNull;
+
+import java.util.Collection;
+
+import de.mrapp.android.validation.Constraint;
+
+import static de.mrapp.android.validation.util.Condition.ensureNotNull;
+
+/**
+ * Allows to evaluate multiple constraints against a text within a single pass. The built-in
+ * constraints {@link ContainsLetterConstraint}, {@link ContainsNumberConstraint}, {@link
+ * ContainsSymbolConstraint} and {@link MinLengthConstraint} are recognized and evaluated by using
+ * the number of letters, digits, symbols and line terminators of the text, which are kept track
+ * of by the scanner. Those numbers can be updated incrementally, when a range of the text has
+ * been changed, e.g. by a <code>TextWatcher</code>. Incremental updates are only applied to the
+ * text instance, which has been scanned, e.g. the <code>Editable</code> of a view. All other
+ * constraints are evaluated by using their {@link Constraint#isSatisfied(Object)} method.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public class ConstraintScanner {
+
+    /**
+     * The text, the numbers of characters have been counted for, or null, if no text has been
+     * scanned yet.
+     */
+    private CharSequence text;
+
+    /**
+     * The length of the text, the numbers of characters correspond to.
+     */
+    private int length;
+
+    /**
+     * The number of ASCII letters, the text contains.
+     */
+    private int letterCount;
+
+    /**
+     * The number of ASCII digits, the text contains.
+     */
+    private int digitCount;
+
+    /**
+     * The number of characters, which are neither ASCII letters, nor digits, nor line terminators,
+     * the text contains.
+     */
+    private int symbolCount;
+
+    /**
+     * The number of line terminators, the text contains.
+     */
+    private int lineTerminatorCount;
+
+    /**
+     * Returns, whether a specific character is a line terminator, i.e. whether it is not matched by
+     * the wildcard <code>.</code> of a regular expression.
+     *
+     * @param character
+     *         The character, which should be checked, as a {@link Character} value
+     * @return True, if the given character is a line terminator, false otherwise
+     */
+    private static boolean isLineTerminator(final char character) {
+        return character == '\n' || character == '\r' || character == '\u0085' ||
+                character == '\u2028' || character == '\u2029';
+    }
+
+    /**
+     * Adds the characters within a specific range of a text to the numbers of characters, which
+     * are kept track of.
+     *
+     * @param text
+     *         The text as an instance of the type {@link CharSequence}. The text may not be null
+     * @param start
+     *         The index of the first character, which should be counted, as an {@link Integer}
+     *         value
+     * @param end
+     *         The index after the last character, which should be counted, as an {@link Integer}
+     *         value
+     * @param sign
+     *         1, if the characters should be added, -1, if they should be subtracted
+     */
+    private void count(@NonNull final CharSequence text, final int start, final int end,
+                       final int sign) {
+        for (int i = start; i < end; i++) {
+            char character = text.charAt(i);
+
+            if ((character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z')) {
+                letterCount += sign;
+            } else if (character >= '0' && character <= '9') {
+                digitCount += sign;
+            } else if (isLineTerminator(character)) {
+                lineTerminatorCount += sign;
+            } else {
+                symbolCount += sign;
+            }
+        }
+
+        length += sign * (end - start);
+    }
+
+    /**
+     * Returns, whether a specific constraint, which is recognized by the scanner, is satisfied by
+     * the text, the numbers of characters have been counted for.
+     *
+     * @param constraint
+     *         The constraint as an instance of the type {@link Constraint}. The constraint may not
+     *         be null
+     * @return {@link Boolean#TRUE}, if the constraint is satisfied, {@link Boolean#FALSE}, if it
+     * is not satisfied, or null, if the constraint is not recognized by the scanner
+     */
+    private Boolean evaluate(@NonNull final Constraint<CharSequence> constraint) {
+        if (constraint instanceof MinLengthConstraint) {
+            return length >= ((MinLengthConstraint) constraint).getMinLength();
+        } else if (constraint instanceof RegexConstraint) {
+            RegexConstraint regexConstraint = (RegexConstraint) constraint;
+
+            // Each wildcard of the built-in regular expressions matches any character except for
+            // line terminators. A single line terminator can only be matched as a symbol.
+            if (regexConstraint.getRegex() == ContainsLetterConstraint.REGEX) {
+                return lineTerminatorCount == 0 && letterCount > 0;
+            } else if (regexConstraint.getRegex() == ContainsNumberConstraint.REGEX) {
+                return lineTerminatorCount == 0 && digitCount > 0;
+            } else if (regexConstraint.getRegex() == ContainsSymbolConstraint.REGEX) {
+                return lineTerminatorCount == 1 || (lineTerminatorCount == 0 && symbolCount > 0);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Counts the characters of a specific text from scratch.
+     *
+     * @param text
+     *         The text as an instance of the type {@link CharSequence}. The text may not be null
+     */
+    public final void scan(@NonNull final CharSequence text) {
+        ensureNotNull(text, "The text may not be null");
+        invalidate();
+        count(text, 0, text.length(), 1);
+        this.text = text;
+    }
+
+    /**
+     * Discards the numbers of characters, which have been counted so far. The text is scanned from
+     * scratch the next time constraints are evaluated.
+     */
+    public final void invalidate() {
+        text = null;
+        length = 0;
+        letterCount = 0;
+        digitCount = 0;
+        symbolCount = 0;
+        lineTerminatorCount = 0;
+    }
+
+    /**
+     * Notifies the scanner, that the characters within a specific range of the text are about to
+     * be removed or replaced. This method should be called by the
+     * <code>beforeTextChanged</code> method of a <code>TextWatcher</code>.
+     *
+     * @param text
+     *         The text before it is changed, as an instance of the type {@link CharSequence}. The
+     *         text may not be null
+     * @param start
+     *         The index of the first character, which is about to be removed, as an {@link
+     *         Integer} value
+     * @param end
+     *         The index after the last character, which is about to be removed, as an {@link
+     *         Integer} value
+     */
+    public final void remove(@NonNull final CharSequence text, final int start, final int end) {
+        ensureNotNull(text, "The text may not be null");
+
+        if (text == this.text) {
+            count(text, start, end, -1);
+        }
+    }
+
+    /**
+     * Notifies the scanner, that characters have been inserted into a specific range of the text.
+     * This method should be called by the <code>onTextChanged</code> method of a
+     * <code>TextWatcher</code>.
+     *
+     * @param text
+     *         The text after it has been changed, as an instance of the type {@link
+     *         CharSequence}. The text may not be null
+     * @param start
+     *         The index of the first character, which has been inserted, as an {@link Integer}
+     *         value
+     * @param end
+     *         The index after the last character, which has been inserted, as an {@link Integer}
+     *         value
+     */
+    public final void insert(@NonNull final CharSequence text, final int start, final int end) {
+        ensureNotNull(text, "The text may not be null");
+
+        if (text == this.text) {
+            count(text, start, end, 1);
+        }
+    }
+
+    /**
+     * Returns, whether a specific constraint is satisfied by a specific text. If the text is not
+     * the one, which has been scanned before, or if it has been changed without notifying the
+     * scanner, it is scanned from scratch.
+     *
+     * @param constraint
+     *         The constraint as an instance of the type {@link Constraint}. The constraint may not
+     *         be null
+     * @param text
+     *         The text as an instance of the type {@link CharSequence}. The text may not be null
+     * @return True, if the constraint is satisfied, false otherwise
+     */
+    public final boolean isSatisfied(@NonNull final Constraint<CharSequence> constraint,
+                                     @NonNull final CharSequence text) {
+        ensureNotNull(constraint, "The constraint may not be null");
+        ensureNotNull(text, "The text may not be null");
+
+        if (text != this.text || length != text.length()) {
+            scan(text);
+        }
+
+        Boolean satisfied = evaluate(constraint);
+        return satisfied != null ? satisfied : constraint.isSatisfied(text);
+    }
+
+    /**
+     * Returns the number of constraints, which are satisfied by a specific text.
+     *
+     * @param constraints
+     *         A collection, which contains the constraints, as an instance of the type {@link
+     *         Collection}. The collection may not be null
+     * @param text
+     *         The text as an instance of the type {@link CharSequence}. The text may not be null
+     * @return The number of constraints, which are satisfied, as an {@link Integer} value
+     */
+    public final int countSatisfied(
+            @NonNull final Collection<? extends Constraint<CharSequence>> constraints,
+            @NonNull final CharSequence text) {
+        ensureNotNull(constraints, "The collection may not be null");
+        int satisfied = 0;
+
+        for (Constraint<CharSequence> constraint : constraints) {
+            if (isSatisfied(constraint, text)) {
+                satisfied++;
+            }
+        }
+
+        return satisfied;
+    }
+
+}
\ No newline at end of file
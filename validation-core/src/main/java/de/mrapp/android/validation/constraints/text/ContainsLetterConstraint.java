@@ -15,6 +15,8 @@ package de.mrapp.android.validation.constraints.text;
 
 import java.util.regex.Pattern;
 
+import de.mrapp.android.validation.util.PatternRegistry;
+
 /**
  * A constraint, which allows to verify texts in order to check, if they contain at least one
  * letter.
@@ -25,9 +27,10 @@ import java.util.regex.Pattern;
 public class ContainsLetterConstraint extends RegexConstraint {
 
     /**
-     * The regular expression, which is used by the constraint.
+     * The regular expression, which is used by the constraint. It is also referenced by the
+     * {@link ConstraintScanner} in order to recognize the constraint.
      */
-    private static final Pattern REGEX = Pattern.compile("(.)*([a-zA-Z])(.)*");
+    static final Pattern REGEX = PatternRegistry.compile("(.)*([a-zA-Z])(.)*");
 
     /**
      * Creates a new constraint, which allows to verify texts in order to check, if they contain at
@@ -15,12 +15,13 @@ package de.mrapp.android.validation.constraints.text;
 
 import android.support.annotation.NonNull;
 
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import de.mrapp.android.validation.Constraint;
+import de.mrapp.android.validation.util.PatternRegistry;
+import de.mrapp.android.validation.util.ThreadLocalMatcher;
 
-import static de.mrapp.android.util.Condition.ensureNotNull;
+import static de.mrapp.android.validation.util.Condition.ensureNotNull;
 
 /**
  * A constraint, which allows to verify a text in order to check, if it matches a certain regular
@@ -32,9 +33,10 @@ import static de.mrapp.android.util.Condition.ensureNotNull;
 public class RegexConstraint implements Constraint<CharSequence> {
 
     /**
-     * The regular expression, which is used to verify the texts.
+     * The matcher, which is used to verify the texts. It is reused by each thread in order to avoid
+     * creating a new matcher for each text.
      */
-    private Pattern regex;
+    private ThreadLocalMatcher matcher;
 
     /**
      * Creates a new constraint, which allows to verify a text in order to check, if it matches a
@@ -48,6 +50,20 @@ public class RegexConstraint implements Constraint<CharSequence> {
         setRegex(regex);
     }
 
+    /**
+     * Creates a new constraint, which allows to verify a text in order to check, if it matches a
+     * certain regular expression. The regular expression is obtained from the {@link
+     * PatternRegistry}, i.e. it is only compiled once, even if it is used by multiple
+     * constraints.
+     *
+     * @param regex
+     *         The regular expression, which should be used to verify the texts, as a {@link
+     *         String}. The regular expression may not be null
+     */
+    public RegexConstraint(@NonNull final String regex) {
+        this(PatternRegistry.compile(regex));
+    }
+
     /**
      * Returns the regular expression, which is used to verify the texts.
      *
@@ -55,7 +71,7 @@ public class RegexConstraint implements Constraint<CharSequence> {
      * class {@link Pattern}
      */
     public final Pattern getRegex() {
-        return regex;
+        return matcher.getPattern();
     }
 
     /**
@@ -67,13 +83,12 @@ public class RegexConstraint implements Constraint<CharSequence> {
      */
     public final void setRegex(@NonNull final Pattern regex) {
         ensureNotNull(regex, "The regular expression may not be null");
-        this.regex = regex;
+        this.matcher = new ThreadLocalMatcher(regex);
     }
 
     @Override
     public final boolean isSatisfied(final CharSequence value) {
-        Matcher matcher = getRegex().matcher(value);
-        return matcher.matches();
+        return matcher.matches(value);
     }
 
 }
\ No newline at end of file
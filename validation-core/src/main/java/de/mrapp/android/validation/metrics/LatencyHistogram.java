@@ -0,0 +1,241 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static de.mrapp.android.validation.util.Condition.ensureAtLeast;
+
+/**
+ * A histogram, which records latencies in nanoseconds. Similar to an HdrHistogram, the values are
+ * counted in buckets, whose width grows exponentially, while each power of two is divided into
+ * {@link #SUB_BUCKET_COUNT} linear sub-buckets. This bounds the relative error of the reported
+ * percentiles to about 6 percent, while the memory footprint is constant. Values can be recorded
+ * concurrently without locking.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public final class LatencyHistogram {
+
+    /**
+     * The number of bits, which are used to address the sub-buckets of a power of two.
+     */
+    private static final int SUB_BUCKET_BITS = 4;
+
+    /**
+     * The number of linear sub-buckets per power of two.
+     */
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The total number of buckets, which allows to record all non-negative {@link Long} values.
+     */
+    private static final int BUCKET_COUNT =
+            SUB_BUCKET_COUNT + (63 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    /**
+     * The number of values, which have been recorded in each bucket.
+     */
+    private final AtomicLongArray counts;
+
+    /**
+     * The total number of values, which have been recorded.
+     */
+    private final AtomicLong totalCount;
+
+    /**
+     * The sum of all values, which have been recorded.
+     */
+    private final AtomicLong totalValue;
+
+    /**
+     * The largest value, which has been recorded.
+     */
+    private final AtomicLong maxValue;
+
+    /**
+     * Returns the index of the bucket, a specific value belongs to.
+     *
+     * @param value
+     *         The value as a {@link Long} value. The value must be at least 0
+     * @return The index of the bucket as an {@link Integer} value
+     */
+    private static int getBucketIndex(final long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the largest value, which belongs to a specific bucket.
+     *
+     * @param index
+     *         The index of the bucket as an {@link Integer} value
+     * @return The largest value, which belongs to the given bucket, as a {@link Long} value
+     */
+    private static long getHighestValue(final int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        long subBucket = SUB_BUCKET_COUNT + (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * Creates a new, empty histogram, which records latencies in nanoseconds.
+     */
+    public LatencyHistogram() {
+        this.counts = new AtomicLongArray(BUCKET_COUNT);
+        this.totalCount = new AtomicLong();
+        this.totalValue = new AtomicLong();
+        this.maxValue = new AtomicLong();
+    }
+
+    /**
+     * Records a specific value.
+     *
+     * @param nanos
+     *         The value, which should be recorded, in nanoseconds as a {@link Long} value. The
+     *         value must be at least 0
+     */
+    public void record(final long nanos) {
+        ensureAtLeast(nanos, 0, "The value must be at least 0");
+        counts.incrementAndGet(getBucketIndex(nanos));
+        totalCount.incrementAndGet();
+        totalValue.addAndGet(nanos);
+        long max = maxValue.get();
+
+        while (nanos > max && !maxValue.compareAndSet(max, nanos)) {
+            max = maxValue.get();
+        }
+    }
+
+    /**
+     * Returns the number of values, which have been recorded.
+     *
+     * @return The number of values, which have been recorded, as a {@link Long} value
+     */
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * Returns the sum of all values, which have been recorded.
+     *
+     * @return The sum of all values, which have been recorded, in nanoseconds as a {@link Long}
+     * value
+     */
+    public long getTotal() {
+        return totalValue.get();
+    }
+
+    /**
+     * Returns the largest value, which has been recorded.
+     *
+     * @return The largest value, which has been recorded, in nanoseconds as a {@link Long} value
+     * or 0, if no values have been recorded
+     */
+    public long getMax() {
+        return maxValue.get();
+    }
+
+    /**
+     * Returns the arithmetic mean of all values, which have been recorded.
+     *
+     * @return The arithmetic mean of all values, which have been recorded, in nanoseconds as a
+     * {@link Double} value or 0, if no values have been recorded
+     */
+    public double getMean() {
+        long count = getCount();
+        return count > 0 ? (double) getTotal() / count : 0;
+    }
+
+    /**
+     * Returns the value at a specific percentile. The value is the largest value of the bucket,
+     * the percentile falls into, but never larger than the largest recorded value.
+     *
+     * @param percentile
+     *         The percentile as a {@link Double} value. The percentile must be at least 0 and at
+     *         maximum 100
+     * @return The value at the given percentile in nanoseconds as a {@link Long} value or 0, if no
+     * values have been recorded
+     */
+    public long getValueAtPercentile(final double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("The percentile must be between 0 and 100");
+        }
+
+        long total = 0;
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            total += counts.get(i);
+        }
+
+        long threshold = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long count = 0;
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += counts.get(i);
+
+            if (count >= threshold) {
+                return Math.min(getHighestValue(i), getMax());
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Creates and returns a copy of the histogram. Values, which are recorded concurrently, may
+     * be partially contained by the copy.
+     *
+     * @return The copy, which has been created, as an instance of the class {@link
+     * LatencyHistogram}
+     */
+    public LatencyHistogram copy() {
+        LatencyHistogram copy = new LatencyHistogram();
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy.counts.set(i, counts.get(i));
+        }
+
+        copy.totalCount.set(totalCount.get());
+        copy.totalValue.set(totalValue.get());
+        copy.maxValue.set(maxValue.get());
+        return copy;
+    }
+
+    /**
+     * Removes all values, which have been recorded.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+
+        totalCount.set(0);
+        totalValue.set(0);
+        maxValue.set(0);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.metrics;
+
+import android.support.annotation.NonNull;
+
+import de.mrapp.android.validation.Validator;
+
+/**
+ * An exception, which is thrown, if a validator exceeded the time budget of a {@link
+ * ValidationWatchdog}.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public class SlowValidationException extends RuntimeException {
+
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The class of the validator, which exceeded the budget.
+     */
+    private final Class<?> validatorClass;
+
+    /**
+     * The length of the validated input.
+     */
+    private final int inputLength;
+
+    /**
+     * The time, the validation took, in nanoseconds.
+     */
+    private final long duration;
+
+    /**
+     * The budget, which has been exceeded, in nanoseconds.
+     */
+    private final long budget;
+
+    /**
+     * Creates a new exception, which is thrown, if a validator exceeded its time budget.
+     *
+     * @param validator
+     *         The validator, which exceeded the budget, as an instance of the type {@link
+     *         Validator}. The validator may not be null
+     * @param inputLength
+     *         The length of the validated input as an {@link Integer} value or -1, if the input
+     *         is not a text
+     * @param duration
+     *         The time, the validation took, in nanoseconds as a {@link Long} value
+     * @param budget
+     *         The budget, which has been exceeded, in nanoseconds as a {@link Long} value
+     */
+    public SlowValidationException(@NonNull final Validator<?> validator, final int inputLength,
+                                   final long duration, final long budget) {
+        super("Validator " + validator.getClass().getName() + " took " + duration / 1000 +
+                " us" + (inputLength != -1 ? " on input of length " + inputLength : "") +
+                ", which exceeds the budget of " + budget / 1000 + " us");
+        this.validatorClass = validator.getClass();
+        this.inputLength = inputLength;
+        this.duration = duration;
+        this.budget = budget;
+    }
+
+    /**
+     * Returns the class of the validator, which exceeded the budget.
+     *
+     * @return The class of the validator, which exceeded the budget, as an instance of the class
+     * {@link Class}
+     */
+    public final Class<?> getValidatorClass() {
+        return validatorClass;
+    }
+
+    /**
+     * Returns the length of the validated input.
+     *
+     * @return The length of the validated input as an {@link Integer} value or -1, if the input
+     * is not a text
+     */
+    public final int getInputLength() {
+        return inputLength;
+    }
+
+    /**
+     * Returns the time, the validation took.
+     *
+     * @return The time, the validation took, in nanoseconds as a {@link Long} value
+     */
+    public final long getDuration() {
+        return duration;
+    }
+
+    /**
+     * Returns the budget, which has been exceeded.
+     *
+     * @return The budget, which has been exceeded, in nanoseconds as a {@link Long} value
+     */
+    public final long getBudget() {
+        return budget;
+    }
+
+}
\ No newline at end of file
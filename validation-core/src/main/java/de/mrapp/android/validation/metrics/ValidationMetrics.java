@@ -0,0 +1,556 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.metrics;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import de.mrapp.android.validation.Validator;
+
+import static de.mrapp.android.validation.util.Condition.ensureAtLeast;
+import static de.mrapp.android.validation.util.Condition.ensureNotNull;
+
+/**
+ * Collects metrics about the validation of values. For each validator, the number of invocations,
+ * the number of failed validations and a histogram of its latencies is recorded. Furthermore, the
+ * time, each validation spends in validators, is distinguished from the time, which is spent for
+ * updating the UI afterwards. Metrics can be collected from multiple threads without locking.
+ * Validators are identified by their instances, which means that they should not be re-created
+ * for each validation. They are only referenced weakly, i.e. the metrics of validators, which
+ * have been garbage collected, are discarded.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public final class ValidationMetrics {
+
+    /**
+     * The metrics of a single validator at the time a snapshot has been taken.
+     */
+    public static final class ValidatorStatistics {
+
+        /**
+         * The name of the validator.
+         */
+        private final String name;
+
+        /**
+         * The number of failed validations.
+         */
+        private final long failureCount;
+
+        /**
+         * The latencies of the validator.
+         */
+        private final LatencyHistogram latency;
+
+        /**
+         * Creates new statistics of a single validator.
+         *
+         * @param name
+         *         The name of the validator as a {@link String}. The name may not be null
+         * @param failureCount
+         *         The number of failed validations as a {@link Long} value
+         * @param latency
+         *         The latencies of the validator as an instance of the class {@link
+         *         LatencyHistogram}. The histogram may not be null
+         */
+        private ValidatorStatistics(@NonNull final String name, final long failureCount,
+                                    @NonNull final LatencyHistogram latency) {
+            this.name = name;
+            this.failureCount = Math.min(failureCount, latency.getCount());
+            this.latency = latency;
+        }
+
+        /**
+         * Returns the name of the validator, which consists of its class name and error message.
+         *
+         * @return The name of the validator as a {@link String}. The name may not be null
+         */
+        @NonNull
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the number of times, the validator has been invoked.
+         *
+         * @return The number of times, the validator has been invoked, as a {@link Long} value
+         */
+        public long getInvocationCount() {
+            return latency.getCount();
+        }
+
+        /**
+         * Returns the number of validations, which failed.
+         *
+         * @return The number of validations, which failed, as a {@link Long} value
+         */
+        public long getFailureCount() {
+            return failureCount;
+        }
+
+        /**
+         * Returns the ratio of validations, which failed.
+         *
+         * @return The ratio of validations, which failed, as a {@link Double} value between 0 and
+         * 1
+         */
+        public double getFailureRate() {
+            long invocationCount = getInvocationCount();
+            return invocationCount > 0 ? (double) failureCount / invocationCount : 0;
+        }
+
+        /**
+         * Returns the latencies of the validator.
+         *
+         * @return The latencies of the validator as an instance of the class {@link
+         * LatencyHistogram}. The histogram may not be null
+         */
+        @NonNull
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+    }
+
+    /**
+     * The metrics, which have been collected up to a specific point in time.
+     */
+    public static final class Snapshot {
+
+        /**
+         * The statistics of all validators, ordered by their total latency in descending order.
+         */
+        private final List<ValidatorStatistics> validatorStatistics;
+
+        /**
+         * The time, validations have spent in validators.
+         */
+        private final LatencyHistogram validatorTime;
+
+        /**
+         * The time, validations have spent for updating the UI.
+         */
+        private final LatencyHistogram uiTime;
+
+        /**
+         * Appends a single line, which contains the metrics of a histogram, in CSV format.
+         *
+         * @param appendable
+         *         The appendable, the line should be appended to, as an instance of the type
+         *         {@link Appendable}. The appendable may not be null
+         * @param name
+         *         The name, which should be written to the first column, as a {@link String}. The
+         *         name may not be null
+         * @param failures
+         *         The number of failures, which should be written, as a {@link String}. The
+         *         number may not be null
+         * @param failureRate
+         *         The failure rate, which should be written, as a {@link String}. The failure
+         *         rate may not be null
+         * @param histogram
+         *         The histogram, whose metrics should be written, as an instance of the class
+         *         {@link LatencyHistogram}. The histogram may not be null
+         * @throws IOException
+         *         The exception, which is thrown, if an error occurs while appending
+         */
+        private static void appendLine(@NonNull final Appendable appendable,
+                                       @NonNull final String name, @NonNull final String failures,
+                                       @NonNull final String failureRate,
+                                       @NonNull final LatencyHistogram histogram)
+                throws IOException {
+            appendable.append('"').append(name.replace("\"", "\"\"")).append('"');
+            appendable.append(',').append(Long.toString(histogram.getCount()));
+            appendable.append(',').append(failures);
+            appendable.append(',').append(failureRate);
+            appendable.append(',').append(Long.toString(Math.round(histogram.getMean())));
+            appendable.append(',').append(Long.toString(histogram.getValueAtPercentile(50)));
+            appendable.append(',').append(Long.toString(histogram.getValueAtPercentile(90)));
+            appendable.append(',').append(Long.toString(histogram.getValueAtPercentile(99)));
+            appendable.append(',').append(Long.toString(histogram.getMax()));
+            appendable.append('\n');
+        }
+
+        /**
+         * Creates a new snapshot.
+         *
+         * @param validatorStatistics
+         *         A list, which contains the statistics of all validators, as an instance of the
+         *         type {@link List}. The list may not be null
+         * @param validatorTime
+         *         The time, validations have spent in validators, as an instance of the class
+         *         {@link LatencyHistogram}. The histogram may not be null
+         * @param uiTime
+         *         The time, validations have spent for updating the UI, as an instance of the
+         *         class {@link LatencyHistogram}. The histogram may not be null
+         */
+        private Snapshot(@NonNull final List<ValidatorStatistics> validatorStatistics,
+                         @NonNull final LatencyHistogram validatorTime,
+                         @NonNull final LatencyHistogram uiTime) {
+            this.validatorStatistics = Collections.unmodifiableList(validatorStatistics);
+            this.validatorTime = validatorTime;
+            this.uiTime = uiTime;
+        }
+
+        /**
+         * Returns the statistics of all validators, ordered by the total time, which has been
+         * spent in each validator, in descending order.
+         *
+         * @return An unmodifiable list, which contains the statistics of all validators, as an
+         * instance of the type {@link List}. The list may not be null
+         */
+        @NonNull
+        public List<ValidatorStatistics> getValidatorStatistics() {
+            return validatorStatistics;
+        }
+
+        /**
+         * Returns the time, each validation has spent in validators.
+         *
+         * @return The time, each validation has spent in validators, as an instance of the class
+         * {@link LatencyHistogram}. The histogram may not be null
+         */
+        @NonNull
+        public LatencyHistogram getValidatorTime() {
+            return validatorTime;
+        }
+
+        /**
+         * Returns the time, each validation has spent for updating the UI, including the
+         * notification of listeners.
+         *
+         * @return The time, each validation has spent for updating the UI, as an instance of the
+         * class {@link LatencyHistogram}. The histogram may not be null
+         */
+        @NonNull
+        public LatencyHistogram getUiTime() {
+            return uiTime;
+        }
+
+        /**
+         * Exports the snapshot in CSV format. The first line contains the names of the columns.
+         * It is followed by one line for the time, validations have spent in validators, one
+         * line for the time, which has been spent for updating the UI, and one line per
+         * validator. All times are given in nanoseconds.
+         *
+         * @param appendable
+         *         The appendable, the snapshot should be exported to, as an instance of the type
+         *         {@link Appendable}. The appendable may not be null
+         * @throws IOException
+         *         The exception, which is thrown, if an error occurs while appending
+         */
+        public void export(@NonNull final Appendable appendable) throws IOException {
+            ensureNotNull(appendable, "The appendable may not be null");
+            appendable.append("name,invocations,failures,failure_rate,mean_ns,p50_ns,p90_ns,")
+                    .append("p99_ns,max_ns\n");
+            appendLine(appendable, VALIDATOR_TIME_NAME, "", "", validatorTime);
+            appendLine(appendable, UI_TIME_NAME, "", "", uiTime);
+
+            for (ValidatorStatistics statistics : validatorStatistics) {
+                appendLine(appendable, statistics.getName(),
+                        Long.toString(statistics.getFailureCount()),
+                        Double.toString(statistics.getFailureRate()), statistics.getLatency());
+            }
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder stringBuilder = new StringBuilder();
+
+            try {
+                export(stringBuilder);
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+
+            return stringBuilder.toString();
+        }
+
+    }
+
+    /**
+     * A key of the records, which references a validator weakly and compares it by its identity.
+     */
+    private static final class Key extends WeakReference<Validator<?>> {
+
+        /**
+         * The identity hash code of the validator.
+         */
+        private final int hash;
+
+        /**
+         * Creates a new key for a specific validator.
+         *
+         * @param validator
+         *         The validator as an instance of the type {@link Validator}. The validator may
+         *         not be null
+         * @param queue
+         *         The queue, the key should be enqueued in, once the validator has been garbage
+         *         collected, as an instance of the class {@link ReferenceQueue} or null, if the
+         *         key should not be enqueued
+         */
+        Key(@NonNull final Validator<?> validator,
+            @Nullable final ReferenceQueue<Validator<?>> queue) {
+            super(validator, queue);
+            this.hash = System.identityHashCode(validator);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == this) {
+                return true;
+            }
+
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+
+            Validator<?> validator = get();
+            return validator != null && validator == ((Key) obj).get();
+        }
+
+    }
+
+    /**
+     * The metrics, which are recorded for a single validator.
+     */
+    private static final class Record {
+
+        /**
+         * The name of the validator.
+         */
+        private final String name;
+
+        /**
+         * The number of failed validations.
+         */
+        private final AtomicLong failureCount;
+
+        /**
+         * The latencies of the validator.
+         */
+        private final LatencyHistogram latency;
+
+        /**
+         * Creates a new record for a specific validator.
+         *
+         * @param validator
+         *         The validator as an instance of the type {@link Validator}. The validator may
+         *         not be null
+         */
+        Record(@NonNull final Validator<?> validator) {
+            String className = validator.getClass().getSimpleName();
+            this.name = (className.isEmpty() ? validator.getClass().getName() : className) +
+                    ": " + validator.getErrorMessage();
+            this.failureCount = new AtomicLong();
+            this.latency = new LatencyHistogram();
+        }
+
+    }
+
+    /**
+     * The name of the line, which contains the time, validations have spent in validators, when
+     * exporting a snapshot.
+     */
+    public static final String VALIDATOR_TIME_NAME = "validate:validators";
+
+    /**
+     * The name of the line, which contains the time, validations have spent for updating the UI,
+     * when exporting a snapshot.
+     */
+    public static final String UI_TIME_NAME = "validate:ui";
+
+    /**
+     * The metrics, which are used by all views, which do not use metrics of their own, or null, if
+     * no metrics are collected globally.
+     */
+    private static volatile ValidationMetrics global;
+
+    /**
+     * A map, which contains the records of all validators, which have been invoked.
+     */
+    private final ConcurrentMap<Key, Record> records;
+
+    /**
+     * The queue, the keys of validators, which have been garbage collected, are enqueued in.
+     */
+    private final ReferenceQueue<Validator<?>> queue;
+
+    /**
+     * The time, validations have spent in validators.
+     */
+    private final LatencyHistogram validatorTime;
+
+    /**
+     * The time, validations have spent for updating the UI.
+     */
+    private final LatencyHistogram uiTime;
+
+    /**
+     * Creates new, empty metrics.
+     */
+    public ValidationMetrics() {
+        this.records = new ConcurrentHashMap<>();
+        this.queue = new ReferenceQueue<>();
+        this.validatorTime = new LatencyHistogram();
+        this.uiTime = new LatencyHistogram();
+    }
+
+    /**
+     * Removes the records of all validators, which have been garbage collected.
+     */
+    private void purge() {
+        Reference<? extends Validator<?>> reference;
+
+        while ((reference = queue.poll()) != null) {
+            records.remove(reference);
+        }
+    }
+
+    /**
+     * Returns the metrics, which are used by all views, which do not use metrics of their own.
+     *
+     * @return The metrics, which are used by all views, which do not use metrics of their own, as
+     * an instance of the class {@link ValidationMetrics} or null, if no metrics are collected
+     * globally
+     */
+    @Nullable
+    public static ValidationMetrics getGlobal() {
+        return global;
+    }
+
+    /**
+     * Sets the metrics, which should be used by all views, which do not use metrics of their own.
+     *
+     * @param metrics
+     *         The metrics, which should be set, as an instance of the class {@link
+     *         ValidationMetrics} or null, if no metrics should be collected globally
+     */
+    public static void setGlobal(@Nullable final ValidationMetrics metrics) {
+        global = metrics;
+    }
+
+    /**
+     * Records a single invocation of a validator.
+     *
+     * @param validator
+     *         The validator, which has been invoked, as an instance of the type {@link
+     *         Validator}. The validator may not be null
+     * @param nanos
+     *         The time, the invocation took, in nanoseconds as a {@link Long} value. The time
+     *         must be at least 0
+     * @param valid
+     *         True, if the validation succeeded, false otherwise
+     */
+    public void recordValidator(@NonNull final Validator<?> validator, final long nanos,
+                                final boolean valid) {
+        ensureNotNull(validator, "The validator may not be null");
+        ensureAtLeast(nanos, 0, "The time must be at least 0");
+        purge();
+        Record record = records.get(new Key(validator, null));
+
+        if (record == null) {
+            Record newRecord = new Record(validator);
+            record = records.putIfAbsent(new Key(validator, queue), newRecord);
+            record = record != null ? record : newRecord;
+        }
+
+        if (!valid) {
+            record.failureCount.incrementAndGet();
+        }
+
+        record.latency.record(nanos);
+    }
+
+    /**
+     * Records a single validation.
+     *
+     * @param validatorNanos
+     *         The time, the validation has spent in validators, in nanoseconds as a {@link Long}
+     *         value. The time must be at least 0
+     * @param uiNanos
+     *         The time, the validation has spent for updating the UI, in nanoseconds as a {@link
+     *         Long} value. The time must be at least 0
+     */
+    public void recordValidation(final long validatorNanos, final long uiNanos) {
+        ensureAtLeast(validatorNanos, 0, "The time must be at least 0");
+        ensureAtLeast(uiNanos, 0, "The time must be at least 0");
+        validatorTime.record(validatorNanos);
+        uiTime.record(uiNanos);
+    }
+
+    /**
+     * Takes a snapshot of the metrics, which have been collected so far. Metrics, which are
+     * recorded concurrently, may be partially contained by the snapshot. The metrics of
+     * validators, which have been garbage collected, are not contained.
+     *
+     * @return The snapshot, which has been taken, as an instance of the class {@link Snapshot}.
+     * The snapshot may not be null
+     */
+    @NonNull
+    public Snapshot snapshot() {
+        purge();
+        List<ValidatorStatistics> validatorStatistics = new ArrayList<>(records.size());
+
+        for (Map.Entry<Key, Record> entry : records.entrySet()) {
+            if (entry.getKey().get() != null) {
+                Record record = entry.getValue();
+                validatorStatistics.add(new ValidatorStatistics(record.name,
+                        record.failureCount.get(), record.latency.copy()));
+            }
+        }
+
+        Collections.sort(validatorStatistics, new Comparator<ValidatorStatistics>() {
+
+            @Override
+            public int compare(final ValidatorStatistics lhs, final ValidatorStatistics rhs) {
+                long lhsTotal = lhs.getLatency().getTotal();
+                long rhsTotal = rhs.getLatency().getTotal();
+                return lhsTotal < rhsTotal ? 1 : (lhsTotal > rhsTotal ? -1 : 0);
+            }
+
+        });
+
+        return new Snapshot(validatorStatistics, validatorTime.copy(), uiTime.copy());
+    }
+
+    /**
+     * Removes all metrics, which have been collected so far.
+     */
+    public void reset() {
+        records.clear();
+        validatorTime.reset();
+        uiTime.reset();
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.metrics;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.concurrent.TimeUnit;
+
+import de.mrapp.android.validation.Validator;
+
+import static de.mrapp.android.validation.util.Condition.ensureAtLeast;
+import static de.mrapp.android.validation.util.Condition.ensureNotNull;
+
+/**
+ * A watchdog, which reports validators, whose invocations on the main thread exceed a specific
+ * time budget, to a {@link Sink}. Similar to Android's <code>StrictMode</code>, it is meant to
+ * detect slow validators, e.g. regular expressions, which take long on large input, while
+ * testing. Depending on the sink, slow validators can be logged, passed to a listener or cause a
+ * {@link SlowValidationException} to be thrown, e.g. in debug builds.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public final class ValidationWatchdog {
+
+    /**
+     * Defines the interface, a class, which should be notified about validators, which exceeded
+     * the budget of a {@link ValidationWatchdog}, must implement.
+     */
+    public interface Sink {
+
+        /**
+         * The method, which is invoked, if a validator exceeded the budget.
+         *
+         * @param validator
+         *         The validator, which exceeded the budget, as an instance of the type {@link
+         *         Validator}. The validator may not be null
+         * @param inputLength
+         *         The length of the validated input as an {@link Integer} value or -1, if the
+         *         input is not a text
+         * @param duration
+         *         The time, the validation took, in nanoseconds as a {@link Long} value
+         * @param budget
+         *         The budget, which has been exceeded, in nanoseconds as a {@link Long} value
+         */
+        void onSlowValidation(@NonNull Validator<?> validator, int inputLength, long duration,
+                              long budget);
+
+    }
+
+    /**
+     * A sink, which throws a {@link SlowValidationException}, if a validator exceeded the budget.
+     */
+    public static final Sink THROWING_SINK = new Sink() {
+
+        @Override
+        public void onSlowValidation(@NonNull final Validator<?> validator,
+                                     final int inputLength, final long duration,
+                                     final long budget) {
+            throw new SlowValidationException(validator, inputLength, duration, budget);
+        }
+
+    };
+
+    /**
+     * The watchdog, which is used by all views, which do not use a watchdog of their own, or
+     * null, if no watchdog is used globally.
+     */
+    private static volatile ValidationWatchdog global;
+
+    /**
+     * The budget of a single validator invocation in nanoseconds.
+     */
+    private final long budget;
+
+    /**
+     * The sink, validators, which exceeded the budget, are reported to.
+     */
+    private final Sink sink;
+
+    /**
+     * Creates a new watchdog.
+     *
+     * @param budget
+     *         The budget of a single validator invocation as a {@link Long} value. The budget
+     *         must be at least 0
+     * @param unit
+     *         The unit of the budget as a value of the enum {@link TimeUnit}. The unit may not be
+     *         null
+     * @param sink
+     *         The sink, validators, which exceeded the budget, should be reported to, as an
+     *         instance of the type {@link Sink}. The sink may not be null
+     */
+    public ValidationWatchdog(final long budget, @NonNull final TimeUnit unit,
+                              @NonNull final Sink sink) {
+        ensureAtLeast(budget, 0, "The budget must be at least 0");
+        ensureNotNull(unit, "The unit may not be null");
+        ensureNotNull(sink, "The sink may not be null");
+        this.budget = unit.toNanos(budget);
+        this.sink = sink;
+    }
+
+    /**
+     * Returns the watchdog, which is used by all views, which do not use a watchdog of their own.
+     *
+     * @return The watchdog, which is used by all views, which do not use a watchdog of their own,
+     * as an instance of the class {@link ValidationWatchdog} or null, if no watchdog is used
+     * globally
+     */
+    @Nullable
+    public static ValidationWatchdog getGlobal() {
+        return global;
+    }
+
+    /**
+     * Sets the watchdog, which should be used by all views, which do not use a watchdog of their
+     * own.
+     *
+     * @param watchdog
+     *         The watchdog, which should be set, as an instance of the class {@link
+     *         ValidationWatchdog} or null, if no watchdog should be used globally
+     */
+    public static void setGlobal(@Nullable final ValidationWatchdog watchdog) {
+        global = watchdog;
+    }
+
+    /**
+     * Returns the budget of a single validator invocation.
+     *
+     * @return The budget of a single validator invocation in nanoseconds as a {@link Long} value
+     */
+    public long getBudget() {
+        return budget;
+    }
+
+    /**
+     * Returns the sink, validators, which exceeded the budget, are reported to.
+     *
+     * @return The sink, validators, which exceeded the budget, are reported to, as an instance of
+     * the type {@link Sink}
+     */
+    @NonNull
+    public Sink getSink() {
+        return sink;
+    }
+
+    /**
+     * Checks, whether a single invocation of a validator exceeded the budget. If so, the
+     * validator is reported to the sink.
+     *
+     * @param validator
+     *         The validator, which has been invoked, as an instance of the type {@link
+     *         Validator}. The validator may not be null
+     * @param value
+     *         The value, which has been validated, as an instance of the class {@link Object} or
+     *         null
+     * @param duration
+     *         The time, the invocation took, in nanoseconds as a {@link Long} value
+     * @return True, if the budget has been exceeded, false otherwise
+     */
+    public boolean check(@NonNull final Validator<?> validator, @Nullable final Object value,
+                         final long duration) {
+        ensureNotNull(validator, "The validator may not be null");
+
+        if (duration > budget) {
+            int inputLength = value instanceof CharSequence ? ((CharSequence) value).length() : -1;
+            sink.onSlowValidation(validator, inputLength, duration, budget);
+            return true;
+        }
+
+        return false;
+    }
+
+}
\ No newline at end of file
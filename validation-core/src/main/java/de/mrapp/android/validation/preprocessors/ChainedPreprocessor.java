@@ -0,0 +1,89 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.preprocessors;
+
+import android.support.annotation.NonNull;
+
+import de.mrapp.android.validation.Preprocessor;
+
+import static de.mrapp.android.validation.util.Condition.ensureAtLeast;
+import static de.mrapp.android.validation.util.Condition.ensureNotNull;
+
+/**
+ * A preprocessor, which allows to apply multiple preprocessors one after another.
+ *
+ * @param <Type>
+ *         The type of the values, which should be normalized
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public class ChainedPreprocessor<Type> implements Preprocessor<Type> {
+
+    /**
+     * An array, which contains the single preprocessors, the preprocessor consists of.
+     */
+    private final Preprocessor<Type>[] preprocessors;
+
+    /**
+     * Creates a new preprocessor, which allows to apply multiple preprocessors one after another.
+     *
+     * @param preprocessors
+     *         The single preprocessors, which should be applied in the given order, as an array of
+     *         the type {@link Preprocessor}. The preprocessors may neither be null, nor empty
+     */
+    public ChainedPreprocessor(@NonNull final Preprocessor<Type>[] preprocessors) {
+        ensureNotNull(preprocessors, "The preprocessors may not be null");
+        ensureAtLeast(preprocessors.length, 1, "The preprocessors may not be empty");
+        this.preprocessors = preprocessors;
+    }
+
+    /**
+     * Creates and returns a preprocessor, which allows to apply multiple preprocessors one after
+     * another.
+     *
+     * @param <Type>
+     *         The type of the values, which should be normalized
+     * @param preprocessors
+     *         The single preprocessors, which should be applied in the given order, as an array of
+     *         the type {@link Preprocessor}. The preprocessors may neither be null, nor empty
+     * @return The preprocessor, which has been created, as an instance of the class {@link
+     * ChainedPreprocessor}
+     */
+    public static <Type> ChainedPreprocessor<Type> create(
+            @NonNull final Preprocessor<Type>[] preprocessors) {
+        return new ChainedPreprocessor<>(preprocessors);
+    }
+
+    /**
+     * Returns the single preprocessors, the preprocessor consists of.
+     *
+     * @return The single preprocessors, the preprocessor consists of, as an array of the type
+     * {@link Preprocessor}
+     */
+    public final Preprocessor<Type>[] getPreprocessors() {
+        return preprocessors;
+    }
+
+    @Override
+    public final Type process(final Type value) {
+        Type result = value;
+
+        for (Preprocessor<Type> preprocessor : preprocessors) {
+            result = preprocessor.process(result);
+        }
+
+        return result;
+    }
+
+}
\ No newline at end of file
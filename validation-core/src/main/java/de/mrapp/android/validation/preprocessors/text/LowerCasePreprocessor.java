@@ -0,0 +1,65 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.preprocessors.text;
+
+import android.support.annotation.NonNull;
+
+import java.util.Locale;
+
+import de.mrapp.android.validation.Preprocessor;
+
+import static de.mrapp.android.validation.util.Condition.ensureNotNull;
+
+/**
+ * A preprocessor, which allows to convert texts to lower case in order to validate them in a case
+ * insensitive manner.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public class LowerCasePreprocessor implements Preprocessor<CharSequence> {
+
+    /**
+     * The locale, which is used to convert texts to lower case.
+     */
+    private final Locale locale;
+
+    /**
+     * Creates a new preprocessor, which allows to convert texts to lower case.
+     *
+     * @param locale
+     *         The locale, which should be used to convert texts to lower case, as an instance of
+     *         the class {@link Locale}. The locale may not be null
+     */
+    public LowerCasePreprocessor(@NonNull final Locale locale) {
+        ensureNotNull(locale, "The locale may not be null");
+        this.locale = locale;
+    }
+
+    /**
+     * Returns the locale, which is used to convert texts to lower case.
+     *
+     * @return The locale, which is used to convert texts to lower case, as an instance of the class
+     * {@link Locale}
+     */
+    public final Locale getLocale() {
+        return locale;
+    }
+
+    @Override
+    public final CharSequence process(final CharSequence value) {
+        return value != null ? value.toString().toLowerCase(locale) : null;
+    }
+
+}
\ No newline at end of file
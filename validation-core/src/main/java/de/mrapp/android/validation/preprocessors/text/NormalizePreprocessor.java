@@ -0,0 +1,71 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.preprocessors.text;
+
+import android.support.annotation.NonNull;
+
+import java.text.Normalizer;
+
+import de.mrapp.android.validation.Preprocessor;
+
+import static de.mrapp.android.validation.util.Condition.ensureNotNull;
+
+/**
+ * A preprocessor, which allows to convert texts to a specific Unicode normalization form, e.g. in
+ * order to treat composed and decomposed characters equally. Texts, which are already normalized,
+ * are not copied.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public class NormalizePreprocessor implements Preprocessor<CharSequence> {
+
+    /**
+     * The normalization form, texts are converted to.
+     */
+    private final Normalizer.Form form;
+
+    /**
+     * Creates a new preprocessor, which allows to convert texts to a specific Unicode
+     * normalization form.
+     *
+     * @param form
+     *         The normalization form, texts should be converted to, as a value of the enum {@link
+     *         Normalizer.Form}. The normalization form may not be null
+     */
+    public NormalizePreprocessor(@NonNull final Normalizer.Form form) {
+        ensureNotNull(form, "The normalization form may not be null");
+        this.form = form;
+    }
+
+    /**
+     * Returns the normalization form, texts are converted to.
+     *
+     * @return The normalization form, texts are converted to, as a value of the enum {@link
+     * Normalizer.Form}
+     */
+    public final Normalizer.Form getForm() {
+        return form;
+    }
+
+    @Override
+    public final CharSequence process(final CharSequence value) {
+        if (value == null || Normalizer.isNormalized(value, form)) {
+            return value;
+        }
+
+        return Normalizer.normalize(value, form);
+    }
+
+}
\ No newline at end of file
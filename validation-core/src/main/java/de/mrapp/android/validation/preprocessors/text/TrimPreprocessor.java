@@ -0,0 +1,48 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.preprocessors.text;
+
+import de.mrapp.android.validation.Preprocessor;
+
+/**
+ * A preprocessor, which allows to remove leading and trailing whitespace from texts. Like the
+ * method <code>String.trim():String</code>, all characters, which are less than or equal to the
+ * space character, are considered as whitespace.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public class TrimPreprocessor implements Preprocessor<CharSequence> {
+
+    @Override
+    public final CharSequence process(final CharSequence value) {
+        if (value == null) {
+            return null;
+        }
+
+        int start = 0;
+        int end = value.length();
+
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        return start > 0 || end < value.length() ? value.subSequence(start, end) : value;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.regex;
+
+import android.support.annotation.NonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * A partition of all code points into disjoint classes, which are treated identically by a set of
+ * deterministic finite automata. Each class is a contiguous range of code points. Supplementary
+ * code points are never in the same class as code points of the basic multilingual plane.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+final class Alphabet {
+
+    /**
+     * The number of code points, whose classes are looked up in a table instead of being
+     * searched.
+     */
+    private static final int TABLE_SIZE = 256;
+
+    /**
+     * The first code points of the classes in ascending order.
+     */
+    private final int[] starts;
+
+    /**
+     * The classes of the code points, which are less than {@link #TABLE_SIZE}.
+     */
+    private final int[] table;
+
+    /**
+     * Creates a new partition of all code points.
+     *
+     * @param starts
+     *         The first code points of the classes in ascending order as an {@link Integer}
+     *         array. The array may not be null
+     */
+    private Alphabet(@NonNull final int[] starts) {
+        this.starts = starts;
+        this.table = new int[TABLE_SIZE];
+
+        for (int codePoint = 0; codePoint < TABLE_SIZE; codePoint++) {
+            table[codePoint] = search(codePoint);
+        }
+    }
+
+    /**
+     * Searches the class of a specific code point.
+     *
+     * @param codePoint
+     *         The code point as an {@link Integer} value
+     * @return The class of the given code point as an {@link Integer} value
+     */
+    private int search(final int codePoint) {
+        int index = Arrays.binarySearch(starts, codePoint);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    /**
+     * Creates and returns the coarsest partition, which does not split any of the ranges of
+     * specific sets of code points.
+     *
+     * @param sets
+     *         A collection, which contains the sets of code points, as an instance of the type
+     *         {@link Collection}. The collection may not be null
+     * @return The partition, which has been created, as an instance of the class {@link
+     * Alphabet}
+     */
+    static Alphabet create(@NonNull final Collection<CharSet> sets) {
+        int count = 2;
+
+        for (CharSet set : sets) {
+            count += set.getRangeCount() * 2;
+        }
+
+        int[] bounds = new int[count];
+        int length = 0;
+        bounds[length++] = 0;
+        bounds[length++] = Character.MIN_SUPPLEMENTARY_CODE_POINT;
+
+        for (CharSet set : sets) {
+            for (int i = 0; i < set.getRangeCount(); i++) {
+                bounds[length++] = set.getRangeStart(i);
+
+                if (set.getRangeEnd(i) < CharSet.MAX_CODE_POINT) {
+                    bounds[length++] = set.getRangeEnd(i) + 1;
+                }
+            }
+        }
+
+        Arrays.sort(bounds, 0, length);
+        int size = 0;
+
+        for (int i = 0; i < length; i++) {
+            if (size == 0 || bounds[i] != bounds[size - 1]) {
+                bounds[size++] = bounds[i];
+            }
+        }
+
+        return new Alphabet(Arrays.copyOf(bounds, size));
+    }
+
+    /**
+     * Returns the number of classes.
+     *
+     * @return The number of classes as an {@link Integer} value
+     */
+    int size() {
+        return starts.length;
+    }
+
+    /**
+     * Returns the first code point of a specific class.
+     *
+     * @param index
+     *         The index of the class as an {@link Integer} value
+     * @return The first code point of the given class as an {@link Integer} value
+     */
+    int getStart(final int index) {
+        return starts[index];
+    }
+
+    /**
+     * Returns the number of chars, which are needed to encode the code points of a specific
+     * class in UTF-16.
+     *
+     * @param index
+     *         The index of the class as an {@link Integer} value
+     * @return The number of chars, which are needed to encode the code points of the given class,
+     * as an {@link Integer} value
+     */
+    int getCharCount(final int index) {
+        return Character.charCount(starts[index]);
+    }
+
+    /**
+     * Returns the class of a specific code point.
+     *
+     * @param codePoint
+     *         The code point as an {@link Integer} value
+     * @return The class of the given code point as an {@link Integer} value
+     */
+    int indexOf(final int codePoint) {
+        return codePoint < TABLE_SIZE ? table[codePoint] : search(codePoint);
+    }
+
+}
\ No newline at end of file
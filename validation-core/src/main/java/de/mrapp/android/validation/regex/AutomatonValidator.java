@@ -0,0 +1,93 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.regex;
+
+import android.support.annotation.NonNull;
+
+import de.mrapp.android.validation.CostAware;
+import de.mrapp.android.validation.Validator;
+import de.mrapp.android.validation.validators.AbstractValidator;
+
+/**
+ * A validator, which has been compiled by the class {@link ValidatorCompiler} from a tree of
+ * validators, which decide whether texts belong to regular languages. Texts are validated by
+ * scanning them once using a deterministic finite automaton, regardless of the size of the tree.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public final class AutomatonValidator extends AbstractValidator<CharSequence>
+        implements CostAware {
+
+    /**
+     * The automaton, which is used to validate the texts.
+     */
+    private final Dfa dfa;
+
+    /**
+     * The validator, the automaton has been compiled from.
+     */
+    private final Validator<CharSequence> validator;
+
+    /**
+     * Creates a new validator, which validates texts by using a deterministic finite automaton.
+     *
+     * @param errorMessage
+     *         The error message, which should be shown, if the validation fails, as an instance of
+     *         the type {@link CharSequence}. The error message may not be null
+     * @param dfa
+     *         The automaton, which should be used to validate the texts, as an instance of the
+     *         class {@link Dfa}. The automaton may not be null
+     * @param validator
+     *         The validator, the automaton has been compiled from, as an instance of the type
+     *         {@link Validator}. The validator may not be null
+     */
+    AutomatonValidator(@NonNull final CharSequence errorMessage, @NonNull final Dfa dfa,
+                       @NonNull final Validator<CharSequence> validator) {
+        super(errorMessage);
+        this.dfa = dfa;
+        this.validator = validator;
+    }
+
+    /**
+     * Returns the validator, the automaton has been compiled from. It is used to validate values,
+     * which are null.
+     *
+     * @return The validator, the automaton has been compiled from, as an instance of the type
+     * {@link Validator}
+     */
+    public final Validator<CharSequence> getValidator() {
+        return validator;
+    }
+
+    /**
+     * Returns the number of states of the automaton, which is used to validate the texts.
+     *
+     * @return The number of states of the automaton as an {@link Integer} value
+     */
+    public final int getStateCount() {
+        return dfa.size();
+    }
+
+    @Override
+    public final boolean validate(final CharSequence value) {
+        return value != null ? dfa.matches(value) : validator.validate(null);
+    }
+
+    @Override
+    public final int getCost() {
+        return COST_LOW;
+    }
+
+}
\ No newline at end of file
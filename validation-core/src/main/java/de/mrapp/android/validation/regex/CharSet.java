@@ -0,0 +1,322 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.regex;
+
+import android.support.annotation.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * An immutable set of Unicode code points, which is represented by sorted and disjoint ranges.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+final class CharSet {
+
+    /**
+     * The greatest Unicode code point.
+     */
+    static final int MAX_CODE_POINT = Character.MAX_CODE_POINT;
+
+    /**
+     * A set, which does not contain any code points.
+     */
+    static final CharSet EMPTY = new CharSet(new int[0]);
+
+    /**
+     * A set, which contains all code points.
+     */
+    static final CharSet ALL = new CharSet(new int[]{0, MAX_CODE_POINT});
+
+    /**
+     * A set, which contains the digits from 0 to 9.
+     */
+    static final CharSet DIGITS = range('0', '9');
+
+    /**
+     * A set, which contains the characters of words, i.e. ASCII letters, digits and underscores.
+     */
+    static final CharSet WORD_CHARACTERS =
+            range('a', 'z').union(range('A', 'Z')).union(DIGITS).union(single('_'));
+
+    /**
+     * A set, which contains ASCII whitespace characters.
+     */
+    static final CharSet WHITESPACE = range('\t', '\r').union(single(' '));
+
+    /**
+     * A set, which contains line terminators.
+     */
+    static final CharSet LINE_TERMINATORS = single('\n').union(single('\r'))
+            .union(single('\u0085')).union(range('\u2028', '\u2029'));
+
+    /**
+     * The lower and upper bounds of the ranges. Each range is represented by two consecutive
+     * elements, whose values are inclusive.
+     */
+    private final int[] ranges;
+
+    /**
+     * Creates a new set of code points.
+     *
+     * @param ranges
+     *         The lower and upper bounds of the ranges as an {@link Integer} array. The ranges
+     *         must be sorted, disjoint and non-adjacent
+     */
+    private CharSet(@NonNull final int[] ranges) {
+        this.ranges = ranges;
+    }
+
+    /**
+     * Creates and returns a set, which contains a single code point.
+     *
+     * @param codePoint
+     *         The code point as an {@link Integer} value
+     * @return The set, which has been created, as an instance of the class {@link CharSet}
+     */
+    static CharSet single(final int codePoint) {
+        return range(codePoint, codePoint);
+    }
+
+    /**
+     * Creates and returns a set, which contains a range of code points.
+     *
+     * @param from
+     *         The first code point of the range as an {@link Integer} value
+     * @param to
+     *         The last code point of the range as an {@link Integer} value
+     * @return The set, which has been created, as an instance of the class {@link CharSet}
+     */
+    static CharSet range(final int from, final int to) {
+        return from > to ? EMPTY : new CharSet(new int[]{from, to});
+    }
+
+    /**
+     * Creates and returns a set, which contains several ranges of code points.
+     *
+     * @param bounds
+     *         The lower and upper bounds of the ranges as an {@link Integer} array. Each range
+     *         must be represented by two consecutive elements, whose values are inclusive. The
+     *         ranges must be sorted by their lower bounds. The array may not be null
+     * @param length
+     *         The number of elements of the array, which should be taken into account, as an
+     *         {@link Integer} value
+     * @return The set, which has been created, as an instance of the class {@link CharSet}
+     */
+    static CharSet ranges(@NonNull final int[] bounds, final int length) {
+        int[] result = new int[length];
+        int resultLength = 0;
+
+        for (int i = 0; i < length; i += 2) {
+            if (resultLength > 0 && bounds[i] <= result[resultLength - 1] + 1) {
+                result[resultLength - 1] = Math.max(result[resultLength - 1], bounds[i + 1]);
+            } else {
+                result[resultLength++] = bounds[i];
+                result[resultLength++] = bounds[i + 1];
+            }
+        }
+
+        return resultLength == 0 ? EMPTY : new CharSet(Arrays.copyOf(result, resultLength));
+    }
+
+    /**
+     * Returns, whether the set contains a specific code point, or not.
+     *
+     * @param codePoint
+     *         The code point as an {@link Integer} value
+     * @return True, if the set contains the given code point, false otherwise
+     */
+    boolean contains(final int codePoint) {
+        int low = 0;
+        int high = ranges.length / 2 - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+
+            if (codePoint < ranges[2 * middle]) {
+                high = middle - 1;
+            } else if (codePoint > ranges[2 * middle + 1]) {
+                low = middle + 1;
+            } else {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns, whether the set is empty, or not.
+     *
+     * @return True, if the set is empty, false otherwise
+     */
+    boolean isEmpty() {
+        return ranges.length == 0;
+    }
+
+    /**
+     * Returns the number of ranges, the set consists of.
+     *
+     * @return The number of ranges as an {@link Integer} value
+     */
+    int getRangeCount() {
+        return ranges.length / 2;
+    }
+
+    /**
+     * Returns the first code point of a specific range.
+     *
+     * @param index
+     *         The index of the range as an {@link Integer} value
+     * @return The first code point of the range as an {@link Integer} value
+     */
+    int getRangeStart(final int index) {
+        return ranges[2 * index];
+    }
+
+    /**
+     * Returns the last code point of a specific range.
+     *
+     * @param index
+     *         The index of the range as an {@link Integer} value
+     * @return The last code point of the range as an {@link Integer} value
+     */
+    int getRangeEnd(final int index) {
+        return ranges[2 * index + 1];
+    }
+
+    /**
+     * Returns a set, which contains all code points, which are contained by this set or by
+     * another set.
+     *
+     * @param other
+     *         The other set as an instance of the class {@link CharSet}. The set may not be null
+     * @return The union of both sets as an instance of the class {@link CharSet}
+     */
+    CharSet union(@NonNull final CharSet other) {
+        if (other.isEmpty()) {
+            return this;
+        } else if (isEmpty()) {
+            return other;
+        }
+
+        int[] result = new int[ranges.length + other.ranges.length];
+        int length = 0;
+        int i = 0;
+        int j = 0;
+
+        while (i < ranges.length || j < other.ranges.length) {
+            int from;
+            int to;
+
+            if (j >= other.ranges.length ||
+                    (i < ranges.length && ranges[i] <= other.ranges[j])) {
+                from = ranges[i];
+                to = ranges[i + 1];
+                i += 2;
+            } else {
+                from = other.ranges[j];
+                to = other.ranges[j + 1];
+                j += 2;
+            }
+
+            if (length > 0 && from <= result[length - 1] + 1) {
+                result[length - 1] = Math.max(result[length - 1], to);
+            } else {
+                result[length++] = from;
+                result[length++] = to;
+            }
+        }
+
+        return new CharSet(Arrays.copyOf(result, length));
+    }
+
+    /**
+     * Returns a set, which contains all code points, which are not contained by this set.
+     *
+     * @return The complement of this set as an instance of the class {@link CharSet}
+     */
+    CharSet complement() {
+        int[] result = new int[ranges.length + 2];
+        int length = 0;
+        int next = 0;
+
+        for (int i = 0; i < ranges.length; i += 2) {
+            if (ranges[i] > next) {
+                result[length++] = next;
+                result[length++] = ranges[i] - 1;
+            }
+
+            next = ranges[i + 1] + 1;
+        }
+
+        if (next <= MAX_CODE_POINT) {
+            result[length++] = next;
+            result[length++] = MAX_CODE_POINT;
+        }
+
+        return new CharSet(Arrays.copyOf(result, length));
+    }
+
+    /**
+     * Returns a set, which contains all code points, which are contained by this set and by
+     * another set.
+     *
+     * @param other
+     *         The other set as an instance of the class {@link CharSet}. The set may not be null
+     * @return The intersection of both sets as an instance of the class {@link CharSet}
+     */
+    CharSet intersect(@NonNull final CharSet other) {
+        return complement().union(other.complement()).complement();
+    }
+
+    /**
+     * Returns a set, which additionally contains the lower and uppercase variants of all ASCII
+     * letters, which are contained by this set.
+     *
+     * @return The set, which has been created, as an instance of the class {@link CharSet}
+     */
+    CharSet caseInsensitive() {
+        CharSet result = this;
+
+        for (char lowerCase = 'a'; lowerCase <= 'z'; lowerCase++) {
+            char upperCase = (char) (lowerCase - 'a' + 'A');
+
+            if (contains(lowerCase) != contains(upperCase)) {
+                result = result.union(single(contains(lowerCase) ? upperCase : lowerCase));
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+
+        CharSet other = (CharSet) obj;
+        return Arrays.equals(ranges, other.ranges);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(ranges);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,845 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.regex;
+
+import android.support.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A deterministic finite automaton, which decides whether texts belong to a regular language. The
+ * automaton's transitions are defined for the classes of an {@link Alphabet}, i.e. each code point
+ * of a text is mapped to a class, before the transition is taken. Automata can be constructed
+ * from non-deterministic ones, as well as combined with each other, if they share the same
+ * alphabet.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+final class Dfa {
+
+    /**
+     * A sorted set of integers, which can be used as the key of a map.
+     */
+    private static final class Key {
+
+        /**
+         * The integers.
+         */
+        private final int[] values;
+
+        /**
+         * The hash code of the integers.
+         */
+        private final int hashCode;
+
+        /**
+         * Creates a new set of integers, which can be used as the key of a map.
+         *
+         * @param values
+         *         The integers as an {@link Integer} array. The array may not be null and must
+         *         not be modified afterwards
+         */
+        Key(@NonNull final int[] values) {
+            this.values = values;
+            this.hashCode = Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof Key && Arrays.equals(values, ((Key) obj).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+    /**
+     * Allows to determine the sets of states of a non-deterministic finite automaton, which are
+     * active after a text has been read. Each set corresponds to a single state of the
+     * deterministic automaton, which is constructed from the non-deterministic one.
+     */
+    private static final class Determinizer {
+
+        /**
+         * The non-deterministic automaton.
+         */
+        private final Nfa nfa;
+
+        /**
+         * The mark, each state has been visited with at last.
+         */
+        private final int[] marks;
+
+        /**
+         * The stack, which is used to follow the transitions, which do not consume any input.
+         */
+        private final int[] stack;
+
+        /**
+         * The buffer, which is used to collect the states of a set.
+         */
+        private final int[] buffer;
+
+        /**
+         * The states of the type {@link Nfa#ASSERTION}, which test for the end of the input or
+         * line and have already been verified to not be followed by any input.
+         */
+        private final boolean[] verified;
+
+        /**
+         * The current mark.
+         */
+        private int mark;
+
+        /**
+         * Pushes a state onto the stack, unless it has already been visited with the current
+         * mark.
+         *
+         * @param top
+         *         The number of states, which are contained by the stack, as an {@link Integer}
+         *         value
+         * @param state
+         *         The state as an {@link Integer} value
+         * @return The number of states, which are contained by the stack afterwards, as an
+         * {@link Integer} value
+         */
+        private int push(final int top, final int state) {
+            if (marks[state] != mark) {
+                marks[state] = mark;
+                stack[top] = state;
+                return top + 1;
+            }
+
+            return top;
+        }
+
+        /**
+         * Ensures, that the successor of a state, which tests for the end of the input or line,
+         * cannot consume any input. Such an assertion is equivalent to testing for the end of the
+         * input, when matching entire texts.
+         *
+         * @param state
+         *         The state as an {@link Integer} value
+         * @throws UnsupportedRegexException
+         *         The exception, which is thrown, if the successor of the given state can
+         *         consume input
+         */
+        private void verifyEndOfInputOrLine(final int state) throws UnsupportedRegexException {
+            if (!verified[state]) {
+                boolean[] visited = new boolean[nfa.size()];
+                int[] pending = new int[nfa.size()];
+                int top = 0;
+                pending[top++] = nfa.getSuccessor(state);
+                visited[pending[0]] = true;
+
+                while (top > 0) {
+                    int current = pending[--top];
+                    int type = nfa.getType(current);
+
+                    if (type == Nfa.CHARACTERS) {
+                        throw new UnsupportedRegexException(
+                                "Input after the end of a line is not supported");
+                    }
+
+                    int[] successors = type == Nfa.SPLIT ? nfa.getBranches(current) :
+                            (type == Nfa.ASSERTION ? new int[]{nfa.getSuccessor(current)} :
+                                    new int[0]);
+
+                    for (int successor : successors) {
+                        if (!visited[successor]) {
+                            visited[successor] = true;
+                            pending[top++] = successor;
+                        }
+                    }
+                }
+
+                verified[state] = true;
+            }
+        }
+
+        /**
+         * Creates a new object, which allows to determine the sets of states of a
+         * non-deterministic finite automaton.
+         *
+         * @param nfa
+         *         The non-deterministic automaton as an instance of the class {@link Nfa}. The
+         *         automaton may not be null
+         */
+        Determinizer(@NonNull final Nfa nfa) {
+            this.nfa = nfa;
+            this.marks = new int[nfa.size()];
+            this.stack = new int[nfa.size()];
+            this.buffer = new int[nfa.size()];
+            this.verified = new boolean[nfa.size()];
+            this.mark = 0;
+        }
+
+        /**
+         * Returns the set of states, which are reachable from specific states without consuming
+         * any input. Only states, which consume input or accept the input, as well as states,
+         * which test for the end of the input, are contained by the set.
+         *
+         * @param states
+         *         The states as an {@link Integer} array. The array may not be null
+         * @param count
+         *         The number of elements of the array, which should be taken into account, as an
+         *         {@link Integer} value
+         * @param atStart
+         *         True, if no input has been consumed so far, false otherwise
+         * @return The sorted set of states as an {@link Integer} array
+         * @throws UnsupportedRegexException
+         *         The exception, which is thrown, if the automaton contains assertions, which are
+         *         not supported
+         */
+        int[] closure(@NonNull final int[] states, final int count, final boolean atStart)
+                throws UnsupportedRegexException {
+            mark++;
+            int top = 0;
+            int size = 0;
+
+            for (int i = 0; i < count; i++) {
+                top = push(top, states[i]);
+            }
+
+            while (top > 0) {
+                int state = stack[--top];
+
+                switch (nfa.getType(state)) {
+                    case Nfa.SPLIT:
+                        for (int successor : nfa.getBranches(state)) {
+                            top = push(top, successor);
+                        }
+
+                        break;
+                    case Nfa.ASSERTION:
+                        switch (nfa.getAssertion(state)) {
+                            case BEGIN_OF_INPUT:
+                                if (atStart) {
+                                    top = push(top, nfa.getSuccessor(state));
+                                }
+
+                                break;
+                            case END_OF_INPUT_OR_LINE:
+                                verifyEndOfInputOrLine(state);
+                                buffer[size++] = state;
+                                break;
+                            case END_OF_INPUT:
+                                buffer[size++] = state;
+                                break;
+                            default:
+                                throw new UnsupportedRegexException(
+                                        "Word boundaries are not supported");
+                        }
+
+                        break;
+                    default:
+                        buffer[size++] = state;
+                        break;
+                }
+            }
+
+            int[] result = Arrays.copyOf(buffer, size);
+            Arrays.sort(result);
+            return result;
+        }
+
+        /**
+         * Returns the set of states, which are active after a specific code point has been
+         * consumed.
+         *
+         * @param states
+         *         The sorted set of states, which are active before the code point is consumed,
+         *         as an {@link Integer} array. The array may not be null
+         * @param codePoint
+         *         The code point as an {@link Integer} value
+         * @return The sorted set of states, which are active after the code point has been
+         * consumed, as an {@link Integer} array
+         * @throws UnsupportedRegexException
+         *         The exception, which is thrown, if the automaton contains assertions, which are
+         *         not supported
+         */
+        int[] step(@NonNull final int[] states, final int codePoint)
+                throws UnsupportedRegexException {
+            int[] successors = new int[states.length];
+            int count = 0;
+
+            for (int state : states) {
+                if (nfa.getType(state) == Nfa.CHARACTERS &&
+                        nfa.getCharacters(state).contains(codePoint)) {
+                    successors[count++] = nfa.getSuccessor(state);
+                }
+            }
+
+            return closure(successors, count, false);
+        }
+
+        /**
+         * Returns, whether a set of states accepts the input, if the end of the input has been
+         * reached.
+         *
+         * @param states
+         *         The sorted set of states as an {@link Integer} array. The array may not be null
+         * @param atStart
+         *         True, if no input has been consumed, false otherwise
+         * @return True, if the set of states accepts the input, false otherwise
+         * @throws UnsupportedRegexException
+         *         The exception, which is thrown, if the automaton contains assertions, which are
+         *         not supported
+         */
+        boolean accepts(@NonNull final int[] states, final boolean atStart)
+                throws UnsupportedRegexException {
+            mark++;
+            int top = 0;
+
+            for (int state : states) {
+                top = push(top, state);
+            }
+
+            while (top > 0) {
+                int state = stack[--top];
+
+                switch (nfa.getType(state)) {
+                    case Nfa.ACCEPT:
+                        return true;
+                    case Nfa.SPLIT:
+                        for (int successor : nfa.getBranches(state)) {
+                            top = push(top, successor);
+                        }
+
+                        break;
+                    case Nfa.ASSERTION:
+                        switch (nfa.getAssertion(state)) {
+                            case BEGIN_OF_INPUT:
+                                if (atStart) {
+                                    top = push(top, nfa.getSuccessor(state));
+                                }
+
+                                break;
+                            case END_OF_INPUT:
+                            case END_OF_INPUT_OR_LINE:
+                                top = push(top, nfa.getSuccessor(state));
+                                break;
+                            default:
+                                throw new UnsupportedRegexException(
+                                        "Word boundaries are not supported");
+                        }
+
+                        break;
+                    default:
+                        break;
+                }
+            }
+
+            return false;
+        }
+
+    }
+
+    /**
+     * The maximum number of states of an automaton.
+     */
+    private static final int MAX_STATES = 4096;
+
+    /**
+     * The alphabet, the automaton's transitions are defined for.
+     */
+    private final Alphabet alphabet;
+
+    /**
+     * The transitions of the automaton. The successor of a state for a specific class of the
+     * alphabet is stored at the index <code>state * alphabet.size() + class</code>.
+     */
+    private final int[] transitions;
+
+    /**
+     * True for each state, which accepts the input, false otherwise.
+     */
+    private final boolean[] accepting;
+
+    /**
+     * The state, which does not accept the input and cannot be left, or -1, if no such state
+     * exists.
+     */
+    private final int deadState;
+
+    /**
+     * Ensures, that an automaton does not contain too many states.
+     *
+     * @param size
+     *         The number of states of the automaton as an {@link Integer} value
+     * @throws UnsupportedRegexException
+     *         The exception, which is thrown, if the automaton contains too many states
+     */
+    private static void ensureSize(final int size) throws UnsupportedRegexException {
+        if (size > MAX_STATES) {
+            throw new UnsupportedRegexException("The automaton contains too many states");
+        }
+    }
+
+    /**
+     * Creates and returns an automaton from the transitions of its states.
+     *
+     * @param alphabet
+     *         The alphabet, the automaton's transitions are defined for, as an instance of the
+     *         class {@link Alphabet}. The alphabet may not be null
+     * @param rows
+     *         A list, which contains the transitions of each state, as an instance of the type
+     *         {@link List}. The list may not be null
+     * @param accepting
+     *         True for each state, which accepts the input, false otherwise, as a {@link Boolean}
+     *         array. The array may not be null
+     * @return The automaton, which has been created, as an instance of the class {@link Dfa}
+     */
+    private static Dfa create(@NonNull final Alphabet alphabet, @NonNull final List<int[]> rows,
+                              @NonNull final boolean[] accepting) {
+        int size = alphabet.size();
+        int[] transitions = new int[rows.size() * size];
+
+        for (int state = 0; state < rows.size(); state++) {
+            System.arraycopy(rows.get(state), 0, transitions, state * size, size);
+        }
+
+        return new Dfa(alphabet, transitions, Arrays.copyOf(accepting, rows.size()));
+    }
+
+    /**
+     * Returns the index of a specific set of states, which has been added to a list. If the set
+     * has not been added yet, it is added to the list.
+     *
+     * @param key
+     *         The set of states as an instance of the class {@link Key}. The set may not be
+     *         null
+     * @param keys
+     *         A list, which contains the sets of states, which have been added so far, as an
+     *         instance of the type {@link List}. The list may not be null
+     * @param indices
+     *         A map, which contains the indices of the sets of states, which have been added so
+     *         far, as an instance of the type {@link Map}. The map may not be null
+     * @return The index of the given set of states as an {@link Integer} value
+     * @throws UnsupportedRegexException
+     *         The exception, which is thrown, if the automaton contains too many states
+     */
+    private static int indexOf(@NonNull final Key key, @NonNull final List<Key> keys,
+                               @NonNull final Map<Key, Integer> indices)
+            throws UnsupportedRegexException {
+        Integer index = indices.get(key);
+
+        if (index == null) {
+            ensureSize(keys.size() + 1);
+            index = keys.size();
+            keys.add(key);
+            indices.put(key, index);
+        }
+
+        return index;
+    }
+
+    /**
+     * Creates a new deterministic finite automaton. The initial state is the state 0.
+     *
+     * @param alphabet
+     *         The alphabet, the automaton's transitions are defined for, as an instance of the
+     *         class {@link Alphabet}. The alphabet may not be null
+     * @param transitions
+     *         The transitions of the automaton as an {@link Integer} array. The array may not be
+     *         null
+     * @param accepting
+     *         True for each state, which accepts the input, false otherwise, as a {@link Boolean}
+     *         array. The array may not be null
+     */
+    private Dfa(@NonNull final Alphabet alphabet, @NonNull final int[] transitions,
+                @NonNull final boolean[] accepting) {
+        this.alphabet = alphabet;
+        this.transitions = transitions;
+        this.accepting = accepting;
+        int size = alphabet.size();
+        int deadState = -1;
+
+        for (int state = 0; state < accepting.length && deadState == -1; state++) {
+            if (!accepting[state]) {
+                deadState = state;
+
+                for (int i = 0; i < size; i++) {
+                    if (transitions[state * size + i] != state) {
+                        deadState = -1;
+                        break;
+                    }
+                }
+            }
+        }
+
+        this.deadState = deadState;
+    }
+
+    /**
+     * Constructs a deterministic finite automaton, which accepts the same texts as a
+     * non-deterministic one, when matching entire texts.
+     *
+     * @param nfa
+     *         The non-deterministic automaton as an instance of the class {@link Nfa}. The
+     *         automaton may not be null
+     * @param alphabet
+     *         The alphabet, the transitions should be defined for, as an instance of the class
+     *         {@link Alphabet}. The alphabet must not split the code points, which are matched by
+     *         any state of the non-deterministic automaton. It may not be null
+     * @return The deterministic automaton, which has been constructed, as an instance of the
+     * class {@link Dfa}
+     * @throws UnsupportedRegexException
+     *         The exception, which is thrown, if the non-deterministic automaton contains
+     *         assertions, which are not supported, or if the deterministic automaton contains too
+     *         many states
+     */
+    static Dfa fromNfa(@NonNull final Nfa nfa, @NonNull final Alphabet alphabet)
+            throws UnsupportedRegexException {
+        Determinizer determinizer = new Determinizer(nfa);
+        int size = alphabet.size();
+        List<Key> keys = new ArrayList<>();
+        Map<Key, Integer> indices = new HashMap<>();
+        List<int[]> rows = new ArrayList<>();
+        boolean[] accepting = new boolean[MAX_STATES];
+        int[] initialStates = new int[]{nfa.getInitialState()};
+        keys.add(new Key(determinizer.closure(initialStates, 1, true)));
+
+        for (int state = 0; state < keys.size(); state++) {
+            int[] states = keys.get(state).values;
+            int[] row = new int[size];
+            accepting[state] = determinizer.accepts(states, state == 0);
+
+            for (int i = 0; i < size; i++) {
+                Key key = new Key(determinizer.step(states, alphabet.getStart(i)));
+                row[i] = indexOf(key, keys, indices);
+            }
+
+            rows.add(row);
+        }
+
+        return create(alphabet, rows, accepting).minimize();
+    }
+
+    /**
+     * Constructs a deterministic finite automaton, which accepts all texts, whose length is
+     * within a specific range. The length of a text is the number of chars, which are needed to
+     * encode it in UTF-16.
+     *
+     * @param minLength
+     *         The minimum length as an {@link Integer} value
+     * @param maxLength
+     *         The maximum length as an {@link Integer} value or {@link RegexNode#UNBOUNDED}, if
+     *         the length should not be limited
+     * @param alphabet
+     *         The alphabet, the transitions should be defined for, as an instance of the class
+     *         {@link Alphabet}. The alphabet may not be null
+     * @return The automaton, which has been constructed, as an instance of the class {@link Dfa}
+     * @throws UnsupportedRegexException
+     *         The exception, which is thrown, if the automaton contains too many states
+     */
+    static Dfa fromLength(final int minLength, final int maxLength,
+                          @NonNull final Alphabet alphabet) throws UnsupportedRegexException {
+        boolean unbounded = maxLength == RegexNode.UNBOUNDED;
+        long lastState = unbounded ? minLength : maxLength + 1L;
+        ensureSize((int) Math.min(lastState + 1, Integer.MAX_VALUE));
+        int size = alphabet.size();
+        int stateCount = (int) lastState + 1;
+        int[] transitions = new int[stateCount * size];
+        boolean[] accepting = new boolean[stateCount];
+
+        for (int state = 0; state < stateCount; state++) {
+            accepting[state] = state >= minLength && (unbounded || state <= maxLength);
+
+            for (int i = 0; i < size; i++) {
+                transitions[state * size + i] =
+                        Math.min(state + alphabet.getCharCount(i), stateCount - 1);
+            }
+        }
+
+        return new Dfa(alphabet, transitions, accepting);
+    }
+
+    /**
+     * Returns the alphabet, the automaton's transitions are defined for.
+     *
+     * @return The alphabet as an instance of the class {@link Alphabet}
+     */
+    Alphabet getAlphabet() {
+        return alphabet;
+    }
+
+    /**
+     * Returns the number of states.
+     *
+     * @return The number of states as an {@link Integer} value
+     */
+    int size() {
+        return accepting.length;
+    }
+
+    /**
+     * Constructs an automaton, which accepts all texts, which are accepted by this automaton
+     * and/or by another automaton.
+     *
+     * @param other
+     *         The other automaton as an instance of the class {@link Dfa}. The automaton must use
+     *         the same alphabet as this automaton. It may not be null
+     * @param conjunctive
+     *         True, if the texts must be accepted by both automata, false, if they must be
+     *         accepted by at least one of them
+     * @return The automaton, which has been constructed, as an instance of the class {@link Dfa}
+     * @throws UnsupportedRegexException
+     *         The exception, which is thrown, if the automaton contains too many states
+     */
+    Dfa product(@NonNull final Dfa other, final boolean conjunctive)
+            throws UnsupportedRegexException {
+        int size = alphabet.size();
+        List<Key> keys = new ArrayList<>();
+        Map<Key, Integer> indices = new HashMap<>();
+        List<int[]> rows = new ArrayList<>();
+        boolean[] accepting = new boolean[MAX_STATES];
+        keys.add(new Key(new int[]{0, 0}));
+
+        for (int state = 0; state < keys.size(); state++) {
+            int[] pair = keys.get(state).values;
+            int[] row = new int[size];
+            accepting[state] = conjunctive ?
+                    this.accepting[pair[0]] && other.accepting[pair[1]] :
+                    this.accepting[pair[0]] || other.accepting[pair[1]];
+
+            for (int i = 0; i < size; i++) {
+                Key key = new Key(new int[]{transitions[pair[0] * size + i],
+                        other.transitions[pair[1] * size + i]});
+                row[i] = indexOf(key, keys, indices);
+            }
+
+            rows.add(row);
+        }
+
+        return create(alphabet, rows, accepting).minimize();
+    }
+
+    /**
+     * Constructs an automaton, which accepts all texts, which are not accepted by this
+     * automaton.
+     *
+     * @return The automaton, which has been constructed, as an instance of the class {@link Dfa}
+     */
+    Dfa complement() {
+        boolean[] complement = new boolean[accepting.length];
+
+        for (int state = 0; state < accepting.length; state++) {
+            complement[state] = !accepting[state];
+        }
+
+        return new Dfa(alphabet, transitions, complement);
+    }
+
+    /**
+     * Constructs an automaton with the minimum number of states, which accepts the same texts as
+     * this automaton. Equivalent states are merged by using Hopcroft's algorithm, i.e. a
+     * partition of the states is refined by splitting blocks, whose states have successors in
+     * different blocks, until it is stable.
+     *
+     * @return The automaton, which has been constructed, as an instance of the class {@link Dfa}
+     */
+    Dfa minimize() {
+        int size = alphabet.size();
+        int stateCount = accepting.length;
+        int[] inverseStarts = new int[size * stateCount + 1];
+
+        for (int state = 0; state < stateCount; state++) {
+            for (int i = 0; i < size; i++) {
+                inverseStarts[i * stateCount + transitions[state * size + i] + 1]++;
+            }
+        }
+
+        for (int i = 1; i < inverseStarts.length; i++) {
+            inverseStarts[i] += inverseStarts[i - 1];
+        }
+
+        int[] inverse = new int[size * stateCount];
+        int[] inverseEnds = Arrays.copyOf(inverseStarts, inverseStarts.length - 1);
+
+        for (int state = 0; state < stateCount; state++) {
+            for (int i = 0; i < size; i++) {
+                inverse[inverseEnds[i * stateCount + transitions[state * size + i]]++] = state;
+            }
+        }
+
+        int[] elements = new int[stateCount];
+        int[] locations = new int[stateCount];
+        int[] blocks = new int[stateCount];
+        int[] starts = new int[stateCount];
+        int[] ends = new int[stateCount];
+        int[] marks = new int[stateCount];
+        boolean[] pending = new boolean[stateCount];
+        int[] worklist = new int[stateCount];
+        int[] touched = new int[stateCount];
+        int[] members = new int[stateCount];
+        int acceptingCount = 0;
+
+        for (int state = 0; state < stateCount; state++) {
+            if (accepting[state]) {
+                acceptingCount++;
+            }
+        }
+
+        int acceptingLocation = 0;
+        int rejectingLocation = acceptingCount;
+        int blockCount = acceptingCount == 0 || acceptingCount == stateCount ? 1 : 2;
+        int top = 0;
+
+        for (int state = 0; state < stateCount; state++) {
+            int location = accepting[state] ? acceptingLocation++ : rejectingLocation++;
+            elements[location] = state;
+            locations[state] = location;
+            blocks[state] = blockCount == 2 && !accepting[state] ? 1 : 0;
+        }
+
+        ends[0] = blockCount == 2 ? acceptingCount : stateCount;
+        starts[blockCount - 1] = blockCount == 2 ? acceptingCount : 0;
+        ends[blockCount - 1] = stateCount;
+
+        for (int block = 0; block < blockCount; block++) {
+            marks[block] = starts[block];
+            pending[block] = true;
+            worklist[top++] = block;
+        }
+
+        while (top > 0) {
+            int splitter = worklist[--top];
+            pending[splitter] = false;
+            int memberCount = 0;
+
+            for (int location = starts[splitter]; location < ends[splitter]; location++) {
+                members[memberCount++] = elements[location];
+            }
+
+            for (int i = 0; i < size; i++) {
+                int touchedCount = 0;
+
+                for (int j = 0; j < memberCount; j++) {
+                    int index = i * stateCount + members[j];
+
+                    for (int k = inverseStarts[index]; k < inverseStarts[index + 1]; k++) {
+                        int state = inverse[k];
+                        int block = blocks[state];
+                        int location = locations[state];
+
+                        if (location >= marks[block]) {
+                            if (marks[block] == starts[block]) {
+                                touched[touchedCount++] = block;
+                            }
+
+                            int other = elements[marks[block]];
+                            elements[location] = other;
+                            locations[other] = location;
+                            elements[marks[block]] = state;
+                            locations[state] = marks[block];
+                            marks[block]++;
+                        }
+                    }
+                }
+
+                for (int j = 0; j < touchedCount; j++) {
+                    int block = touched[j];
+
+                    if (marks[block] == ends[block]) {
+                        marks[block] = starts[block];
+                    } else {
+                        int newBlock = blockCount++;
+                        starts[newBlock] = starts[block];
+                        ends[newBlock] = marks[block];
+                        marks[newBlock] = starts[newBlock];
+                        starts[block] = marks[block];
+
+                        for (int location = starts[newBlock]; location < ends[newBlock];
+                             location++) {
+                            blocks[elements[location]] = newBlock;
+                        }
+
+                        if (pending[block] || ends[newBlock] - starts[newBlock] <=
+                                ends[block] - starts[block]) {
+                            pending[newBlock] = true;
+                            worklist[top++] = newBlock;
+                        } else {
+                            pending[block] = true;
+                            worklist[top++] = block;
+                        }
+                    }
+                }
+            }
+        }
+
+        if (blockCount == stateCount) {
+            return this;
+        }
+
+        int[] indices = new int[blockCount];
+        Arrays.fill(indices, -1);
+        int[] minimizedTransitions = new int[blockCount * size];
+        boolean[] minimizedAccepting = new boolean[blockCount];
+        int index = 0;
+
+        for (int state = 0; state < stateCount; state++) {
+            if (indices[blocks[state]] == -1) {
+                indices[blocks[state]] = index++;
+            }
+        }
+
+        for (int state = 0; state < stateCount; state++) {
+            int minimizedState = indices[blocks[state]];
+            minimizedAccepting[minimizedState] = accepting[state];
+
+            for (int i = 0; i < size; i++) {
+                minimizedTransitions[minimizedState * size + i] =
+                        indices[blocks[transitions[state * size + i]]];
+            }
+        }
+
+        return new Dfa(alphabet, minimizedTransitions, minimizedAccepting);
+    }
+
+    /**
+     * Returns, whether the automaton accepts a specific text, or not.
+     *
+     * @param text
+     *         The text as an instance of the type {@link CharSequence}. The text may not be null
+     * @return True, if the automaton accepts the given text, false otherwise
+     */
+    boolean matches(@NonNull final CharSequence text) {
+        int size = alphabet.size();
+        int length = text.length();
+        int state = 0;
+        int position = 0;
+
+        while (position < length) {
+            int codePoint = Character.codePointAt(text, position);
+            position += Character.charCount(codePoint);
+            state = transitions[state * size + alphabet.indexOf(codePoint)];
+
+            if (state == deadState) {
+                return false;
+            }
+        }
+
+        return accepting[state];
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,494 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.regex;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+import de.mrapp.android.validation.ValidationOutcome;
+import de.mrapp.android.validation.regex.RegexNode.Assertion;
+
+import static de.mrapp.android.validation.util.Condition.ensureAtLeast;
+import static de.mrapp.android.validation.util.Condition.ensureNotNull;
+
+/**
+ * A regular expression, which is matched by simulating a non-deterministic finite automaton
+ * instead of backtracking. The time, which is needed to match a text, is therefore linear in the
+ * length of the text, regardless of the regular expression, which prevents catastrophic
+ * backtracking. Only a subset of the syntax of the class {@link Pattern} is supported. It
+ * includes literals, character classes, groups, alternations, greedy and reluctant quantifiers,
+ * as well as the most common boundary matchers, but excludes e.g. back references, lookarounds
+ * and possessive quantifiers.
+ *
+ * The number of steps, which are needed to match a text, can optionally be limited by a budget.
+ * A step corresponds to visiting a state of the automaton, i.e. at most <code>n * m</code> steps
+ * are needed to match a text of length <code>n</code> against an automaton with <code>m</code>
+ * states.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public final class LinearRegex {
+
+    /**
+     * The arrays, which are used by a thread to match texts.
+     */
+    private static final class Scratch {
+
+        /**
+         * The states, which are active at the current position.
+         */
+        private int[] currentStates;
+
+        /**
+         * The states, which are active at the next position.
+         */
+        private int[] nextStates;
+
+        /**
+         * The generation, each state has been added to a list of active states at last.
+         */
+        private final int[] generations;
+
+        /**
+         * The stack, which is used to follow the transitions, which do not consume any input.
+         */
+        private final int[] stack;
+
+        /**
+         * The current generation.
+         */
+        private int generation;
+
+        /**
+         * The number of steps, which have been taken so far.
+         */
+        private long steps;
+
+        /**
+         * Creates a new object, which contains the arrays, which are used by a thread to match
+         * texts.
+         *
+         * @param size
+         *         The number of states of the automaton as an {@link Integer} value
+         */
+        Scratch(final int size) {
+            this.currentStates = new int[size];
+            this.nextStates = new int[size];
+            this.generations = new int[size];
+            this.stack = new int[size];
+            this.generation = 0;
+        }
+
+        /**
+         * Starts a new generation. States, which have been added to a list of active states
+         * before, may be added again afterwards.
+         */
+        private void nextGeneration() {
+            if (generation == Integer.MAX_VALUE) {
+                Arrays.fill(generations, 0);
+                generation = 0;
+            }
+
+            generation++;
+        }
+
+        /**
+         * Swaps the states, which are active at the current and the next position.
+         */
+        private void swap() {
+            int[] states = currentStates;
+            currentStates = nextStates;
+            nextStates = states;
+        }
+
+    }
+
+    /**
+     * The budget, which does not limit the number of steps.
+     */
+    public static final int NO_BUDGET = 0;
+
+    /**
+     * The regular expression.
+     */
+    private final Pattern pattern;
+
+    /**
+     * The automaton, which is simulated in order to match texts.
+     */
+    private final Nfa nfa;
+
+    /**
+     * The arrays, which are used by the individual threads to match texts.
+     */
+    private final ThreadLocal<Scratch> scratches;
+
+    /**
+     * Returns, whether a code point is considered to be part of a word, or not.
+     *
+     * @param codePoint
+     *         The code point as an {@link Integer} value
+     * @return True, if the given code point is considered to be part of a word, false otherwise
+     */
+    private static boolean isWord(final int codePoint) {
+        return codePoint == '_' || Character.isLetterOrDigit(codePoint);
+    }
+
+    /**
+     * Returns, whether a specific position of a text is preceded by a letter or digit, which is
+     * only followed by non-spacing marks.
+     *
+     * @param text
+     *         The text as an instance of the type {@link CharSequence}. The text may not be null
+     * @param index
+     *         The index of the first code point, which should be checked, as an {@link Integer}
+     *         value
+     * @return True, if the given position is preceded by a letter or digit, false otherwise
+     */
+    private static boolean hasBaseCharacter(@NonNull final CharSequence text, final int index) {
+        for (int i = index; i >= 0; i--) {
+            int codePoint = Character.codePointAt(text, i);
+
+            if (Character.isLetterOrDigit(codePoint)) {
+                return true;
+            } else if (Character.getType(codePoint) != Character.NON_SPACING_MARK) {
+                return false;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns, whether the code point at a specific index of a text is considered to be part of
+     * a word, or not.
+     *
+     * @param text
+     *         The text as an instance of the type {@link CharSequence}. The text may not be null
+     * @param index
+     *         The index of the code point as an {@link Integer} value
+     * @param codePoint
+     *         The code point as an {@link Integer} value
+     * @return True, if the code point is considered to be part of a word, false otherwise
+     */
+    private static boolean isWord(@NonNull final CharSequence text, final int index,
+                                  final int codePoint) {
+        return isWord(codePoint) || (Character.getType(codePoint) == Character.NON_SPACING_MARK &&
+                hasBaseCharacter(text, index));
+    }
+
+    /**
+     * Returns, whether a specific position of a text is a word boundary, or not.
+     *
+     * @param text
+     *         The text as an instance of the type {@link CharSequence}. The text may not be null
+     * @param position
+     *         The position as an {@link Integer} value
+     * @return True, if the given position is a word boundary, false otherwise
+     */
+    private static boolean isWordBoundary(@NonNull final CharSequence text, final int position) {
+        boolean left = false;
+        boolean right = false;
+
+        if (position > 0) {
+            int codePoint = Character.codePointBefore(text, position);
+            left = isWord(text, position - 1, codePoint);
+        }
+
+        if (position < text.length()) {
+            int codePoint = Character.codePointAt(text, position);
+            right = isWord(text, position, codePoint);
+        }
+
+        return left != right;
+    }
+
+    /**
+     * Returns, whether a specific position of a text is the end of the text or is only followed
+     * by a line terminator.
+     *
+     * @param text
+     *         The text as an instance of the type {@link CharSequence}. The text may not be null
+     * @param position
+     *         The position as an {@link Integer} value
+     * @return True, if the given position is the end of the text or is only followed by a line
+     * terminator, false otherwise
+     */
+    private static boolean isEndOfInputOrLine(@NonNull final CharSequence text,
+                                              final int position) {
+        int length = text.length();
+
+        if (position == length) {
+            return true;
+        } else if (position == length - 2) {
+            return text.charAt(position) == '\r' && text.charAt(position + 1) == '\n';
+        } else if (position == length - 1) {
+            char character = text.charAt(position);
+
+            if (character == '\n') {
+                return position == 0 || text.charAt(position - 1) != '\r';
+            }
+
+            return CharSet.LINE_TERMINATORS.contains(character);
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns, whether an assertion holds at a specific position of a text, or not.
+     *
+     * @param assertion
+     *         The assertion as a value of the enum {@link Assertion}. The assertion may not be
+     *         null
+     * @param text
+     *         The text as an instance of the type {@link CharSequence}. The text may not be null
+     * @param position
+     *         The position as an {@link Integer} value
+     * @return True, if the assertion holds, false otherwise
+     */
+    private static boolean holds(@NonNull final Assertion assertion,
+                                 @NonNull final CharSequence text, final int position) {
+        switch (assertion) {
+            case BEGIN_OF_INPUT:
+                return position == 0;
+            case END_OF_INPUT:
+                return position == text.length();
+            case END_OF_INPUT_OR_LINE:
+                return isEndOfInputOrLine(text, position);
+            case WORD_BOUNDARY:
+                return isWordBoundary(text, position);
+            default:
+                return !isWordBoundary(text, position);
+        }
+    }
+
+    /**
+     * Adds a state to a list of active states. All states, which are reachable from the given
+     * state without consuming any input, are added as well.
+     *
+     * @param scratch
+     *         The arrays, which are used by the current thread, as an instance of the class
+     *         {@link Scratch}. The arrays may not be null
+     * @param states
+     *         The list of active states as an {@link Integer} array. The array may not be null
+     * @param size
+     *         The number of states, which are contained by the list, as an {@link Integer} value
+     * @param state
+     *         The state, which should be added, as an {@link Integer} value
+     * @param text
+     *         The text, which is matched, as an instance of the type {@link CharSequence}. The
+     *         text may not be null
+     * @param position
+     *         The position of the text, the list of active states corresponds to, as an {@link
+     *         Integer} value
+     * @return The number of states, which are contained by the list afterwards, as an {@link
+     * Integer} value
+     */
+    private int addState(@NonNull final Scratch scratch, @NonNull final int[] states,
+                         final int size, final int state, @NonNull final CharSequence text,
+                         final int position) {
+        int[] generations = scratch.generations;
+        int generation = scratch.generation;
+
+        if (generations[state] == generation) {
+            return size;
+        }
+
+        int[] stack = scratch.stack;
+        int top = 0;
+        int result = size;
+        generations[state] = generation;
+        stack[top++] = state;
+
+        while (top > 0) {
+            int current = stack[--top];
+            scratch.steps++;
+
+            switch (nfa.getType(current)) {
+                case Nfa.SPLIT:
+                    for (int successor : nfa.getBranches(current)) {
+                        if (generations[successor] != generation) {
+                            generations[successor] = generation;
+                            stack[top++] = successor;
+                        }
+                    }
+
+                    break;
+                case Nfa.ASSERTION:
+                    int successor = nfa.getSuccessor(current);
+
+                    if (generations[successor] != generation &&
+                            holds(nfa.getAssertion(current), text, position)) {
+                        generations[successor] = generation;
+                        stack[top++] = successor;
+                    }
+
+                    break;
+                default:
+                    states[result++] = current;
+                    break;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates a new regular expression, which is matched by simulating a non-deterministic
+     * finite automaton.
+     *
+     * @param pattern
+     *         The regular expression as an instance of the class {@link Pattern}. The regular
+     *         expression may not be null
+     * @param nfa
+     *         The automaton, which corresponds to the regular expression, as an instance of the
+     *         class {@link Nfa}. The automaton may not be null
+     */
+    private LinearRegex(@NonNull final Pattern pattern, @NonNull final Nfa nfa) {
+        this.pattern = pattern;
+        this.nfa = nfa;
+        this.scratches = new ThreadLocal<Scratch>() {
+
+            @Override
+            protected Scratch initialValue() {
+                return new Scratch(nfa.size());
+            }
+
+        };
+    }
+
+    /**
+     * Compiles a regular expression in order to be matched by simulating a non-deterministic
+     * finite automaton.
+     *
+     * @param pattern
+     *         The regular expression, which should be compiled, as an instance of the class {@link
+     *         Pattern}. The regular expression may not be null
+     * @return The compiled regular expression as an instance of the class {@link LinearRegex} or
+     * null, if the regular expression contains constructs, which are not supported
+     */
+    @Nullable
+    public static LinearRegex compile(@NonNull final Pattern pattern) {
+        ensureNotNull(pattern, "The pattern may not be null");
+
+        try {
+            return new LinearRegex(pattern, Nfa.compile(RegexParser.parse(pattern)));
+        } catch (UnsupportedRegexException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns, whether a regular expression is supported, i.e. whether it can be compiled in
+     * order to be matched by simulating a non-deterministic finite automaton.
+     *
+     * @param pattern
+     *         The regular expression as an instance of the class {@link Pattern}. The regular
+     *         expression may not be null
+     * @return True, if the given regular expression is supported, false otherwise
+     */
+    public static boolean isSupported(@NonNull final Pattern pattern) {
+        return compile(pattern) != null;
+    }
+
+    /**
+     * Returns the regular expression.
+     *
+     * @return The regular expression as an instance of the class {@link Pattern}
+     */
+    public Pattern getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Returns, whether a specific text matches the regular expression entirely.
+     *
+     * @param text
+     *         The text, which should be matched, as an instance of the type {@link CharSequence}.
+     *         The text may not be null
+     * @return True, if the given text matches the regular expression, false otherwise
+     */
+    public boolean matches(@NonNull final CharSequence text) {
+        return matches(text, NO_BUDGET) == ValidationOutcome.VALID;
+    }
+
+    /**
+     * Returns, whether a specific text matches the regular expression entirely. Matching is
+     * aborted, if it requires more than a specific number of steps.
+     *
+     * @param text
+     *         The text, which should be matched, as an instance of the type {@link CharSequence}.
+     *         The text may not be null
+     * @param budget
+     *         The maximum number of steps, which may be taken, as an {@link Integer} value or
+     *         {@link #NO_BUDGET}, if the number of steps should not be limited. The budget must
+     *         be at least 0
+     * @return {@link ValidationOutcome#VALID}, if the given text matches the regular expression,
+     * {@link ValidationOutcome#INVALID}, if it does not match the regular expression, or {@link
+     * ValidationOutcome#BUDGET_EXCEEDED}, if matching exceeded the budget
+     */
+    public ValidationOutcome matches(@NonNull final CharSequence text, final int budget) {
+        ensureNotNull(text, "The text may not be null");
+        ensureAtLeast(budget, 0, "The budget must be at least 0");
+        Scratch scratch = scratches.get();
+        scratch.steps = 0;
+        scratch.nextGeneration();
+        int length = text.length();
+        int size = addState(scratch, scratch.currentStates, 0, nfa.getInitialState(), text, 0);
+        int position = 0;
+
+        while (position < length) {
+            if (size == 0) {
+                return ValidationOutcome.INVALID;
+            } else if (budget != NO_BUDGET && scratch.steps > budget) {
+                return ValidationOutcome.BUDGET_EXCEEDED;
+            }
+
+            int codePoint = Character.codePointAt(text, position);
+            int nextPosition = position + Character.charCount(codePoint);
+            int[] states = scratch.currentStates;
+            int nextSize = 0;
+            scratch.nextGeneration();
+
+            for (int i = 0; i < size; i++) {
+                int state = states[i];
+                scratch.steps++;
+
+                if (nfa.getType(state) == Nfa.CHARACTERS &&
+                        nfa.getCharacters(state).contains(codePoint)) {
+                    nextSize = addState(scratch, scratch.nextStates, nextSize,
+                            nfa.getSuccessor(state), text, nextPosition);
+                }
+            }
+
+            scratch.swap();
+            size = nextSize;
+            position = nextPosition;
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (nfa.getType(scratch.currentStates[i]) == Nfa.ACCEPT) {
+                return ValidationOutcome.VALID;
+            }
+        }
+
+        return ValidationOutcome.INVALID;
+    }
+
+}
\ No newline at end of file
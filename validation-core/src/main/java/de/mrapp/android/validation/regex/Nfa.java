@@ -0,0 +1,322 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.regex;
+
+import android.support.annotation.NonNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+import de.mrapp.android.validation.regex.RegexNode.Assertion;
+
+/**
+ * A non-deterministic finite automaton, which is compiled from the syntax tree of a regular
+ * expression. Each state either matches a single code point, tests an assertion, branches into
+ * multiple states without consuming any input or accepts the input.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+final class Nfa {
+
+    /**
+     * The type of states, which match a single code point.
+     */
+    static final int CHARACTERS = 0;
+
+    /**
+     * The type of states, which test an assertion.
+     */
+    static final int ASSERTION = 1;
+
+    /**
+     * The type of states, which branch into multiple states without consuming any input.
+     */
+    static final int SPLIT = 2;
+
+    /**
+     * The type of the state, which accepts the input.
+     */
+    static final int ACCEPT = 3;
+
+    /**
+     * The maximum number of states of an automaton.
+     */
+    private static final int MAX_STATES = 50000;
+
+    /**
+     * The types of the states.
+     */
+    private int[] types;
+
+    /**
+     * The code points, which are matched by the states of the type {@link #CHARACTERS}.
+     */
+    private CharSet[] characters;
+
+    /**
+     * The assertions, which are tested by the states of the type {@link #ASSERTION}.
+     */
+    private Assertion[] assertions;
+
+    /**
+     * The successors of the states of the types {@link #CHARACTERS} and {@link #ASSERTION}.
+     */
+    private int[] successors;
+
+    /**
+     * The successors of the states of the type {@link #SPLIT}.
+     */
+    private int[][] branches;
+
+    /**
+     * The number of states.
+     */
+    private int size;
+
+    /**
+     * The initial state.
+     */
+    private int initialState;
+
+    /**
+     * Creates a new, empty automaton.
+     */
+    private Nfa() {
+        this.types = new int[16];
+        this.characters = new CharSet[16];
+        this.assertions = new Assertion[16];
+        this.successors = new int[16];
+        this.branches = new int[16][];
+        this.size = 0;
+    }
+
+    /**
+     * Adds a new state to the automaton.
+     *
+     * @param type
+     *         The type of the state as an {@link Integer} value
+     * @return The index of the state, which has been added, as an {@link Integer} value
+     * @throws UnsupportedRegexException
+     *         The exception, which is thrown, if the automaton contains too many states
+     */
+    private int addState(final int type) throws UnsupportedRegexException {
+        if (size == MAX_STATES) {
+            throw new UnsupportedRegexException("The regular expression is too complex");
+        }
+
+        if (size == types.length) {
+            int capacity = size * 2;
+            types = Arrays.copyOf(types, capacity);
+            characters = Arrays.copyOf(characters, capacity);
+            assertions = Arrays.copyOf(assertions, capacity);
+            successors = Arrays.copyOf(successors, capacity);
+            branches = Arrays.copyOf(branches, capacity);
+        }
+
+        types[size] = type;
+        return size++;
+    }
+
+    /**
+     * Adds the states, which correspond to a specific node of a syntax tree, to the automaton.
+     *
+     * @param node
+     *         The node as an instance of the class {@link RegexNode}. The node may not be null
+     * @param next
+     *         The state, which should be entered after the node has been matched, as an {@link
+     *         Integer} value
+     * @return The state, which must be entered in order to match the node, as an {@link Integer}
+     * value
+     * @throws UnsupportedRegexException
+     *         The exception, which is thrown, if the automaton contains too many states
+     */
+    private int compile(@NonNull final RegexNode node, final int next)
+            throws UnsupportedRegexException {
+        switch (node.getType()) {
+            case CHARACTERS:
+                int characterState = addState(CHARACTERS);
+                characters[characterState] = node.getCharacters();
+                successors[characterState] = next;
+                return characterState;
+            case ASSERTION:
+                int assertionState = addState(ASSERTION);
+                assertions[assertionState] = node.getAssertion();
+                successors[assertionState] = next;
+                return assertionState;
+            case CONCATENATION:
+                List<RegexNode> children = node.getChildren();
+                int state = next;
+
+                for (int i = children.size() - 1; i >= 0; i--) {
+                    state = compile(children.get(i), state);
+                }
+
+                return state;
+            case ALTERNATION:
+                List<RegexNode> alternatives = node.getChildren();
+                int[] targets = new int[alternatives.size()];
+
+                for (int i = 0; i < targets.length; i++) {
+                    targets[i] = compile(alternatives.get(i), next);
+                }
+
+                int splitState = addState(SPLIT);
+                branches[splitState] = targets;
+                return splitState;
+            case REPETITION:
+                return compileRepetition(node, next);
+            default:
+                return next;
+        }
+    }
+
+    /**
+     * Adds the states, which correspond to a node of the type {@link RegexNode.Type#REPETITION},
+     * to the automaton.
+     *
+     * @param node
+     *         The node as an instance of the class {@link RegexNode}. The node may not be null
+     * @param next
+     *         The state, which should be entered after the node has been matched, as an {@link
+     *         Integer} value
+     * @return The state, which must be entered in order to match the node, as an {@link Integer}
+     * value
+     * @throws UnsupportedRegexException
+     *         The exception, which is thrown, if the automaton contains too many states
+     */
+    private int compileRepetition(@NonNull final RegexNode node, final int next)
+            throws UnsupportedRegexException {
+        RegexNode child = node.getChildren().get(0);
+        int state;
+
+        if (node.getMax() == RegexNode.UNBOUNDED) {
+            int loopState = addState(SPLIT);
+            int bodyState = compile(child, loopState);
+            branches[loopState] = new int[]{bodyState, next};
+            state = loopState;
+        } else {
+            state = next;
+
+            for (int i = node.getMin(); i < node.getMax(); i++) {
+                int bodyState = compile(child, state);
+                int optionalState = addState(SPLIT);
+                branches[optionalState] = new int[]{bodyState, next};
+                state = optionalState;
+            }
+        }
+
+        for (int i = 0; i < node.getMin(); i++) {
+            state = compile(child, state);
+        }
+
+        return state;
+    }
+
+    /**
+     * Compiles the syntax tree of a regular expression into an automaton.
+     *
+     * @param node
+     *         The root of the syntax tree as an instance of the class {@link RegexNode}. The root
+     *         may not be null
+     * @return The automaton, which has been compiled, as an instance of the class {@link Nfa}
+     * @throws UnsupportedRegexException
+     *         The exception, which is thrown, if the automaton contains too many states
+     */
+    static Nfa compile(@NonNull final RegexNode node) throws UnsupportedRegexException {
+        Nfa nfa = new Nfa();
+        int acceptState = nfa.addState(ACCEPT);
+        nfa.initialState = nfa.compile(node, acceptState);
+        return nfa;
+    }
+
+    /**
+     * Returns the number of states.
+     *
+     * @return The number of states as an {@link Integer} value
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the initial state.
+     *
+     * @return The initial state as an {@link Integer} value
+     */
+    int getInitialState() {
+        return initialState;
+    }
+
+    /**
+     * Returns the type of a specific state.
+     *
+     * @param state
+     *         The state as an {@link Integer} value
+     * @return The type of the given state as an {@link Integer} value
+     */
+    int getType(final int state) {
+        return types[state];
+    }
+
+    /**
+     * Returns the code points, which are matched by a specific state of the type {@link
+     * #CHARACTERS}.
+     *
+     * @param state
+     *         The state as an {@link Integer} value
+     * @return The code points, which are matched by the given state, as an instance of the class
+     * {@link CharSet}
+     */
+    CharSet getCharacters(final int state) {
+        return characters[state];
+    }
+
+    /**
+     * Returns the assertion, which is tested by a specific state of the type {@link #ASSERTION}.
+     *
+     * @param state
+     *         The state as an {@link Integer} value
+     * @return The assertion, which is tested by the given state, as a value of the enum {@link
+     * Assertion}
+     */
+    Assertion getAssertion(final int state) {
+        return assertions[state];
+    }
+
+    /**
+     * Returns the successor of a specific state of the type {@link #CHARACTERS} or {@link
+     * #ASSERTION}.
+     *
+     * @param state
+     *         The state as an {@link Integer} value
+     * @return The successor of the given state as an {@link Integer} value
+     */
+    int getSuccessor(final int state) {
+        return successors[state];
+    }
+
+    /**
+     * Returns the successors of a specific state of the type {@link #SPLIT}.
+     *
+     * @param state
+     *         The state as an {@link Integer} value
+     * @return An array, which contains the successors of the given state, as an {@link Integer}
+     * array
+     */
+    int[] getBranches(final int state) {
+        return branches[state];
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,310 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.regex;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A node of the syntax tree of a regular expression.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+final class RegexNode {
+
+    /**
+     * Contains all types of nodes.
+     */
+    enum Type {
+
+        /**
+         * If the node matches the empty text.
+         */
+        EMPTY,
+
+        /**
+         * If the node matches a single code point, which is contained by a set.
+         */
+        CHARACTERS,
+
+        /**
+         * If the node matches the empty text at positions, where an assertion holds.
+         */
+        ASSERTION,
+
+        /**
+         * If the node matches its children one after another.
+         */
+        CONCATENATION,
+
+        /**
+         * If the node matches any of its children.
+         */
+        ALTERNATION,
+
+        /**
+         * If the node matches its only child repeatedly.
+         */
+        REPETITION
+
+    }
+
+    /**
+     * Contains all assertions, which may be tested at positions of a text.
+     */
+    enum Assertion {
+
+        /**
+         * If the position must be the beginning of the text.
+         */
+        BEGIN_OF_INPUT,
+
+        /**
+         * If the position must be the end of the text.
+         */
+        END_OF_INPUT,
+
+        /**
+         * If the position must be the end of the text or it must be only followed by a line
+         * terminator.
+         */
+        END_OF_INPUT_OR_LINE,
+
+        /**
+         * If the position must be a word boundary.
+         */
+        WORD_BOUNDARY,
+
+        /**
+         * If the position must not be a word boundary.
+         */
+        NON_WORD_BOUNDARY
+
+    }
+
+    /**
+     * The value of the maximum number of repetitions, if the number of repetitions is unbounded.
+     */
+    static final int UNBOUNDED = -1;
+
+    /**
+     * A node, which matches the empty text.
+     */
+    static final RegexNode EMPTY = new RegexNode(Type.EMPTY, null, null,
+            Collections.<RegexNode>emptyList(), 0, 0);
+
+    /**
+     * The type of the node.
+     */
+    private final Type type;
+
+    /**
+     * The code points, which are matched by the node, if it is of the type {@link
+     * Type#CHARACTERS}.
+     */
+    private final CharSet characters;
+
+    /**
+     * The assertion, which is tested by the node, if it is of the type {@link Type#ASSERTION}.
+     */
+    private final Assertion assertion;
+
+    /**
+     * The children of the node.
+     */
+    private final List<RegexNode> children;
+
+    /**
+     * The minimum number of repetitions, if the node is of the type {@link Type#REPETITION}.
+     */
+    private final int min;
+
+    /**
+     * The maximum number of repetitions or {@link #UNBOUNDED}, if the node is of the type {@link
+     * Type#REPETITION}.
+     */
+    private final int max;
+
+    /**
+     * Creates a new node of the syntax tree of a regular expression.
+     *
+     * @param type
+     *         The type of the node as a value of the enum {@link Type}. The type may not be null
+     * @param characters
+     *         The code points, which are matched by the node, as an instance of the class {@link
+     *         CharSet} or null, if the node is not of the type {@link Type#CHARACTERS}
+     * @param assertion
+     *         The assertion, which is tested by the node, as a value of the enum {@link Assertion}
+     *         or null, if the node is not of the type {@link Type#ASSERTION}
+     * @param children
+     *         A list, which contains the children of the node, as an instance of the type {@link
+     *         List}. The list may not be null
+     * @param min
+     *         The minimum number of repetitions as an {@link Integer} value
+     * @param max
+     *         The maximum number of repetitions as an {@link Integer} value
+     */
+    private RegexNode(@NonNull final Type type, @Nullable final CharSet characters,
+                      @Nullable final Assertion assertion, @NonNull final List<RegexNode> children,
+                      final int min, final int max) {
+        this.type = type;
+        this.characters = characters;
+        this.assertion = assertion;
+        this.children = children;
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * Creates and returns a node, which matches a single code point, which is contained by a
+     * specific set.
+     *
+     * @param characters
+     *         The set, which contains the code points, which should be matched, as an instance of
+     *         the class {@link CharSet}. The set may not be null
+     * @return The node, which has been created, as an instance of the class {@link RegexNode}
+     */
+    static RegexNode characters(@NonNull final CharSet characters) {
+        return new RegexNode(Type.CHARACTERS, characters, null,
+                Collections.<RegexNode>emptyList(), 1, 1);
+    }
+
+    /**
+     * Creates and returns a node, which tests a specific assertion.
+     *
+     * @param assertion
+     *         The assertion, which should be tested, as a value of the enum {@link Assertion}. The
+     *         assertion may not be null
+     * @return The node, which has been created, as an instance of the class {@link RegexNode}
+     */
+    static RegexNode assertion(@NonNull final Assertion assertion) {
+        return new RegexNode(Type.ASSERTION, null, assertion, Collections.<RegexNode>emptyList(),
+                0, 0);
+    }
+
+    /**
+     * Creates and returns a node, which matches specific nodes one after another.
+     *
+     * @param children
+     *         A list, which contains the nodes, which should be matched, as an instance of the
+     *         type {@link List}. The list may not be null
+     * @return The node, which has been created, as an instance of the class {@link RegexNode}
+     */
+    static RegexNode concatenation(@NonNull final List<RegexNode> children) {
+        if (children.isEmpty()) {
+            return EMPTY;
+        } else if (children.size() == 1) {
+            return children.get(0);
+        }
+
+        return new RegexNode(Type.CONCATENATION, null, null, children, 1, 1);
+    }
+
+    /**
+     * Creates and returns a node, which matches any of specific nodes.
+     *
+     * @param children
+     *         A list, which contains the nodes, which should be matched, as an instance of the
+     *         type {@link List}. The list may not be empty
+     * @return The node, which has been created, as an instance of the class {@link RegexNode}
+     */
+    static RegexNode alternation(@NonNull final List<RegexNode> children) {
+        if (children.size() == 1) {
+            return children.get(0);
+        }
+
+        return new RegexNode(Type.ALTERNATION, null, null, children, 1, 1);
+    }
+
+    /**
+     * Creates and returns a node, which matches a specific node repeatedly.
+     *
+     * @param child
+     *         The node, which should be repeated, as an instance of the class {@link RegexNode}.
+     *         The node may not be null
+     * @param min
+     *         The minimum number of repetitions as an {@link Integer} value
+     * @param max
+     *         The maximum number of repetitions as an {@link Integer} value or {@link
+     *         #UNBOUNDED}, if the number of repetitions is unbounded
+     * @return The node, which has been created, as an instance of the class {@link RegexNode}
+     */
+    static RegexNode repetition(@NonNull final RegexNode child, final int min, final int max) {
+        return new RegexNode(Type.REPETITION, null, null, Collections.singletonList(child), min,
+                max);
+    }
+
+    /**
+     * Returns the type of the node.
+     *
+     * @return The type of the node as a value of the enum {@link Type}
+     */
+    Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the code points, which are matched by the node.
+     *
+     * @return The code points, which are matched by the node, as an instance of the class {@link
+     * CharSet} or null, if the node is not of the type {@link Type#CHARACTERS}
+     */
+    CharSet getCharacters() {
+        return characters;
+    }
+
+    /**
+     * Returns the assertion, which is tested by the node.
+     *
+     * @return The assertion, which is tested by the node, as a value of the enum {@link
+     * Assertion} or null, if the node is not of the type {@link Type#ASSERTION}
+     */
+    Assertion getAssertion() {
+        return assertion;
+    }
+
+    /**
+     * Returns the children of the node.
+     *
+     * @return A list, which contains the children of the node, as an instance of the type {@link
+     * List}
+     */
+    List<RegexNode> getChildren() {
+        return children;
+    }
+
+    /**
+     * Returns the minimum number of repetitions.
+     *
+     * @return The minimum number of repetitions as an {@link Integer} value
+     */
+    int getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the maximum number of repetitions.
+     *
+     * @return The maximum number of repetitions as an {@link Integer} value or {@link
+     * #UNBOUNDED}, if the number of repetitions is unbounded
+     */
+    int getMax() {
+        return max;
+    }
+
+}
\ No newline at end of file
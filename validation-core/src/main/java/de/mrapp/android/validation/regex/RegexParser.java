@@ -0,0 +1,706 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.regex;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import de.mrapp.android.validation.regex.RegexNode.Assertion;
+
+/**
+ * A parser, which allows to convert regular expressions, which use the syntax of the class {@link
+ * Pattern}, into syntax trees. Only a subset of the syntax is supported, namely literals,
+ * character classes including ranges, nested classes and intersections, the predefined classes
+ * <code>.</code>, <code>\d</code>, <code>\w</code> and <code>\s</code>, capturing and
+ * non-capturing groups, alternations, greedy and reluctant quantifiers, unless they are applied to
+ * expressions, which may match the empty text, the boundary matchers <code>^</code>,
+ * <code>$</code>, <code>\A</code>, <code>\z</code>, <code>\Z</code>, <code>\b</code> and
+ * <code>\B</code>, as well as the flags <code>CASE_INSENSITIVE</code> and <code>DOTALL</code>.
+ * Other constructs, e.g. back references, lookarounds or possessive quantifiers, cause an {@link
+ * UnsupportedRegexException} to be thrown.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+final class RegexParser {
+
+    /**
+     * The flags, which are supported.
+     */
+    private static final int SUPPORTED_FLAGS = Pattern.CASE_INSENSITIVE | Pattern.DOTALL;
+
+    /**
+     * The maximum number of repetitions, which may be specified by a quantifier.
+     */
+    private static final int MAX_REPETITIONS = 1000;
+
+    /**
+     * The regular expression, which is parsed.
+     */
+    private final String regex;
+
+    /**
+     * The index of the next character of the regular expression, which is parsed.
+     */
+    private int index;
+
+    /**
+     * The flags, which are currently in effect.
+     */
+    private int flags;
+
+    /**
+     * Creates a new parser.
+     *
+     * @param regex
+     *         The regular expression, which should be parsed, as a {@link String}. The regular
+     *         expression may not be null
+     * @param flags
+     *         The flags of the regular expression as an {@link Integer} value
+     */
+    private RegexParser(@NonNull final String regex, final int flags) {
+        this.regex = regex;
+        this.index = 0;
+        this.flags = flags;
+    }
+
+    /**
+     * Returns, whether a specific flag is currently in effect, or not.
+     *
+     * @param flag
+     *         The flag as an {@link Integer} value
+     * @return True, if the given flag is in effect, false otherwise
+     */
+    private boolean hasFlag(final int flag) {
+        return (flags & flag) != 0;
+    }
+
+    /**
+     * Returns, whether the regular expression contains further characters, which must be parsed,
+     * or not.
+     *
+     * @return True, if the regular expression contains further characters, false otherwise
+     */
+    private boolean hasNext() {
+        return index < regex.length();
+    }
+
+    /**
+     * Returns the next character of the regular expression without consuming it.
+     *
+     * @return The next character as a {@link Character} value or 0, if the end of the regular
+     * expression has been reached
+     */
+    private char peek() {
+        return hasNext() ? regex.charAt(index) : 0;
+    }
+
+    /**
+     * Returns the next character of the regular expression and consumes it.
+     *
+     * @return The next character as a {@link Character} value
+     * @throws UnsupportedRegexException
+     *         The exception, which is thrown, if the end of the regular expression has been
+     *         reached
+     */
+    private char next() throws UnsupportedRegexException {
+        if (!hasNext()) {
+            throw new UnsupportedRegexException("Unexpected end of regular expression");
+        }
+
+        return regex.charAt(index++);
+    }
+
+    /**
+     * Returns the next code point of the regular expression and consumes it.
+     *
+     * @return The next code point as an {@link Integer} value
+     */
+    private int nextCodePoint() {
+        int codePoint = regex.codePointAt(index);
+        index += Character.charCount(codePoint);
+        return codePoint;
+    }
+
+    /**
+     * Parses an unsigned decimal number.
+     *
+     * @return The number, which has been parsed, as an {@link Integer} value
+     * @throws UnsupportedRegexException
+     *         The exception, which is thrown, if no number is present or if it is too large
+     */
+    private int parseNumber() throws UnsupportedRegexException {
+        int start = index;
+        int result = 0;
+
+        while (hasNext() && peek() >= '0' && peek() <= '9') {
+            result = result * 10 + (next() - '0');
+
+            if (result > MAX_REPETITIONS) {
+                throw new UnsupportedRegexException("Too many repetitions at index " + start);
+            }
+        }
+
+        if (index == start) {
+            throw new UnsupportedRegexException("Expected a number at index " + start);
+        }
+
+        return result;
+    }
+
+    /**
+     * Parses a number, which consists of a specific number of digits of a specific radix.
+     *
+     * @param digits
+     *         The maximum number of digits as an {@link Integer} value
+     * @param radix
+     *         The radix as an {@link Integer} value
+     * @param exact
+     *         True, if the number must consist of exactly the given number of digits, false
+     *         otherwise
+     * @return The number, which has been parsed, as an {@link Integer} value
+     * @throws UnsupportedRegexException
+     *         The exception, which is thrown, if the number is malformed
+     */
+    private int parseNumber(final int digits, final int radix, final boolean exact)
+            throws UnsupportedRegexException {
+        int result = 0;
+        int count = 0;
+
+        while (count < digits && hasNext() && Character.digit(peek(), radix) != -1) {
+            result = result * radix + Character.digit(next(), radix);
+            count++;
+        }
+
+        if (count == 0 || (exact && count != digits)) {
+            throw new UnsupportedRegexException("Malformed escape sequence at index " + index);
+        }
+
+        return result;
+    }
+
+    /**
+     * Parses an escape sequence, which represents a single code point. The backslash must already
+     * have been consumed.
+     *
+     * @param character
+     *         The character, which follows the backslash, as a {@link Character} value
+     * @return The code point, which is represented by the escape sequence, as an {@link Integer}
+     * value
+     * @throws UnsupportedRegexException
+     *         The exception, which is thrown, if the escape sequence is not supported
+     */
+    private int parseEscapedCodePoint(final char character) throws UnsupportedRegexException {
+        switch (character) {
+            case 't':
+                return '\t';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 'f':
+                return '\f';
+            case 'a':
+                return '\u0007';
+            case 'e':
+                return '\u001B';
+            case 'c':
+                return next() ^ 64;
+            case '0':
+                int octal = parseNumber(1, 8, true);
+
+                if (Character.digit(peek(), 8) != -1) {
+                    octal = octal * 8 + Character.digit(next(), 8);
+
+                    if (octal < 040 && Character.digit(peek(), 8) != -1) {
+                        octal = octal * 8 + Character.digit(next(), 8);
+                    }
+                }
+
+                return octal;
+            case 'x':
+                if (peek() == '{') {
+                    next();
+                    int codePoint = parseNumber(8, 16, false);
+
+                    if (next() != '}' || codePoint > CharSet.MAX_CODE_POINT) {
+                        throw new UnsupportedRegexException(
+                                "Malformed escape sequence at index " + index);
+                    }
+
+                    return codePoint;
+                }
+
+                return parseNumber(2, 16, true);
+            case 'u':
+                char unit = (char) parseNumber(4, 16, true);
+
+                if (Character.isHighSurrogate(unit) && regex.startsWith("\\u", index)) {
+                    int start = index;
+                    index += 2;
+                    char lowSurrogate = (char) parseNumber(4, 16, true);
+
+                    if (Character.isLowSurrogate(lowSurrogate)) {
+                        return Character.toCodePoint(unit, lowSurrogate);
+                    }
+
+                    index = start;
+                }
+
+                return unit;
+            default:
+                if ((character >= 'a' && character <= 'z') ||
+                        (character >= 'A' && character <= 'Z') ||
+                        (character >= '0' && character <= '9')) {
+                    throw new UnsupportedRegexException(
+                            "Unsupported escape sequence \\" + character + " at index " + index);
+                }
+
+                return character;
+        }
+    }
+
+    /**
+     * Returns the set of code points, which corresponds to a predefined character class.
+     *
+     * @param character
+     *         The character, which identifies the predefined character class, as a {@link
+     *         Character} value
+     * @return The set of code points, which corresponds to the predefined character class, as an
+     * instance of the class {@link CharSet} or null, if the given character does not identify a
+     * predefined character class
+     */
+    @Nullable
+    private static CharSet getPredefinedClass(final char character) {
+        switch (character) {
+            case 'd':
+                return CharSet.DIGITS;
+            case 'D':
+                return CharSet.DIGITS.complement();
+            case 'w':
+                return CharSet.WORD_CHARACTERS;
+            case 'W':
+                return CharSet.WORD_CHARACTERS.complement();
+            case 's':
+                return CharSet.WHITESPACE;
+            case 'S':
+                return CharSet.WHITESPACE.complement();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns the set of code points, which is matched by a specific literal, depending on the
+     * flags, which are currently in effect.
+     *
+     * @param characters
+     *         The set, which contains the literal code points, as an instance of the class {@link
+     *         CharSet}. The set may not be null
+     * @return The set of code points, which is matched by the literal, as an instance of the
+     * class {@link CharSet}
+     */
+    private CharSet getLiteral(@NonNull final CharSet characters) {
+        return hasFlag(Pattern.CASE_INSENSITIVE) ? characters.caseInsensitive() : characters;
+    }
+
+    /**
+     * Returns, whether a specific node of a syntax tree may match the empty text, or not.
+     *
+     * @param node
+     *         The node as an instance of the class {@link RegexNode}. The node may not be null
+     * @return True, if the given node may match the empty text, false otherwise
+     */
+    private static boolean isNullable(@NonNull final RegexNode node) {
+        switch (node.getType()) {
+            case CHARACTERS:
+                return false;
+            case CONCATENATION:
+                for (RegexNode child : node.getChildren()) {
+                    if (!isNullable(child)) {
+                        return false;
+                    }
+                }
+
+                return true;
+            case ALTERNATION:
+                for (RegexNode child : node.getChildren()) {
+                    if (isNullable(child)) {
+                        return true;
+                    }
+                }
+
+                return false;
+            case REPETITION:
+                return node.getMin() == 0 || isNullable(node.getChildren().get(0));
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Parses an alternation, i.e. one or more concatenations, which are separated by vertical
+     * bars.
+     *
+     * @return The syntax tree of the alternation as an instance of the class {@link RegexNode}
+     * @throws UnsupportedRegexException
+     *         The exception, which is thrown, if the alternation is not supported
+     */
+    private RegexNode parseAlternation() throws UnsupportedRegexException {
+        List<RegexNode> alternatives = new ArrayList<>();
+        alternatives.add(parseConcatenation());
+
+        while (peek() == '|' && hasNext()) {
+            next();
+            alternatives.add(parseConcatenation());
+        }
+
+        return RegexNode.alternation(alternatives);
+    }
+
+    /**
+     * Parses a concatenation, i.e. a sequence of atoms, which may be quantified.
+     *
+     * @return The syntax tree of the concatenation as an instance of the class {@link RegexNode}
+     * @throws UnsupportedRegexException
+     *         The exception, which is thrown, if the concatenation is not supported
+     */
+    private RegexNode parseConcatenation() throws UnsupportedRegexException {
+        List<RegexNode> children = new ArrayList<>();
+
+        while (hasNext() && peek() != '|' && peek() != ')') {
+            RegexNode atom = parseAtom();
+
+            if (atom != null) {
+                children.add(parseQuantifier(atom));
+            }
+        }
+
+        return RegexNode.concatenation(children);
+    }
+
+    /**
+     * Parses the quantifier, which follows an atom, if any.
+     *
+     * @param atom
+     *         The syntax tree of the atom as an instance of the class {@link RegexNode}. The
+     *         syntax tree may not be null
+     * @return The syntax tree of the quantified atom as an instance of the class {@link
+     * RegexNode}
+     * @throws UnsupportedRegexException
+     *         The exception, which is thrown, if the quantifier is not supported
+     */
+    private RegexNode parseQuantifier(@NonNull final RegexNode atom)
+            throws UnsupportedRegexException {
+        int min;
+        int max;
+
+        switch (peek()) {
+            case '*':
+                min = 0;
+                max = RegexNode.UNBOUNDED;
+                break;
+            case '+':
+                min = 1;
+                max = RegexNode.UNBOUNDED;
+                break;
+            case '?':
+                min = 0;
+                max = 1;
+                break;
+            case '{':
+                next();
+                min = parseNumber();
+                max = min;
+
+                if (peek() == ',') {
+                    next();
+                    max = peek() == '}' ? RegexNode.UNBOUNDED : parseNumber();
+                }
+
+                if (peek() != '}' || (max != RegexNode.UNBOUNDED && max < min)) {
+                    throw new UnsupportedRegexException("Malformed quantifier at index " + index);
+                }
+
+                break;
+            default:
+                return atom;
+        }
+
+        next();
+
+        if (isNullable(atom)) {
+            throw new UnsupportedRegexException(
+                    "Quantified expressions, which may match the empty text, are not supported");
+        }
+
+        if (peek() == '?') {
+            next();
+        } else if (peek() == '+') {
+            throw new UnsupportedRegexException(
+                    "Possessive quantifiers are not supported at index " + index);
+        }
+
+        return RegexNode.repetition(atom, min, max);
+    }
+
+    /**
+     * Parses an atom, i.e. a literal, a character class, a group or a boundary matcher.
+     *
+     * @return The syntax tree of the atom as an instance of the class {@link RegexNode} or null,
+     * if the atom only changed the flags
+     * @throws UnsupportedRegexException
+     *         The exception, which is thrown, if the atom is not supported
+     */
+    @Nullable
+    private RegexNode parseAtom() throws UnsupportedRegexException {
+        char character = peek();
+
+        switch (character) {
+            case '(':
+                next();
+                return parseGroup();
+            case '[':
+                next();
+                return RegexNode.characters(parseClass());
+            case '.':
+                next();
+                return RegexNode.characters(hasFlag(Pattern.DOTALL) ? CharSet.ALL :
+                        CharSet.LINE_TERMINATORS.complement());
+            case '^':
+                next();
+                return RegexNode.assertion(Assertion.BEGIN_OF_INPUT);
+            case '$':
+                next();
+                return RegexNode.assertion(Assertion.END_OF_INPUT_OR_LINE);
+            case '\\':
+                next();
+                return parseEscape();
+            case '*':
+            case '+':
+            case '?':
+            case '{':
+                throw new UnsupportedRegexException("Dangling quantifier at index " + index);
+            default:
+                return RegexNode.characters(getLiteral(CharSet.single(nextCodePoint())));
+        }
+    }
+
+    /**
+     * Parses an escape sequence outside of a character class. The backslash must already have
+     * been consumed.
+     *
+     * @return The syntax tree of the escape sequence as an instance of the class {@link
+     * RegexNode}
+     * @throws UnsupportedRegexException
+     *         The exception, which is thrown, if the escape sequence is not supported
+     */
+    private RegexNode parseEscape() throws UnsupportedRegexException {
+        char character = next();
+        CharSet predefinedClass = getPredefinedClass(character);
+
+        if (predefinedClass != null) {
+            return RegexNode.characters(predefinedClass);
+        }
+
+        switch (character) {
+            case 'b':
+                return RegexNode.assertion(Assertion.WORD_BOUNDARY);
+            case 'B':
+                return RegexNode.assertion(Assertion.NON_WORD_BOUNDARY);
+            case 'A':
+                return RegexNode.assertion(Assertion.BEGIN_OF_INPUT);
+            case 'z':
+                return RegexNode.assertion(Assertion.END_OF_INPUT);
+            case 'Z':
+                return RegexNode.assertion(Assertion.END_OF_INPUT_OR_LINE);
+            default:
+                return RegexNode
+                        .characters(getLiteral(CharSet.single(parseEscapedCodePoint(character))));
+        }
+    }
+
+    /**
+     * Parses a group. The opening parenthesis must already have been consumed.
+     *
+     * @return The syntax tree of the group as an instance of the class {@link RegexNode} or null,
+     * if the group only changed the flags
+     * @throws UnsupportedRegexException
+     *         The exception, which is thrown, if the group is not supported
+     */
+    @Nullable
+    private RegexNode parseGroup() throws UnsupportedRegexException {
+        int previousFlags = flags;
+
+        if (peek() == '?') {
+            next();
+            boolean enable = true;
+            char character = next();
+
+            while (character != ':' && character != ')') {
+                if (character == '-' && enable) {
+                    enable = false;
+                } else if (character == 'i' || character == 's') {
+                    int flag = character == 'i' ? Pattern.CASE_INSENSITIVE : Pattern.DOTALL;
+                    flags = enable ? flags | flag : flags & ~flag;
+                } else {
+                    throw new UnsupportedRegexException(
+                            "Unsupported group construct at index " + index);
+                }
+
+                character = next();
+            }
+
+            if (character == ')') {
+                return null;
+            }
+        }
+
+        RegexNode result = parseAlternation();
+
+        if (next() != ')') {
+            throw new UnsupportedRegexException("Unclosed group at index " + index);
+        }
+
+        flags = previousFlags;
+        return result;
+    }
+
+    /**
+     * Parses a character class. The opening bracket must already have been consumed. If the class
+     * is negated, the negation applies to all of its nested classes and intersections.
+     *
+     * @return The set of code points, which is matched by the character class, as an instance of
+     * the class {@link CharSet}
+     * @throws UnsupportedRegexException
+     *         The exception, which is thrown, if the character class is not supported
+     */
+    private CharSet parseClass() throws UnsupportedRegexException {
+        boolean negated = false;
+        boolean hasOperand = false;
+        CharSet result = null;
+        CharSet operand = CharSet.EMPTY;
+
+        if (peek() == '^') {
+            next();
+            negated = true;
+        }
+
+        if (peek() == ']') {
+            throw new UnsupportedRegexException("Empty character class at index " + index);
+        }
+
+        while (true) {
+            char character = next();
+
+            if (character == ']' || (character == '&' && peek() == '&')) {
+                if (!hasOperand) {
+                    throw new UnsupportedRegexException("Malformed intersection at index " + index);
+                }
+
+                result = result == null ? operand : result.intersect(operand);
+
+                if (character == ']') {
+                    break;
+                }
+
+                next();
+                operand = CharSet.EMPTY;
+                hasOperand = false;
+            } else if (character == '[') {
+                operand = operand.union(parseClass());
+                hasOperand = true;
+            } else {
+                hasOperand = true;
+                CharSet predefinedClass =
+                        character == '\\' ? getPredefinedClass(peek()) : null;
+
+                if (predefinedClass != null) {
+                    next();
+                    operand = operand.union(predefinedClass);
+                } else {
+                    index--;
+                    int from = parseClassCodePoint();
+                    int to = from;
+
+                    if (peek() == '-' && index + 1 < regex.length() &&
+                            regex.charAt(index + 1) != ']') {
+                        next();
+                        to = parseClassCodePoint();
+
+                        if (to < from) {
+                            throw new UnsupportedRegexException("Illegal range at index " + index);
+                        }
+                    }
+
+                    operand = operand.union(getLiteral(CharSet.range(from, to)));
+                }
+            }
+        }
+
+        return negated ? result.complement() : result;
+    }
+
+    /**
+     * Parses a single code point within a character class, which may be escaped.
+     *
+     * @return The code point, which has been parsed, as an {@link Integer} value
+     * @throws UnsupportedRegexException
+     *         The exception, which is thrown, if the code point is not supported
+     */
+    private int parseClassCodePoint() throws UnsupportedRegexException {
+        char character = next();
+
+        if (character == '\\') {
+            return parseEscapedCodePoint(next());
+        } else if (character == '[') {
+            throw new UnsupportedRegexException("Unsupported range at index " + index);
+        }
+
+        index--;
+        return nextCodePoint();
+    }
+
+    /**
+     * Parses a regular expression into a syntax tree.
+     *
+     * @param regex
+     *         The regular expression, which should be parsed, as an instance of the class {@link
+     *         Pattern}. The regular expression may not be null
+     * @return The syntax tree of the regular expression as an instance of the class {@link
+     * RegexNode}
+     * @throws UnsupportedRegexException
+     *         The exception, which is thrown, if the regular expression contains constructs,
+     *         which are not supported
+     */
+    static RegexNode parse(@NonNull final Pattern regex) throws UnsupportedRegexException {
+        if ((regex.flags() & ~SUPPORTED_FLAGS) != 0) {
+            throw new UnsupportedRegexException("Unsupported flags: " + regex.flags());
+        }
+
+        RegexParser parser = new RegexParser(regex.pattern(), regex.flags());
+        RegexNode result = parser.parseAlternation();
+
+        if (parser.hasNext()) {
+            throw new UnsupportedRegexException("Unexpected character at index " + parser.index);
+        }
+
+        return result;
+    }
+
+}
\ No newline at end of file
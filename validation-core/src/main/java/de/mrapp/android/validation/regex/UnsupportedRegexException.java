@@ -0,0 +1,41 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.regex;
+
+/**
+ * An exception, which is thrown, if a regular expression contains constructs, which are not
+ * supported by the automaton-based matching of the class {@link LinearRegex}.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+final class UnsupportedRegexException extends Exception {
+
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates a new exception, which is thrown, if a regular expression contains constructs,
+     * which are not supported.
+     *
+     * @param message
+     *         The message of the exception as a {@link String}
+     */
+    UnsupportedRegexException(final String message) {
+        super(message);
+    }
+
+}
\ No newline at end of file
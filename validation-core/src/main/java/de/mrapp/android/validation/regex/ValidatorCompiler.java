@@ -0,0 +1,478 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.regex;
+
+import android.support.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.mrapp.android.validation.Validator;
+import de.mrapp.android.validation.validators.ConjunctiveValidator;
+import de.mrapp.android.validation.validators.DisjunctiveValidator;
+import de.mrapp.android.validation.validators.NegateValidator;
+import de.mrapp.android.validation.validators.text.CharacterSet;
+import de.mrapp.android.validation.validators.text.LetterOrNumberValidator;
+import de.mrapp.android.validation.validators.text.LetterValidator;
+import de.mrapp.android.validation.validators.text.MaxLengthValidator;
+import de.mrapp.android.validation.validators.text.MinLengthValidator;
+import de.mrapp.android.validation.validators.text.NoWhitespaceValidator;
+import de.mrapp.android.validation.validators.text.NotEmptyValidator;
+import de.mrapp.android.validation.validators.text.RegexValidator;
+
+import static de.mrapp.android.validation.util.Condition.ensureNotNull;
+
+/**
+ * Allows to compile trees of validators, which are combined by using the classes {@link
+ * ConjunctiveValidator}, {@link DisjunctiveValidator} and {@link NegateValidator}, into
+ * deterministic finite automata. A validator, which has been compiled, scans a text only once,
+ * regardless of the number of validators, it has been compiled from.
+ *
+ * The validators {@link RegexValidator}, including its subclasses, {@link LetterValidator},
+ * {@link LetterOrNumberValidator}, {@link NoWhitespaceValidator}, {@link NotEmptyValidator},
+ * {@link MinLengthValidator} and {@link MaxLengthValidator} can be compiled, as long as their
+ * regular expressions are supported by the class {@link LinearRegex} and do not contain word
+ * boundaries. All other validators, e.g. validators, which compare texts to other views, are
+ * retained and evaluated separately. Changes, which are made to the validators after they have
+ * been compiled, are not taken into account.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public final class ValidatorCompiler {
+
+    /**
+     * The result of compiling a validator.
+     */
+    private static final class Result {
+
+        /**
+         * The automaton, which is equivalent to the validator, or null, if the validator could
+         * not be compiled entirely.
+         */
+        private final Dfa dfa;
+
+        /**
+         * The validator, which should be used instead of the original one, if it could not be
+         * compiled entirely, or the original validator otherwise.
+         */
+        private final Validator<CharSequence> validator;
+
+        /**
+         * Creates a new result of compiling a validator.
+         *
+         * @param dfa
+         *         The automaton, which is equivalent to the validator, as an instance of the class
+         *         {@link Dfa} or null, if the validator could not be compiled entirely
+         * @param validator
+         *         The validator, which should be used instead of the original one, as an instance
+         *         of the type {@link Validator}. The validator may not be null
+         */
+        Result(final Dfa dfa, @NonNull final Validator<CharSequence> validator) {
+            this.dfa = dfa;
+            this.validator = validator;
+        }
+
+    }
+
+    /**
+     * The number of chars, which can be encoded in UTF-16 without using surrogate pairs.
+     */
+    private static final int CHAR_COUNT = Character.MAX_VALUE + 1;
+
+    /**
+     * A map, which contains the non-deterministic automata of the validators, which can be
+     * compiled and do not depend on the length of texts.
+     */
+    private final Map<Validator<CharSequence>, Nfa> nfas;
+
+    /**
+     * A map, which contains the minimum and maximum lengths of the validators, which can be
+     * compiled and depend on the length of texts.
+     */
+    private final Map<Validator<CharSequence>, int[]> lengths;
+
+    /**
+     * The alphabet, which is shared by all automata.
+     */
+    private Alphabet alphabet;
+
+    /**
+     * Adds a range of code points to an array.
+     *
+     * @param bounds
+     *         The array, the range should be added to, as an {@link Integer} array. The array may
+     *         not be null
+     * @param length
+     *         The number of elements, which are contained by the array, as an {@link Integer}
+     *         value
+     * @param from
+     *         The first code point of the range as an {@link Integer} value
+     * @param to
+     *         The last code point of the range as an {@link Integer} value
+     * @return The array, the range has been added to, as an {@link Integer} array
+     */
+    private static int[] addRange(@NonNull final int[] bounds, final int length, final int from,
+                                  final int to) {
+        int[] result = length + 2 > bounds.length ? Arrays.copyOf(bounds, bounds.length * 2) :
+                bounds;
+        result[length] = from;
+        result[length + 1] = to;
+        return result;
+    }
+
+    /**
+     * Converts a set of chars into a set of code points. A supplementary code point is included,
+     * if both chars of its surrogate pair are included.
+     *
+     * @param characterSet
+     *         The set of chars as an instance of the type {@link CharacterSet}. The set may not be
+     *         null
+     * @param contained
+     *         True, if the chars, which are contained by the set, should be included, false, if
+     *         the chars, which are not contained by the set, should be included
+     * @return The set of code points as an instance of the class {@link CharSet}
+     */
+    private static CharSet toCharSet(@NonNull final CharacterSet characterSet,
+                                     final boolean contained) {
+        boolean[] included = new boolean[CHAR_COUNT];
+        int[] bounds = new int[64];
+        int length = 0;
+
+        for (int i = 0; i < CHAR_COUNT; i++) {
+            included[i] = characterSet.contains((char) i) == contained;
+
+            if (included[i] && (i == 0 || !included[i - 1])) {
+                bounds = addRange(bounds, length, i, i);
+                length += 2;
+            } else if (included[i]) {
+                bounds[length - 1] = i;
+            }
+        }
+
+        for (char high = Character.MIN_HIGH_SURROGATE; high <= Character.MAX_HIGH_SURROGATE;
+             high++) {
+            if (included[high]) {
+                char low = Character.MIN_LOW_SURROGATE;
+
+                while (low <= Character.MAX_LOW_SURROGATE) {
+                    if (included[low]) {
+                        char from = low;
+
+                        while (low < Character.MAX_LOW_SURROGATE && included[low + 1]) {
+                            low++;
+                        }
+
+                        bounds = addRange(bounds, length, Character.toCodePoint(high, from),
+                                Character.toCodePoint(high, low));
+                        length += 2;
+                    }
+
+                    low++;
+                }
+            }
+        }
+
+        return CharSet.ranges(bounds, length);
+    }
+
+    /**
+     * Adds the sets of code points, which are matched by the states of a non-deterministic
+     * finite automaton, to a collection.
+     *
+     * @param nfa
+     *         The automaton as an instance of the class {@link Nfa}. The automaton may not be
+     *         null
+     * @param sets
+     *         The collection, the sets should be added to, as an instance of the type {@link
+     *         Collection}. The collection may not be null
+     */
+    private static void addCharSets(@NonNull final Nfa nfa,
+                                    @NonNull final Collection<CharSet> sets) {
+        for (int state = 0; state < nfa.size(); state++) {
+            if (nfa.getType(state) == Nfa.CHARACTERS) {
+                sets.add(nfa.getCharacters(state));
+            }
+        }
+    }
+
+    /**
+     * Creates and returns a validator, which combines multiple validators in a conjunctive or
+     * disjunctive manner.
+     *
+     * @param errorMessage
+     *         The error message of the validator as an instance of the type {@link
+     *         CharSequence}. The error message may not be null
+     * @param validators
+     *         A list, which contains the validators, which should be combined, as an instance of
+     *         the type {@link List}. The list may not be null
+     * @param conjunctive
+     *         True, if the validators should be combined in a conjunctive manner, false, if they
+     *         should be combined in a disjunctive manner
+     * @param reorderAdaptively
+     *         True, if the validators should be reordered adaptively, false otherwise
+     * @return The validator, which has been created, as an instance of the type {@link
+     * Validator}
+     */
+    @SuppressWarnings("unchecked")
+    private static Validator<CharSequence> combine(
+            @NonNull final CharSequence errorMessage,
+            @NonNull final List<Validator<CharSequence>> validators, final boolean conjunctive,
+            final boolean reorderAdaptively) {
+        Validator<CharSequence>[] array = validators.toArray(new Validator[validators.size()]);
+
+        if (conjunctive) {
+            ConjunctiveValidator<CharSequence> validator =
+                    ConjunctiveValidator.create(errorMessage, array);
+            validator.reorderAdaptively(reorderAdaptively);
+            return validator;
+        } else {
+            DisjunctiveValidator<CharSequence> validator =
+                    DisjunctiveValidator.create(errorMessage, array);
+            validator.reorderAdaptively(reorderAdaptively);
+            return validator;
+        }
+    }
+
+    /**
+     * Creates a new compiler, which allows to compile trees of validators into deterministic
+     * finite automata.
+     */
+    private ValidatorCompiler() {
+        this.nfas = new IdentityHashMap<>();
+        this.lengths = new IdentityHashMap<>();
+    }
+
+    /**
+     * Determines the validators of a tree, which can be compiled, and adds the sets of code
+     * points, which are used by their automata, to a collection.
+     *
+     * @param validator
+     *         The root of the tree as an instance of the type {@link Validator}. The validator may
+     *         not be null
+     * @param sets
+     *         The collection, the sets of code points should be added to, as an instance of the
+     *         type {@link Collection}. The collection may not be null
+     */
+    private void collect(@NonNull final Validator<CharSequence> validator,
+                         @NonNull final Collection<CharSet> sets) {
+        try {
+            if (validator instanceof ConjunctiveValidator) {
+                for (Validator<CharSequence> child :
+                        ((ConjunctiveValidator<CharSequence>) validator).getValidators()) {
+                    collect(child, sets);
+                }
+            } else if (validator instanceof DisjunctiveValidator) {
+                for (Validator<CharSequence> child :
+                        ((DisjunctiveValidator<CharSequence>) validator).getValidators()) {
+                    collect(child, sets);
+                }
+            } else if (validator instanceof NegateValidator) {
+                collect(((NegateValidator<CharSequence>) validator).getValidator(), sets);
+            } else if (validator instanceof RegexValidator) {
+                RegexNode node = RegexParser.parse(((RegexValidator) validator).getRegex());
+                Nfa nfa = Nfa.compile(node);
+                nfas.put(validator, nfa);
+                addCharSets(nfa, sets);
+            } else if (validator instanceof LetterValidator ||
+                    validator instanceof LetterOrNumberValidator ||
+                    validator instanceof NoWhitespaceValidator) {
+                boolean contained = !(validator instanceof NoWhitespaceValidator);
+                CharacterSet characterSet = validator instanceof LetterValidator ?
+                        ((LetterValidator) validator).getCharacterSet() :
+                        (validator instanceof LetterOrNumberValidator ?
+                                ((LetterOrNumberValidator) validator).getCharacterSet() :
+                                ((NoWhitespaceValidator) validator).getCharacterSet());
+                CharSet charSet = toCharSet(characterSet, contained);
+                nfas.put(validator, Nfa.compile(RegexNode.repetition(
+                        RegexNode.characters(charSet), 0, RegexNode.UNBOUNDED)));
+                sets.add(charSet);
+            } else if (validator instanceof MinLengthValidator) {
+                int minLength = ((MinLengthValidator) validator).getMinLength();
+                lengths.put(validator, new int[]{minLength, RegexNode.UNBOUNDED});
+            } else if (validator instanceof MaxLengthValidator) {
+                int maxLength = ((MaxLengthValidator) validator).getMaxLength();
+                lengths.put(validator, new int[]{0, maxLength});
+            } else if (validator instanceof NotEmptyValidator) {
+                lengths.put(validator, new int[]{1, RegexNode.UNBOUNDED});
+            }
+        } catch (UnsupportedRegexException e) {
+            // The validator is evaluated separately
+        }
+    }
+
+    /**
+     * Compiles a tree of validators.
+     *
+     * @param validator
+     *         The root of the tree as an instance of the type {@link Validator}. The validator may
+     *         not be null
+     * @return The result of compiling the tree as an instance of the class {@link Result}
+     */
+    private Result compileTree(@NonNull final Validator<CharSequence> validator) {
+        try {
+            Nfa nfa = nfas.get(validator);
+
+            if (nfa != null) {
+                return new Result(Dfa.fromNfa(nfa, alphabet), validator);
+            }
+
+            int[] length = lengths.get(validator);
+
+            if (length != null) {
+                return new Result(Dfa.fromLength(length[0], length[1], alphabet), validator);
+            }
+        } catch (UnsupportedRegexException e) {
+            return new Result(null, validator);
+        }
+
+        if (validator instanceof ConjunctiveValidator) {
+            ConjunctiveValidator<CharSequence> conjunctiveValidator =
+                    (ConjunctiveValidator<CharSequence>) validator;
+            return compileChildren(validator, conjunctiveValidator.getValidators(), true,
+                    conjunctiveValidator.isReorderedAdaptively());
+        } else if (validator instanceof DisjunctiveValidator) {
+            DisjunctiveValidator<CharSequence> disjunctiveValidator =
+                    (DisjunctiveValidator<CharSequence>) validator;
+            return compileChildren(validator, disjunctiveValidator.getValidators(), false,
+                    disjunctiveValidator.isReorderedAdaptively());
+        } else if (validator instanceof NegateValidator) {
+            Validator<CharSequence> child =
+                    ((NegateValidator<CharSequence>) validator).getValidator();
+            Result result = compileTree(child);
+
+            if (result.dfa != null) {
+                return new Result(result.dfa.complement(), validator);
+            } else if (result.validator != child) {
+                return new Result(null,
+                        NegateValidator.create(validator.getErrorMessage(), result.validator));
+            }
+        }
+
+        return new Result(null, validator);
+    }
+
+    /**
+     * Compiles a validator, which combines multiple validators in a conjunctive or disjunctive
+     * manner. The automata of all validators, which can be compiled, are combined into a single
+     * automaton. If any validator cannot be compiled, a validator, which evaluates the single
+     * automaton and the remaining validators, is returned.
+     *
+     * @param validator
+     *         The validator as an instance of the type {@link Validator}. The validator may not be
+     *         null
+     * @param children
+     *         The validators, which are combined, as an array of the type {@link Validator}. The
+     *         array may not be null
+     * @param conjunctive
+     *         True, if the validators are combined in a conjunctive manner, false, if they are
+     *         combined in a disjunctive manner
+     * @param reorderAdaptively
+     *         True, if the validators are reordered adaptively, false otherwise
+     * @return The result of compiling the validator as an instance of the class {@link Result}
+     */
+    private Result compileChildren(@NonNull final Validator<CharSequence> validator,
+                                   @NonNull final Validator<CharSequence>[] children,
+                                   final boolean conjunctive, final boolean reorderAdaptively) {
+        Result[] results = new Result[children.length];
+        List<Validator<CharSequence>> compiledChildren = new ArrayList<>();
+        Dfa dfa = null;
+        int firstCompiledChild = -1;
+        boolean combinable = true;
+        boolean changed = false;
+
+        for (int i = 0; i < children.length; i++) {
+            results[i] = compileTree(children[i]);
+
+            if (results[i].dfa != null) {
+                compiledChildren.add(children[i]);
+
+                if (dfa == null) {
+                    dfa = results[i].dfa;
+                    firstCompiledChild = i;
+                } else if (combinable) {
+                    try {
+                        dfa = dfa.product(results[i].dfa, conjunctive);
+                    } catch (UnsupportedRegexException e) {
+                        combinable = false;
+                    }
+                }
+            } else if (results[i].validator != children[i]) {
+                changed = true;
+            }
+        }
+
+        if (combinable && compiledChildren.size() == children.length) {
+            return new Result(dfa, validator);
+        } else if (compiledChildren.isEmpty() && !changed) {
+            return new Result(null, validator);
+        }
+
+        CharSequence errorMessage = validator.getErrorMessage();
+        List<Validator<CharSequence>> validators = new ArrayList<>();
+
+        for (int i = 0; i < children.length; i++) {
+            if (results[i].dfa == null) {
+                validators.add(results[i].validator);
+            } else if (!combinable) {
+                validators.add(new AutomatonValidator(children[i].getErrorMessage(),
+                        results[i].dfa, children[i]));
+            } else if (i == firstCompiledChild) {
+                Validator<CharSequence> original = compiledChildren.size() == 1 ?
+                        compiledChildren.get(0) :
+                        combine(errorMessage, compiledChildren, conjunctive, false);
+                validators.add(new AutomatonValidator(errorMessage, dfa, original));
+            }
+        }
+
+        return new Result(null, combine(errorMessage, validators, conjunctive, reorderAdaptively));
+    }
+
+    /**
+     * Compiles a tree of validators, which are combined by using the classes {@link
+     * ConjunctiveValidator}, {@link DisjunctiveValidator} and {@link NegateValidator}, into a
+     * deterministic finite automaton. Validators, which cannot be compiled, are retained and
+     * evaluated separately.
+     *
+     * @param validator
+     *         The root of the tree as an instance of the type {@link Validator}. The validator may
+     *         not be null
+     * @return The validator, which has been compiled, as an instance of the type {@link
+     * Validator}. If the tree has been compiled entirely, the validator is an instance of the
+     * class {@link AutomatonValidator}. If no validator of the tree can be compiled, the given
+     * validator is returned
+     */
+    public static Validator<CharSequence> compile(
+            @NonNull final Validator<CharSequence> validator) {
+        ensureNotNull(validator, "The validator may not be null");
+        ValidatorCompiler compiler = new ValidatorCompiler();
+        List<CharSet> sets = new ArrayList<>();
+        compiler.collect(validator, sets);
+
+        if (compiler.nfas.isEmpty() && compiler.lengths.isEmpty()) {
+            return validator;
+        }
+
+        compiler.alphabet = Alphabet.create(sets);
+        Result result = compiler.compileTree(validator);
+        return result.dfa != null ?
+                new AutomatonValidator(validator.getErrorMessage(), result.dfa, validator) :
+                result.validator;
+    }
+
+}
\ No newline at end of file
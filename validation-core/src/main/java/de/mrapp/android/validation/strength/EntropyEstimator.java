@@ -0,0 +1,1074 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.strength;
+
+import android.support.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.mrapp.android.validation.PasswordStrengthEstimator;
+
+import static de.mrapp.android.validation.util.Condition.ensureNotNull;
+
+/**
+ * A password strength estimator, which estimates the number of guesses, an attacker needs to find
+ * out a password, in the style of zxcvbn. A password is considered to be a sequence of patterns,
+ * i.e. words, which are contained by a {@link RankedDictionary} (possibly with upper case letters
+ * or l33t substitutions), keyboard walks, repetitions, sequences, years and dates, as well as
+ * characters, which must be guessed by brute force. The number of guesses is estimated for the
+ * sequence of patterns, which is the easiest to guess. As the patterns, which end at a specific
+ * position of the password, only depend on the characters before that position, the results for
+ * the longest common prefix of consecutive passwords are reused, i.e. appending a character only
+ * requires to analyze the patterns, which end at the new character. Only the first {@link
+ * #MAX_ANALYZED_LENGTH} characters of a password are analyzed. Each further character is assumed
+ * to be guessed by brute force.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public class EntropyEstimator implements PasswordStrengthEstimator {
+
+    /**
+     * The results of analyzing a password. For each prefix of the password and each number of
+     * patterns, the prefix may consist of, the minimum product of the patterns' guesses is stored.
+     */
+    private final class Analysis {
+
+        /**
+         * The characters of the password, which has been analyzed.
+         */
+        private final char[] password;
+
+        /**
+         * The logarithms of the minimum products of guesses. For each prefix length, number of
+         * patterns and whether the last pattern is a brute force pattern, an entry is stored.
+         */
+        private final double[] products;
+
+        /**
+         * The length of the password, which has been analyzed.
+         */
+        private int length;
+
+        /**
+         * Returns the index of the entry of the array {@link #products}, which corresponds to a
+         * specific prefix length, number of patterns and type of the last pattern.
+         *
+         * @param end
+         *         The length of the prefix as an {@link Integer} value
+         * @param count
+         *         The number of patterns as an {@link Integer} value
+         * @param bruteforce
+         *         1, if the last pattern is a brute force pattern, 0 otherwise
+         * @return The index as an {@link Integer} value
+         */
+        private int index(final int end, final int count, final int bruteforce) {
+            return (end * (password.length + 1) + count) * 2 + bruteforce;
+        }
+
+        /**
+         * Adds a pattern, which covers a specific range of the password, to the results.
+         *
+         * @param start
+         *         The index of the first character of the pattern as an {@link Integer} value
+         * @param end
+         *         The index after the last character of the pattern as an {@link Integer} value
+         * @param guesses
+         *         The logarithm of the number of guesses of the pattern as a {@link Double} value
+         * @param bruteforce
+         *         True, if the pattern is a brute force pattern, false otherwise
+         */
+        private void addPattern(final int start, final int end, final double guesses,
+                                final boolean bruteforce) {
+            int bruteforceIndex = bruteforce ? 1 : 0;
+
+            for (int count = 0; count <= start; count++) {
+                for (int previous = 0; previous <= (bruteforce ? 0 : 1); previous++) {
+                    double product = products[index(start, count, previous)];
+
+                    if (product != Double.POSITIVE_INFINITY) {
+                        int i = index(end, count + 1, bruteforceIndex);
+                        products[i] = Math.min(products[i], product + guesses);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Adds a pattern, which is not a brute force pattern and covers a specific range of the
+         * password, to the results.
+         *
+         * @param start
+         *         The index of the first character of the pattern as an {@link Integer} value
+         * @param end
+         *         The index after the last character of the pattern as an {@link Integer} value
+         * @param guesses
+         *         The logarithm of the number of guesses of the pattern as a {@link Double} value
+         */
+        private void addPattern(final int start, final int end, final double guesses) {
+            double minGuesses = end - start == 1 ? MIN_GUESSES_SINGLE_CHARACTER :
+                    MIN_GUESSES_MULTIPLE_CHARACTERS;
+            addPattern(start, end, Math.max(guesses, minGuesses), false);
+        }
+
+        /**
+         * Adds all patterns, which end at a specific position of the password, to the results.
+         *
+         * @param end
+         *         The index after the last character of the patterns as an {@link Integer} value
+         */
+        private void analyze(final int end) {
+            Arrays.fill(products, index(end, 0, 0), index(end + 1, 0, 0),
+                    Double.POSITIVE_INFINITY);
+
+            for (int start = 0; start < end; start++) {
+                int length = end - start;
+                addPattern(start, end, Math.max(length * BRUTEFORCE_CARDINALITY, length == 1 ?
+                        MIN_GUESSES_BRUTEFORCE_SINGLE_CHARACTER :
+                        MIN_GUESSES_BRUTEFORCE_MULTIPLE_CHARACTERS), true);
+            }
+
+            for (RankedDictionary dictionary : dictionaries) {
+                matchDictionary(dictionary, dictionary.getRoot(), end, end, 0, 0);
+            }
+
+            matchKeyboardWalks(end);
+            matchSequences(end);
+            matchRepetitions(end);
+            matchDates(end);
+        }
+
+        /**
+         * Adds the words of a specific dictionary, which end at a specific position of the
+         * password, to the results. The trie of the dictionary is traversed backwards, starting at
+         * the end of the words.
+         *
+         * @param dictionary
+         *         The dictionary as an instance of the class {@link RankedDictionary}
+         * @param node
+         *         The node of the trie, which corresponds to the characters between the given
+         *         start and end, as an {@link Integer} value
+         * @param end
+         *         The index after the last character of the words as an {@link Integer} value
+         * @param start
+         *         The index of the first character, which has been traversed so far, as an {@link
+         *         Integer} value
+         * @param substituted
+         *         The number of l33t substitutions, which have been traversed so far, as an {@link
+         *         Integer} value
+         * @param unsubstituted
+         *         The number of traversed letters, which could have been substituted, but have not
+         *         been, as an {@link Integer} value
+         */
+        private void matchDictionary(@NonNull final RankedDictionary dictionary, final int node,
+                                     final int end, final int start, final int substituted,
+                                     final int unsubstituted) {
+            if (start < end) {
+                int rank = dictionary.getRank(node);
+
+                if (rank > 0) {
+                    addPattern(start, end, Math.log10(rank) + getUppercaseVariations(start, end) +
+                            getVariations(substituted, unsubstituted));
+                }
+            }
+
+            if (start > 0) {
+                char character = Character.toLowerCase(password[start - 1]);
+                int child = dictionary.getChild(node, character);
+
+                if (child != -1) {
+                    matchDictionary(dictionary, child, end, start - 1, substituted,
+                            unsubstituted + (SUBSTITUTABLE_LETTERS.indexOf(character) != -1 ? 1 :
+                                    0));
+                }
+
+                String letters = getSubstitutedLetters(character);
+
+                for (int i = 0; i < letters.length(); i++) {
+                    child = dictionary.getChild(node, letters.charAt(i));
+
+                    if (child != -1) {
+                        matchDictionary(dictionary, child, end, start - 1, substituted + 1,
+                                unsubstituted);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Adds the keyboard walks, which end at a specific position of the password, to the
+         * results.
+         *
+         * @param end
+         *         The index after the last character of the keyboard walks as an {@link Integer}
+         *         value
+         */
+        private void matchKeyboardWalks(final int end) {
+            int start = end - 1;
+            int shifted = Keyboard.QWERTY.isShifted(password[start]) ? 1 : 0;
+            int turns = 0;
+            int lastDirection = -1;
+
+            while (start > 0) {
+                int direction =
+                        Keyboard.QWERTY.getDirection(password[start - 1], password[start]);
+
+                if (direction == -1) {
+                    break;
+                }
+
+                if (direction != lastDirection) {
+                    turns++;
+                    lastDirection = direction;
+                }
+
+                start--;
+                shifted += Keyboard.QWERTY.isShifted(password[start]) ? 1 : 0;
+                int length = end - start;
+
+                if (length >= 3) {
+                    addPattern(start, end, KEYBOARD_WALK_GUESSES[length][turns] +
+                            getVariations(shifted, length - shifted));
+                }
+            }
+        }
+
+        /**
+         * Adds the sequences, e.g. "abc" or "97531", which end at a specific position of the
+         * password, to the results.
+         *
+         * @param end
+         *         The index after the last character of the sequences as an {@link Integer}
+         *         value
+         */
+        private void matchSequences(final int end) {
+            if (end >= 2) {
+                int delta = password[end - 1] - password[end - 2];
+
+                if (delta != 0 && Math.abs(delta) <= MAX_SEQUENCE_DELTA) {
+                    int start = end - 2;
+
+                    while (start > 0 && password[start] - password[start - 1] == delta) {
+                        start--;
+                        char first = password[start];
+                        int base = SEQUENCE_STARTS.indexOf(first) != -1 ? 4 :
+                                (first >= '0' && first <= '9' ? 10 : 26);
+                        base *= delta < 0 ? 2 : 1;
+                        addPattern(start, end, Math.log10(base * (end - start)));
+                    }
+                }
+            }
+        }
+
+        /**
+         * Adds the repetitions of blocks of characters, e.g. "aaa" or "abcabc", which end at a
+         * specific position of the password, to the results.
+         *
+         * @param end
+         *         The index after the last character of the repetitions as an {@link Integer}
+         *         value
+         */
+        private void matchRepetitions(final int end) {
+            for (int blockLength = 1; blockLength * 2 <= end; blockLength++) {
+                int start = end - blockLength;
+                int repetitions = 1;
+                double blockGuesses = -1;
+
+                while (start >= blockLength &&
+                        regionMatches(start - blockLength, end - blockLength, blockLength)) {
+                    start -= blockLength;
+                    repetitions++;
+
+                    if (blockGuesses == -1) {
+                        blockGuesses = getBlockGuesses(
+                                new String(password, end - blockLength, blockLength));
+                    }
+
+                    addPattern(start, end, blockGuesses + Math.log10(repetitions));
+                }
+            }
+        }
+
+        /**
+         * Adds the years and dates, which end at a specific position of the password, to the
+         * results.
+         *
+         * @param end
+         *         The index after the last character of the years and dates as an {@link Integer}
+         *         value
+         */
+        private void matchDates(final int end) {
+            int digits = 0;
+
+            while (digits < end && digits < 8 && isDigits(end - digits - 1, end - digits)) {
+                digits++;
+            }
+
+            if (digits >= 4) {
+                int year = parseInt(end - 4, end);
+
+                if (year >= MIN_RECENT_YEAR && year <= MAX_RECENT_YEAR) {
+                    addPattern(end - 4, end, Math.log10(getYearSpace(year)));
+                }
+            }
+
+            for (int length = 4; length <= digits; length++) {
+                int start = end - length;
+                int minYearSpace = -1;
+
+                for (int[] split : DATE_SPLITS[length - 4]) {
+                    int yearSpace = getDateYearSpace(parseInt(start, start + split[0]),
+                            parseInt(start + split[0], start + split[1]),
+                            parseInt(start + split[1], end));
+
+                    if (yearSpace != -1 && (minYearSpace == -1 || yearSpace < minYearSpace)) {
+                        minYearSpace = yearSpace;
+                    }
+                }
+
+                if (minYearSpace != -1) {
+                    addPattern(start, end, Math.log10(minYearSpace * DAYS_PER_YEAR));
+                }
+            }
+
+            matchSeparatedDates(end, Math.min(digits, 4));
+        }
+
+        /**
+         * Adds the dates, whose components are separated by a separator, e.g. "1.1.2000", which
+         * end at a specific position of the password, to the results.
+         *
+         * @param end
+         *         The index after the last character of the dates as an {@link Integer} value
+         * @param maxLastLength
+         *         The maximum number of digits of the last component of the dates as an {@link
+         *         Integer} value
+         */
+        private void matchSeparatedDates(final int end, final int maxLastLength) {
+            for (int lastLength = 1; lastLength <= maxLastLength; lastLength++) {
+                int lastStart = end - lastLength;
+
+                if (lastStart < 4 || DATE_SEPARATORS.indexOf(password[lastStart - 1]) == -1) {
+                    continue;
+                }
+
+                char separator = password[lastStart - 1];
+
+                for (int middleLength = 1; middleLength <= 2; middleLength++) {
+                    int middleStart = lastStart - 1 - middleLength;
+
+                    if (middleStart < 2 || !isDigits(middleStart, lastStart - 1) ||
+                            password[middleStart - 1] != separator) {
+                        continue;
+                    }
+
+                    for (int firstLength = 1; firstLength <= 4; firstLength++) {
+                        int firstStart = middleStart - 1 - firstLength;
+
+                        if (firstStart < 0 || !isDigits(firstStart, middleStart - 1)) {
+                            break;
+                        }
+
+                        int yearSpace = getDateYearSpace(parseInt(firstStart, middleStart - 1),
+                                parseInt(middleStart, lastStart - 1), parseInt(lastStart, end));
+
+                        if (yearSpace != -1) {
+                            addPattern(firstStart, end, Math.log10(
+                                    yearSpace * DAYS_PER_YEAR * SEPARATOR_VARIATIONS));
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Returns the logarithm of the number of variations of a word, which are caused by upper
+         * case letters.
+         *
+         * @param start
+         *         The index of the first character of the word as an {@link Integer} value
+         * @param end
+         *         The index after the last character of the word as an {@link Integer} value
+         * @return The logarithm of the number of variations as a {@link Double} value
+         */
+        private double getUppercaseVariations(final int start, final int end) {
+            int uppercase = 0;
+            int lowercase = 0;
+
+            for (int i = start; i < end; i++) {
+                if (Character.isUpperCase(password[i])) {
+                    uppercase++;
+                } else if (Character.isLowerCase(password[i])) {
+                    lowercase++;
+                }
+            }
+
+            if (uppercase == 1 && (Character.isUpperCase(password[start]) ||
+                    Character.isUpperCase(password[end - 1]))) {
+                return LOG10_2;
+            }
+
+            return getVariations(uppercase, lowercase);
+        }
+
+        /**
+         * Returns, whether two ranges of the password are equal.
+         *
+         * @param start1
+         *         The index of the first character of the first range as an {@link Integer} value
+         * @param start2
+         *         The index of the first character of the second range as an {@link Integer}
+         *         value
+         * @param length
+         *         The length of the ranges as an {@link Integer} value
+         * @return True, if the ranges are equal, false otherwise
+         */
+        private boolean regionMatches(final int start1, final int start2, final int length) {
+            for (int i = 0; i < length; i++) {
+                if (password[start1 + i] != password[start2 + i]) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * Returns, whether a specific range of the password consists of ASCII digits only.
+         *
+         * @param start
+         *         The index of the first character of the range as an {@link Integer} value
+         * @param end
+         *         The index after the last character of the range as an {@link Integer} value
+         * @return True, if the range consists of ASCII digits only, false otherwise
+         */
+        private boolean isDigits(final int start, final int end) {
+            for (int i = start; i < end; i++) {
+                if (password[i] < '0' || password[i] > '9') {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * Parses the ASCII digits within a specific range of the password.
+         *
+         * @param start
+         *         The index of the first digit as an {@link Integer} value
+         * @param end
+         *         The index after the last digit as an {@link Integer} value
+         * @return The number, which has been parsed, as an {@link Integer} value
+         */
+        private int parseInt(final int start, final int end) {
+            int result = 0;
+
+            for (int i = start; i < end; i++) {
+                result = result * 10 + (password[i] - '0');
+            }
+
+            return result;
+        }
+
+        /**
+         * Creates a new analysis.
+         *
+         * @param capacity
+         *         The maximum length of the passwords, which can be analyzed, as an {@link
+         *         Integer} value
+         */
+        Analysis(final int capacity) {
+            this.password = new char[capacity];
+            this.products = new double[(capacity + 1) * (capacity + 1) * 2];
+            reset();
+        }
+
+        /**
+         * Discards the results of the analysis.
+         */
+        void reset() {
+            Arrays.fill(products, Double.POSITIVE_INFINITY);
+            products[index(0, 0, 0)] = 0;
+            length = 0;
+        }
+
+        /**
+         * Analyzes a specific password. The results for the longest common prefix of the
+         * password and the password, which has been analyzed before, are reused.
+         *
+         * @param text
+         *         The password as an instance of the type {@link CharSequence}
+         * @param length
+         *         The number of characters of the password, which should be analyzed, as an
+         *         {@link Integer} value. The length must not be greater than the capacity of the
+         *         analysis
+         */
+        void update(@NonNull final CharSequence text, final int length) {
+            int prefixLength = 0;
+
+            while (prefixLength < this.length && prefixLength < length &&
+                    password[prefixLength] == text.charAt(prefixLength)) {
+                prefixLength++;
+            }
+
+            for (int i = prefixLength; i < length; i++) {
+                password[i] = text.charAt(i);
+            }
+
+            this.length = length;
+
+            for (int end = prefixLength + 1; end <= length; end++) {
+                analyze(end);
+            }
+        }
+
+        /**
+         * Returns the logarithm of the number of guesses, which are needed to find out the
+         * password, which has been analyzed.
+         *
+         * @return The logarithm of the number of guesses as a {@link Double} value
+         */
+        double getGuesses() {
+            double result = length == 0 ? 0 : Double.POSITIVE_INFINITY;
+
+            for (int count = 1; count <= length; count++) {
+                double product = Math.min(products[index(length, count, 0)],
+                        products[index(length, count, 1)]);
+
+                if (product != Double.POSITIVE_INFINITY) {
+                    result = Math.min(result, log10Sum(LOG10_FACTORIALS[count] + product,
+                            MIN_GUESSES_BEFORE_GROWING_SEQUENCE * (count - 1)));
+                }
+            }
+
+            return result;
+        }
+
+    }
+
+    /**
+     * The maximum number of characters of a password, which are analyzed.
+     */
+    public static final int MAX_ANALYZED_LENGTH = 64;
+
+    /**
+     * The logarithm of the number of guesses, a password must require at least to be considered
+     * as strong.
+     */
+    public static final double STRONG_PASSWORD_GUESSES = 10;
+
+    /**
+     * The logarithm of the number of possible values of a character, which is guessed by brute
+     * force.
+     */
+    private static final double BRUTEFORCE_CARDINALITY = 1;
+
+    /**
+     * The logarithm of the minimum number of guesses of a single character, which is guessed by
+     * brute force.
+     */
+    private static final double MIN_GUESSES_BRUTEFORCE_SINGLE_CHARACTER = Math.log10(11);
+
+    /**
+     * The logarithm of the minimum number of guesses of multiple characters, which are guessed by
+     * brute force.
+     */
+    private static final double MIN_GUESSES_BRUTEFORCE_MULTIPLE_CHARACTERS = Math.log10(51);
+
+    /**
+     * The logarithm of the minimum number of guesses of a pattern, which consists of a single
+     * character.
+     */
+    private static final double MIN_GUESSES_SINGLE_CHARACTER = 1;
+
+    /**
+     * The logarithm of the minimum number of guesses of a pattern, which consists of multiple
+     * characters.
+     */
+    private static final double MIN_GUESSES_MULTIPLE_CHARACTERS = Math.log10(50);
+
+    /**
+     * The logarithm of the number of guesses, which is added for each additional pattern, a
+     * password consists of.
+     */
+    private static final double MIN_GUESSES_BEFORE_GROWING_SEQUENCE = 4;
+
+    /**
+     * The logarithm of 2.
+     */
+    private static final double LOG10_2 = Math.log10(2);
+
+    /**
+     * The letters, which can be substituted by l33t characters.
+     */
+    private static final String SUBSTITUTABLE_LETTERS = "abcegilostxz";
+
+    /**
+     * The characters, which are considered to be the most common starts of sequences.
+     */
+    private static final String SEQUENCE_STARTS = "aAzZ019";
+
+    /**
+     * The maximum difference between consecutive characters of a sequence.
+     */
+    private static final int MAX_SEQUENCE_DELTA = 5;
+
+    /**
+     * The minimum year, which is considered to be a recent year.
+     */
+    private static final int MIN_RECENT_YEAR = 1900;
+
+    /**
+     * The maximum year, which is considered to be a recent year.
+     */
+    private static final int MAX_RECENT_YEAR = 2099;
+
+    /**
+     * The minimum year of a date with a four-digit year.
+     */
+    private static final int MIN_DATE_YEAR = 1000;
+
+    /**
+     * The maximum year of a date with a four-digit year.
+     */
+    private static final int MAX_DATE_YEAR = 2050;
+
+    /**
+     * The minimum number of years, which are assumed to be guessed for a year or date.
+     */
+    private static final int MIN_YEAR_SPACE = 20;
+
+    /**
+     * The number of days per year.
+     */
+    private static final double DAYS_PER_YEAR = 365;
+
+    /**
+     * The number of variations of a date, which are caused by its separators.
+     */
+    private static final double SEPARATOR_VARIATIONS = 4;
+
+    /**
+     * The characters, which are used to separate the components of dates.
+     */
+    private static final String DATE_SEPARATORS = " /\\_.-";
+
+    /**
+     * The possible splits of dates without separators, which consist of 4 to 8 digits, into their
+     * components.
+     */
+    private static final int[][][] DATE_SPLITS = {{{1, 2}, {2, 3}}, {{1, 3}, {2, 3}},
+            {{1, 2}, {2, 4}, {4, 5}}, {{1, 3}, {2, 3}, {4, 5}, {4, 6}}, {{2, 4}, {4, 6}}};
+
+    /**
+     * The maximum number of blocks, whose number of guesses are cached.
+     */
+    private static final int MAX_CACHED_BLOCKS = 256;
+
+    /**
+     * The binomial coefficients up to {@link #MAX_ANALYZED_LENGTH}.
+     */
+    private static final double[][] BINOMIALS = createBinomials(MAX_ANALYZED_LENGTH);
+
+    /**
+     * The logarithms of the factorials up to {@link #MAX_ANALYZED_LENGTH}.
+     */
+    private static final double[] LOG10_FACTORIALS = createLog10Factorials(MAX_ANALYZED_LENGTH);
+
+    /**
+     * The logarithms of the number of guesses of keyboard walks, depending on their length and
+     * number of turns.
+     */
+    private static final double[][] KEYBOARD_WALK_GUESSES =
+            createKeyboardWalkGuesses(Keyboard.QWERTY, MAX_ANALYZED_LENGTH);
+
+    /**
+     * A list, which contains the dictionaries, which are used to detect words.
+     */
+    private final List<RankedDictionary> dictionaries;
+
+    /**
+     * A map, which contains the logarithms of the number of guesses of repeated blocks.
+     */
+    private final Map<String, Double> blockGuesses;
+
+    /**
+     * The analysis of the password, whose strength has been estimated most recently.
+     */
+    private final Analysis analysis;
+
+    /**
+     * The year, which is used as a reference to estimate the number of guesses of years and
+     * dates.
+     */
+    private int referenceYear;
+
+    /**
+     * Creates and returns the binomial coefficients up to a specific number.
+     *
+     * @param max
+     *         The number as an {@link Integer} value
+     * @return An array, which contains the binomial coefficients, as a two-dimensional {@link
+     * Double} array
+     */
+    private static double[][] createBinomials(final int max) {
+        double[][] binomials = new double[max + 1][max + 1];
+
+        for (int n = 0; n <= max; n++) {
+            binomials[n][0] = 1;
+
+            for (int k = 1; k <= n; k++) {
+                binomials[n][k] = binomials[n - 1][k - 1] + (k < n ? binomials[n - 1][k] : 0);
+            }
+        }
+
+        return binomials;
+    }
+
+    /**
+     * Creates and returns the logarithms of the factorials up to a specific number.
+     *
+     * @param max
+     *         The number as an {@link Integer} value
+     * @return An array, which contains the logarithms of the factorials, as a {@link Double}
+     * array
+     */
+    private static double[] createLog10Factorials(final int max) {
+        double[] factorials = new double[max + 1];
+
+        for (int n = 1; n <= max; n++) {
+            factorials[n] = factorials[n - 1] + Math.log10(n);
+        }
+
+        return factorials;
+    }
+
+    /**
+     * Creates and returns the logarithms of the number of guesses of keyboard walks on a specific
+     * keyboard. A walk of length l with t turns requires to guess the starting key, as well as the
+     * positions and directions of the turns.
+     *
+     * @param keyboard
+     *         The keyboard as an instance of the class {@link Keyboard}
+     * @param max
+     *         The maximum length of the keyboard walks as an {@link Integer} value
+     * @return An array, which contains the logarithms of the number of guesses, indexed by the
+     * length and the number of turns, as a two-dimensional {@link Double} array
+     */
+    private static double[][] createKeyboardWalkGuesses(@NonNull final Keyboard keyboard,
+                                                        final int max) {
+        double[][] guesses = new double[max + 1][max + 1];
+        double[][] sums = new double[max + 1][max + 1];
+        double[] powers = new double[max + 1];
+        powers[0] = 1;
+
+        for (int turns = 1; turns <= max; turns++) {
+            powers[turns] = powers[turns - 1] * keyboard.getAverageDegree();
+        }
+
+        for (int turns = 1; turns <= max; turns++) {
+            for (int length = 2; length <= max; length++) {
+                double sum = 0;
+
+                for (int i = 1; i <= Math.min(turns, length - 1); i++) {
+                    sum += BINOMIALS[length - 1][i - 1] * keyboard.getKeyCount() * powers[i];
+                }
+
+                sums[length][turns] = sums[length - 1][turns] + sum;
+                guesses[length][turns] = Math.log10(sums[length][turns]);
+            }
+        }
+
+        return guesses;
+    }
+
+    /**
+     * Returns the logarithm of the number of ways to choose which of the characters of a pattern
+     * have been varied, e.g. by using upper case letters or l33t substitutions.
+     *
+     * @param varied
+     *         The number of characters, which have been varied, as an {@link Integer} value
+     * @param unvaried
+     *         The number of characters, which could have been varied, but have not been, as an
+     *         {@link Integer} value
+     * @return The logarithm of the number of variations as a {@link Double} value
+     */
+    private static double getVariations(final int varied, final int unvaried) {
+        if (varied == 0) {
+            return 0;
+        } else if (unvaried == 0) {
+            return LOG10_2;
+        }
+
+        double variations = 0;
+
+        for (int i = 1; i <= Math.min(varied, unvaried); i++) {
+            variations += BINOMIALS[varied + unvaried][i];
+        }
+
+        return Math.log10(variations);
+    }
+
+    /**
+     * Returns the letters, which can be substituted by a specific l33t character.
+     *
+     * @param character
+     *         The l33t character as a {@link Character} value
+     * @return The letters, which can be substituted by the given character, as a {@link String}
+     */
+    private static String getSubstitutedLetters(final char character) {
+        switch (character) {
+            case '4':
+            case '@':
+                return "a";
+            case '8':
+                return "b";
+            case '(':
+            case '{':
+            case '[':
+            case '<':
+                return "c";
+            case '3':
+                return "e";
+            case '6':
+            case '9':
+                return "g";
+            case '1':
+            case '|':
+                return "il";
+            case '!':
+                return "i";
+            case '7':
+                return "lt";
+            case '0':
+                return "o";
+            case '$':
+            case '5':
+                return "s";
+            case '+':
+                return "t";
+            case '%':
+                return "x";
+            case '2':
+                return "z";
+            default:
+                return "";
+        }
+    }
+
+    /**
+     * Returns the logarithm of the sum of two numbers, which are given as logarithms.
+     *
+     * @param a
+     *         The logarithm of the first number as a {@link Double} value
+     * @param b
+     *         The logarithm of the second number as a {@link Double} value
+     * @return The logarithm of the sum as a {@link Double} value
+     */
+    private static double log10Sum(final double a, final double b) {
+        double max = Math.max(a, b);
+        return max + Math.log10(1 + Math.pow(10, Math.min(a, b) - max));
+    }
+
+    /**
+     * Returns the number of years, which must be guessed for a specific year.
+     *
+     * @param year
+     *         The year as an {@link Integer} value
+     * @return The number of years, which must be guessed, as an {@link Integer} value
+     */
+    private int getYearSpace(final int year) {
+        return Math.max(Math.abs(year - referenceYear), MIN_YEAR_SPACE);
+    }
+
+    /**
+     * Returns the number of years, which must be guessed for the date, which consists of three
+     * specific components, if they form a valid date. Either the first or the last component is
+     * considered to be the year, the other components are considered to be the day and month in
+     * any order. Two-digit years are mapped to the years between 1951 and 2050.
+     *
+     * @param first
+     *         The first component as an {@link Integer} value
+     * @param middle
+     *         The middle component as an {@link Integer} value
+     * @param last
+     *         The last component as an {@link Integer} value
+     * @return The minimum number of years, which must be guessed, as an {@link Integer} value or
+     * -1, if the components do not form a valid date
+     */
+    private int getDateYearSpace(final int first, final int middle, final int last) {
+        int result = -1;
+        int[][] candidates = {{last, first, middle}, {last, middle, first},
+                {first, middle, last}, {first, last, middle}};
+
+        for (int[] candidate : candidates) {
+            int year = candidate[0];
+
+            if (year <= 99) {
+                year += year > 50 ? 1900 : 2000;
+            } else if (year < MIN_DATE_YEAR || year > MAX_DATE_YEAR) {
+                continue;
+            }
+
+            if (candidate[1] >= 1 && candidate[1] <= 31 && candidate[2] >= 1 &&
+                    candidate[2] <= 12) {
+                int yearSpace = getYearSpace(year);
+                result = result == -1 ? yearSpace : Math.min(result, yearSpace);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the logarithm of the number of guesses of a specific block of characters, which is
+     * repeated.
+     *
+     * @param block
+     *         The block as a {@link String}
+     * @return The logarithm of the number of guesses as a {@link Double} value
+     */
+    private double getBlockGuesses(@NonNull final String block) {
+        Double guesses = blockGuesses.get(block);
+
+        if (guesses == null) {
+            Analysis blockAnalysis = new Analysis(block.length());
+            blockAnalysis.update(block, block.length());
+            guesses = blockAnalysis.getGuesses();
+
+            if (blockGuesses.size() >= MAX_CACHED_BLOCKS) {
+                blockGuesses.clear();
+            }
+
+            blockGuesses.put(block, guesses);
+        }
+
+        return guesses;
+    }
+
+    /**
+     * Discards all cached results, e.g. because the configuration of the estimator has been
+     * changed.
+     */
+    private void invalidate() {
+        analysis.reset();
+        blockGuesses.clear();
+    }
+
+    /**
+     * Creates a new estimator, which estimates the number of guesses, an attacker needs to find
+     * out a password. Initially, no dictionaries are used and the current year is used as the
+     * reference year.
+     */
+    public EntropyEstimator() {
+        this.dictionaries = new ArrayList<>();
+        this.blockGuesses = new HashMap<>();
+        this.analysis = new Analysis(MAX_ANALYZED_LENGTH);
+        this.referenceYear = Calendar.getInstance().get(Calendar.YEAR);
+    }
+
+    /**
+     * Returns the dictionaries, which are used to detect words.
+     *
+     * @return A collection, which contains the dictionaries, which are used to detect words, as an
+     * instance of the type {@link Collection} or an empty collection, if no dictionaries are used
+     */
+    public final synchronized Collection<RankedDictionary> getDictionaries() {
+        return Collections.unmodifiableList(new ArrayList<>(dictionaries));
+    }
+
+    /**
+     * Adds a dictionary, which should be used to detect words.
+     *
+     * @param dictionary
+     *         The dictionary, which should be added, as an instance of the class {@link
+     *         RankedDictionary}. The dictionary may not be null
+     */
+    public final synchronized void addDictionary(@NonNull final RankedDictionary dictionary) {
+        ensureNotNull(dictionary, "The dictionary may not be null");
+
+        if (!dictionaries.contains(dictionary)) {
+            dictionaries.add(dictionary);
+            invalidate();
+        }
+    }
+
+    /**
+     * Removes a dictionary, which should not be used to detect words anymore.
+     *
+     * @param dictionary
+     *         The dictionary, which should be removed, as an instance of the class {@link
+     *         RankedDictionary}. The dictionary may not be null
+     */
+    public final synchronized void removeDictionary(@NonNull final RankedDictionary dictionary) {
+        ensureNotNull(dictionary, "The dictionary may not be null");
+
+        if (dictionaries.remove(dictionary)) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Returns the year, which is used as a reference to estimate the number of guesses of years
+     * and dates.
+     *
+     * @return The year, which is used as a reference, as an {@link Integer} value
+     */
+    public final synchronized int getReferenceYear() {
+        return referenceYear;
+    }
+
+    /**
+     * Sets the year, which should be used as a reference to estimate the number of guesses of
+     * years and dates. Years and dates, which are close to the reference year, are considered to
+     * be easier to guess.
+     *
+     * @param referenceYear
+     *         The year, which should be set, as an {@link Integer} value
+     */
+    public final synchronized void setReferenceYear(final int referenceYear) {
+        this.referenceYear = referenceYear;
+        invalidate();
+    }
+
+    /**
+     * Estimates the logarithm of the number of guesses, an attacker needs to find out a specific
+     * password.
+     *
+     * @param password
+     *         The password as an instance of the type {@link CharSequence}. The password may not
+     *         be null
+     * @return The logarithm (base 10) of the number of guesses as a {@link Double} value
+     */
+    public final synchronized double getGuesses(@NonNull final CharSequence password) {
+        ensureNotNull(password, "The password may not be null");
+        int length = Math.min(password.length(), MAX_ANALYZED_LENGTH);
+        analysis.update(password, length);
+        return analysis.getGuesses() + (password.length() - length) * BRUTEFORCE_CARDINALITY;
+    }
+
+    @Override
+    public final float estimate(@NonNull final CharSequence password) {
+        return (float) Math.min(getGuesses(password) / STRONG_PASSWORD_GUESSES, 1);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.strength;
+
+import android.support.annotation.NonNull;
+
+/**
+ * A keyboard layout, which allows to detect keyboard walks, i.e. sequences of adjacent keys. The
+ * rows of the keyboard are staggered like on a QWERTY keyboard, i.e. each key has up to six
+ * neighbors: Two within the same row, two within the row above and two within the row below.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+final class Keyboard {
+
+    /**
+     * The row and column offsets of the neighbors of a key.
+     */
+    private static final int[][] DIRECTIONS = {{0, -1}, {0, 1}, {-1, 0}, {-1, 1}, {1, -1}, {1, 0}};
+
+    /**
+     * The number of ASCII characters.
+     */
+    private static final int ASCII_SIZE = 128;
+
+    /**
+     * The QWERTY keyboard layout.
+     */
+    static final Keyboard QWERTY = new Keyboard(
+            new String[]{"`1234567890-=", "qwertyuiop[]\\", "asdfghjkl;'", "zxcvbnm,./"},
+            new String[]{"~!@#$%^&*()_+", "QWERTYUIOP{}|", "ASDFGHJKL:\"", "ZXCVBNM<>?"});
+
+    /**
+     * The rows of the keyboard, if the shift key is not pressed.
+     */
+    private final String[] rows;
+
+    /**
+     * The row of each ASCII character or -1, if the character is not on the keyboard.
+     */
+    private final int[] rowIndices;
+
+    /**
+     * The column of each ASCII character.
+     */
+    private final int[] columnIndices;
+
+    /**
+     * True, if an ASCII character requires the shift key to be pressed, false otherwise.
+     */
+    private final boolean[] shifted;
+
+    /**
+     * The number of keys of the keyboard.
+     */
+    private final int keyCount;
+
+    /**
+     * The average number of neighbors of the keys of the keyboard.
+     */
+    private final double averageDegree;
+
+    /**
+     * Returns, whether the keyboard contains a key at a specific position.
+     *
+     * @param row
+     *         The row of the key as an {@link Integer} value
+     * @param column
+     *         The column of the key as an {@link Integer} value
+     * @return True, if the keyboard contains a key at the given position, false otherwise
+     */
+    private boolean containsKey(final int row, final int column) {
+        return row >= 0 && row < rows.length && column >= 0 && column < rows[row].length();
+    }
+
+    /**
+     * Creates a new keyboard layout.
+     *
+     * @param rows
+     *         The rows of the keyboard, if the shift key is not pressed, as a {@link String}
+     *         array. The array may not be null
+     * @param shiftedRows
+     *         The rows of the keyboard, if the shift key is pressed, as a {@link String} array.
+     *         The array may not be null and each row must have the same length as the
+     *         corresponding unshifted row
+     */
+    private Keyboard(@NonNull final String[] rows, @NonNull final String[] shiftedRows) {
+        this.rows = rows;
+        this.rowIndices = new int[ASCII_SIZE];
+        this.columnIndices = new int[ASCII_SIZE];
+        this.shifted = new boolean[ASCII_SIZE];
+        int keys = 0;
+        int neighbors = 0;
+
+        for (int i = 0; i < ASCII_SIZE; i++) {
+            rowIndices[i] = -1;
+        }
+
+        for (int row = 0; row < rows.length; row++) {
+            for (int column = 0; column < rows[row].length(); column++) {
+                char character = rows[row].charAt(column);
+                char shiftedCharacter = shiftedRows[row].charAt(column);
+                rowIndices[character] = row;
+                columnIndices[character] = column;
+                rowIndices[shiftedCharacter] = row;
+                columnIndices[shiftedCharacter] = column;
+                shifted[shiftedCharacter] = true;
+                keys++;
+
+                for (int[] direction : DIRECTIONS) {
+                    if (containsKey(row + direction[0], column + direction[1])) {
+                        neighbors++;
+                    }
+                }
+            }
+        }
+
+        this.keyCount = keys;
+        this.averageDegree = (double) neighbors / (double) keys;
+    }
+
+    /**
+     * Returns the number of keys of the keyboard.
+     *
+     * @return The number of keys of the keyboard as an {@link Integer} value
+     */
+    int getKeyCount() {
+        return keyCount;
+    }
+
+    /**
+     * Returns the average number of neighbors of the keys of the keyboard.
+     *
+     * @return The average number of neighbors as a {@link Double} value
+     */
+    double getAverageDegree() {
+        return averageDegree;
+    }
+
+    /**
+     * Returns, whether a specific character requires the shift key to be pressed.
+     *
+     * @param character
+     *         The character as a {@link Character} value
+     * @return True, if the given character is on the keyboard and requires the shift key to be
+     * pressed, false otherwise
+     */
+    boolean isShifted(final char character) {
+        return character < ASCII_SIZE && shifted[character];
+    }
+
+    /**
+     * Returns the direction from the key of a specific character to the key of another character.
+     *
+     * @param from
+     *         The first character as a {@link Character} value
+     * @param to
+     *         The second character as a {@link Character} value
+     * @return The direction as an {@link Integer} value between 0 and 5 or -1, if the keys of the
+     * given characters are not adjacent
+     */
+    int getDirection(final char from, final char to) {
+        if (from < ASCII_SIZE && to < ASCII_SIZE && rowIndices[from] != -1 &&
+                rowIndices[to] != -1) {
+            int rowOffset = rowIndices[to] - rowIndices[from];
+            int columnOffset = columnIndices[to] - columnIndices[from];
+
+            for (int i = 0; i < DIRECTIONS.length; i++) {
+                if (DIRECTIONS[i][0] == rowOffset && DIRECTIONS[i][1] == columnOffset) {
+                    return i;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+}
\ No newline at end of file
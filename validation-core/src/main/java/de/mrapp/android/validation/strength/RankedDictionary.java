@@ -0,0 +1,400 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.strength;
+
+import android.support.annotation.NonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+
+import static de.mrapp.android.validation.util.Condition.ensureNotNull;
+
+/**
+ * A dictionary, which contains words, which are ranked by their frequency, e.g. commonly used
+ * passwords. The words are stored in lower case and in reverse order by using a trie, whose nodes
+ * are numbered in breadth-first order. As the children of each node are consecutive, only the
+ * index of the first outgoing edge and the rank of each node, as well as the label of each edge,
+ * must be stored. The trie is queried in place, which allows to memory-map its data from a file.
+ * The data is loaded lazily by using a {@link Source}, when the dictionary is queried for the
+ * first time.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public final class RankedDictionary {
+
+    /**
+     * Defines the interface, a class, which provides the data of a dictionary, must implement.
+     */
+    public interface Source {
+
+        /**
+         * Loads the data of the dictionary. This method is called at most once per dictionary.
+         *
+         * @return The data, which has been loaded, as an instance of the class {@link ByteBuffer}.
+         * The data must have been created by using the method {@link #compile(Collection)}. The
+         * buffer may not be null
+         * @throws IOException
+         *         The exception, which is thrown, if the data could not be loaded
+         */
+        @NonNull
+        ByteBuffer load() throws IOException;
+
+    }
+
+    /**
+     * The magic number, which identifies the data of a dictionary.
+     */
+    private static final int MAGIC_NUMBER = 0x50574431;
+
+    /**
+     * The number of bytes, the header of the data of a dictionary consists of.
+     */
+    private static final int HEADER_SIZE = 8;
+
+    /**
+     * The source, which is used to load the data of the dictionary.
+     */
+    private final Source source;
+
+    /**
+     * The data of the dictionary or null, if it has not been loaded yet.
+     */
+    private volatile ByteBuffer data;
+
+    /**
+     * The number of nodes of the trie.
+     */
+    private int nodeCount;
+
+    /**
+     * Returns the data of the dictionary. If the data has not been loaded yet, it is loaded.
+     *
+     * @return The data of the dictionary as an instance of the class {@link ByteBuffer}
+     */
+    private ByteBuffer getData() {
+        ByteBuffer result = data;
+
+        if (result == null) {
+            synchronized (this) {
+                result = data;
+
+                if (result == null) {
+                    try {
+                        result = source.load().duplicate();
+                    } catch (IOException e) {
+                        throw new IllegalStateException("Failed to load dictionary", e);
+                    }
+
+                    if (result.remaining() < HEADER_SIZE ||
+                            result.getInt(result.position()) != MAGIC_NUMBER) {
+                        throw new IllegalStateException("Invalid dictionary data");
+                    }
+
+                    result = result.slice();
+                    nodeCount = result.getInt(4);
+                    data = result;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Normalizes a specific word, i.e. converts it into lower case and reverses it.
+     *
+     * @param word
+     *         The word, which should be normalized, as an instance of the type {@link
+     *         CharSequence}. The word may not be null
+     * @return The normalized word as a {@link String}
+     */
+    private static String normalize(@NonNull final CharSequence word) {
+        return new StringBuilder(word.toString().toLowerCase(Locale.ENGLISH)).reverse()
+                .toString();
+    }
+
+    /**
+     * Creates a new dictionary, whose data is loaded lazily by using a specific source.
+     *
+     * @param source
+     *         The source, which should be used to load the data of the dictionary, as an instance
+     *         of the type {@link Source}. The source may not be null
+     */
+    public RankedDictionary(@NonNull final Source source) {
+        ensureNotNull(source, "The source may not be null");
+        this.source = source;
+        this.data = null;
+    }
+
+    /**
+     * Creates and returns a dictionary, which contains specific words.
+     *
+     * @param words
+     *         A collection, which contains the words, which should be contained by the dictionary,
+     *         ordered by their frequency, as an instance of the type {@link Collection}. The
+     *         collection may not be null
+     * @return The dictionary, which has been created, as an instance of the class {@link
+     * RankedDictionary}
+     */
+    public static RankedDictionary create(@NonNull final Collection<? extends CharSequence> words) {
+        ensureNotNull(words, "The collection may not be null");
+        final List<CharSequence> copy = new ArrayList<CharSequence>(words);
+        return new RankedDictionary(new Source() {
+
+            @NonNull
+            @Override
+            public ByteBuffer load() {
+                return compile(copy);
+            }
+
+        });
+    }
+
+    /**
+     * Reads words from a specific input stream. The stream must contain one word per line, encoded
+     * in UTF-8 and ordered by their frequency. Empty lines are ignored.
+     *
+     * @param inputStream
+     *         The input stream, the words should be read from, as an instance of the class {@link
+     *         InputStream}. The input stream may not be null. It is not closed by this method
+     * @return A list, which contains the words, which have been read, as an instance of the type
+     * {@link List}
+     * @throws IOException
+     *         The exception, which is thrown, if the words could not be read
+     */
+    public static List<String> readWords(@NonNull final InputStream inputStream)
+            throws IOException {
+        ensureNotNull(inputStream, "The input stream may not be null");
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, "UTF-8"));
+        List<String> words = new ArrayList<>();
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+
+            if (!line.isEmpty()) {
+                words.add(line);
+            }
+        }
+
+        return words;
+    }
+
+    /**
+     * Compiles specific words into the data of a dictionary.
+     *
+     * @param words
+     *         A collection, which contains the words, ordered by their frequency, as an instance
+     *         of the type {@link Collection}. The collection may not be null. If a word is
+     *         contained multiple times, its first occurrence determines its rank
+     * @return The data of the dictionary as an instance of the class {@link ByteBuffer}
+     */
+    public static ByteBuffer compile(@NonNull final Collection<? extends CharSequence> words) {
+        ensureNotNull(words, "The collection may not be null");
+        Map<String, Integer> ranks = new HashMap<>();
+        int rank = 1;
+
+        for (CharSequence word : words) {
+            ensureNotNull(word, "The words may not be null");
+            String normalizedWord = normalize(word);
+
+            if (!normalizedWord.isEmpty() && !ranks.containsKey(normalizedWord)) {
+                ranks.put(normalizedWord, rank);
+            }
+
+            rank++;
+        }
+
+        List<String> sortedWords = new ArrayList<>(ranks.keySet());
+        Collections.sort(sortedWords);
+        List<Integer> firstEdges = new ArrayList<>();
+        List<Integer> nodeRanks = new ArrayList<>();
+        StringBuilder labels = new StringBuilder();
+        Queue<int[]> queue = new LinkedList<>();
+        queue.add(new int[]{0, sortedWords.size(), 0});
+        int edgeCount = 0;
+
+        // Each queue entry corresponds to a node and consists of the range of the sorted words,
+        // which start with the node's prefix, and the length of that prefix.
+        while (!queue.isEmpty()) {
+            int[] node = queue.poll();
+            int start = node[0];
+            int end = node[1];
+            int depth = node[2];
+            firstEdges.add(edgeCount);
+
+            if (start < end && sortedWords.get(start).length() == depth) {
+                nodeRanks.add(ranks.get(sortedWords.get(start)));
+                start++;
+            } else {
+                nodeRanks.add(0);
+            }
+
+            while (start < end) {
+                char label = sortedWords.get(start).charAt(depth);
+                int childEnd = start + 1;
+
+                while (childEnd < end && sortedWords.get(childEnd).charAt(depth) == label) {
+                    childEnd++;
+                }
+
+                labels.append(label);
+                queue.add(new int[]{start, childEnd, depth + 1});
+                edgeCount++;
+                start = childEnd;
+            }
+        }
+
+        int nodeCount = firstEdges.size();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + nodeCount * 10);
+        buffer.putInt(MAGIC_NUMBER);
+        buffer.putInt(nodeCount);
+
+        for (int firstEdge : firstEdges) {
+            buffer.putInt(firstEdge);
+        }
+
+        for (int nodeRank : nodeRanks) {
+            buffer.putInt(nodeRank);
+        }
+
+        for (int i = 0; i < nodeCount; i++) {
+            buffer.putChar(i < labels.length() ? labels.charAt(i) : '\u0000');
+        }
+
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Writes the data of a dictionary to a specific output stream.
+     *
+     * @param data
+     *         The data of the dictionary, which has been created by using the method {@link
+     *         #compile(Collection)}, as an instance of the class {@link ByteBuffer}. The data may
+     *         not be null
+     * @param outputStream
+     *         The output stream, the data should be written to, as an instance of the class {@link
+     *         OutputStream}. The output stream may not be null. It is not closed by this method
+     * @throws IOException
+     *         The exception, which is thrown, if the data could not be written
+     */
+    public static void write(@NonNull final ByteBuffer data,
+                             @NonNull final OutputStream outputStream) throws IOException {
+        ensureNotNull(data, "The data may not be null");
+        ensureNotNull(outputStream, "The output stream may not be null");
+        WritableByteChannel channel = Channels.newChannel(outputStream);
+        ByteBuffer buffer = data.duplicate();
+
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+
+        outputStream.flush();
+    }
+
+    /**
+     * Returns the root node of the trie. If the data of the dictionary has not been loaded yet, it
+     * is loaded.
+     *
+     * @return The root node of the trie as an {@link Integer} value
+     */
+    int getRoot() {
+        getData();
+        return 0;
+    }
+
+    /**
+     * Returns the child of a specific node of the trie, which is reached via an edge with a
+     * specific label. The words are stored in lower case and in reverse order.
+     *
+     * @param node
+     *         The node as an {@link Integer} value
+     * @param label
+     *         The label of the edge as a {@link Character} value
+     * @return The child as an {@link Integer} value or -1, if the node does not have such a child
+     */
+    int getChild(final int node, final char label) {
+        ByteBuffer buffer = data;
+        int firstEdgesOffset = HEADER_SIZE;
+        int labelsOffset = HEADER_SIZE + nodeCount * 8;
+        int low = buffer.getInt(firstEdgesOffset + node * 4);
+        int high = (node + 1 < nodeCount ? buffer.getInt(firstEdgesOffset + (node + 1) * 4) :
+                nodeCount - 1) - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midLabel = buffer.getChar(labelsOffset + mid * 2);
+
+            if (midLabel < label) {
+                low = mid + 1;
+            } else if (midLabel > label) {
+                high = mid - 1;
+            } else {
+                return mid + 1;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the rank of the word, which corresponds to a specific node of the trie.
+     *
+     * @param node
+     *         The node as an {@link Integer} value
+     * @return The rank of the word, which corresponds to the given node, as an {@link Integer}
+     * value or 0, if the node does not correspond to a word
+     */
+    int getRank(final int node) {
+        return data.getInt(HEADER_SIZE + nodeCount * 4 + node * 4);
+    }
+
+    /**
+     * Returns the rank of a specific word.
+     *
+     * @param word
+     *         The word as an instance of the type {@link CharSequence}. The word may not be null
+     * @return The rank of the given word as an {@link Integer} value, starting at 1, or 0, if the
+     * dictionary does not contain the word
+     */
+    public final int getRank(@NonNull final CharSequence word) {
+        ensureNotNull(word, "The word may not be null");
+        String normalizedWord = normalize(word);
+        int node = getRoot();
+
+        for (int i = 0; i < normalizedWord.length() && node != -1; i++) {
+            node = getChild(node, normalizedWord.charAt(i));
+        }
+
+        return node > 0 ? getRank(node) : 0;
+    }
+
+}
\ No newline at end of file
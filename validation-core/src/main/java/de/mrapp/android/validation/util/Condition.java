@@ -0,0 +1,104 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.util;
+
+/**
+ * A utility class, which provides static methods, which allow to ensure, that variables and
+ * objects fulfill certain conditions. Unlike the corresponding class of the library AndroidUtil,
+ * this class does not depend on the Android SDK and can therefore be used on any JVM.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public final class Condition {
+
+    /**
+     * Creates a new utility class, which provides static methods, which allow to ensure, that
+     * variables and objects fulfill certain conditions.
+     */
+    private Condition() {
+
+    }
+
+    /**
+     * Ensures, that an object is not null. Otherwise a {@link NullPointerException} with a
+     * specific message is thrown.
+     *
+     * @param object
+     *         The object, which should be checked, as an instance of the class {@link Object}
+     * @param exceptionMessage
+     *         The message of the exception, which is thrown, if the given object is null, as a
+     *         {@link String}
+     */
+    public static void ensureNotNull(final Object object, final String exceptionMessage) {
+        if (object == null) {
+            throw new NullPointerException(exceptionMessage);
+        }
+    }
+
+    /**
+     * Ensures, that a text is not empty. Otherwise an {@link IllegalArgumentException} with a
+     * specific message is thrown.
+     *
+     * @param text
+     *         The text, which should be checked, as an instance of the type {@link CharSequence}
+     * @param exceptionMessage
+     *         The message of the exception, which is thrown, if the given text is empty, as a
+     *         {@link String}
+     */
+    public static void ensureNotEmpty(final CharSequence text, final String exceptionMessage) {
+        if (text == null || text.length() == 0) {
+            throw new IllegalArgumentException(exceptionMessage);
+        }
+    }
+
+    /**
+     * Ensures, that an {@link Integer} value is at least a specific reference value. Otherwise an
+     * {@link IllegalArgumentException} with a specific message is thrown.
+     *
+     * @param value
+     *         The value, which should be checked, as an {@link Integer} value
+     * @param referenceValue
+     *         The reference value, the given value must be at least, as an {@link Integer} value
+     * @param exceptionMessage
+     *         The message of the exception, which is thrown, if the given value is less than the
+     *         reference value, as a {@link String}
+     */
+    public static void ensureAtLeast(final int value, final int referenceValue,
+                                     final String exceptionMessage) {
+        if (value < referenceValue) {
+            throw new IllegalArgumentException(exceptionMessage);
+        }
+    }
+
+    /**
+     * Ensures, that a {@link Long} value is at least a specific reference value. Otherwise an
+     * {@link IllegalArgumentException} with a specific message is thrown.
+     *
+     * @param value
+     *         The value, which should be checked, as a {@link Long} value
+     * @param referenceValue
+     *         The reference value, the given value must be at least, as a {@link Long} value
+     * @param exceptionMessage
+     *         The message of the exception, which is thrown, if the given value is less than the
+     *         reference value, as a {@link String}
+     */
+    public static void ensureAtLeast(final long value, final long referenceValue,
+                                     final String exceptionMessage) {
+        if (value < referenceValue) {
+            throw new IllegalArgumentException(exceptionMessage);
+        }
+    }
+
+}
\ No newline at end of file
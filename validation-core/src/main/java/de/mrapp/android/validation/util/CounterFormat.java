@@ -0,0 +1,213 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.util;
+
+import android.support.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static de.mrapp.android.validation.util.Condition.ensureAtLeast;
+import static de.mrapp.android.validation.util.Condition.ensureNotNull;
+
+/**
+ * A format, which allows to render a counter, e.g. "12 / 50", which consists of a current and a
+ * maximum value. Unlike {@link String#format(String, Object...)}, the pattern is only parsed once
+ * and the counter is rendered into a character array, which is reused, without allocating any
+ * objects. The pattern may contain the placeholders "%d", "%1$d" and "%2$d", which refer to the
+ * current and the maximum value, as well as the escape sequence "%%".
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public final class CounterFormat {
+
+    /**
+     * The maximum number of digits of a non-negative {@link Integer} value.
+     */
+    private static final int MAX_DIGITS = 10;
+
+    /**
+     * The literal parts of the pattern. The placeholders are located between them.
+     */
+    private final char[][] literals;
+
+    /**
+     * The index of the value, each placeholder refers to. 0 refers to the current value, 1 to
+     * the maximum value.
+     */
+    private final int[] arguments;
+
+    /**
+     * The character, which is used to represent the digit zero.
+     */
+    private final char zeroDigit;
+
+    /**
+     * The array, the counter is rendered into.
+     */
+    private final char[] buffer;
+
+    /**
+     * The length of the counter, which has been rendered last.
+     */
+    private int length;
+
+    /**
+     * Appends a specific non-negative value to the buffer.
+     *
+     * @param value
+     *         The value, which should be appended, as an {@link Integer} value. The value must be
+     *         at least 0
+     */
+    private void append(final int value) {
+        int digits = 1;
+
+        for (int remainder = value / 10; remainder > 0; remainder /= 10) {
+            digits++;
+        }
+
+        int remainder = value;
+
+        for (int i = length + digits - 1; i >= length; i--) {
+            buffer[i] = (char) (zeroDigit + remainder % 10);
+            remainder /= 10;
+        }
+
+        length += digits;
+    }
+
+    /**
+     * Creates a new format, which allows to render a counter.
+     *
+     * @param pattern
+     *         The pattern, which should be used, as a {@link String}. The pattern may not be null.
+     *         It may only contain the placeholders "%d", "%1$d" and "%2$d" and the escape sequence
+     *         "%%"
+     * @param zeroDigit
+     *         The character, which should be used to represent the digit zero, as a {@link
+     *         Character} value. The following nine characters must represent the digits one to
+     *         nine
+     */
+    public CounterFormat(@NonNull final String pattern, final char zeroDigit) {
+        ensureNotNull(pattern, "The pattern may not be null");
+        List<char[]> literalList = new ArrayList<>();
+        List<Integer> argumentList = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int index = 0;
+
+        while (index < pattern.length()) {
+            char character = pattern.charAt(index);
+
+            if (character != '%') {
+                literal.append(character);
+                index++;
+            } else if (pattern.startsWith("%%", index)) {
+                literal.append('%');
+                index += 2;
+            } else {
+                int argument;
+
+                if (pattern.startsWith("%d", index)) {
+                    argument = Math.min(argumentList.size(), 1);
+                    index += 2;
+                } else if (pattern.startsWith("%1$d", index)) {
+                    argument = 0;
+                    index += 4;
+                } else if (pattern.startsWith("%2$d", index)) {
+                    argument = 1;
+                    index += 4;
+                } else {
+                    throw new IllegalArgumentException(
+                            "Unsupported format specifier at index " + index + ": " + pattern);
+                }
+
+                literalList.add(literal.toString().toCharArray());
+                argumentList.add(argument);
+                literal.setLength(0);
+            }
+        }
+
+        literalList.add(literal.toString().toCharArray());
+        this.literals = literalList.toArray(new char[literalList.size()][]);
+        this.arguments = new int[argumentList.size()];
+        int capacity = arguments.length * MAX_DIGITS;
+
+        for (int i = 0; i < arguments.length; i++) {
+            arguments[i] = argumentList.get(i);
+        }
+
+        for (char[] part : literals) {
+            capacity += part.length;
+        }
+
+        this.zeroDigit = zeroDigit;
+        this.buffer = new char[capacity];
+        this.length = 0;
+    }
+
+    /**
+     * Renders the counter for specific values. The result can be obtained by using the methods
+     * {@link #getChars()} and {@link #length()}. It is overwritten, when this method is invoked
+     * again.
+     *
+     * @param current
+     *         The current value as an {@link Integer} value. The value must be at least 0
+     * @param maximum
+     *         The maximum value as an {@link Integer} value. The value must be at least 0
+     * @return The length of the counter, which has been rendered, as an {@link Integer} value
+     */
+    public int format(final int current, final int maximum) {
+        ensureAtLeast(current, 0, "The current value must be at least 0");
+        ensureAtLeast(maximum, 0, "The maximum value must be at least 0");
+        length = 0;
+
+        for (int i = 0; i < literals.length; i++) {
+            System.arraycopy(literals[i], 0, buffer, length, literals[i].length);
+            length += literals[i].length;
+
+            if (i < arguments.length) {
+                append(arguments[i] == 0 ? current : maximum);
+            }
+        }
+
+        return length;
+    }
+
+    /**
+     * Returns the array, the counter has been rendered into. Only the first {@link #length()}
+     * characters belong to the counter. The array must not be modified.
+     *
+     * @return The array, the counter has been rendered into, as a {@link Character} array
+     */
+    public char[] getChars() {
+        return buffer;
+    }
+
+    /**
+     * Returns the length of the counter, which has been rendered last.
+     *
+     * @return The length of the counter, which has been rendered last, as an {@link Integer}
+     * value
+     */
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public String toString() {
+        return new String(buffer, 0, length);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.util;
+
+import android.support.annotation.NonNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+import static de.mrapp.android.validation.util.Condition.ensureNotNull;
+
+/**
+ * A registry, which allows to share compiled regular expressions. Identical regular expressions,
+ * which are used by different validators or constraints, are only compiled once and the same
+ * instance of the class {@link Pattern} is returned for all of them. The registry is thread-safe.
+ * As regular expressions are never removed from the registry, it should only be used for a
+ * bounded set of regular expressions, e.g. constants, rather than for arbitrary user input.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public final class PatternRegistry {
+
+    /**
+     * A map, which contains the compiled regular expressions, mapped to their flags and
+     * expressions.
+     */
+    private static final ConcurrentMap<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new registry, which allows to share compiled regular expressions.
+     */
+    private PatternRegistry() {
+
+    }
+
+    /**
+     * Returns the compiled regular expression, which corresponds to a specific expression. If the
+     * expression has not been compiled yet, it is compiled and added to the registry.
+     *
+     * @param regex
+     *         The regular expression, which should be compiled, as a {@link String}. The regular
+     *         expression may not be null
+     * @return The compiled regular expression as an instance of the class {@link Pattern}
+     */
+    public static Pattern compile(@NonNull final String regex) {
+        return compile(regex, 0);
+    }
+
+    /**
+     * Returns the compiled regular expression, which corresponds to a specific expression and
+     * flags. If the expression has not been compiled with the given flags yet, it is compiled and
+     * added to the registry.
+     *
+     * @param regex
+     *         The regular expression, which should be compiled, as a {@link String}. The regular
+     *         expression may not be null
+     * @param flags
+     *         The flags, which should be used to compile the regular expression, as an {@link
+     *         Integer} value. The flags must be a bit mask of the flags, which are provided by the
+     *         class {@link Pattern}
+     * @return The compiled regular expression as an instance of the class {@link Pattern}
+     */
+    public static Pattern compile(@NonNull final String regex, final int flags) {
+        ensureNotNull(regex, "The regular expression may not be null");
+        String key = flags + ":" + regex;
+        Pattern pattern = PATTERNS.get(key);
+
+        if (pattern == null) {
+            pattern = Pattern.compile(regex, flags);
+            Pattern previous = PATTERNS.putIfAbsent(key, pattern);
+
+            if (previous != null) {
+                pattern = previous;
+            }
+        }
+
+        return pattern;
+    }
+
+}
\ No newline at end of file
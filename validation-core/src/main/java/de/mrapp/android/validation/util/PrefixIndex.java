@@ -0,0 +1,277 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.util;
+
+import android.support.annotation.NonNull;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+
+import static de.mrapp.android.validation.util.Condition.ensureNotNull;
+
+/**
+ * An index, which allows to find the labels, which start with a specific prefix, or which contain
+ * a word, which starts with the prefix. The comparison is case-insensitive. Instead of a trie,
+ * which would require an object per character, the index consists of a single sorted array, which
+ * contains an entry for each label and each of its words. Each entry consists of the position of
+ * the label and the offset of the word within the label. Lookups are performed by using a binary
+ * search, followed by a scan over the matching entries.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public final class PrefixIndex {
+
+    /**
+     * The maximum offset of a word within a label, which is indexed.
+     */
+    private static final int MAX_OFFSET = 0xFFFF;
+
+    /**
+     * The normalized labels, indexed by their position.
+     */
+    private final String[] labels;
+
+    /**
+     * The sorted entries of the index. Each entry consists of the position of a label (upper bits)
+     * and the offset of a word within the label (lower 16 bits).
+     */
+    private final long[] entries;
+
+    /**
+     * Normalizes a specific text in order to allow case-insensitive comparisons.
+     *
+     * @param text
+     *         The text, which should be normalized, as an instance of the type {@link
+     *         CharSequence}. The text may not be null
+     * @return The normalized text as a {@link String}
+     */
+    private static String normalize(@NonNull final CharSequence text) {
+        return text.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns, whether a word starts at a specific offset of a label.
+     *
+     * @param label
+     *         The label as a {@link String}. The label may not be null
+     * @param offset
+     *         The offset as an {@link Integer} value
+     * @return True, if a word starts at the given offset, false otherwise
+     */
+    private static boolean isWordStart(@NonNull final String label, final int offset) {
+        return offset == 0 || (Character.isLetterOrDigit(label.charAt(offset)) &&
+                !Character.isLetterOrDigit(label.charAt(offset - 1)));
+    }
+
+    /**
+     * Compares the suffixes of the labels, which correspond to two specific entries.
+     *
+     * @param entry1
+     *         The first entry as a {@link Long} value
+     * @param entry2
+     *         The second entry as a {@link Long} value
+     * @return A negative value, zero or a positive value, if the first suffix is less than, equal
+     * to or greater than the second suffix
+     */
+    private int compare(final long entry1, final long entry2) {
+        String label1 = labels[(int) (entry1 >>> 16)];
+        String label2 = labels[(int) (entry2 >>> 16)];
+        int offset1 = (int) (entry1 & MAX_OFFSET);
+        int offset2 = (int) (entry2 & MAX_OFFSET);
+        int length = Math.min(label1.length() - offset1, label2.length() - offset2);
+
+        for (int i = 0; i < length; i++) {
+            int difference = label1.charAt(offset1 + i) - label2.charAt(offset2 + i);
+
+            if (difference != 0) {
+                return difference;
+            }
+        }
+
+        int difference = (label1.length() - offset1) - (label2.length() - offset2);
+
+        if (difference != 0) {
+            return difference;
+        }
+
+        return entry1 < entry2 ? -1 : (entry1 == entry2 ? 0 : 1);
+    }
+
+    /**
+     * Compares the suffix of the label, which corresponds to a specific entry, with a specific
+     * prefix. Suffixes, which start with the prefix, are considered to be equal to the prefix.
+     *
+     * @param entry
+     *         The entry as a {@link Long} value
+     * @param prefix
+     *         The normalized prefix as a {@link String}. The prefix may not be null
+     * @return A negative value, zero or a positive value, if the suffix is less than, starts with
+     * or is greater than the prefix
+     */
+    private int compareToPrefix(final long entry, @NonNull final String prefix) {
+        String label = labels[(int) (entry >>> 16)];
+        int offset = (int) (entry & MAX_OFFSET);
+        int length = Math.min(label.length() - offset, prefix.length());
+
+        for (int i = 0; i < length; i++) {
+            int difference = label.charAt(offset + i) - prefix.charAt(i);
+
+            if (difference != 0) {
+                return difference;
+            }
+        }
+
+        return length < prefix.length() ? -1 : 0;
+    }
+
+    /**
+     * Sorts the entries of the index by using merge sort.
+     *
+     * @param array
+     *         The array, which contains the entries, which should be sorted, as a {@link Long}
+     *         array. The array may not be null
+     * @param buffer
+     *         A buffer, which has the same length as the array, as a {@link Long} array. The
+     *         buffer may not be null
+     * @param start
+     *         The index of the first entry, which should be sorted, as an {@link Integer} value
+     * @param end
+     *         The index after the last entry, which should be sorted, as an {@link Integer} value
+     */
+    private void sort(@NonNull final long[] array, @NonNull final long[] buffer, final int start,
+                      final int end) {
+        if (end - start > 1) {
+            int middle = (start + end) >>> 1;
+            sort(array, buffer, start, middle);
+            sort(array, buffer, middle, end);
+
+            if (compare(array[middle - 1], array[middle]) > 0) {
+                int i = start;
+                int j = middle;
+
+                for (int k = start; k < end; k++) {
+                    if (j >= end || (i < middle && compare(array[i], array[j]) <= 0)) {
+                        buffer[k] = array[i++];
+                    } else {
+                        buffer[k] = array[j++];
+                    }
+                }
+
+                System.arraycopy(buffer, start, array, start, end - start);
+            }
+        }
+    }
+
+    /**
+     * Creates a new index, which allows to find the labels, which start with a specific prefix,
+     * or which contain a word, which starts with the prefix.
+     *
+     * @param labels
+     *         A list, which contains the labels, which should be indexed, as an instance of the
+     *         type {@link List}. The list may not be null. The position of each label within the
+     *         list is used to identify it
+     */
+    public PrefixIndex(@NonNull final List<? extends CharSequence> labels) {
+        ensureNotNull(labels, "The list may not be null");
+        this.labels = new String[labels.size()];
+        int entryCount = 0;
+
+        for (int i = 0; i < this.labels.length; i++) {
+            CharSequence label = labels.get(i);
+            ensureNotNull(label, "The labels may not be null");
+            this.labels[i] = normalize(label);
+
+            for (int offset = 0; offset < Math.min(this.labels[i].length(), MAX_OFFSET + 1);
+                 offset++) {
+                if (isWordStart(this.labels[i], offset)) {
+                    entryCount++;
+                }
+            }
+        }
+
+        this.entries = new long[entryCount];
+        int index = 0;
+
+        for (int i = 0; i < this.labels.length; i++) {
+            for (int offset = 0; offset < Math.min(this.labels[i].length(), MAX_OFFSET + 1);
+                 offset++) {
+                if (isWordStart(this.labels[i], offset)) {
+                    entries[index++] = ((long) i << 16) | offset;
+                }
+            }
+        }
+
+        sort(entries, new long[entryCount], 0, entryCount);
+    }
+
+    /**
+     * Returns the number of labels, which are contained by the index.
+     *
+     * @return The number of labels, which are contained by the index, as an {@link Integer} value
+     */
+    public int size() {
+        return labels.length;
+    }
+
+    /**
+     * Returns the positions of the labels, which start with a specific prefix, or which contain a
+     * word, which starts with the prefix.
+     *
+     * @param prefix
+     *         The prefix as an instance of the type {@link CharSequence}. The prefix may not be
+     *         null
+     * @return An array, which contains the positions of the labels, which match the given prefix,
+     * in ascending order, as an {@link Integer} array. If the prefix is empty, the positions of
+     * all labels are returned
+     */
+    public int[] find(@NonNull final CharSequence prefix) {
+        ensureNotNull(prefix, "The prefix may not be null");
+        String normalizedPrefix = normalize(prefix);
+        int low = 0;
+        int high = entries.length;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (compareToPrefix(entries[middle], normalizedPrefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        BitSet positions = new BitSet(labels.length);
+
+        if (normalizedPrefix.isEmpty()) {
+            positions.set(0, labels.length);
+        } else {
+            for (int i = low;
+                 i < entries.length && compareToPrefix(entries[i], normalizedPrefix) == 0; i++) {
+                positions.set((int) (entries[i] >>> 16));
+            }
+        }
+
+        int[] result = new int[positions.cardinality()];
+        int index = 0;
+
+        for (int i = positions.nextSetBit(0); i >= 0; i = positions.nextSetBit(i + 1)) {
+            result[index++] = i;
+        }
+
+        return result;
+    }
+
+}
\ No newline at end of file
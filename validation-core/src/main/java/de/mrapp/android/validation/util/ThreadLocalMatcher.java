@@ -0,0 +1,233 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.util;
+
+import android.support.annotation.NonNull;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import de.mrapp.android.validation.ValidationOutcome;
+
+import static de.mrapp.android.validation.util.Condition.ensureAtLeast;
+import static de.mrapp.android.validation.util.Condition.ensureNotNull;
+
+/**
+ * Allows to match texts against a regular expression without creating a new {@link Matcher} for
+ * each text. Instead, each thread reuses a single matcher, which is reset for each text. After a
+ * text has been matched, the matcher is reset again, in order to not keep a reference to the
+ * text.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public final class ThreadLocalMatcher {
+
+    /**
+     * A text, which counts the number of accesses to its characters and aborts matching, if a
+     * budget is exceeded.
+     */
+    private static final class BudgetedText implements CharSequence {
+
+        /**
+         * The text, whose characters are accessed.
+         */
+        private CharSequence text;
+
+        /**
+         * The number of accesses, which remain until the budget is exceeded.
+         */
+        private int remainingSteps;
+
+        @Override
+        public int length() {
+            return text.length();
+        }
+
+        @Override
+        public char charAt(final int index) {
+            if (--remainingSteps < 0) {
+                throw BUDGET_EXCEEDED;
+            }
+
+            return text.charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            return text.subSequence(start, end);
+        }
+
+        @Override
+        @NonNull
+        public String toString() {
+            return text.toString();
+        }
+
+    }
+
+    /**
+     * An exception, which is thrown in order to abort matching, if a budget is exceeded. It does
+     * not contain a stack trace, because it is never propagated to the caller.
+     */
+    private static final class BudgetExceededException extends RuntimeException {
+
+        /**
+         * The constant serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+
+    }
+
+    /**
+     * The exception, which is thrown in order to abort matching, if a budget is exceeded.
+     */
+    private static final BudgetExceededException BUDGET_EXCEEDED = new BudgetExceededException();
+
+    /**
+     * The texts, which are used by the individual threads in order to count the number of
+     * accesses to characters.
+     */
+    private static final ThreadLocal<BudgetedText> BUDGETED_TEXTS =
+            new ThreadLocal<BudgetedText>() {
+
+                @Override
+                protected BudgetedText initialValue() {
+                    return new BudgetedText();
+                }
+
+            };
+
+    /**
+     * The regular expression, which is used to match the texts.
+     */
+    private final Pattern pattern;
+
+    /**
+     * The matchers, which are used by the individual threads.
+     */
+    private final ThreadLocal<Matcher> matchers;
+
+    /**
+     * Creates a new object, which allows to match texts against a regular expression.
+     *
+     * @param pattern
+     *         The regular expression, which should be used to match the texts, as an instance of
+     *         the class {@link Pattern}. The regular expression may not be null
+     */
+    public ThreadLocalMatcher(@NonNull final Pattern pattern) {
+        ensureNotNull(pattern, "The pattern may not be null");
+        this.pattern = pattern;
+        this.matchers = new ThreadLocal<Matcher>() {
+
+            @Override
+            protected Matcher initialValue() {
+                return pattern.matcher("");
+            }
+
+        };
+    }
+
+    /**
+     * Returns the regular expression, which is used to match the texts.
+     *
+     * @return The regular expression, which is used to match the texts, as an instance of the
+     * class {@link Pattern}
+     */
+    public Pattern getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Returns, whether a specific text matches the regular expression entirely.
+     *
+     * @param text
+     *         The text, which should be matched, as an instance of the type {@link CharSequence}.
+     *         The text may not be null
+     * @return True, if the given text matches the regular expression, false otherwise
+     */
+    public boolean matches(@NonNull final CharSequence text) {
+        ensureNotNull(text, "The text may not be null");
+        Matcher matcher = matchers.get();
+
+        try {
+            return matcher.reset(text).matches();
+        } finally {
+            matcher.reset("");
+        }
+    }
+
+    /**
+     * Returns, whether a specific text contains a subsequence, which matches the regular
+     * expression.
+     *
+     * @param text
+     *         The text, which should be matched, as an instance of the type {@link CharSequence}.
+     *         The text may not be null
+     * @return True, if the given text contains a subsequence, which matches the regular
+     * expression, false otherwise
+     */
+    public boolean find(@NonNull final CharSequence text) {
+        ensureNotNull(text, "The text may not be null");
+        Matcher matcher = matchers.get();
+
+        try {
+            return matcher.reset(text).find();
+        } finally {
+            matcher.reset("");
+        }
+    }
+
+    /**
+     * Returns, whether a specific text matches the regular expression entirely. Matching is
+     * aborted, if it requires more than a specific number of accesses to the text's characters.
+     * The budget can only be enforced, if the regular expression engine accesses the text via the
+     * interface {@link CharSequence}. This is the case on the Java platform, but not on Android,
+     * where the text is copied before being matched natively.
+     *
+     * @param text
+     *         The text, which should be matched, as an instance of the type {@link CharSequence}.
+     *         The text may not be null
+     * @param budget
+     *         The maximum number of accesses to the text's characters as an {@link Integer}
+     *         value. The budget must be at least 0
+     * @return {@link ValidationOutcome#VALID}, if the given text matches the regular expression,
+     * {@link ValidationOutcome#INVALID}, if it does not match the regular expression, or {@link
+     * ValidationOutcome#BUDGET_EXCEEDED}, if matching exceeded the budget
+     */
+    public ValidationOutcome matches(@NonNull final CharSequence text, final int budget) {
+        ensureNotNull(text, "The text may not be null");
+        ensureAtLeast(budget, 0, "The budget must be at least 0");
+        BudgetedText budgetedText = BUDGETED_TEXTS.get();
+        budgetedText.text = text;
+        budgetedText.remainingSteps = budget;
+        Matcher matcher = matchers.get();
+
+        try {
+            return matcher.reset(budgetedText).matches() ? ValidationOutcome.VALID :
+                    ValidationOutcome.INVALID;
+        } catch (BudgetExceededException e) {
+            return ValidationOutcome.BUDGET_EXCEEDED;
+        } finally {
+            matcher.reset("");
+            budgetedText.text = null;
+        }
+    }
+
+}
\ No newline at end of file
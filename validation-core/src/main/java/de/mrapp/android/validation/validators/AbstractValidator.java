@@ -0,0 +1,68 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.validators;
+
+import android.support.annotation.NonNull;
+
+import de.mrapp.android.validation.Validator;
+
+import static de.mrapp.android.validation.util.Condition.ensureNotEmpty;
+import static de.mrapp.android.validation.util.Condition.ensureNotNull;
+
+/**
+ * An abstract base class for all validators, which should be able to validate values of a specific
+ * type.
+ *
+ * @param <Type>
+ *         The type of the values, which should be validated
+ * @author Michael Rapp
+ * @since 1.0.0
+ */
+public abstract class AbstractValidator<Type> implements Validator<Type> {
+
+    /**
+     * The error message, which should be shown, if the validation fails.
+     */
+    private CharSequence errorMessage;
+
+    /**
+     * Creates a new validator, which should be able to validate values of a specific type.
+     *
+     * @param errorMessage
+     *         The error message, which should be shown, if the validation fails, as an instance of
+     *         the type {@link CharSequence}. The error message may not be null
+     */
+    public AbstractValidator(@NonNull final CharSequence errorMessage) {
+        setErrorMessage(errorMessage);
+    }
+
+    /**
+     * Sets the error message, which should be shown, if the validation fails.
+     *
+     * @param errorMessage
+     *         The error message, which should be set, as an instance of the type {@link
+     *         CharSequence}. The error message may not be null
+     */
+    public final void setErrorMessage(@NonNull final CharSequence errorMessage) {
+        ensureNotNull(errorMessage, "The error message may not be null");
+        ensureNotEmpty(errorMessage, "The error message may not be empty");
+        this.errorMessage = errorMessage;
+    }
+
+    @Override
+    public final CharSequence getErrorMessage() {
+        return errorMessage;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.validators;
+
+import android.support.annotation.NonNull;
+
+import de.mrapp.android.validation.AsyncValidator;
+import de.mrapp.android.validation.Validator;
+
+import static de.mrapp.android.validation.util.Condition.ensureNotNull;
+
+/**
+ * A validator, which allows to execute an other validator in a background thread. The error
+ * message of the encapsulated validator is used.
+ *
+ * @param <Type>
+ *         The type of the values, which should be validated
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public class BackgroundValidator<Type> implements AsyncValidator<Type> {
+
+    /**
+     * The validator, which is executed in a background thread.
+     */
+    private final Validator<Type> validator;
+
+    /**
+     * Creates a new validator, which allows to execute an other validator in a background thread.
+     *
+     * @param validator
+     *         The validator, which should be executed in a background thread, as an instance of
+     *         the type {@link Validator}. The validator may not be null and must be thread-safe
+     */
+    public BackgroundValidator(@NonNull final Validator<Type> validator) {
+        ensureNotNull(validator, "The validator may not be null");
+        this.validator = validator;
+    }
+
+    /**
+     * Creates and returns a validator, which allows to execute an other validator in a background
+     * thread.
+     *
+     * @param <Type>
+     *         The type of the values, which should be validated
+     * @param validator
+     *         The validator, which should be executed in a background thread, as an instance of
+     *         the type {@link Validator}. The validator may not be null and must be thread-safe
+     * @return The validator, which has been created, as an instance of the class {@link
+     * BackgroundValidator}
+     */
+    public static <Type> BackgroundValidator<Type> create(
+            @NonNull final Validator<Type> validator) {
+        return new BackgroundValidator<>(validator);
+    }
+
+    /**
+     * Returns the validator, which is executed in a background thread.
+     *
+     * @return The validator, which is executed in a background thread, as an instance of the type
+     * {@link Validator}
+     */
+    public final Validator<Type> getValidator() {
+        return validator;
+    }
+
+    @Override
+    public final boolean validate(final Type value) {
+        return validator.validate(value);
+    }
+
+    @Override
+    public final CharSequence getErrorMessage() {
+        return validator.getErrorMessage();
+    }
+
+}
\ No newline at end of file
@@ -13,14 +13,13 @@
  */
 package de.mrapp.android.validation.validators;
 
-import android.content.Context;
 import android.support.annotation.NonNull;
-import android.support.annotation.StringRes;
 
+import de.mrapp.android.validation.EvaluationOrder;
 import de.mrapp.android.validation.Validator;
 
-import static de.mrapp.android.util.Condition.ensureAtLeast;
-import static de.mrapp.android.util.Condition.ensureNotNull;
+import static de.mrapp.android.validation.util.Condition.ensureAtLeast;
+import static de.mrapp.android.validation.util.Condition.ensureNotNull;
 
 /**
  * A validator, which allows to combine multiple validators in a conjunctive manner. Only if all
@@ -38,6 +37,12 @@ public class ConjunctiveValidator<Type> extends AbstractValidator<Type> {
      */
     private Validator<Type>[] validators;
 
+    /**
+     * The order, the single validators are evaluated in, if they are reordered adaptively, or null,
+     * if they are evaluated in the order of declaration.
+     */
+    private EvaluationOrder evaluationOrder;
+
     /**
      * Creates a new validator, which allows to combine multiple validators in a conjunctive
      * manner.
@@ -56,28 +61,6 @@ public class ConjunctiveValidator<Type> extends AbstractValidator<Type> {
         setValidators(validators);
     }
 
-    /**
-     * Creates a new validator, which allows to combine multiple validators in a conjunctive
-     * manner.
-     *
-     * @param context
-     *         The context, which should be used to retrieve the error message, as an instance of
-     *         the class {@link Context}. The context may not be null
-     * @param resourceId
-     *         The resource ID of the string resource, which contains the error message, which
-     *         should be set, as an {@link Integer} value. The resource ID must correspond to a
-     *         valid string resource
-     * @param validators
-     *         The single validators, the validator should consist of, as an array of the type
-     *         {@link Validator}. The validators may neither be null, nor empty
-     */
-    @SafeVarargs
-    public ConjunctiveValidator(@NonNull final Context context, @StringRes final int resourceId,
-                                @NonNull final Validator<Type>... validators) {
-        super(context, resourceId);
-        setValidators(validators);
-    }
-
     /**
      * Creates and returns a validator, which allows to combine multiple validators in a conjunctive
      * manner.
@@ -99,32 +82,6 @@ public class ConjunctiveValidator<Type> extends AbstractValidator<Type> {
         return new ConjunctiveValidator<>(errorMessage, validators);
     }
 
-    /**
-     * Creates and returns a validator, which allows to combine multiple validators in a conjunctive
-     * manner.
-     *
-     * @param <Type>
-     *         The type of the values, which should be validated
-     * @param context
-     *         The context, which should be used to retrieve the error message, as an instance of
-     *         the class {@link Context}. The context may not be null
-     * @param resourceId
-     *         The resource ID of the string resource, which contains the error message, which
-     *         should be set, as an {@link Integer} value. The resource ID must correspond to a
-     *         valid string resource
-     * @param validators
-     *         The single validators, the validator should consist of, as an array of the type
-     *         {@link Validator}. The validators may neither be null, nor empty
-     * @return The validator, which has been created, as an instance of the class {@link
-     * ConjunctiveValidator}
-     */
-    @SafeVarargs
-    public static <Type> ConjunctiveValidator<Type> create(@NonNull final Context context,
-                                                           @StringRes final int resourceId,
-                                                           @NonNull final Validator<Type>... validators) {
-        return new ConjunctiveValidator<>(context, resourceId, validators);
-    }
-
     /**
      * Returns the single validators, the validator consists of.
      *
@@ -147,17 +104,63 @@ public class ConjunctiveValidator<Type> extends AbstractValidator<Type> {
         ensureNotNull(validators, "The validators may not be null");
         ensureAtLeast(validators.length, 1, "The validators may not be empty");
         this.validators = validators;
+        this.evaluationOrder =
+                evaluationOrder != null ? new EvaluationOrder(validators.length) : null;
+    }
+
+    /**
+     * Returns, whether the single validators are reordered adaptively, or not.
+     *
+     * @return True, if the single validators are reordered adaptively, false otherwise
+     */
+    public final boolean isReorderedAdaptively() {
+        return evaluationOrder != null;
+    }
+
+    /**
+     * Sets, whether the single validators should be reordered adaptively, or not. If enabled, the
+     * costs and results of the single validators are recorded at runtime in order to evaluate the
+     * cheapest ones, which are most likely to fail, first. This does not change the result, as long
+     * as the single validators do not have any side effects.
+     *
+     * @param reorderAdaptively
+     *         True, if the single validators should be reordered adaptively, false otherwise
+     */
+    public final void reorderAdaptively(final boolean reorderAdaptively) {
+        if (reorderAdaptively != isReorderedAdaptively()) {
+            evaluationOrder = reorderAdaptively ? new EvaluationOrder(validators.length) : null;
+        }
     }
 
     @Override
     public final boolean validate(final Type value) {
-        for (Validator<Type> validator : validators) {
-            if (!validator.validate(value)) {
-                return false;
+        EvaluationOrder evaluationOrder = this.evaluationOrder;
+
+        if (evaluationOrder == null) {
+            for (Validator<Type> validator : validators) {
+                if (!validator.validate(value)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        boolean result = true;
+
+        for (int index : evaluationOrder.getOrder()) {
+            long startTime = System.nanoTime();
+            boolean valid = validators[index].validate(value);
+            evaluationOrder.record(index, !valid, System.nanoTime() - startTime);
+
+            if (!valid) {
+                result = false;
+                break;
             }
         }
 
-        return true;
+        evaluationOrder.finish();
+        return result;
     }
 
 }
\ No newline at end of file
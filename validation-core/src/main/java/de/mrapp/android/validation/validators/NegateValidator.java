@@ -13,13 +13,11 @@
  */
 package de.mrapp.android.validation.validators;
 
-import android.content.Context;
 import android.support.annotation.NonNull;
-import android.support.annotation.StringRes;
 
 import de.mrapp.android.validation.Validator;
 
-import static de.mrapp.android.util.Condition.ensureNotNull;
+import static de.mrapp.android.validation.util.Condition.ensureNotNull;
 
 /**
  * A validator, which allows to negate the result of an other validator.
@@ -71,50 +69,6 @@ public class NegateValidator<Type> extends AbstractValidator<Type> {
         return new NegateValidator<>(errorMessage, validator);
     }
 
-    /**
-     * Creates and returns a validator, which allows to negate the result of an other validator.
-     *
-     * @param <Type>
-     *         The type of the values, which should be validated
-     * @param context
-     *         The context, which should be used to retrieve the error message, as an instance of
-     *         the class {@link Context}. The context may not be null
-     * @param resourceId
-     *         The resource ID of the string resource, which contains the error message, which
-     *         should be set, as an {@link Integer} value. The resource ID must correspond to a
-     *         valid string resource
-     * @param validator
-     *         The validator, whose result should be negated, as an instance of the type {@link
-     *         Validator}. The validator may not be null
-     * @return The validator, which has been created, as an instance of the class {@link
-     * NegateValidator}
-     */
-    public static <Type> NegateValidator<Type> create(@NonNull final Context context,
-                                                      @StringRes final int resourceId,
-                                                      @NonNull final Validator<Type> validator) {
-        return new NegateValidator<>(context, resourceId, validator);
-    }
-
-    /**
-     * Creates a new validator, which allows to negate the result of an other validator.
-     *
-     * @param context
-     *         The context, which should be used to retrieve the error message, as an instance of
-     *         the class {@link Context}. The context may not be null
-     * @param resourceId
-     *         The resource ID of the string resource, which contains the error message, which
-     *         should be set, as an {@link Integer} value. The resource ID must correspond to a
-     *         valid string resource
-     * @param validator
-     *         The validator, whose result should be negated, as an instance of the type {@link
-     *         Validator}. The validator may not be null
-     */
-    public NegateValidator(@NonNull final Context context, @StringRes final int resourceId,
-                           @NonNull final Validator<Type> validator) {
-        super(context, resourceId);
-        setValidator(validator);
-    }
-
     /**
      * Returns the validator, whose result is negated.
      *
@@ -13,9 +13,9 @@
  */
 package de.mrapp.android.validation.validators;
 
-import android.content.Context;
 import android.support.annotation.NonNull;
-import android.support.annotation.StringRes;
+
+import de.mrapp.android.validation.CostAware;
 
 /**
  * A validator, which allows to ensure, that values are not null.
@@ -23,7 +23,7 @@ import android.support.annotation.StringRes;
  * @author Michael Rapp
  * @since 1.0.0
  */
-public class NotNullValidator extends AbstractValidator<Object> {
+public class NotNullValidator extends AbstractValidator<Object> implements CostAware {
 
     /**
      * Creates a new validator, which allows to ensure, that values are not null.
@@ -36,24 +36,14 @@ public class NotNullValidator extends AbstractValidator<Object> {
         super(errorMessage);
     }
 
-    /**
-     * Creates a new validator, which allows to ensure, that values are not null.
-     *
-     * @param context
-     *         The context, which should be used to retrieve the error message, as an instance of
-     *         the class {@link Context}. The context may not be null
-     * @param resourceId
-     *         The resource ID of the string resource, which contains the error message, which
-     *         should be set, as an {@link Integer} value. The resource ID must correspond to a
-     *         valid string resource
-     */
-    public NotNullValidator(@NonNull final Context context, @StringRes final int resourceId) {
-        super(context, resourceId);
-    }
-
     @Override
     public final boolean validate(final Object value) {
         return value != null;
     }
 
+    @Override
+    public final int getCost() {
+        return COST_LOW;
+    }
+
 }
\ No newline at end of file
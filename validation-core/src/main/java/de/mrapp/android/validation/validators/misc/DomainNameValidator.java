@@ -13,13 +13,11 @@
  */
 package de.mrapp.android.validation.validators.misc;
 
-import android.content.Context;
 import android.support.annotation.NonNull;
-import android.support.annotation.StringRes;
-import android.util.Patterns;
 
 import java.util.regex.Pattern;
 
+import de.mrapp.android.validation.util.PatternRegistry;
 import de.mrapp.android.validation.validators.text.RegexValidator;
 
 /**
@@ -34,7 +32,8 @@ public class DomainNameValidator extends RegexValidator {
     /**
      * The regular expression, which is used by the validator.
      */
-    private static final Pattern REGEX = Pattern.compile("(^$)|" + Patterns.DOMAIN_NAME.pattern());
+    private static final Pattern REGEX =
+            PatternRegistry.compile("(^$)|" + Patterns.DOMAIN_NAME.pattern());
 
     /**
      * Creates a new validator, which allows to validate texts to ensure, that they represent valid
@@ -48,20 +47,4 @@ public class DomainNameValidator extends RegexValidator {
         super(errorMessage, REGEX);
     }
 
-    /**
-     * Creates a new validator, which allows to validate texts to ensure, that they represent valid
-     * domain names.
-     *
-     * @param context
-     *         The context, which should be used to retrieve the error message, as an instance of
-     *         the class {@link Context}. The context may not be null
-     * @param resourceId
-     *         The resource ID of the string resource, which contains the error message, which
-     *         should be set, as an {@link Integer} value. The resource ID must correspond to a
-     *         valid string resource
-     */
-    public DomainNameValidator(@NonNull final Context context, @StringRes final int resourceId) {
-        super(context, resourceId, REGEX);
-    }
-
 }
\ No newline at end of file
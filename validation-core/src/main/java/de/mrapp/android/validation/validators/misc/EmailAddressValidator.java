@@ -13,13 +13,11 @@
  */
 package de.mrapp.android.validation.validators.misc;
 
-import android.content.Context;
 import android.support.annotation.NonNull;
-import android.support.annotation.StringRes;
-import android.util.Patterns;
 
 import java.util.regex.Pattern;
 
+import de.mrapp.android.validation.util.PatternRegistry;
 import de.mrapp.android.validation.validators.text.RegexValidator;
 
 /**
@@ -35,7 +33,7 @@ public class EmailAddressValidator extends RegexValidator {
      * The regular expression, which is used by the validator.
      */
     private static final Pattern REGEX =
-            Pattern.compile("(^$)|" + Patterns.EMAIL_ADDRESS.pattern());
+            PatternRegistry.compile("(^$)|" + Patterns.EMAIL_ADDRESS.pattern());
 
     /**
      * Creates a new validator, which allows to validate texts to ensure, that they represent valid
@@ -49,20 +47,4 @@ public class EmailAddressValidator extends RegexValidator {
         super(errorMessage, REGEX);
     }
 
-    /**
-     * Creates a new validator, which allows to validate texts to ensure, that they represent valid
-     * email addresses.
-     *
-     * @param context
-     *         The context, which should be used to retrieve the error message, as an instance of
-     *         the class {@link Context}. The context may not be null
-     * @param resourceId
-     *         The resource ID of the string resource, which contains the error message, which
-     *         should be set, as an {@link Integer} value. The resource ID must correspond to a
-     *         valid string resource
-     */
-    public EmailAddressValidator(@NonNull final Context context, @StringRes final int resourceId) {
-        super(context, resourceId, REGEX);
-    }
-
 }
\ No newline at end of file
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.validators.misc;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import de.mrapp.android.validation.CostAware;
+import de.mrapp.android.validation.validators.AbstractValidator;
+
+import static de.mrapp.android.validation.util.Condition.ensureAtLeast;
+import static de.mrapp.android.validation.util.Condition.ensureNotNull;
+
+/**
+ * A validator, which allows to validate texts to ensure, that they represent valid IPv4 addresses.
+ * Empty texts are also accepted.
+ *
+ * An IPv4 address consists of four decimal octets, which are separated by dots. Each octet must
+ * consist of one to three digits and must not be greater than 255. Leading zeros are allowed. The
+ * texts are validated in a single pass without allocating any objects.
+ *
+ * @author Michael Rapp
+ * @since 1.0.0
+ */
+public class IPv4AddressValidator extends AbstractValidator<CharSequence> implements CostAware {
+
+    /**
+     * The number of octets of an IPv4 address.
+     */
+    private static final int OCTET_COUNT = 4;
+
+    /**
+     * The maximum number of digits of an octet.
+     */
+    private static final int MAX_DIGITS = 3;
+
+    /**
+     * The maximum value of an octet.
+     */
+    private static final int MAX_OCTET_VALUE = 255;
+
+    /**
+     * Parses a text, which represents an IPv4 address.
+     *
+     * @param text
+     *         The text, which should be parsed, as an instance of the type {@link CharSequence}.
+     *         The text may not be null
+     * @param address
+     *         The array, the parsed address should be written to, as an {@link Integer} array or
+     *         null, if the address should not be written to an array
+     * @return True, if the given text represents an IPv4 address, false otherwise
+     */
+    private static boolean parseAddress(@NonNull final CharSequence text,
+                                        @Nullable final int[] address) {
+        int length = text.length();
+        int result = 0;
+        int index = 0;
+
+        for (int octet = 0; octet < OCTET_COUNT; octet++) {
+            if (octet > 0) {
+                if (index >= length || text.charAt(index) != '.') {
+                    return false;
+                }
+
+                index++;
+            }
+
+            int value = 0;
+            int digits = 0;
+
+            while (index < length && digits <= MAX_DIGITS) {
+                char character = text.charAt(index);
+
+                if (character < '0' || character > '9') {
+                    break;
+                }
+
+                value = value * 10 + (character - '0');
+                digits++;
+                index++;
+            }
+
+            if (digits == 0 || digits > MAX_DIGITS || value > MAX_OCTET_VALUE) {
+                return false;
+            }
+
+            result = (result << 8) | value;
+        }
+
+        if (index != length) {
+            return false;
+        }
+
+        if (address != null) {
+            address[0] = result;
+        }
+
+        return true;
+    }
+
+    /**
+     * Creates a new validator, which allows to validate texts to ensure, that they represent valid
+     * IPv4 addresses.
+     *
+     * @param errorMessage
+     *         The error message, which should be shown, if the validation fails, as an instance of
+     *         the type {@link CharSequence}. The error message may not be null
+     */
+    public IPv4AddressValidator(@NonNull final CharSequence errorMessage) {
+        super(errorMessage);
+    }
+
+    /**
+     * Parses a text, which represents an IPv4 address. Unlike the validator, this method does not
+     * accept empty texts.
+     *
+     * @param text
+     *         The text, which should be parsed, as an instance of the type {@link CharSequence}.
+     *         The text may not be null
+     * @param address
+     *         The array, the parsed address should be written to, as an {@link Integer} array. The
+     *         array may not be null and must contain at least one element. If the text represents
+     *         an IPv4 address, the address is written to the first element, with the first octet
+     *         being the most significant byte. Otherwise, the array is not modified
+     * @return True, if the given text represents an IPv4 address, false otherwise
+     */
+    public static boolean parse(@NonNull final CharSequence text, @NonNull final int[] address) {
+        ensureNotNull(text, "The text may not be null");
+        ensureNotNull(address, "The array may not be null");
+        ensureAtLeast(address.length, 1, "The array must contain at least one element");
+        return parseAddress(text, address);
+    }
+
+    @Override
+    public final boolean validate(final CharSequence value) {
+        return value.length() == 0 || parseAddress(value, null);
+    }
+
+    @Override
+    public final int getCost() {
+        return COST_LOW;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.validators.misc;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import de.mrapp.android.validation.CostAware;
+import de.mrapp.android.validation.validators.AbstractValidator;
+
+import static de.mrapp.android.validation.util.Condition.ensureAtLeast;
+import static de.mrapp.android.validation.util.Condition.ensureNotNull;
+
+/**
+ * A validator, which allows to validate texts to ensure, that they represent valid IPv6 addresses.
+ * Empty texts are also accepted.
+ *
+ * An IPv6 address consists of eight groups of one to four hexadecimal digits, which are separated
+ * by colons. Alternatively, consecutive groups may be omitted by using a double colon, which may
+ * only occur once. The texts are validated in a single pass without allocating any objects.
+ *
+ * @author Michael Rapp
+ * @since 1.0.0
+ */
+public class IPv6AddressValidator extends AbstractValidator<CharSequence> implements CostAware {
+
+    /**
+     * The number of groups of an IPv6 address.
+     */
+    private static final int GROUP_COUNT = 8;
+
+    /**
+     * The maximum number of digits of a group.
+     */
+    private static final int MAX_DIGITS = 4;
+
+    /**
+     * The number of bits of a group.
+     */
+    private static final int GROUP_SIZE = 16;
+
+    /**
+     * Returns the value of a hexadecimal digit.
+     *
+     * @param character
+     *         The character, which represents the digit, as a {@link Character} value
+     * @return The value of the given digit as an {@link Integer} value or -1, if the given
+     * character is not a hexadecimal digit
+     */
+    private static int hexValue(final char character) {
+        if (character >= '0' && character <= '9') {
+            return character - '0';
+        } else if (character >= 'a' && character <= 'f') {
+            return character - 'a' + 10;
+        } else if (character >= 'A' && character <= 'F') {
+            return character - 'A' + 10;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Parses a text, which represents an IPv6 address.
+     *
+     * For compatibility with previous versions, texts, which use a double colon, are considered to
+     * be valid, regardless of the number of groups they contain. Such texts are only accepted, if
+     * the parameter <code>strict</code> is false. Otherwise, a double colon must omit at least one
+     * group, i.e. the text must not contain more than seven groups.
+     *
+     * @param text
+     *         The text, which should be parsed, as an instance of the type {@link CharSequence}.
+     *         The text may not be null
+     * @param address
+     *         The array, the parsed address should be written to, as a {@link Long} array or
+     *         null, if the address should not be written to an array
+     * @param strict
+     *         True, if texts, which do not represent a 128 bit address, should be rejected, false
+     *         otherwise
+     * @return True, if the given text represents an IPv6 address, false otherwise
+     */
+    private static boolean parseAddress(@NonNull final CharSequence text,
+                                        @Nullable final long[] address, final boolean strict) {
+        int length = text.length();
+        int index = 0;
+        boolean compressed = false;
+        int leadingGroups = 0;
+        int trailingGroups = 0;
+        long high = 0;
+        long low = 0;
+        long trailingHigh = 0;
+        long trailingLow = 0;
+
+        if (length >= 2 && text.charAt(0) == ':' && text.charAt(1) == ':') {
+            compressed = true;
+            index = 2;
+        }
+
+        while (index < length) {
+            int value = 0;
+            int digits = 0;
+
+            while (index < length && digits <= MAX_DIGITS) {
+                int digit = hexValue(text.charAt(index));
+
+                if (digit == -1) {
+                    break;
+                }
+
+                value = (value << 4) | digit;
+                digits++;
+                index++;
+            }
+
+            if (digits == 0 || digits > MAX_DIGITS) {
+                return false;
+            }
+
+            if (compressed) {
+                trailingHigh = (trailingHigh << GROUP_SIZE) | (trailingLow >>> 48);
+                trailingLow = (trailingLow << GROUP_SIZE) | value;
+                trailingGroups++;
+            } else {
+                if (leadingGroups < GROUP_COUNT / 2) {
+                    high |= (long) value << (GROUP_SIZE * (GROUP_COUNT / 2 - 1 - leadingGroups));
+                } else if (leadingGroups < GROUP_COUNT) {
+                    low |= (long) value << (GROUP_SIZE * (GROUP_COUNT - 1 - leadingGroups));
+                }
+
+                leadingGroups++;
+            }
+
+            if (index < length) {
+                if (text.charAt(index) != ':') {
+                    return false;
+                }
+
+                index++;
+
+                if (index < length && text.charAt(index) == ':') {
+                    if (compressed) {
+                        return false;
+                    }
+
+                    compressed = true;
+                    index++;
+                } else if (index == length) {
+                    return false;
+                }
+            }
+        }
+
+        if (compressed ? strict && leadingGroups + trailingGroups >= GROUP_COUNT :
+                leadingGroups != GROUP_COUNT) {
+            return false;
+        }
+
+        if (address != null) {
+            address[0] = high | trailingHigh;
+            address[1] = low | trailingLow;
+        }
+
+        return true;
+    }
+
+    /**
+     * Creates a new validator, which allows to validate texts to ensure, that they represent valid
+     * IPv6 addresses.
+     *
+     * @param errorMessage
+     *         The error message, which should be shown, if the validation fails, as an instance of
+     *         the type {@link CharSequence}. The error message may not be null
+     */
+    public IPv6AddressValidator(@NonNull final CharSequence errorMessage) {
+        super(errorMessage);
+    }
+
+    /**
+     * Parses a text, which represents an IPv6 address. Unlike the validator, this method does not
+     * accept empty texts, nor texts, which use a double colon, but contain eight or more groups.
+     *
+     * @param text
+     *         The text, which should be parsed, as an instance of the type {@link CharSequence}.
+     *         The text may not be null
+     * @param address
+     *         The array, the parsed address should be written to, as a {@link Long} array. The
+     *         array may not be null and must contain at least two elements. If the text represents
+     *         an IPv6 address, the most significant 64 bits are written to the first element and
+     *         the least significant 64 bits are written to the second element. Otherwise, the
+     *         array is not modified
+     * @return True, if the given text represents an IPv6 address, false otherwise
+     */
+    public static boolean parse(@NonNull final CharSequence text, @NonNull final long[] address) {
+        ensureNotNull(text, "The text may not be null");
+        ensureNotNull(address, "The array may not be null");
+        ensureAtLeast(address.length, 2, "The array must contain at least two elements");
+        return parseAddress(text, address, true);
+    }
+
+    @Override
+    public final boolean validate(final CharSequence value) {
+        return value.length() == 0 || parseAddress(value, null, false);
+    }
+
+    @Override
+    public final int getCost() {
+        return COST_MEDIUM;
+    }
+
+}
\ No newline at end of file
@@ -13,13 +13,11 @@
  */
 package de.mrapp.android.validation.validators.misc;
 
-import android.content.Context;
 import android.support.annotation.NonNull;
-import android.support.annotation.StringRes;
-import android.util.Patterns;
 
 import java.util.regex.Pattern;
 
+import de.mrapp.android.validation.util.PatternRegistry;
 import de.mrapp.android.validation.validators.text.RegexValidator;
 
 /**
@@ -35,7 +33,8 @@ public class IRIValidator extends RegexValidator {
     /**
      * The regular expression, which is used by the validator.
      */
-    private static final Pattern REGEX = Pattern.compile("(^$)|" + Patterns.WEB_URL.pattern());
+    private static final Pattern REGEX =
+            PatternRegistry.compile("(^$)|" + Patterns.WEB_URL.pattern());
 
     /**
      * Creates a new validator, which allows to validate texts to ensure, that they represent valid
@@ -49,20 +48,4 @@ public class IRIValidator extends RegexValidator {
         super(errorMessage, REGEX);
     }
 
-    /**
-     * Creates a new validator, which allows to validate texts to ensure, that they represent valid
-     * IRIs.
-     *
-     * @param context
-     *         The context, which should be used to retrieve the error message, as an instance of
-     *         the class {@link Context}. The context may not be null
-     * @param resourceId
-     *         The resource ID of the string resource, which contains the error message, which
-     *         should be set, as an {@link Integer} value. The resource ID must correspond to a
-     *         valid string resource
-     */
-    public IRIValidator(@NonNull final Context context, @StringRes final int resourceId) {
-        super(context, resourceId, REGEX);
-    }
-
 }
\ No newline at end of file
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.validators.misc;
+
+import java.util.regex.Pattern;
+
+/**
+ * Provides regular expressions, which allow to match domain names, email addresses and IRIs. They
+ * correspond to the patterns of the Android SDK's class <code>android.util.Patterns</code> (API
+ * level 26), which are replicated in order to not depend on the Android SDK and to behave equally
+ * on all devices.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+final class Patterns {
+
+    /**
+     * Valid UCS characters as defined in RFC 3987. Excludes space characters.
+     */
+    private static final String UCS_CHAR =
+            "[" + "\u00A0-\uD7FF" + "\uF900-\uFDCF" + "\uFDF0-\uFFEF" +
+                    "\uD800\uDC00-\uD83F\uDFFD" + "\uD840\uDC00-\uD87F\uDFFD" +
+                    "\uD880\uDC00-\uD8BF\uDFFD" + "\uD8C0\uDC00-\uD8FF\uDFFD" +
+                    "\uD900\uDC00-\uD93F\uDFFD" + "\uD940\uDC00-\uD97F\uDFFD" +
+                    "\uD980\uDC00-\uD9BF\uDFFD" + "\uD9C0\uDC00-\uD9FF\uDFFD" +
+                    "\uDA00\uDC00-\uDA3F\uDFFD" + "\uDA40\uDC00-\uDA7F\uDFFD" +
+                    "\uDA80\uDC00-\uDABF\uDFFD" + "\uDAC0\uDC00-\uDAFF\uDFFD" +
+                    "\uDB00\uDC00-\uDB3F\uDFFD" + "\uDB44\uDC00-\uDB7F\uDFFD" +
+                    "&&[^\u00A0[\u2000-\u200A]\u2028\u2029\u202F\u3000]]";
+
+    /**
+     * Valid characters for an IRI label as defined in RFC 3987.
+     */
+    private static final String LABEL_CHAR = "a-zA-Z0-9" + UCS_CHAR;
+
+    /**
+     * Valid characters for an IRI TLD as defined in RFC 3987.
+     */
+    private static final String TLD_CHAR = "a-zA-Z" + UCS_CHAR;
+
+    /**
+     * RFC 1035 Section 2.3.4 limits the labels to a maximum of 63 octets.
+     */
+    private static final String IRI_LABEL =
+            "[" + LABEL_CHAR + "](?:[" + LABEL_CHAR + "_\\-]{0,61}[" + LABEL_CHAR + "]){0,1}";
+
+    /**
+     * RFC 3492 references RFC 1034 and limits Punycode algorithm output to 63 characters.
+     */
+    private static final String PUNYCODE_TLD = "xn\\-\\-[\\w\\-]{0,58}\\w";
+
+    /**
+     * A top level domain.
+     */
+    private static final String TLD = "(" + PUNYCODE_TLD + "|" + "[" + TLD_CHAR + "]{2,63}" + ")";
+
+    /**
+     * A host name.
+     */
+    private static final String HOST_NAME = "(" + IRI_LABEL + "\\.)+" + TLD;
+
+    /**
+     * An IPv4 address.
+     */
+    private static final String IP_ADDRESS =
+            "((25[0-5]|2[0-4][0-9]|[0-1][0-9]{2}|[1-9][0-9]|[1-9])\\.(25[0-5]|2[0-4]" +
+                    "[0-9]|[0-1][0-9]{2}|[1-9][0-9]|[1-9]|0)\\.(25[0-5]|2[0-4][0-9]|[0-1]" +
+                    "[0-9]{2}|[1-9][0-9]|[1-9]|0)\\.(25[0-5]|2[0-4][0-9]|[0-1][0-9]{2}" +
+                    "|[1-9][0-9]|[0-9]))";
+
+    /**
+     * A domain name, which is either a host name or an IPv4 address.
+     */
+    private static final String DOMAIN_NAME_STR = "(" + HOST_NAME + "|" + IP_ADDRESS + ")";
+
+    /**
+     * The protocol of an URL.
+     */
+    private static final String PROTOCOL = "(?i:http|https|rtsp)://";
+
+    /**
+     * The user information of an URL, which consists of an user name and an optional password.
+     */
+    private static final String USER_INFO = "(?:[a-zA-Z0-9\\$\\-\\_\\.\\+\\!\\*\\'\\(\\)" +
+            "\\,\\;\\?\\&\\=]|(?:\\%[a-fA-F0-9]{2})){1,64}(?:\\:(?:[a-zA-Z0-9\\$\\-\\_" +
+            "\\.\\+\\!\\*\\'\\(\\)\\,\\;\\?\\&\\=]|(?:\\%[a-fA-F0-9]{2})){1,25})?\\@";
+
+    /**
+     * The port number of an URL.
+     */
+    private static final String PORT_NUMBER = "\\:\\d{1,5}";
+
+    /**
+     * The path and query of an URL.
+     */
+    private static final String PATH_AND_QUERY =
+            "[/\\?](?:(?:[" + LABEL_CHAR + ";/\\?:@&=#~" + "\\-\\.\\+!\\*'\\(\\),_\\$])" +
+                    "|(?:%[a-fA-F0-9]{2}))*";
+
+    /**
+     * A word boundary or the start or end of input.
+     */
+    private static final String WORD_BOUNDARY = "(?:\\b|$|^)";
+
+    /**
+     * A regular expression, which matches domain names.
+     */
+    static final Pattern DOMAIN_NAME = Pattern.compile(DOMAIN_NAME_STR);
+
+    /**
+     * A regular expression, which matches email addresses.
+     */
+    static final Pattern EMAIL_ADDRESS = Pattern.compile(
+            "[a-zA-Z0-9\\+\\.\\_\\%\\-\\+]{1,256}" + "\\@" + "[a-zA-Z0-9][a-zA-Z0-9\\-]{0,64}" +
+                    "(" + "\\." + "[a-zA-Z0-9][a-zA-Z0-9\\-]{0,25}" + ")+");
+
+    /**
+     * A regular expression, which matches IRIs, i.e. internationalized URLs according to RFC 3987.
+     */
+    static final Pattern WEB_URL = Pattern.compile(
+            "(((?:" + PROTOCOL + "(?:" + USER_INFO + ")?" + ")?" + "(?:" + DOMAIN_NAME_STR + ")" +
+                    "(?:" + PORT_NUMBER + ")?" + ")" + "(" + PATH_AND_QUERY + ")?" +
+                    WORD_BOUNDARY + ")");
+
+    /**
+     * Creates a new class, which provides regular expressions, which allow to match domain names,
+     * email addresses and IRIs.
+     */
+    private Patterns() {
+
+    }
+
+}
\ No newline at end of file
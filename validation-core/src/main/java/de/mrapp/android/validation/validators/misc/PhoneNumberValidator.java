@@ -13,12 +13,11 @@
  */
 package de.mrapp.android.validation.validators.misc;
 
-import android.content.Context;
 import android.support.annotation.NonNull;
-import android.support.annotation.StringRes;
 
 import java.util.regex.Pattern;
 
+import de.mrapp.android.validation.util.PatternRegistry;
 import de.mrapp.android.validation.validators.text.RegexValidator;
 
 /**
@@ -35,7 +34,8 @@ public class PhoneNumberValidator extends RegexValidator {
      * The regular expression, which is used by the validator.
      */
     private static final Pattern REGEX =
-            Pattern.compile("(^$)" + "|" + "([0-9]{6,14})" + "|" + "(^\\+(?:[0-9] ?){6,14}[0-9]$)");
+            PatternRegistry.compile("(^$)" + "|" + "([0-9]{6,14})" + "|" +
+                    "(^\\+(?:[0-9] ?){6,14}[0-9]$)");
 
     /**
      * Creates a new validator, which allows to validate texts to ensure, that they represent valid
@@ -49,20 +49,4 @@ public class PhoneNumberValidator extends RegexValidator {
         super(errorMessage, REGEX);
     }
 
-    /**
-     * Creates a new validator, which allows to validate texts to ensure, that they represent valid
-     * phone numbers.
-     *
-     * @param context
-     *         The context, which should be used to retrieve the error message, as an instance of
-     *         the class {@link Context}. The context may not be null
-     * @param resourceId
-     *         The resource ID of the string resource, which contains the error message, which
-     *         should be set, as an {@link Integer} value. The resource ID must correspond to a
-     *         valid string resource
-     */
-    public PhoneNumberValidator(@NonNull final Context context, @StringRes final int resourceId) {
-        super(context, resourceId, REGEX);
-    }
-
 }
\ No newline at end of file
@@ -13,10 +13,7 @@
  */
 package de.mrapp.android.validation.validators.text;
 
-import android.content.Context;
 import android.support.annotation.NonNull;
-import android.support.annotation.StringRes;
-import android.text.TextUtils;
 
 import de.mrapp.android.validation.validators.AbstractValidator;
 
@@ -40,26 +37,9 @@ public class BeginsWithUppercaseLetterValidator extends AbstractValidator<CharSe
         super(errorMessage);
     }
 
-    /**
-     * Creates a new validator, which allows to validate texts to ensure, that they begin with an
-     * uppercase letter.
-     *
-     * @param context
-     *         The context, which should be used to retrieve the error message, as an instance of
-     *         the class {@link Context}. The context may not be null
-     * @param resourceId
-     *         The resource ID of the string resource, which contains the error message, which
-     *         should be set, as an {@link Integer} value. The resource ID must correspond to a
-     *         valid string resource
-     */
-    public BeginsWithUppercaseLetterValidator(@NonNull final Context context,
-                                              @StringRes final int resourceId) {
-        super(context, resourceId);
-    }
-
     @Override
     public final boolean validate(final CharSequence value) {
-        return TextUtils.isEmpty(value) || Character.isUpperCase(value.charAt(0));
+        return value == null || value.length() == 0 || Character.isUpperCase(value.charAt(0));
     }
 
 }
\ No newline at end of file
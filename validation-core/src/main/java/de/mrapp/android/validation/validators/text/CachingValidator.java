@@ -0,0 +1,330 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.validators.text;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import de.mrapp.android.validation.BudgetedValidator;
+import de.mrapp.android.validation.CostAware;
+import de.mrapp.android.validation.ValidationOutcome;
+import de.mrapp.android.validation.Validator;
+
+import static de.mrapp.android.validation.util.Condition.ensureAtLeast;
+import static de.mrapp.android.validation.util.Condition.ensureNotNull;
+
+/**
+ * A validator, which memoizes the results of an other validator, which must be a pure function of
+ * the validated text. The results of the most recently validated texts are kept in a bounded
+ * cache, whose least recently used entries are evicted first. Texts are compared by their content,
+ * which allows to look up mutable texts, such as an <code>Editable</code>, without copying them.
+ * Only if a result is added to the cache, the text is copied. The encapsulated validator is
+ * applied without holding the cache's lock, which allows to validate different texts
+ * concurrently. If the encapsulated validator is a {@link BudgetedValidator}, validations, which
+ * exceeded their budget, are not cached. The error message of the encapsulated validator is used.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public class CachingValidator implements BudgetedValidator<CharSequence>, CostAware {
+
+    /**
+     * A key of the cache, which compares texts by their content.
+     */
+    private static final class Key {
+
+        /**
+         * The text, which is referenced by the key.
+         */
+        private CharSequence text;
+
+        /**
+         * The hash code of the text's content.
+         */
+        private int hash;
+
+        /**
+         * Sets the text, which should be referenced by the key.
+         *
+         * @param text
+         *         The text, which should be set, as an instance of the type {@link CharSequence}.
+         *         The text may not be null
+         * @return The key itself as an instance of the class {@link Key}
+         */
+        Key set(@NonNull final CharSequence text) {
+            int hash = 0;
+
+            for (int i = 0; i < text.length(); i++) {
+                hash = 31 * hash + text.charAt(i);
+            }
+
+            this.text = text;
+            this.hash = hash;
+            return this;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == this) {
+                return true;
+            }
+
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+
+            Key other = (Key) obj;
+
+            if (other.hash != hash || other.text.length() != text.length()) {
+                return false;
+            }
+
+            for (int i = 0; i < text.length(); i++) {
+                if (other.text.charAt(i) != text.charAt(i)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+    }
+
+    /**
+     * The validator, whose results are memoized.
+     */
+    private final Validator<CharSequence> validator;
+
+    /**
+     * The maximum number of results, which are cached.
+     */
+    private final int capacity;
+
+    /**
+     * The cached results, mapped to the texts, they belong to. The map is ordered by access,
+     * which allows to evict the least recently used result first.
+     */
+    private final Map<Key, Boolean> cache;
+
+    /**
+     * The key, which is used to look up texts in the cache.
+     */
+    private final Key probe;
+
+    /**
+     * The number of validations, whose result has been taken from the cache.
+     */
+    private long hitCount;
+
+    /**
+     * The number of validations, whose result has not been cached.
+     */
+    private long missCount;
+
+    /**
+     * The number of times, cached results have been removed. It allows to detect, whether the
+     * cache has been invalidated while a result has been computed.
+     */
+    private long invalidationCount;
+
+    /**
+     * Creates a new validator, which memoizes the results of an other validator.
+     *
+     * @param validator
+     *         The validator, whose results should be memoized, as an instance of the type {@link
+     *         Validator}. The validator may not be null. Its results must only depend on the
+     *         content of the validated texts
+     * @param capacity
+     *         The maximum number of results, which should be cached, as an {@link Integer} value.
+     *         The capacity must be at least 1
+     */
+    public CachingValidator(@NonNull final Validator<CharSequence> validator,
+                            final int capacity) {
+        ensureNotNull(validator, "The validator may not be null");
+        ensureAtLeast(capacity, 1, "The capacity must be at least 1");
+        this.validator = validator;
+        this.capacity = capacity;
+        this.cache = new LinkedHashMap<Key, Boolean>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, Boolean> eldest) {
+                return size() > CachingValidator.this.capacity;
+            }
+
+        };
+        this.probe = new Key();
+        this.hitCount = 0;
+        this.missCount = 0;
+        this.invalidationCount = 0;
+    }
+
+    /**
+     * Creates and returns a validator, which memoizes the results of an other validator.
+     *
+     * @param validator
+     *         The validator, whose results should be memoized, as an instance of the type {@link
+     *         Validator}. The validator may not be null. Its results must only depend on the
+     *         content of the validated texts
+     * @param capacity
+     *         The maximum number of results, which should be cached, as an {@link Integer} value.
+     *         The capacity must be at least 1
+     * @return The validator, which has been created, as an instance of the class {@link
+     * CachingValidator}
+     */
+    public static CachingValidator create(@NonNull final Validator<CharSequence> validator,
+                                          final int capacity) {
+        return new CachingValidator(validator, capacity);
+    }
+
+    /**
+     * Returns the validator, whose results are memoized. Views resolve it in order to detect,
+     * whether it must be applied asynchronously or can be applied incrementally.
+     *
+     * @return The validator, whose results are memoized, as an instance of the type {@link
+     * Validator}
+     */
+    public final Validator<CharSequence> getValidator() {
+        return validator;
+    }
+
+    /**
+     * Returns the maximum number of results, which are cached.
+     *
+     * @return The maximum number of results, which are cached, as an {@link Integer} value
+     */
+    public final int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of results, which are currently cached.
+     *
+     * @return The number of results, which are currently cached, as an {@link Integer} value
+     */
+    public final synchronized int getSize() {
+        return cache.size();
+    }
+
+    /**
+     * Returns the number of validations, whose result has been taken from the cache.
+     *
+     * @return The number of validations, whose result has been taken from the cache, as a {@link
+     * Long} value
+     */
+    public final synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of validations, whose result has not been cached and has therefore been
+     * computed by the encapsulated validator.
+     *
+     * @return The number of validations, whose result has not been cached, as a {@link Long}
+     * value
+     */
+    public final synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Removes all cached results. This method must be invoked, when the results of the
+     * encapsulated validator have been changed, e.g. because it has been reconfigured.
+     */
+    public final synchronized void invalidate() {
+        cache.clear();
+        invalidationCount++;
+    }
+
+    /**
+     * Removes the cached result of a specific text, if available.
+     *
+     * @param text
+     *         The text, whose result should be removed, as an instance of the type {@link
+     *         CharSequence}. The text may not be null
+     */
+    public final synchronized void invalidate(@NonNull final CharSequence text) {
+        ensureNotNull(text, "The text may not be null");
+        cache.remove(probe.set(text));
+        probe.text = null;
+        invalidationCount++;
+    }
+
+    @Override
+    public final boolean validate(@Nullable final CharSequence value) {
+        return validateWithinBudget(value) == ValidationOutcome.VALID;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final ValidationOutcome validateWithinBudget(@Nullable final CharSequence value) {
+        long expectedInvalidationCount;
+
+        synchronized (this) {
+            if (value != null) {
+                Boolean result = cache.get(probe.set(value));
+                probe.text = null;
+
+                if (result != null) {
+                    hitCount++;
+                    return result ? ValidationOutcome.VALID : ValidationOutcome.INVALID;
+                }
+            }
+
+            missCount++;
+            expectedInvalidationCount = invalidationCount;
+        }
+
+        String text = value != null ? value.toString() : null;
+        ValidationOutcome outcome;
+
+        if (validator instanceof BudgetedValidator) {
+            outcome = ((BudgetedValidator<CharSequence>) validator).validateWithinBudget(text);
+        } else {
+            outcome = validator.validate(text) ? ValidationOutcome.VALID :
+                    ValidationOutcome.INVALID;
+        }
+
+        if (text != null && outcome != ValidationOutcome.BUDGET_EXCEEDED) {
+            Key key = new Key().set(text);
+
+            synchronized (this) {
+                if (invalidationCount == expectedInvalidationCount) {
+                    cache.put(key, outcome == ValidationOutcome.VALID);
+                }
+            }
+        }
+
+        return outcome;
+    }
+
+    @Override
+    public final CharSequence getErrorMessage() {
+        return validator.getErrorMessage();
+    }
+
+    @Override
+    public final int getCost() {
+        return validator instanceof CostAware ? ((CostAware) validator).getCost() :
+                COST_MEDIUM;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.validators.text;
+
+import android.support.annotation.NonNull;
+
+import java.util.Arrays;
+
+import static de.mrapp.android.validation.util.Condition.ensureNotNull;
+
+/**
+ * A precompiled set of characters, which allows to verify, whether texts only consist of allowed
+ * characters, in a single pass and without allocating any objects. ASCII characters are looked up
+ * in a bitset, all other characters are looked up in a sorted array by using a binary search.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public final class CharacterClass implements CharacterSet {
+
+    /**
+     * The number of characters, which are contained by the ASCII character set.
+     */
+    private static final int ASCII_SIZE = 128;
+
+    /**
+     * A bitset, which specifies, which ASCII characters are contained by the character class.
+     */
+    private final long[] asciiCharacters;
+
+    /**
+     * A sorted array, which contains all non-ASCII characters, which are contained by the character
+     * class.
+     */
+    private final char[] nonAsciiCharacters;
+
+    /**
+     * Adds a specific range of characters to the bitset, which specifies, which ASCII characters
+     * are contained by the character class.
+     *
+     * @param from
+     *         The first character of the range, which should be added, as a {@link Character}
+     *         value
+     * @param to
+     *         The last character of the range, which should be added, as a {@link Character}
+     *         value
+     */
+    private void addAsciiRange(final char from, final char to) {
+        for (char character = from; character <= to; character++) {
+            addAsciiCharacter(character);
+        }
+    }
+
+    /**
+     * Adds a specific character to the bitset, which specifies, which ASCII characters are
+     * contained by the character class.
+     *
+     * @param character
+     *         The character, which should be added, as a {@link Character} value. The character
+     *         must be an ASCII character
+     */
+    private void addAsciiCharacter(final char character) {
+        asciiCharacters[character >>> 6] |= 1L << (character & 63);
+    }
+
+    /**
+     * Creates a new character class.
+     *
+     * @param caseSensitivity
+     *         The case sensitivity, which specifies which letters should be contained by the
+     *         character class, as a value of the enum {@link Case}. The value may either be
+     *         <code>UPPERCASE</code>, <code>LOWERCASE</code> or <code>CASE_INSENSITIVE</code>
+     * @param digits
+     *         True, if the digits from 0 to 9 should be contained by the character class, false
+     *         otherwise
+     * @param whitespace
+     *         True, if whitespace characters, i.e. the characters matched by the regular
+     *         expression <code>\s</code>, should be contained by the character class, false
+     *         otherwise
+     * @param additionalCharacters
+     *         Additional characters, which should be contained by the character class, as an array
+     *         of the type <code>char</code>. The array may not be null
+     */
+    public CharacterClass(@NonNull final Case caseSensitivity, final boolean digits,
+                          final boolean whitespace, @NonNull final char... additionalCharacters) {
+        ensureNotNull(caseSensitivity, "The case sensitivity may not be null");
+        ensureNotNull(additionalCharacters, "The array may not be null");
+        this.asciiCharacters = new long[ASCII_SIZE / 64];
+
+        if (caseSensitivity != Case.LOWERCASE) {
+            addAsciiRange('A', 'Z');
+        }
+
+        if (caseSensitivity != Case.UPPERCASE) {
+            addAsciiRange('a', 'z');
+        }
+
+        if (digits) {
+            addAsciiRange('0', '9');
+        }
+
+        if (whitespace) {
+            addAsciiRange('\t', '\r');
+            addAsciiCharacter(' ');
+        }
+
+        char[] nonAscii = new char[additionalCharacters.length];
+        int nonAsciiCount = 0;
+
+        for (char character : additionalCharacters) {
+            if (character < ASCII_SIZE) {
+                addAsciiCharacter(character);
+            } else {
+                nonAscii[nonAsciiCount++] = character;
+            }
+        }
+
+        this.nonAsciiCharacters = Arrays.copyOf(nonAscii, nonAsciiCount);
+        Arrays.sort(this.nonAsciiCharacters);
+    }
+
+    @Override
+    public boolean contains(final char character) {
+        if (character < ASCII_SIZE) {
+            return (asciiCharacters[character >>> 6] & (1L << (character & 63))) != 0;
+        }
+
+        return nonAsciiCharacters.length > 0 &&
+                Arrays.binarySearch(nonAsciiCharacters, character) >= 0;
+    }
+
+    /**
+     * Returns, whether all characters of a specific text are contained by the character class, or
+     * not.
+     *
+     * @param text
+     *         The text, which should be checked, as an instance of the type {@link CharSequence}.
+     *         The text may not be null
+     * @return True, if all characters of the given text are contained by the character class or if
+     * the text is empty, false otherwise
+     */
+    public boolean containsAll(@NonNull final CharSequence text) {
+        return indexOfMismatch(text, 0, text.length()) == -1;
+    }
+
+    /**
+     * Returns the index of the first character within a specific range of a text, which is not
+     * contained by the character class.
+     *
+     * @param text
+     *         The text, which should be checked, as an instance of the type {@link CharSequence}.
+     *         The text may not be null
+     * @param start
+     *         The index of the first character, which should be checked, as an {@link Integer}
+     *         value
+     * @param end
+     *         The index after the last character, which should be checked, as an {@link Integer}
+     *         value
+     * @return The index of the first character, which is not contained by the character class, as
+     * an {@link Integer} value or -1, if all characters within the given range are contained
+     */
+    public int indexOfMismatch(@NonNull final CharSequence text, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            if (!contains(text.charAt(i))) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+}
\ No newline at end of file
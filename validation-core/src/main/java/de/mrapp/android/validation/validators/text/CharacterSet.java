@@ -0,0 +1,35 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.validators.text;
+
+/**
+ * Defines the interface, a class, which specifies a set of characters, must implement. Character
+ * sets are used by incremental validators in order to count the characters of a text, which are
+ * relevant for the validation.
+ *
+ * @author Michael Rapp
+ * @since 2.2.0
+ */
+public interface CharacterSet {
+
+    /**
+     * Returns, whether a specific character is contained by the character set, or not.
+     *
+     * @param character
+     *         The character, which should be checked, as a {@link Character} value
+     * @return True, if the given character is contained by the character set, false otherwise
+     */
+    boolean contains(char character);
+
+}
\ No newline at end of file
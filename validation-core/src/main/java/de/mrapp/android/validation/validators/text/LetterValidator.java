@@ -13,16 +13,12 @@
  */
 package de.mrapp.android.validation.validators.text;
 
-import android.content.Context;
 import android.support.annotation.NonNull;
-import android.support.annotation.StringRes;
-
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
+import de.mrapp.android.validation.IncrementalValidator;
 import de.mrapp.android.validation.validators.AbstractValidator;
 
-import static de.mrapp.android.util.Condition.ensureNotNull;
+import static de.mrapp.android.validation.util.Condition.ensureNotNull;
 
 /**
  * A validator, which allows to validate texts to ensure, that they only contain letters. Letters
@@ -34,23 +30,8 @@ import static de.mrapp.android.util.Condition.ensureNotNull;
  * @author Michael Rapp
  * @since 1.0.0
  */
-public class LetterValidator extends AbstractValidator<CharSequence> {
-
-    /**
-     * The regular expression, which is used, when only uppercase letters should be allowed.
-     */
-    private static final Pattern UPPERCASE_PATTERN = Pattern.compile("[A-Z]*");
-
-    /**
-     * The regular expression, which is used, when only lowercase letters should be allowed.
-     */
-    private static final Pattern LOWERCASE_PATTERN = Pattern.compile("[a-z]*");
-
-    /**
-     * The regular expression, which is used, when all letters, regardless of their case, should be
-     * allowed.
-     */
-    private static final Pattern CASE_INSENSITIVE_PATTERN = Pattern.compile("[a-zA-Z]*");
+public class LetterValidator extends AbstractValidator<CharSequence>
+        implements IncrementalValidator<CharSequence> {
 
     /**
      * The case sensitivity, which is used by the validator.
@@ -67,6 +48,22 @@ public class LetterValidator extends AbstractValidator<CharSequence> {
      */
     private char[] allowedCharacters;
 
+    /**
+     * The character class, which contains all characters, which are accepted by the validator.
+     */
+    private CharacterClass characterClass;
+
+    /**
+     * Adapts the character class, which contains all characters, which are accepted by the
+     * validator, depending on the validator's current properties.
+     */
+    private void adaptCharacterClass() {
+        if (caseSensitivity != null && allowedCharacters != null) {
+            characterClass =
+                    new CharacterClass(caseSensitivity, false, allowSpaces, allowedCharacters);
+        }
+    }
+
     /**
      * Creates a new validator, which allows to validate texts to ensure, that they only contain
      * letters.
@@ -93,36 +90,6 @@ public class LetterValidator extends AbstractValidator<CharSequence> {
         setAllowedCharacters(allowedCharacters);
     }
 
-    /**
-     * Creates a new validator, which allows to validate texts to ensure, that they only contain
-     * letters.
-     *
-     * @param context
-     *         The context, which should be used to retrieve the error message, as an instance of
-     *         the class {@link Context}. The context may not be null
-     * @param resourceId
-     *         The resource ID of the string resource, which contains the error message, which
-     *         should be set, as an {@link Integer} value. The resource ID must correspond to a
-     *         valid string resource
-     * @param caseSensitivity
-     *         The case senstivitiy, which should be used by the validator, as a value of the enum
-     *         {@link Case}. The value may either be <code>UPPERCASE</code>, <code>LOWERCASE</code>
-     *         or <code>CASE_INSENSITIVE</code>
-     * @param allowSpaces
-     *         True, if spaces should be allowed, false otherwise
-     * @param allowedCharacters
-     *         The allowed characters as an array of the type <code>char</code>. The array may not
-     *         be null
-     */
-    public LetterValidator(@NonNull final Context context, @StringRes final int resourceId,
-                           @NonNull final Case caseSensitivity, final boolean allowSpaces,
-                           @NonNull final char... allowedCharacters) {
-        super(context, resourceId);
-        setCaseSensitivity(caseSensitivity);
-        allowSpaces(allowSpaces);
-        setAllowedCharacters(allowedCharacters);
-    }
-
     /**
      * Returns the case sensitivity, which is used by the validator.
      *
@@ -145,6 +112,7 @@ public class LetterValidator extends AbstractValidator<CharSequence> {
     public final void setCaseSensitivity(@NonNull final Case caseSensitivty) {
         ensureNotNull(caseSensitivty, "The case sensitivity may not be null");
         this.caseSensitivity = caseSensitivty;
+        adaptCharacterClass();
     }
 
     /**
@@ -164,6 +132,7 @@ public class LetterValidator extends AbstractValidator<CharSequence> {
      */
     public final void allowSpaces(final boolean allowSpaces) {
         this.allowSpaces = allowSpaces;
+        adaptCharacterClass();
     }
 
     /**
@@ -186,29 +155,23 @@ public class LetterValidator extends AbstractValidator<CharSequence> {
     public final void setAllowedCharacters(@NonNull final char[] allowedCharacters) {
         ensureNotNull(allowedCharacters, "The array may not be null");
         this.allowedCharacters = allowedCharacters;
+        adaptCharacterClass();
     }
 
     @Override
     public final boolean validate(final CharSequence value) {
-        String text = value.toString();
-        Pattern regex = CASE_INSENSITIVE_PATTERN;
-
-        if (areSpacesAllowed()) {
-            text = text.replaceAll("\\s+", "");
-        }
-
-        for (char character : getAllowedCharacters()) {
-            text = text.replaceAll(String.valueOf(character), "");
-        }
+        return characterClass.containsAll(value);
+    }
 
-        if (getCaseSensitivity() == Case.UPPERCASE) {
-            regex = UPPERCASE_PATTERN;
-        } else if (getCaseSensitivity() == Case.LOWERCASE) {
-            regex = LOWERCASE_PATTERN;
-        }
+    @NonNull
+    @Override
+    public final CharacterSet getCharacterSet() {
+        return characterClass;
+    }
 
-        Matcher matcher = regex.matcher(text);
-        return matcher.matches();
+    @Override
+    public final boolean validate(final int matchCount, final int length) {
+        return matchCount == length;
     }
 
 }
\ No newline at end of file
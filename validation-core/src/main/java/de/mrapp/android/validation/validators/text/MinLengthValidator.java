@@ -13,13 +13,12 @@
  */
 package de.mrapp.android.validation.validators.text;
 
-import android.content.Context;
 import android.support.annotation.NonNull;
-import android.support.annotation.StringRes;
 
+import de.mrapp.android.validation.CostAware;
 import de.mrapp.android.validation.validators.AbstractValidator;
 
-import static de.mrapp.android.util.Condition.ensureAtLeast;
+import static de.mrapp.android.validation.util.Condition.ensureAtLeast;
 
 /**
  * A validator, which allows to validate texts to ensure, that they have at least a specific
@@ -28,7 +27,7 @@ import static de.mrapp.android.util.Condition.ensureAtLeast;
  * @author Michael Rapp
  * @since 1.0.0
  */
-public class MinLengthValidator extends AbstractValidator<CharSequence> {
+public class MinLengthValidator extends AbstractValidator<CharSequence> implements CostAware {
 
     /**
      * The minimum length a text must have.
@@ -51,27 +50,6 @@ public class MinLengthValidator extends AbstractValidator<CharSequence> {
         setMinLength(minLength);
     }
 
-    /**
-     * Creates a new validator, which allows to validate texts to ensure, that they have at least a
-     * specific length.
-     *
-     * @param context
-     *         The context, which should be used to retrieve the error message, as an instance of
-     *         the class {@link Context}. The context may not be null
-     * @param resourceId
-     *         The resource ID of the string resource, which contains the error message, which
-     *         should be set, as an {@link Integer} value. The resource ID must correspond to a
-     *         valid string resource
-     * @param minLength
-     *         The minimum length a text must have as an {@link Integer} value. The minimum length
-     *         must be at least 1
-     */
-    public MinLengthValidator(@NonNull final Context context, @StringRes final int resourceId,
-                              final int minLength) {
-        super(context, resourceId);
-        setMinLength(minLength);
-    }
-
     /**
      * Returns the minimum length a text must have.
      *
@@ -98,4 +76,9 @@ public class MinLengthValidator extends AbstractValidator<CharSequence> {
         return value.length() >= getMinLength();
     }
 
+    @Override
+    public final int getCost() {
+        return COST_LOW;
+    }
+
 }
\ No newline at end of file
@@ -13,10 +13,9 @@
  */
 package de.mrapp.android.validation.validators.text;
 
-import android.content.Context;
 import android.support.annotation.NonNull;
-import android.support.annotation.StringRes;
 
+import de.mrapp.android.validation.IncrementalValidator;
 import de.mrapp.android.validation.validators.AbstractValidator;
 
 /**
@@ -26,7 +25,20 @@ import de.mrapp.android.validation.validators.AbstractValidator;
  * @author Michael Rapp
  * @since 1.0.0
  */
-public class NoWhitespaceValidator extends AbstractValidator<CharSequence> {
+public class NoWhitespaceValidator extends AbstractValidator<CharSequence>
+        implements IncrementalValidator<CharSequence> {
+
+    /**
+     * The character set, which contains the characters, which are considered to be whitespace.
+     */
+    private static final CharacterSet WHITESPACE = new CharacterSet() {
+
+        @Override
+        public boolean contains(final char character) {
+            return character == ' ';
+        }
+
+    };
 
     /**
      * Creates a new validator, which allows to validate texts to ensure, that they contain no
@@ -40,25 +52,20 @@ public class NoWhitespaceValidator extends AbstractValidator<CharSequence> {
         super(errorMessage);
     }
 
-    /**
-     * Creates a new validator, which allows to validate texts to ensure, that they contain no
-     * whitespace.
-     *
-     * @param context
-     *         The context, which should be used to retrieve the error message, as an instance of
-     *         the class {@link Context}. The context may not be null
-     * @param resourceId
-     *         The resource ID of the string resource, which contains the error message, which
-     *         should be set, as an {@link Integer} value. The resource ID must correspond to a
-     *         valid string resource
-     */
-    public NoWhitespaceValidator(@NonNull final Context context, @StringRes final int resourceId) {
-        super(context, resourceId);
-    }
-
     @Override
     public final boolean validate(final CharSequence value) {
         return !value.toString().contains(" ");
     }
 
+    @NonNull
+    @Override
+    public final CharacterSet getCharacterSet() {
+        return WHITESPACE;
+    }
+
+    @Override
+    public final boolean validate(final int matchCount, final int length) {
+        return matchCount == 0;
+    }
+
 }
\ No newline at end of file
@@ -13,11 +13,9 @@
  */
 package de.mrapp.android.validation.validators.text;
 
-import android.content.Context;
 import android.support.annotation.NonNull;
-import android.support.annotation.StringRes;
-import android.text.TextUtils;
 
+import de.mrapp.android.validation.CostAware;
 import de.mrapp.android.validation.validators.AbstractValidator;
 
 /**
@@ -26,7 +24,7 @@ import de.mrapp.android.validation.validators.AbstractValidator;
  * @author Michael Rapp
  * @since 1.0.0
  */
-public class NotEmptyValidator extends AbstractValidator<CharSequence> {
+public class NotEmptyValidator extends AbstractValidator<CharSequence> implements CostAware {
 
     /**
      * Creates a new validator, which allows to validate texts to ensure, that they are not empty.
@@ -39,24 +37,14 @@ public class NotEmptyValidator extends AbstractValidator<CharSequence> {
         super(errorMessage);
     }
 
-    /**
-     * Creates a new validator, which allows to validate texts to ensure, that they are not empty.
-     *
-     * @param context
-     *         The context, which should be used to retrieve the error message, as an instance of
-     *         the class {@link Context}. The context may not be null
-     * @param resourceId
-     *         The resource ID of the string resource, which contains the error message, which
-     *         should be set, as an {@link Integer} value. The resource ID must correspond to a
-     *         valid string resource
-     */
-    public NotEmptyValidator(@NonNull final Context context, @StringRes final int resourceId) {
-        super(context, resourceId);
+    @Override
+    public final boolean validate(final CharSequence value) {
+        return value != null && value.length() > 0;
     }
 
     @Override
-    public final boolean validate(final CharSequence value) {
-        return !TextUtils.isEmpty(value);
+    public final int getCost() {
+        return COST_LOW;
     }
 
 }
\ No newline at end of file
@@ -13,25 +13,41 @@
  */
 package de.mrapp.android.validation.validators.text;
 
-import android.content.Context;
 import android.support.annotation.NonNull;
-import android.support.annotation.StringRes;
+import android.support.annotation.Nullable;
 
 import java.util.regex.Pattern;
 
+import de.mrapp.android.validation.IncrementalValidator;
+import de.mrapp.android.validation.util.PatternRegistry;
+
 /**
  * A validator, which allows to validate texts to ensure, that they only contain numbers. Empty
- * texts are also accepted.
+ * texts are also accepted. Texts can only be validated incrementally, as long as neither the
+ * regular expression has been changed, nor a matching budget has been set.
  *
  * @author Michael Rapp
  * @since 1.0.0
  */
-public class NumberValidator extends RegexValidator {
+public class NumberValidator extends RegexValidator
+        implements IncrementalValidator<CharSequence> {
 
     /**
      * The regular expression, which is used by the validator.
      */
-    private static final Pattern REGEX = Pattern.compile("[0-9]*");
+    private static final Pattern REGEX = PatternRegistry.compile("[0-9]*");
+
+    /**
+     * The character set, which contains the digits from 0 to 9.
+     */
+    private static final CharacterSet DIGITS = new CharacterSet() {
+
+        @Override
+        public boolean contains(final char character) {
+            return character >= '0' && character <= '9';
+        }
+
+    };
 
     /**
      * Creates a new validator, which allows to validate texts to ensure, that they only contain
@@ -45,20 +61,15 @@ public class NumberValidator extends RegexValidator {
         super(errorMessage, REGEX);
     }
 
-    /**
-     * Creates a new validator, which allows to validate texts to ensure, that they only contain
-     * numbers.
-     *
-     * @param context
-     *         The context, which should be used to retrieve the error message, as an instance of
-     *         the class {@link Context}. The context may not be null
-     * @param resourceId
-     *         The resource ID of the string resource, which contains the error message, which
-     *         should be set, as an {@link Integer} value. The resource ID must correspond to a
-     *         valid string resource
-     */
-    public NumberValidator(@NonNull final Context context, @StringRes final int resourceId) {
-        super(context, resourceId, REGEX);
+    @Nullable
+    @Override
+    public final CharacterSet getCharacterSet() {
+        return getRegex() == REGEX && getMatchingBudget() == NO_BUDGET ? DIGITS : null;
+    }
+
+    @Override
+    public final boolean validate(final int matchCount, final int length) {
+        return matchCount == length;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.validators.text;
+
+import android.support.annotation.NonNull;
+
+import java.util.regex.Pattern;
+
+import de.mrapp.android.validation.BudgetedValidator;
+import de.mrapp.android.validation.CostAware;
+import de.mrapp.android.validation.ValidationOutcome;
+import de.mrapp.android.validation.regex.LinearRegex;
+import de.mrapp.android.validation.util.PatternRegistry;
+import de.mrapp.android.validation.util.ThreadLocalMatcher;
+import de.mrapp.android.validation.validators.AbstractValidator;
+
+import static de.mrapp.android.validation.util.Condition.ensureAtLeast;
+import static de.mrapp.android.validation.util.Condition.ensureNotNull;
+
+/**
+ * A validator, which allows to validate texts to ensure, that they match certain regular
+ * expressions.
+ *
+ * Optionally, a budget can be set in order to protect against regular expressions, which require
+ * catastrophic backtracking. If a budget is set, regular expressions, which are supported by the
+ * class {@link LinearRegex}, are matched in linear time and matching is aborted after the given
+ * number of steps. Other regular expressions are matched using the class {@link Pattern}, in
+ * which case the budget limits the number of accesses to the text's characters. The latter is
+ * only effective on the Java platform, because on Android texts are matched natively.
+ *
+ * @author Michael Rapp
+ * @since 1.0.0
+ */
+public class RegexValidator extends AbstractValidator<CharSequence>
+        implements BudgetedValidator<CharSequence>, CostAware {
+
+    /**
+     * The budget, which does not limit the number of steps, which are needed to match a text.
+     */
+    public static final int NO_BUDGET = LinearRegex.NO_BUDGET;
+
+    /**
+     * The matcher, which is used to validate the texts. It is reused by each thread in order to
+     * avoid creating a new matcher for each text.
+     */
+    private ThreadLocalMatcher matcher;
+
+    /**
+     * The regular expression, which is used to validate the texts in linear time, if a budget is
+     * set, or null, if no budget is set or if the regular expression is not supported.
+     */
+    private LinearRegex linearRegex;
+
+    /**
+     * The maximum number of steps, which may be taken in order to validate a text.
+     */
+    private int matchingBudget;
+
+    /**
+     * Compiles the regular expression in order to be matched in linear time, if a budget is set.
+     */
+    private void compileLinearRegex() {
+        linearRegex = matchingBudget != NO_BUDGET ? LinearRegex.compile(getRegex()) : null;
+    }
+
+    /**
+     * Creates a new validator, which allows to validate texts to ensure, that they only contain
+     * numbers.
+     *
+     * @param errorMessage
+     *         The error message, which should be shown, if the validation fails, as an instance of
+     *         the type {@link CharSequence}. The error message may not be null
+     * @param regex
+     *         The regular expression, which should be used to validate the texts, as an instance of
+     *         the class {@link Pattern}. The regular expression may not be null
+     */
+    public RegexValidator(@NonNull final CharSequence errorMessage, @NonNull final Pattern regex) {
+        super(errorMessage);
+        setRegex(regex);
+    }
+
+    /**
+     * Creates a new validator, which allows to validate texts to ensure, that they match a
+     * certain regular expression. The regular expression is obtained from the {@link
+     * PatternRegistry}, i.e. it is only compiled once, even if it is used by multiple validators.
+     *
+     * @param errorMessage
+     *         The error message, which should be shown, if the validation fails, as an instance of
+     *         the type {@link CharSequence}. The error message may not be null
+     * @param regex
+     *         The regular expression, which should be used to validate the texts, as a {@link
+     *         String}. The regular expression may not be null
+     */
+    public RegexValidator(@NonNull final CharSequence errorMessage, @NonNull final String regex) {
+        this(errorMessage, PatternRegistry.compile(regex));
+    }
+
+    /**
+     * Returns the regular expression, which is used to validate the texts.
+     *
+     * @return The regular expression, which is used to validate the texts, as an instance of the
+     * class {@link Pattern}
+     */
+    public final Pattern getRegex() {
+        return matcher.getPattern();
+    }
+
+    /**
+     * Sets the regular expression, which should be used to validate the texts.
+     *
+     * @param regex
+     *         The regular expression, which should be set, as an instance of the class {@link
+     *         Pattern}. The regular expression may not be null
+     */
+    public final void setRegex(@NonNull final Pattern regex) {
+        ensureNotNull(regex, "The regular expression may not be null");
+        this.matcher = new ThreadLocalMatcher(regex);
+        compileLinearRegex();
+    }
+
+    /**
+     * Returns the maximum number of steps, which may be taken in order to validate a text. If the
+     * budget is exceeded, the text is regarded as invalid.
+     *
+     * @return The maximum number of steps, which may be taken in order to validate a text, as an
+     * {@link Integer} value or {@link #NO_BUDGET}, if the number of steps is not limited
+     */
+    public final int getMatchingBudget() {
+        return matchingBudget;
+    }
+
+    /**
+     * Sets the maximum number of steps, which may be taken in order to validate a text. If the
+     * budget is exceeded, the text is regarded as invalid.
+     *
+     * @param matchingBudget
+     *         The maximum number of steps, which should be set, as an {@link Integer} value or
+     *         {@link #NO_BUDGET}, if the number of steps should not be limited. The budget must
+     *         be at least 0
+     */
+    public final void setMatchingBudget(final int matchingBudget) {
+        ensureAtLeast(matchingBudget, 0, "The budget must be at least 0");
+        this.matchingBudget = matchingBudget;
+        compileLinearRegex();
+    }
+
+    /**
+     * Returns, whether texts are matched in linear time, because a budget is set and the regular
+     * expression is supported by the class {@link LinearRegex}.
+     *
+     * @return True, if texts are matched in linear time, false otherwise
+     */
+    public final boolean isLinear() {
+        return linearRegex != null;
+    }
+
+    @Override
+    public final boolean validate(final CharSequence value) {
+        return validateWithinBudget(value) == ValidationOutcome.VALID;
+    }
+
+    @Override
+    public final ValidationOutcome validateWithinBudget(final CharSequence value) {
+        if (matchingBudget == NO_BUDGET) {
+            return matcher.matches(value) ? ValidationOutcome.VALID : ValidationOutcome.INVALID;
+        } else if (linearRegex != null) {
+            return linearRegex.matches(value, matchingBudget);
+        } else {
+            return matcher.matches(value, matchingBudget);
+        }
+    }
+
+    @Override
+    public final int getCost() {
+        return COST_HIGH;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.util.BitSet;
+
+/**
+ * Tests the functionality of the class {@link BatchResult}.
+ *
+ * @author Michael Rapp
+ */
+public class BatchResultTest extends TestCase {
+
+    /**
+     * Tests, if all properties are correctly initialized by the constructor.
+     */
+    public final void testConstructor() {
+        BatchResult result = new BatchResult(new int[]{BatchResult.NO_FAILURE, 2, 0, 0}, 3);
+        assertEquals(3, result.getSize());
+        assertEquals(2, result.getFailureCount());
+        assertFalse(result.isValid());
+        assertTrue(result.isValid(0));
+        assertFalse(result.isValid(1));
+        assertEquals(2, result.getFailedValidatorIndex(1));
+        assertEquals(1, result.getNextFailure(0));
+        assertEquals(2, result.getNextFailure(2));
+        assertEquals(-1, result.getNextFailure(3));
+    }
+
+    /**
+     * Ensures, that a result, which does not contain any failures, is valid.
+     */
+    public final void testIsValidWithoutFailures() {
+        BatchResult result =
+                new BatchResult(new int[]{BatchResult.NO_FAILURE, BatchResult.NO_FAILURE}, 2);
+        assertTrue(result.isValid());
+        assertEquals(0, result.getFailureCount());
+    }
+
+    /**
+     * Ensures, that modifying the bitset, which is returned by the getFailures-method, does not
+     * affect the result.
+     */
+    public final void testGetFailures() {
+        BatchResult result = new BatchResult(new int[]{0, BatchResult.NO_FAILURE}, 2);
+        BitSet failures = result.getFailures();
+        failures.set(1);
+        assertTrue(result.isValid(1));
+    }
+
+    /**
+     * Ensures, that an {@link IndexOutOfBoundsException} is thrown by the
+     * getFailedValidatorIndex-method, if the index is invalid.
+     */
+    public final void testGetFailedValidatorIndexThrowsExceptionWhenIndexIsInvalid() {
+        BatchResult result = new BatchResult(new int[]{0, 0}, 1);
+
+        try {
+            result.getFailedValidatorIndex(1);
+            Assert.fail();
+        } catch (IndexOutOfBoundsException e) {
+
+        }
+    }
+
+}
\ No newline at end of file
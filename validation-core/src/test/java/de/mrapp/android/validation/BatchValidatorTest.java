@@ -0,0 +1,160 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.concurrent.ForkJoinPool;
+
+import de.mrapp.android.validation.validators.text.MaxLengthValidator;
+import de.mrapp.android.validation.validators.text.NotEmptyValidator;
+
+/**
+ * Tests the functionality of the class {@link BatchValidator}.
+ *
+ * @author Michael Rapp
+ */
+public class BatchValidatorTest extends TestCase {
+
+    /**
+     * Creates and returns a batch validator, which ensures, that texts are not empty and contain
+     * at most 3 characters.
+     *
+     * @return The batch validator, which has been created, as an instance of the class {@link
+     * BatchValidator}
+     */
+    @SuppressWarnings("unchecked")
+    private BatchValidator<CharSequence> createBatchValidator() {
+        return BatchValidator.create(new NotEmptyValidator("empty"),
+                new MaxLengthValidator("too long", 3));
+    }
+
+    /**
+     * Tests, if all properties are correctly initialized by the constructor.
+     */
+    @SuppressWarnings("unchecked")
+    public final void testConstructor() {
+        Validator<CharSequence>[] validators =
+                new Validator[]{new NotEmptyValidator("foo"), new MaxLengthValidator("bar", 1)};
+        BatchValidator<CharSequence> batchValidator = new BatchValidator<>(validators);
+        assertTrue(Arrays.equals(validators, batchValidator.getValidators()));
+    }
+
+    /**
+     * Ensures, that a {@link NullPointerException} is thrown by the constructor, if the
+     * validators are null.
+     */
+    public final void testConstructorThrowsExceptionWhenValidatorsAreNull() {
+        try {
+            new BatchValidator<CharSequence>((Validator<CharSequence>[]) null);
+            Assert.fail();
+        } catch (NullPointerException e) {
+
+        }
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the constructor, if the
+     * validators are empty.
+     */
+    @SuppressWarnings("unchecked")
+    public final void testConstructorThrowsExceptionWhenValidatorsAreEmpty() {
+        try {
+            new BatchValidator<CharSequence>(new Validator[0]);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+
+        }
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to validate an array.
+     */
+    public final void testValidateArray() {
+        BatchResult result =
+                createBatchValidator().validate(new CharSequence[]{"foo", "", "foobar", "ba"});
+        assertEquals(4, result.getSize());
+        assertEquals(2, result.getFailureCount());
+        assertFalse(result.isValid());
+        assertEquals(BatchResult.NO_FAILURE, result.getFailedValidatorIndex(0));
+        assertEquals(0, result.getFailedValidatorIndex(1));
+        assertEquals(1, result.getFailedValidatorIndex(2));
+        assertEquals(BatchResult.NO_FAILURE, result.getFailedValidatorIndex(3));
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to validate an iterable.
+     */
+    public final void testValidateIterable() {
+        final LinkedList<CharSequence> values = new LinkedList<>();
+
+        for (int i = 0; i < 100; i++) {
+            values.add(i % 10 == 0 ? "" : "foo");
+        }
+
+        BatchResult result = createBatchValidator().validate(new Iterable<CharSequence>() {
+
+            @Override
+            public Iterator<CharSequence> iterator() {
+                return values.iterator();
+            }
+
+        });
+        assertEquals(100, result.getSize());
+        assertEquals(10, result.getFailureCount());
+        assertEquals(0, result.getNextFailure(0));
+        assertEquals(10, result.getNextFailure(1));
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to validate an array in parallel.
+     */
+    public final void testValidateParallel() {
+        CharSequence[] values = new CharSequence[10000];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 7 == 0 ? "foobar" : "foo";
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            BatchResult parallelResult = createBatchValidator().validate(values, pool);
+            BatchResult sequentialResult = createBatchValidator().validate(values);
+            assertEquals(sequentialResult.getFailures(), parallelResult.getFailures());
+            assertEquals(1429, parallelResult.getFailureCount());
+            assertEquals(1, parallelResult.getFailedValidatorIndex(7));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Ensures, that a {@link NullPointerException} is thrown by the method, which allows to
+     * validate an array in parallel, if the pool is null.
+     */
+    public final void testValidateParallelThrowsExceptionWhenPoolIsNull() {
+        try {
+            createBatchValidator().validate(new CharSequence[0], null);
+            Assert.fail();
+        } catch (NullPointerException e) {
+
+        }
+    }
+
+}
\ No newline at end of file
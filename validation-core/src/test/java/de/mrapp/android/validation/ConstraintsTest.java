@@ -73,4 +73,11 @@ public class ConstraintsTest extends TestCase {
         assertNotNull(Constraints.containsSymbol());
     }
 
+    /**
+     * Tests the functionality of the regex-method, which expects a string as a parameter.
+     */
+    public final void testRegexWithStringParameter() {
+        assertNotNull(Constraints.regex("[0-9]+"));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+ * Tests the functionality of the class {@link EvaluationOrder}.
+ *
+ * @author Michael Rapp
+ */
+public class EvaluationOrderTest extends TestCase {
+
+    /**
+     * Tests, if the order initially corresponds to the order of declaration.
+     */
+    public final void testConstructor() {
+        EvaluationOrder evaluationOrder = new EvaluationOrder(3);
+        int[] order = evaluationOrder.getOrder();
+        assertEquals(3, order.length);
+        assertEquals(0, order[0]);
+        assertEquals(1, order[1]);
+        assertEquals(2, order[2]);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the constructor, if the size
+     * is less than 1.
+     */
+    public final void testConstructorThrowsException() {
+        try {
+            new EvaluationOrder(0);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+
+        }
+    }
+
+    /**
+     * Tests, if the order is adapted, in order to evaluate cheap and decisive children first.
+     */
+    public final void testReorder() {
+        EvaluationOrder evaluationOrder = new EvaluationOrder(3);
+
+        for (int i = 0; i < 32; i++) {
+            evaluationOrder.record(0, false, 1000);
+            evaluationOrder.record(1, false, 1000);
+            evaluationOrder.record(2, true, 10);
+            evaluationOrder.finish();
+        }
+
+        int[] order = evaluationOrder.getOrder();
+        assertEquals(2, order[0]);
+        assertEquals(0, order[1]);
+        assertEquals(1, order[2]);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation;
+
+import junit.framework.TestCase;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Tests the functionality of the class {@link Preprocessors}.
+ *
+ * @author Michael Rapp
+ */
+public class PreprocessorsTest extends TestCase {
+
+    /**
+     * Tests the functionality of the chain-method.
+     */
+    @SuppressWarnings("unchecked")
+    public final void testChain() {
+        assertNotNull(Preprocessors.chain(Preprocessors.trim(), Preprocessors.lowerCase()));
+    }
+
+    /**
+     * Tests the functionality of the trim-method.
+     */
+    public final void testTrim() {
+        assertNotNull(Preprocessors.trim());
+    }
+
+    /**
+     * Tests the functionality of the lowerCase-method, which expects no parameters.
+     */
+    public final void testLowerCase() {
+        assertNotNull(Preprocessors.lowerCase());
+    }
+
+    /**
+     * Tests the functionality of the lowerCase-method, which expects a locale as a parameter.
+     */
+    public final void testLowerCaseWithLocaleParameter() {
+        assertNotNull(Preprocessors.lowerCase(Locale.GERMAN));
+    }
+
+    /**
+     * Tests the functionality of the normalize-method, which expects no parameters.
+     */
+    public final void testNormalize() {
+        assertNotNull(Preprocessors.normalize());
+    }
+
+    /**
+     * Tests the functionality of the normalize-method, which expects a normalization form as a
+     * parameter.
+     */
+    public final void testNormalizeWithFormParameter() {
+        assertNotNull(Preprocessors.normalize(Normalizer.Form.NFKC));
+    }
+
+}
\ No newline at end of file
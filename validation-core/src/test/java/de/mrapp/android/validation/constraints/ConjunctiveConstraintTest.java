@@ -224,4 +224,24 @@ public class ConjunctiveConstraintTest extends TestCase {
         assertFalse(conjunctiveConstraint.isSatisfied(new Object()));
     }
 
+    /**
+     * Tests the functionality of the isSatisfied-method, if the single constraints are reordered
+     * adaptively.
+     */
+    @SuppressWarnings("unchecked")
+    public final void testIsSatisfiedWhenReorderedAdaptively() {
+        Constraint<Object>[] constraints = new Constraint[2];
+        constraints[0] = new ConstraintImplementation(true);
+        constraints[1] = new ConstraintImplementation(false);
+        ConjunctiveConstraint<Object> conjunctiveConstraint =
+                new ConjunctiveConstraint<>(constraints);
+        assertFalse(conjunctiveConstraint.isReorderedAdaptively());
+        conjunctiveConstraint.reorderAdaptively(true);
+        assertTrue(conjunctiveConstraint.isReorderedAdaptively());
+
+        for (int i = 0; i < 100; i++) {
+            assertFalse(conjunctiveConstraint.isSatisfied(new Object()));
+        }
+    }
+
 }
\ No newline at end of file
@@ -239,4 +239,24 @@ public class DisjunctiveConstraintTest extends TestCase {
         assertFalse(disjunctiveConstraint.isSatisfied(new Object()));
     }
 
+    /**
+     * Tests the functionality of the isSatisfied-method, if the single constraints are reordered
+     * adaptively.
+     */
+    @SuppressWarnings("unchecked")
+    public final void testIsSatisfiedWhenReorderedAdaptively() {
+        Constraint<Object>[] constraints = new Constraint[2];
+        constraints[0] = new ConstraintImplementation(false);
+        constraints[1] = new ConstraintImplementation(true);
+        DisjunctiveConstraint<Object> disjunctiveConstraint =
+                new DisjunctiveConstraint<>(constraints);
+        assertFalse(disjunctiveConstraint.isReorderedAdaptively());
+        disjunctiveConstraint.reorderAdaptively(true);
+        assertTrue(disjunctiveConstraint.isReorderedAdaptively());
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(disjunctiveConstraint.isSatisfied(new Object()));
+        }
+    }
+
 }
\ No newline at end of file
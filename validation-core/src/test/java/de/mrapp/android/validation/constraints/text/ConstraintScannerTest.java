@@ -0,0 +1,188 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.constraints.text;
+
+import junit.framework.TestCase;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import de.mrapp.android.validation.Constraint;
+
+/**
+ * Tests the functionality of the class {@link ConstraintScanner}.
+ *
+ * @author Michael Rapp
+ */
+public class ConstraintScannerTest extends TestCase {
+
+    /**
+     * The characters, random texts are composed of.
+     */
+    private static final String ALPHABET =
+            "aZ5.- \n\r\u0085\u2028\u2029\u00e4\ud83d\ude00";
+
+    /**
+     * Creates and returns a list, which contains the built-in constraints.
+     *
+     * @return The list, which has been created, as an instance of the type {@link List}
+     */
+    @SuppressWarnings("unchecked")
+    private List<Constraint<CharSequence>> createConstraints() {
+        return Arrays.<Constraint<CharSequence>>asList(new ContainsLetterConstraint(),
+                new ContainsNumberConstraint(), new ContainsSymbolConstraint(),
+                new MinLengthConstraint(4));
+    }
+
+    /**
+     * Creates and returns a random text.
+     *
+     * @param random
+     *         The random number generator, which should be used, as an instance of the class
+     *         {@link Random}
+     * @param maxLength
+     *         The maximum length of the text as an {@link Integer} value
+     * @return The text, which has been created, as a {@link String}
+     */
+    private String createText(final Random random, final int maxLength) {
+        StringBuilder builder = new StringBuilder();
+        int length = random.nextInt(maxLength + 1);
+
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Asserts, that the scanner evaluates the given constraints in the same way as the constraints
+     * themselves.
+     *
+     * @param scanner
+     *         The scanner, which should be tested, as an instance of the class {@link
+     *         ConstraintScanner}
+     * @param constraints
+     *         The constraints, which should be evaluated, as an instance of the type {@link List}
+     * @param text
+     *         The text, the constraints should be evaluated for, as an instance of the type {@link
+     *         CharSequence}
+     */
+    private void assertEvaluation(final ConstraintScanner scanner,
+                                  final List<Constraint<CharSequence>> constraints,
+                                  final CharSequence text) {
+        int satisfied = 0;
+
+        for (Constraint<CharSequence> constraint : constraints) {
+            boolean expected = constraint.isSatisfied(text);
+            assertEquals(expected, scanner.isSatisfied(constraint, text));
+
+            if (expected) {
+                satisfied++;
+            }
+        }
+
+        assertEquals(satisfied, scanner.countSatisfied(constraints, text));
+    }
+
+    /**
+     * Tests, if the scanner evaluates the built-in constraints in the same way as the constraints
+     * themselves.
+     */
+    public final void testIsSatisfied() {
+        ConstraintScanner scanner = new ConstraintScanner();
+        List<Constraint<CharSequence>> constraints = createConstraints();
+        Random random = new Random(0);
+
+        for (String text : new String[]{"", "abc", "123", "abc.abc", "a\n", "\n", "\r\n", "a1.b"}) {
+            assertEvaluation(scanner, constraints, text);
+        }
+
+        for (int i = 0; i < 2000; i++) {
+            assertEvaluation(scanner, constraints, createText(random, 8));
+        }
+    }
+
+    /**
+     * Tests, if the scanner evaluates the built-in constraints correctly, if the text is changed
+     * incrementally.
+     */
+    public final void testIncrementalUpdates() {
+        ConstraintScanner scanner = new ConstraintScanner();
+        List<Constraint<CharSequence>> constraints = createConstraints();
+        Random random = new Random(1);
+        StringBuilder text = new StringBuilder();
+        scanner.scan(text);
+
+        for (int i = 0; i < 2000; i++) {
+            int start = random.nextInt(text.length() + 1);
+            int end = start + random.nextInt(text.length() - start + 1);
+            String replacement = createText(random, 3);
+            scanner.remove(text, start, end);
+            text.replace(start, end, replacement);
+            scanner.insert(text, start, start + replacement.length());
+            assertEvaluation(scanner, constraints, text);
+        }
+    }
+
+    /**
+     * Tests, if a constraint, whose regular expression has been changed, is evaluated by using the
+     * constraint itself.
+     */
+    public final void testChangedRegex() {
+        ConstraintScanner scanner = new ConstraintScanner();
+        ContainsLetterConstraint constraint = new ContainsLetterConstraint();
+        constraint.setRegex(Pattern.compile("\\d+"));
+        assertTrue(scanner.isSatisfied(constraint, "123"));
+        assertFalse(scanner.isSatisfied(constraint, "abc"));
+    }
+
+    /**
+     * Tests, if constraints, which are not recognized by the scanner, are evaluated by using the
+     * constraints themselves.
+     */
+    public final void testUnrecognizedConstraint() {
+        ConstraintScanner scanner = new ConstraintScanner();
+        RegexConstraint constraint = new RegexConstraint("a+");
+        assertTrue(scanner.isSatisfied(constraint, "aaa"));
+        assertFalse(scanner.isSatisfied(constraint, "aab"));
+    }
+
+    /**
+     * Tests, if the text is scanned from scratch, if the scanner has been invalidated.
+     */
+    public final void testInvalidate() {
+        ConstraintScanner scanner = new ConstraintScanner();
+        ContainsNumberConstraint constraint = new ContainsNumberConstraint();
+        assertFalse(scanner.isSatisfied(constraint, "abc"));
+        scanner.invalidate();
+        assertTrue(scanner.isSatisfied(constraint, "ab1"));
+    }
+
+    /**
+     * Ensures, that a {@link NullPointerException} is thrown, if the text, which is passed to
+     * the scan-method, is null.
+     */
+    public final void testScanThrowsExceptionWhenTextIsNull() {
+        try {
+            new ConstraintScanner().scan(null);
+            fail();
+        } catch (NullPointerException e) {
+
+        }
+    }
+
+}
\ No newline at end of file
@@ -13,7 +13,7 @@
  */
 package de.mrapp.android.validation.constraints.text;
 
-import android.test.AndroidTestCase;
+import junit.framework.TestCase;
 
 import de.mrapp.android.validation.validators.text.NoWhitespaceValidator;
 
@@ -22,7 +22,7 @@ import de.mrapp.android.validation.validators.text.NoWhitespaceValidator;
  *
  * @author Michael Rapp
  */
-public class NoWhitespaceValidatorTest extends AndroidTestCase {
+public class NoWhitespaceValidatorTest extends TestCase {
 
     /**
      * Tests, if all properties are correctly initialized by the constructor, which expects a char
@@ -34,17 +34,6 @@ public class NoWhitespaceValidatorTest extends AndroidTestCase {
         assertEquals(errorMessage, noWhitespaceValidator.getErrorMessage());
     }
 
-    /**
-     * Tests, if all properties are correctly initialized by the constructor, which expects a
-     * context and a resource ID as parameters.
-     */
-    public final void testConstructorWithContextAndResourceIdParameters() {
-        CharSequence errorMessage = getContext().getText(android.R.string.cancel);
-        NoWhitespaceValidator noWhitespaceValidator =
-                new NoWhitespaceValidator(getContext(), android.R.string.cancel);
-        assertEquals(errorMessage, noWhitespaceValidator.getErrorMessage());
-    }
-
     /**
      * Tests the functionality of the validate-method, if it succeeds.
      */
@@ -65,4 +54,16 @@ public class NoWhitespaceValidatorTest extends AndroidTestCase {
         assertFalse(noWhitespaceValidator.validate("abc    abc"));
     }
 
+    /**
+     * Tests the functionality of the validate-method, which expects the number of matching
+     * characters and the length of a text as parameters.
+     */
+    public final void testValidateIncrementally() {
+        NoWhitespaceValidator noWhitespaceValidator = new NoWhitespaceValidator("foo");
+        assertTrue(noWhitespaceValidator.getCharacterSet().contains(' '));
+        assertFalse(noWhitespaceValidator.getCharacterSet().contains('a'));
+        assertTrue(noWhitespaceValidator.validate(0, 3));
+        assertFalse(noWhitespaceValidator.validate(1, 3));
+    }
+
 }
\ No newline at end of file
@@ -44,13 +44,23 @@ public class RegexConstraintTest extends TestCase {
      */
     public final void testConstructorThrowsException() {
         try {
-            new RegexConstraint(null);
+            new RegexConstraint((Pattern) null);
             Assert.fail();
         } catch (NullPointerException e) {
 
         }
     }
 
+    /**
+     * Tests, if all properties are set correctly by the constructor, which expects a string as a
+     * regular expression.
+     */
+    public final void testConstructorWithStringParameter() {
+        RegexConstraint regexConstraint = new RegexConstraint("[0-9]+");
+        assertEquals("[0-9]+", regexConstraint.getRegex().pattern());
+        assertSame(regexConstraint.getRegex(), new RegexConstraint("[0-9]+").getRegex());
+    }
+
     /**
      * Tests the functionality of the method, which allows to set the regular expression.
      */
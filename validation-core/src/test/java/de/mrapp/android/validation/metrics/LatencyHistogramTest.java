@@ -0,0 +1,156 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.metrics;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+ * Tests the functionality of the class {@link LatencyHistogram}.
+ *
+ * @author Michael Rapp
+ */
+public class LatencyHistogramTest extends TestCase {
+
+    /**
+     * Tests, if an empty histogram is correctly initialized.
+     */
+    public final void testConstructor() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getTotal());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0d, histogram.getMean());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to record values.
+     */
+    public final void testRecord() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1000);
+        }
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(5050000, histogram.getTotal());
+        assertEquals(100000, histogram.getMax());
+        assertEquals(50500d, histogram.getMean());
+        assertEquals(1000, histogram.getValueAtPercentile(0), 1000 / 16);
+        assertEquals(50000, histogram.getValueAtPercentile(50), 50000 / 16);
+        assertEquals(99000, histogram.getValueAtPercentile(99), 99000 / 16);
+        assertEquals(100000, histogram.getValueAtPercentile(100));
+    }
+
+    /**
+     * Tests, if small values are recorded exactly.
+     */
+    public final void testRecordSmallValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(0);
+        histogram.record(3);
+        histogram.record(7);
+        assertEquals(0, histogram.getValueAtPercentile(0));
+        assertEquals(3, histogram.getValueAtPercentile(50));
+        assertEquals(7, histogram.getValueAtPercentile(100));
+    }
+
+    /**
+     * Tests, if the largest possible value can be recorded.
+     */
+    public final void testRecordMaxValue() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.getMax());
+        assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown, if a negative value should be
+     * recorded.
+     */
+    public final void testRecordThrowsExceptionWhenValueIsNegative() {
+        try {
+            new LatencyHistogram().record(-1);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+
+        }
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * retrieve the value at a specific percentile, if the percentile is greater than 100.
+     */
+    public final void testGetValueAtPercentileThrowsExceptionWhenPercentileIsTooLarge() {
+        try {
+            new LatencyHistogram().getValueAtPercentile(101);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+
+        }
+    }
+
+    /**
+     * Tests, if values can be recorded concurrently.
+     *
+     * @throws InterruptedException
+     *         The exception, which is thrown, if the test is interrupted
+     */
+    public final void testRecordConcurrently() throws InterruptedException {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        Thread[] threads = new Thread[4];
+
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(new Runnable() {
+
+                @Override
+                public void run() {
+                    for (int j = 1; j <= 1000; j++) {
+                        histogram.record(j);
+                    }
+                }
+
+            });
+            threads[i].start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(4000, histogram.getCount());
+        assertEquals(4 * 500500, histogram.getTotal());
+        assertEquals(1000, histogram.getMax());
+    }
+
+    /**
+     * Tests the functionality of the methods, which allow to copy and reset the histogram.
+     */
+    public final void testCopyAndReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(42);
+        LatencyHistogram copy = histogram.copy();
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getValueAtPercentile(100));
+        assertEquals(1, copy.getCount());
+        assertEquals(42, copy.getMax());
+        assertEquals(42, copy.getValueAtPercentile(100));
+    }
+
+}
\ No newline at end of file
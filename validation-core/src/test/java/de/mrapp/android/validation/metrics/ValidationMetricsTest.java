@@ -0,0 +1,189 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.metrics;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.io.IOException;
+import java.util.List;
+
+import de.mrapp.android.validation.Validator;
+import de.mrapp.android.validation.validators.text.NotEmptyValidator;
+
+/**
+ * Tests the functionality of the class {@link ValidationMetrics}.
+ *
+ * @author Michael Rapp
+ */
+public class ValidationMetricsTest extends TestCase {
+
+    /**
+     * Records a single invocation of a validator, which is not referenced afterwards.
+     *
+     * @param metrics
+     *         The metrics, the invocation should be recorded in, as an instance of the class
+     *         {@link ValidationMetrics}
+     */
+    private static void recordUnreferencedValidator(final ValidationMetrics metrics) {
+        metrics.recordValidator(new NotEmptyValidator("foo"), 10, true);
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to record invocations of validators.
+     */
+    public final void testRecordValidator() {
+        Validator<CharSequence> validator1 = new NotEmptyValidator("foo");
+        Validator<CharSequence> validator2 = new NotEmptyValidator("bar");
+        ValidationMetrics metrics = new ValidationMetrics();
+        metrics.recordValidator(validator1, 10, true);
+        metrics.recordValidator(validator1, 20, false);
+        metrics.recordValidator(validator1, 30, false);
+        metrics.recordValidator(validator2, 1000, true);
+        List<ValidationMetrics.ValidatorStatistics> statistics =
+                metrics.snapshot().getValidatorStatistics();
+        assertEquals(2, statistics.size());
+        ValidationMetrics.ValidatorStatistics statistics1 = statistics.get(1);
+        assertEquals("NotEmptyValidator: foo", statistics1.getName());
+        assertEquals(3, statistics1.getInvocationCount());
+        assertEquals(2, statistics1.getFailureCount());
+        assertEquals(2d / 3, statistics1.getFailureRate());
+        assertEquals(60, statistics1.getLatency().getTotal());
+        ValidationMetrics.ValidatorStatistics statistics2 = statistics.get(0);
+        assertEquals("NotEmptyValidator: bar", statistics2.getName());
+        assertEquals(1, statistics2.getInvocationCount());
+        assertEquals(0, statistics2.getFailureCount());
+        assertEquals(0d, statistics2.getFailureRate());
+    }
+
+    /**
+     * Ensures, that a {@link NullPointerException} is thrown by the method, which allows to record
+     * invocations of validators, if the validator is null.
+     */
+    public final void testRecordValidatorThrowsExceptionWhenValidatorIsNull() {
+        try {
+            new ValidationMetrics().recordValidator(null, 0, true);
+            Assert.fail();
+        } catch (NullPointerException e) {
+
+        }
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to record validations.
+     */
+    public final void testRecordValidation() {
+        ValidationMetrics metrics = new ValidationMetrics();
+        metrics.recordValidation(100, 200);
+        metrics.recordValidation(300, 400);
+        ValidationMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(2, snapshot.getValidatorTime().getCount());
+        assertEquals(400, snapshot.getValidatorTime().getTotal());
+        assertEquals(2, snapshot.getUiTime().getCount());
+        assertEquals(600, snapshot.getUiTime().getTotal());
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the method, which allows to
+     * record validations, if a time is negative.
+     */
+    public final void testRecordValidationThrowsExceptionWhenTimeIsNegative() {
+        try {
+            new ValidationMetrics().recordValidation(0, -1);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+
+        }
+    }
+
+    /**
+     * Tests, if a snapshot is not affected by metrics, which are recorded afterwards.
+     */
+    public final void testSnapshotIsNotAffectedByLaterRecords() {
+        Validator<CharSequence> validator = new NotEmptyValidator("foo");
+        ValidationMetrics metrics = new ValidationMetrics();
+        metrics.recordValidator(validator, 10, true);
+        ValidationMetrics.Snapshot snapshot = metrics.snapshot();
+        metrics.recordValidator(validator, 10, false);
+        metrics.reset();
+        assertEquals(1, snapshot.getValidatorStatistics().get(0).getInvocationCount());
+        assertEquals(0, snapshot.getValidatorStatistics().get(0).getFailureCount());
+        assertTrue(metrics.snapshot().getValidatorStatistics().isEmpty());
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to export a snapshot.
+     *
+     * @throws IOException
+     *         The exception, which is thrown, if an error occurs while exporting
+     */
+    public final void testExport() throws IOException {
+        ValidationMetrics metrics = new ValidationMetrics();
+        metrics.recordValidator(new NotEmptyValidator("\"foo\""), 10, false);
+        metrics.recordValidation(10, 5);
+        StringBuilder stringBuilder = new StringBuilder();
+        metrics.snapshot().export(stringBuilder);
+        String[] lines = stringBuilder.toString().split("\n");
+        assertEquals(4, lines.length);
+        assertEquals("name,invocations,failures,failure_rate,mean_ns,p50_ns,p90_ns,p99_ns,max_ns",
+                lines[0]);
+        assertEquals("\"validate:validators\",1,,,10,10,10,10,10", lines[1]);
+        assertEquals("\"validate:ui\",1,,,5,5,5,5,5", lines[2]);
+        assertEquals("\"NotEmptyValidator: \"\"foo\"\"\",1,1,1.0,10,10,10,10,10", lines[3]);
+    }
+
+    /**
+     * Tests, if the metrics of a validator are discarded, once it has been garbage collected.
+     *
+     * @throws InterruptedException
+     *         The exception, which is thrown, if the current thread has been interrupted
+     */
+    public final void testRecordValidatorDiscardsCollectedValidator()
+            throws InterruptedException {
+        Validator<CharSequence> validator = new NotEmptyValidator("bar");
+        ValidationMetrics metrics = new ValidationMetrics();
+        metrics.recordValidator(validator, 20, true);
+        recordUnreferencedValidator(metrics);
+        assertEquals(2, metrics.snapshot().getValidatorStatistics().size());
+
+        for (int i = 0; i < 50 && metrics.snapshot().getValidatorStatistics().size() > 1; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        List<ValidationMetrics.ValidatorStatistics> statistics =
+                metrics.snapshot().getValidatorStatistics();
+        assertEquals(1, statistics.size());
+        assertEquals("NotEmptyValidator: bar", statistics.get(0).getName());
+        metrics.recordValidator(validator, 20, true);
+        assertEquals(2, metrics.snapshot().getValidatorStatistics().get(0).getInvocationCount());
+    }
+
+    /**
+     * Tests the functionality of the methods, which allow to set the global metrics.
+     */
+    public final void testGlobal() {
+        ValidationMetrics metrics = new ValidationMetrics();
+        ValidationMetrics.setGlobal(metrics);
+
+        try {
+            assertEquals(metrics, ValidationMetrics.getGlobal());
+        } finally {
+            ValidationMetrics.setGlobal(null);
+        }
+
+        assertNull(ValidationMetrics.getGlobal());
+    }
+
+}
\ No newline at end of file
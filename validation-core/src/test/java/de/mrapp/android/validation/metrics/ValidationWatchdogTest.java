@@ -0,0 +1,154 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.metrics;
+
+import android.support.annotation.NonNull;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.util.concurrent.TimeUnit;
+
+import de.mrapp.android.validation.Validator;
+import de.mrapp.android.validation.validators.text.NotEmptyValidator;
+
+/**
+ * Tests the functionality of the class {@link ValidationWatchdog}.
+ *
+ * @author Michael Rapp
+ */
+public class ValidationWatchdogTest extends TestCase {
+
+    /**
+     * A sink, which remembers the last validator, which has been reported.
+     */
+    private static class SinkImplementation implements ValidationWatchdog.Sink {
+
+        /**
+         * The last validator, which has been reported.
+         */
+        private Validator<?> validator;
+
+        /**
+         * The input length of the last report.
+         */
+        private int inputLength;
+
+        /**
+         * The duration of the last report.
+         */
+        private long duration;
+
+        @Override
+        public void onSlowValidation(@NonNull final Validator<?> validator,
+                                     final int inputLength, final long duration,
+                                     final long budget) {
+            this.validator = validator;
+            this.inputLength = inputLength;
+            this.duration = duration;
+        }
+
+    }
+
+    /**
+     * Tests, if all properties are correctly initialized by the constructor.
+     */
+    public final void testConstructor() {
+        SinkImplementation sink = new SinkImplementation();
+        ValidationWatchdog watchdog = new ValidationWatchdog(4, TimeUnit.MILLISECONDS, sink);
+        assertEquals(4000000, watchdog.getBudget());
+        assertEquals(sink, watchdog.getSink());
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the constructor, if the
+     * budget is negative.
+     */
+    public final void testConstructorThrowsExceptionWhenBudgetIsNegative() {
+        try {
+            new ValidationWatchdog(-1, TimeUnit.MILLISECONDS, ValidationWatchdog.THROWING_SINK);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+
+        }
+    }
+
+    /**
+     * Ensures, that a {@link NullPointerException} is thrown by the constructor, if the sink is
+     * null.
+     */
+    public final void testConstructorThrowsExceptionWhenSinkIsNull() {
+        try {
+            new ValidationWatchdog(1, TimeUnit.MILLISECONDS, null);
+            Assert.fail();
+        } catch (NullPointerException e) {
+
+        }
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to check an invocation of a validator.
+     */
+    public final void testCheck() {
+        Validator<CharSequence> validator = new NotEmptyValidator("foo");
+        SinkImplementation sink = new SinkImplementation();
+        ValidationWatchdog watchdog = new ValidationWatchdog(1000, TimeUnit.NANOSECONDS, sink);
+        assertFalse(watchdog.check(validator, "foo", 1000));
+        assertNull(sink.validator);
+        assertTrue(watchdog.check(validator, "foo", 1001));
+        assertEquals(validator, sink.validator);
+        assertEquals(3, sink.inputLength);
+        assertEquals(1001, sink.duration);
+        assertTrue(watchdog.check(validator, 1, 2000));
+        assertEquals(-1, sink.inputLength);
+    }
+
+    /**
+     * Tests, if the sink, which throws an exception, works correctly.
+     */
+    public final void testThrowingSink() {
+        ValidationWatchdog watchdog = new ValidationWatchdog(1, TimeUnit.MICROSECONDS,
+                ValidationWatchdog.THROWING_SINK);
+
+        try {
+            watchdog.check(new NotEmptyValidator("foo"), "text", 23000);
+            Assert.fail();
+        } catch (SlowValidationException e) {
+            assertEquals(NotEmptyValidator.class, e.getValidatorClass());
+            assertEquals(4, e.getInputLength());
+            assertEquals(23000, e.getDuration());
+            assertEquals(1000, e.getBudget());
+            assertEquals("Validator " + NotEmptyValidator.class.getName() + " took 23 us on " +
+                    "input of length 4, which exceeds the budget of 1 us", e.getMessage());
+        }
+    }
+
+    /**
+     * Tests the functionality of the methods, which allow to set the global watchdog.
+     */
+    public final void testGlobal() {
+        ValidationWatchdog watchdog =
+                new ValidationWatchdog(1, TimeUnit.MILLISECONDS, new SinkImplementation());
+        ValidationWatchdog.setGlobal(watchdog);
+
+        try {
+            assertEquals(watchdog, ValidationWatchdog.getGlobal());
+        } finally {
+            ValidationWatchdog.setGlobal(null);
+        }
+
+        assertNull(ValidationWatchdog.getGlobal());
+    }
+
+}
\ No newline at end of file
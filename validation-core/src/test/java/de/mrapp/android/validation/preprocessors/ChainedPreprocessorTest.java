@@ -0,0 +1,81 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.preprocessors;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.util.Locale;
+
+import de.mrapp.android.validation.Preprocessor;
+import de.mrapp.android.validation.preprocessors.text.LowerCasePreprocessor;
+import de.mrapp.android.validation.preprocessors.text.TrimPreprocessor;
+
+/**
+ * Tests the functionality of the class {@link ChainedPreprocessor}.
+ *
+ * @author Michael Rapp
+ */
+public class ChainedPreprocessorTest extends TestCase {
+
+    /**
+     * Tests, if all properties are correctly initialized by the constructor.
+     */
+    @SuppressWarnings("unchecked")
+    public final void testConstructor() {
+        Preprocessor<CharSequence>[] preprocessors =
+                new Preprocessor[]{new TrimPreprocessor(), new LowerCasePreprocessor(Locale.ROOT)};
+        ChainedPreprocessor<CharSequence> chainedPreprocessor =
+                new ChainedPreprocessor<>(preprocessors);
+        assertEquals(preprocessors, chainedPreprocessor.getPreprocessors());
+    }
+
+    /**
+     * Ensures, that a {@link NullPointerException} is thrown by the constructor, if the
+     * preprocessors are null.
+     */
+    public final void testConstructorThrowsExceptionWhenPreprocessorsAreNull() {
+        try {
+            new ChainedPreprocessor<CharSequence>(null);
+            Assert.fail();
+        } catch (NullPointerException e) {
+
+        }
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the constructor, if the
+     * preprocessors are empty.
+     */
+    @SuppressWarnings("unchecked")
+    public final void testConstructorThrowsExceptionWhenPreprocessorsAreEmpty() {
+        try {
+            new ChainedPreprocessor<CharSequence>(new Preprocessor[0]);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+
+        }
+    }
+
+    /**
+     * Tests the functionality of the process-method.
+     */
+    @SuppressWarnings("unchecked")
+    public final void testProcess() {
+        ChainedPreprocessor<CharSequence> chainedPreprocessor = ChainedPreprocessor.create(
+                new Preprocessor[]{new TrimPreprocessor(), new LowerCasePreprocessor(Locale.ROOT)});
+        assertEquals("foo bar", chainedPreprocessor.process(" Foo BAR ").toString());
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.preprocessors.text;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.text.Normalizer;
+
+/**
+ * Tests the functionality of the class {@link NormalizePreprocessor}.
+ *
+ * @author Michael Rapp
+ */
+public class NormalizePreprocessorTest extends TestCase {
+
+    /**
+     * Tests, if all properties are correctly initialized by the constructor.
+     */
+    public final void testConstructor() {
+        NormalizePreprocessor normalizePreprocessor =
+                new NormalizePreprocessor(Normalizer.Form.NFC);
+        assertEquals(Normalizer.Form.NFC, normalizePreprocessor.getForm());
+    }
+
+    /**
+     * Ensures, that a {@link NullPointerException} is thrown by the constructor, if the
+     * normalization form is null.
+     */
+    public final void testConstructorThrowsException() {
+        try {
+            new NormalizePreprocessor(null);
+            Assert.fail();
+        } catch (NullPointerException e) {
+
+        }
+    }
+
+    /**
+     * Tests the functionality of the process-method.
+     */
+    public final void testProcess() {
+        NormalizePreprocessor normalizePreprocessor =
+                new NormalizePreprocessor(Normalizer.Form.NFC);
+        String normalizedText = "\u00FC";
+        assertSame(normalizedText, normalizePreprocessor.process(normalizedText));
+        assertEquals(normalizedText, normalizePreprocessor.process("u\u0308").toString());
+        assertNull(normalizePreprocessor.process(null));
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.preprocessors.text;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests the functionality of the class {@link TrimPreprocessor}.
+ *
+ * @author Michael Rapp
+ */
+public class TrimPreprocessorTest extends TestCase {
+
+    /**
+     * Tests the functionality of the process-method.
+     */
+    public final void testProcess() {
+        TrimPreprocessor trimPreprocessor = new TrimPreprocessor();
+        String text = "foo bar";
+        assertSame(text, trimPreprocessor.process(text));
+        assertEquals(text, trimPreprocessor.process(" \tfoo bar\n ").toString());
+        assertEquals("", trimPreprocessor.process("   ").toString());
+        assertNull(trimPreprocessor.process(null));
+    }
+
+}
\ No newline at end of file
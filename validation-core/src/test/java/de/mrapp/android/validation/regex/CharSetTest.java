@@ -0,0 +1,82 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.regex;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests the functionality of the class {@link CharSet}.
+ *
+ * @author Michael Rapp
+ */
+public class CharSetTest extends TestCase {
+
+    /**
+     * Tests the functionality of the contains-method.
+     */
+    public final void testContains() {
+        CharSet charSet = CharSet.range('a', 'c').union(CharSet.single('x'));
+        assertTrue(charSet.contains('a'));
+        assertTrue(charSet.contains('c'));
+        assertTrue(charSet.contains('x'));
+        assertFalse(charSet.contains('d'));
+        assertFalse(charSet.contains('`'));
+        assertFalse(CharSet.EMPTY.contains('a'));
+        assertTrue(CharSet.ALL.contains(CharSet.MAX_CODE_POINT));
+    }
+
+    /**
+     * Tests the functionality of the union-method.
+     */
+    public final void testUnion() {
+        CharSet charSet = CharSet.range('a', 'c').union(CharSet.range('d', 'f'))
+                .union(CharSet.range('b', 'e'));
+        assertEquals(CharSet.range('a', 'f'), charSet);
+        assertEquals(1, charSet.getRangeCount());
+        assertEquals('a', charSet.getRangeStart(0));
+        assertEquals('f', charSet.getRangeEnd(0));
+    }
+
+    /**
+     * Tests the functionality of the complement-method.
+     */
+    public final void testComplement() {
+        CharSet charSet = CharSet.range('a', 'c').complement();
+        assertFalse(charSet.contains('b'));
+        assertTrue(charSet.contains('d'));
+        assertTrue(charSet.contains(0));
+        assertEquals(CharSet.range('a', 'c'), charSet.complement());
+        assertEquals(CharSet.ALL, CharSet.EMPTY.complement());
+    }
+
+    /**
+     * Tests the functionality of the intersect-method.
+     */
+    public final void testIntersect() {
+        CharSet charSet = CharSet.range('a', 'm').intersect(CharSet.range('k', 'z'));
+        assertEquals(CharSet.range('k', 'm'), charSet);
+        assertTrue(CharSet.DIGITS.intersect(CharSet.WHITESPACE).isEmpty());
+    }
+
+    /**
+     * Tests the functionality of the caseInsensitive-method.
+     */
+    public final void testCaseInsensitive() {
+        CharSet charSet = CharSet.range('a', 'c').caseInsensitive();
+        assertTrue(charSet.contains('B'));
+        assertTrue(charSet.contains('b'));
+        assertFalse(charSet.contains('D'));
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.regex;
+
+import junit.framework.TestCase;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.regex.Pattern;
+
+/**
+ * Tests the functionality of the class {@link Dfa}.
+ *
+ * @author Michael Rapp
+ */
+public class DfaTest extends TestCase {
+
+    /**
+     * Creates and returns an automaton, which corresponds to a specific regular expression.
+     *
+     * @param regex
+     *         The regular expression as a {@link String}. The regular expression may not be null
+     * @param alphabet
+     *         The alphabet, which should be used, as an instance of the class {@link Alphabet}.
+     *         The alphabet may not be null
+     * @return The automaton, which has been created, as an instance of the class {@link Dfa}
+     * @throws UnsupportedRegexException
+     *         The exception, which is thrown, if the regular expression is not supported
+     */
+    private static Dfa createDfa(final String regex, final Alphabet alphabet)
+            throws UnsupportedRegexException {
+        return Dfa.fromNfa(Nfa.compile(RegexParser.parse(Pattern.compile(regex))), alphabet);
+    }
+
+    /**
+     * Tests the functionality of the fromNfa-method.
+     *
+     * @throws UnsupportedRegexException
+     *         The exception, which is thrown, if the regular expression is not supported
+     */
+    public final void testFromNfa() throws UnsupportedRegexException {
+        Alphabet alphabet = Alphabet.create(Arrays.asList(CharSet.single('a'),
+                CharSet.single('b')));
+        Dfa dfa = createDfa("(a|ab)(b*)", alphabet);
+        assertTrue(dfa.matches("a"));
+        assertTrue(dfa.matches("abbb"));
+        assertFalse(dfa.matches("ba"));
+        assertFalse(dfa.matches(""));
+        assertEquals(3, dfa.size());
+    }
+
+    /**
+     * Ensures, that the fromNfa-method throws an exception, if the regular expression contains
+     * word boundaries.
+     */
+    public final void testFromNfaThrowsException() {
+        try {
+            Alphabet alphabet = Alphabet.create(Collections.singletonList(CharSet.single('a')));
+            createDfa("\\ba", alphabet);
+            fail();
+        } catch (UnsupportedRegexException e) {
+
+        }
+    }
+
+    /**
+     * Tests the functionality of the fromLength-method.
+     *
+     * @throws UnsupportedRegexException
+     *         The exception, which is thrown, if the automaton contains too many states
+     */
+    public final void testFromLength() throws UnsupportedRegexException {
+        Alphabet alphabet = Alphabet.create(Collections.<CharSet>emptyList());
+        Dfa dfa = Dfa.fromLength(2, 3, alphabet);
+        assertFalse(dfa.matches("a"));
+        assertTrue(dfa.matches("ab"));
+        assertTrue(dfa.matches("a😀"));
+        assertFalse(dfa.matches("abcd"));
+        assertTrue(Dfa.fromLength(2, RegexNode.UNBOUNDED, alphabet).matches("abcd"));
+    }
+
+    /**
+     * Tests the functionality of the product- and complement-method.
+     *
+     * @throws UnsupportedRegexException
+     *         The exception, which is thrown, if a regular expression is not supported
+     */
+    public final void testProductAndComplement() throws UnsupportedRegexException {
+        Alphabet alphabet = Alphabet.create(Arrays.asList(CharSet.single('a'),
+                CharSet.single('b')));
+        Dfa startsWithA = createDfa("a.*", alphabet);
+        Dfa endsWithB = createDfa(".*b", alphabet);
+        Dfa conjunction = startsWithA.product(endsWithB, true);
+        Dfa disjunction = startsWithA.product(endsWithB, false);
+        Dfa complement = conjunction.complement();
+        assertTrue(conjunction.matches("ab"));
+        assertFalse(conjunction.matches("a"));
+        assertTrue(disjunction.matches("a"));
+        assertTrue(disjunction.matches("b"));
+        assertFalse(disjunction.matches("ba"));
+        assertFalse(complement.matches("ab"));
+        assertTrue(complement.matches("ba"));
+    }
+
+}
\ No newline at end of file
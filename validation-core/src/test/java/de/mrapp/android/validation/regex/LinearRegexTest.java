@@ -0,0 +1,129 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.regex;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.util.regex.Pattern;
+
+import de.mrapp.android.validation.ValidationOutcome;
+
+/**
+ * Tests the functionality of the class {@link LinearRegex}.
+ *
+ * @author Michael Rapp
+ */
+public class LinearRegexTest extends TestCase {
+
+    /**
+     * The regular expressions, which are used for test purposes.
+     */
+    private static final String[] REGEXES =
+            {"abc", "a|b|", "[a-z&&[^aeiou]]+", "[^\\d\\s]*", "(?i)[a-c]x", "a(?i:b)c",
+                    "x{2,3}?y*", "(ab|a)(bc|c)", "\\bfoo\\b.*", "^a$", "a.b", "(?s)a.b",
+                    "\\Aa\\z", "a\\Z", "\\x41\\u00e4\\t", "[\\w.]+@[\\w.]+", "(a+)+b",
+                    "\\p{Alpha}+", "\\ud83d\\ude00+"};
+
+    /**
+     * The texts, which are used for test purposes.
+     */
+    private static final String[] TEXTS =
+            {"", "a", "b", "abc", "ABX", "aBc", "xx", "xxxyy", "xxxx", "abc", "foo bar", "foo",
+                    "foobar", "a\nb", "a\n", "Aä\t", "john.doe@example.com", "aaaab",
+                    "aaaaac", "😀😀", "bdf", "b1 ", "axb"};
+
+    /**
+     * Ensures, that texts are matched in the same way as by the class {@link Pattern}.
+     */
+    public final void testMatches() {
+        for (String regex : REGEXES) {
+            Pattern pattern = Pattern.compile(regex);
+            LinearRegex linearRegex = LinearRegex.compile(pattern);
+
+            if (linearRegex != null) {
+                for (String text : TEXTS) {
+                    assertEquals(regex + " / " + text, pattern.matcher(text).matches(),
+                            linearRegex.matches(text));
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests the functionality of the compile-method.
+     */
+    public final void testCompile() {
+        Pattern pattern = Pattern.compile("[0-9]+");
+        LinearRegex linearRegex = LinearRegex.compile(pattern);
+        assertNotNull(linearRegex);
+        assertEquals(pattern, linearRegex.getPattern());
+    }
+
+    /**
+     * Ensures, that a {@link NullPointerException} is thrown by the compile-method, if the
+     * regular expression is null.
+     */
+    public final void testCompileThrowsException() {
+        try {
+            LinearRegex.compile(null);
+            Assert.fail();
+        } catch (NullPointerException e) {
+
+        }
+    }
+
+    /**
+     * Tests the functionality of the isSupported-method.
+     */
+    public final void testIsSupported() {
+        assertTrue(LinearRegex.isSupported(Pattern.compile("(a|b)*c{1,3}?")));
+        assertTrue(LinearRegex.isSupported(Pattern.compile("[a-z]+", Pattern.CASE_INSENSITIVE)));
+        assertFalse(LinearRegex.isSupported(Pattern.compile("(a)\\1")));
+        assertFalse(LinearRegex.isSupported(Pattern.compile("a(?=b)")));
+        assertFalse(LinearRegex.isSupported(Pattern.compile("a++")));
+        assertFalse(LinearRegex.isSupported(Pattern.compile("a", Pattern.MULTILINE)));
+    }
+
+    /**
+     * Tests the functionality of the matches-method, which allows to specify a budget.
+     */
+    public final void testMatchesWithBudget() {
+        LinearRegex linearRegex = LinearRegex.compile(Pattern.compile("(a+)+b"));
+        StringBuilder text = new StringBuilder();
+
+        for (int i = 0; i < 10000; i++) {
+            text.append('a');
+        }
+
+        assertEquals(ValidationOutcome.INVALID, linearRegex.matches(text, LinearRegex.NO_BUDGET));
+        assertEquals(ValidationOutcome.BUDGET_EXCEEDED, linearRegex.matches(text, 1000));
+        text.append('b');
+        assertEquals(ValidationOutcome.VALID, linearRegex.matches(text, 1000000));
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the matches-method, if the
+     * budget is less than 0.
+     */
+    public final void testMatchesWithBudgetThrowsException() {
+        try {
+            LinearRegex.compile(Pattern.compile("a")).matches("a", -1);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+
+        }
+    }
+
+}
\ No newline at end of file
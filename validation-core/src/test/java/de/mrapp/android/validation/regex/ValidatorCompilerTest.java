@@ -0,0 +1,194 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.regex;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.util.regex.Pattern;
+
+import de.mrapp.android.validation.Validator;
+import de.mrapp.android.validation.validators.AbstractValidator;
+import de.mrapp.android.validation.validators.ConjunctiveValidator;
+import de.mrapp.android.validation.validators.DisjunctiveValidator;
+import de.mrapp.android.validation.validators.NegateValidator;
+import de.mrapp.android.validation.validators.text.Case;
+import de.mrapp.android.validation.validators.text.LetterValidator;
+import de.mrapp.android.validation.validators.text.MaxLengthValidator;
+import de.mrapp.android.validation.validators.text.MinLengthValidator;
+import de.mrapp.android.validation.validators.text.NoWhitespaceValidator;
+import de.mrapp.android.validation.validators.text.NotEmptyValidator;
+import de.mrapp.android.validation.validators.text.NumberValidator;
+import de.mrapp.android.validation.validators.text.RegexValidator;
+
+/**
+ * Tests the functionality of the class {@link ValidatorCompiler}.
+ *
+ * @author Michael Rapp
+ */
+public class ValidatorCompilerTest extends TestCase {
+
+    /**
+     * The texts, which are used for test purposes.
+     */
+    private static final String[] TEXTS =
+            {"", "a", "ab", "abc", "a c", "123", "1a", "ABC", "abcdef", "😀", "a\uD83D",
+                    "ab\n", "é"};
+
+    /**
+     * Creates and returns a validator, which accepts texts of an even length. It cannot be
+     * compiled.
+     *
+     * @return The validator, which has been created, as an instance of the type {@link
+     * Validator}
+     */
+    private static Validator<CharSequence> createEvenLengthValidator() {
+        return new AbstractValidator<CharSequence>("even") {
+
+            @Override
+            public boolean validate(final CharSequence value) {
+                return value.length() % 2 == 0;
+            }
+
+        };
+    }
+
+    /**
+     * Ensures, that a compiled validator validates texts in the same way as the validator, it
+     * has been compiled from.
+     *
+     * @param validator
+     *         The validator, which has been compiled, as an instance of the type {@link
+     *         Validator}. The validator may not be null
+     * @param compiledValidator
+     *         The compiled validator as an instance of the type {@link Validator}. The validator
+     *         may not be null
+     */
+    private static void assertEquivalent(final Validator<CharSequence> validator,
+                                         final Validator<CharSequence> compiledValidator) {
+        for (String text : TEXTS) {
+            assertEquals(text, validator.validate(text), compiledValidator.validate(text));
+        }
+    }
+
+    /**
+     * Tests the functionality of the compile-method, if all validators can be compiled.
+     */
+    @SuppressWarnings("unchecked")
+    public final void testCompileEntirely() {
+        Validator<CharSequence> validator = ConjunctiveValidator.create("foo",
+                new LetterValidator("bar", Case.LOWERCASE, true),
+                new MinLengthValidator("bar", 2),
+                DisjunctiveValidator.create("bar", new RegexValidator("bar", "a.*"),
+                        NegateValidator.create("bar", new NoWhitespaceValidator("bar"))),
+                new MaxLengthValidator("bar", 5));
+        Validator<CharSequence> compiledValidator = ValidatorCompiler.compile(validator);
+        assertTrue(compiledValidator instanceof AutomatonValidator);
+        assertEquals("foo", compiledValidator.getErrorMessage());
+        assertSame(validator, ((AutomatonValidator) compiledValidator).getValidator());
+        assertEquivalent(validator, compiledValidator);
+    }
+
+    /**
+     * Tests the functionality of the compile-method, if some validators cannot be compiled.
+     */
+    @SuppressWarnings("unchecked")
+    public final void testCompilePartially() {
+        Validator<CharSequence> evenLengthValidator = createEvenLengthValidator();
+        Validator<CharSequence> validator = ConjunctiveValidator.create("foo",
+                new NotEmptyValidator("bar"), evenLengthValidator,
+                new NumberValidator("bar"));
+        Validator<CharSequence> compiledValidator = ValidatorCompiler.compile(validator);
+        assertTrue(compiledValidator instanceof ConjunctiveValidator);
+        Validator<CharSequence>[] validators =
+                ((ConjunctiveValidator<CharSequence>) compiledValidator).getValidators();
+        assertEquals(2, validators.length);
+        assertTrue(validators[0] instanceof AutomatonValidator);
+        assertSame(evenLengthValidator, validators[1]);
+        assertEquivalent(validator, compiledValidator);
+    }
+
+    /**
+     * Tests the functionality of the compile-method, if a negated validator cannot be compiled.
+     */
+    @SuppressWarnings("unchecked")
+    public final void testCompileNegatedPartially() {
+        Validator<CharSequence> validator = NegateValidator.create("foo",
+                DisjunctiveValidator.create("bar", createEvenLengthValidator(),
+                        new RegexValidator("bar", "[a-c]+"), new MinLengthValidator("bar", 3)));
+        Validator<CharSequence> compiledValidator = ValidatorCompiler.compile(validator);
+        assertTrue(compiledValidator instanceof NegateValidator);
+        assertEquivalent(validator, compiledValidator);
+    }
+
+    /**
+     * Tests the functionality of the compile-method, if no validator can be compiled.
+     */
+    @SuppressWarnings("unchecked")
+    public final void testCompileNothing() {
+        Validator<CharSequence> validator = ConjunctiveValidator.create("foo",
+                createEvenLengthValidator(), new RegexValidator("bar", "(a)\\1"),
+                new RegexValidator("bar", "\\bfoo"));
+        assertSame(validator, ValidatorCompiler.compile(validator));
+    }
+
+    /**
+     * Ensures, that the length of texts, which contain supplementary code points, is measured in
+     * chars.
+     */
+    public final void testCompileLengthWithSupplementaryCodePoints() {
+        Validator<CharSequence> validator = ValidatorCompiler.compile(
+                new MaxLengthValidator("foo", 2));
+        assertTrue(validator.validate("😀"));
+        assertFalse(validator.validate("a😀"));
+        assertTrue(validator.validate("\uD83D"));
+    }
+
+    /**
+     * Ensures, that values, which are null, are validated by the validator, the automaton has
+     * been compiled from.
+     */
+    public final void testCompileWithNullValue() {
+        Validator<CharSequence> validator = ValidatorCompiler.compile(
+                new NotEmptyValidator("foo"));
+        assertTrue(validator instanceof AutomatonValidator);
+        assertFalse(validator.validate(null));
+    }
+
+    /**
+     * Ensures, that regular expressions, which test for the end of the input, are compiled
+     * correctly.
+     */
+    public final void testCompileWithBoundaryMatchers() {
+        Validator<CharSequence> validator =
+                new RegexValidator("foo", Pattern.compile("^a(b|$)$"));
+        Validator<CharSequence> compiledValidator = ValidatorCompiler.compile(validator);
+        assertTrue(compiledValidator instanceof AutomatonValidator);
+        assertEquivalent(validator, compiledValidator);
+    }
+
+    /**
+     * Ensures, that a {@link NullPointerException} is thrown by the compile-method, if the
+     * validator is null.
+     */
+    public final void testCompileThrowsException() {
+        try {
+            ValidatorCompiler.compile(null);
+            Assert.fail();
+        } catch (NullPointerException e) {
+
+        }
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.strength;
+
+import junit.framework.TestCase;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Tests the functionality of the class {@link EntropyEstimator}.
+ *
+ * @author Michael Rapp
+ */
+public class EntropyEstimatorTest extends TestCase {
+
+    /**
+     * Creates and returns an estimator, which uses a small dictionary.
+     *
+     * @return The estimator, which has been created, as an instance of the class {@link
+     * EntropyEstimator}
+     */
+    private EntropyEstimator createEstimator() {
+        EntropyEstimator estimator = new EntropyEstimator();
+        estimator.setReferenceYear(2017);
+        estimator.addDictionary(RankedDictionary
+                .create(Arrays.asList("123456", "password", "qwerty", "dragon", "monkey")));
+        return estimator;
+    }
+
+    /**
+     * Tests, if the strength of an empty password is estimated correctly.
+     */
+    public final void testEmptyPassword() {
+        EntropyEstimator estimator = createEstimator();
+        assertEquals(0d, estimator.getGuesses(""));
+        assertEquals(0f, estimator.estimate(""));
+    }
+
+    /**
+     * Tests, if words, which are contained by a dictionary, are considered to be weak, even if
+     * they contain upper case letters or l33t substitutions.
+     */
+    public final void testDictionaryWords() {
+        EntropyEstimator estimator = createEstimator();
+        double guesses = estimator.getGuesses("password");
+        assertTrue(guesses < 2);
+        assertTrue(estimator.getGuesses("Password") < 2);
+        assertTrue(estimator.getGuesses("P@ssw0rd") < 3);
+        assertTrue(estimator.getGuesses("dragonmonkey") < 5);
+        assertTrue(estimator.getGuesses("wordpass") > guesses);
+    }
+
+    /**
+     * Tests, if keyboard walks, sequences, repetitions, years and dates are considered to be weak.
+     */
+    public final void testPatterns() {
+        EntropyEstimator estimator = createEstimator();
+        assertTrue(estimator.getGuesses("zxcvbnm") < 4);
+        assertTrue(estimator.getGuesses("asdfghjkl") < 4);
+        assertTrue(estimator.getGuesses("abcdefgh") < 3);
+        assertTrue(estimator.getGuesses("97531") < 3);
+        assertTrue(estimator.getGuesses("aaaaaaaa") < 3);
+        assertTrue(estimator.getGuesses("xyzxyzxyz") < 4);
+        assertTrue(estimator.getGuesses("1987") < 2);
+        assertTrue(estimator.getGuesses("13051987") < 5);
+        assertTrue(estimator.getGuesses("13.05.1987") < 5);
+    }
+
+    /**
+     * Tests, if random passwords are considered to be strong.
+     */
+    public final void testRandomPassword() {
+        EntropyEstimator estimator = createEstimator();
+        assertTrue(estimator.getGuesses("xK9#mQ2$vL7!") >= 10);
+        assertEquals(1f, estimator.estimate("xK9#mQ2$vL7!"));
+    }
+
+    /**
+     * Tests, if the characters, which exceed the maximum length, are considered to be guessed by
+     * brute force.
+     */
+    public final void testPasswordExceedsMaxLength() {
+        EntropyEstimator estimator = createEstimator();
+        StringBuilder password = new StringBuilder();
+
+        for (int i = 0; i < EntropyEstimator.MAX_ANALYZED_LENGTH; i++) {
+            password.append('a');
+        }
+
+        double guesses = estimator.getGuesses(password);
+        password.append("bc");
+        assertEquals(guesses + 2, estimator.getGuesses(password), 1e-9);
+    }
+
+    /**
+     * Tests, if the estimation of a password, which is changed incrementally, is equal to the
+     * estimation of the same password from scratch.
+     */
+    public final void testIncrementalEstimation() {
+        EntropyEstimator estimator = createEstimator();
+        String alphabet = "adgmnoprswqy1237890@$!. ";
+        Random random = new Random(0);
+        StringBuilder password = new StringBuilder();
+
+        for (int i = 0; i < 1000; i++) {
+            int start = random.nextInt(password.length() + 1);
+
+            if (random.nextInt(4) == 0) {
+                password.delete(start, Math.min(password.length(), start + random.nextInt(3)));
+            } else {
+                password.insert(start, alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+
+            if (password.length() > 20) {
+                password.setLength(10);
+            }
+
+            assertEquals(createEstimator().getGuesses(password), estimator.getGuesses(password),
+                    1e-9);
+        }
+    }
+
+    /**
+     * Tests, if the estimation is updated, when a dictionary is added or removed.
+     */
+    public final void testAddAndRemoveDictionary() {
+        EntropyEstimator estimator = new EntropyEstimator();
+        RankedDictionary dictionary = RankedDictionary.create(Arrays.asList("sunflower"));
+        double guesses = estimator.getGuesses("sunflower");
+        estimator.addDictionary(dictionary);
+        assertEquals(1, estimator.getDictionaries().size());
+        assertTrue(estimator.getGuesses("sunflower") < guesses);
+        estimator.removeDictionary(dictionary);
+        assertTrue(estimator.getDictionaries().isEmpty());
+        assertEquals(guesses, estimator.getGuesses("sunflower"), 1e-9);
+    }
+
+    /**
+     * Tests, if dates, which are close to the reference year, are considered to be weaker.
+     */
+    public final void testReferenceYear() {
+        EntropyEstimator estimator = createEstimator();
+        estimator.setReferenceYear(1900);
+        assertEquals(1900, estimator.getReferenceYear());
+        double guesses = estimator.getGuesses("1.2.1990");
+        estimator.setReferenceYear(1990);
+        assertTrue(estimator.getGuesses("1.2.1990") < guesses);
+    }
+
+    /**
+     * Ensures, that a {@link NullPointerException} is thrown, if the password, which is passed to
+     * the method, which allows to estimate the number of guesses, is null.
+     */
+    public final void testGetGuessesThrowsExceptionWhenPasswordIsNull() {
+        try {
+            new EntropyEstimator().getGuesses(null);
+            fail();
+        } catch (NullPointerException e) {
+
+        }
+    }
+
+}
\ No newline at end of file
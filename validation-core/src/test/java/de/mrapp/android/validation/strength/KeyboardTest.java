@@ -0,0 +1,66 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.strength;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests the functionality of the class {@link Keyboard}.
+ *
+ * @author Michael Rapp
+ */
+public class KeyboardTest extends TestCase {
+
+    /**
+     * Tests the functionality of the method, which allows to retrieve the direction between two
+     * keys.
+     */
+    public final void testGetDirection() {
+        Keyboard keyboard = Keyboard.QWERTY;
+        assertEquals(keyboard.getDirection('q', 'w'), keyboard.getDirection('w', 'e'));
+        assertTrue(keyboard.getDirection('q', 'w') != -1);
+        assertTrue(keyboard.getDirection('w', 'q') != keyboard.getDirection('q', 'w'));
+        assertTrue(keyboard.getDirection('1', 'q') != -1);
+        assertTrue(keyboard.getDirection('q', 'a') != -1);
+        assertTrue(keyboard.getDirection('a', 'z') != -1);
+        assertEquals(keyboard.getDirection('q', 'W'), keyboard.getDirection('q', 'w'));
+        assertEquals(-1, keyboard.getDirection('q', 'q'));
+        assertEquals(-1, keyboard.getDirection('q', 'p'));
+        assertEquals(-1, keyboard.getDirection('q', 'z'));
+        assertEquals(-1, keyboard.getDirection('q', 'ä'));
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to check, whether a character requires
+     * the shift key to be pressed.
+     */
+    public final void testIsShifted() {
+        Keyboard keyboard = Keyboard.QWERTY;
+        assertTrue(keyboard.isShifted('Q'));
+        assertTrue(keyboard.isShifted('!'));
+        assertFalse(keyboard.isShifted('q'));
+        assertFalse(keyboard.isShifted('1'));
+        assertFalse(keyboard.isShifted('Ä'));
+    }
+
+    /**
+     * Tests the number of keys and the average number of neighbors of the QWERTY keyboard.
+     */
+    public final void testStatistics() {
+        assertEquals(47, Keyboard.QWERTY.getKeyCount());
+        assertTrue(Keyboard.QWERTY.getAverageDegree() > 4);
+        assertTrue(Keyboard.QWERTY.getAverageDegree() < 5);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.strength;
+
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests the functionality of the class {@link RankedDictionary}.
+ *
+ * @author Michael Rapp
+ */
+public class RankedDictionaryTest extends TestCase {
+
+    /**
+     * Tests the functionality of the method, which allows to retrieve the rank of a word.
+     */
+    public final void testGetRank() {
+        RankedDictionary dictionary =
+                RankedDictionary.create(Arrays.asList("password", "pass", "qwerty", "Pass", "p"));
+        assertEquals(1, dictionary.getRank("password"));
+        assertEquals(2, dictionary.getRank("pass"));
+        assertEquals(2, dictionary.getRank("PASS"));
+        assertEquals(3, dictionary.getRank("qwerty"));
+        assertEquals(5, dictionary.getRank("p"));
+        assertEquals(0, dictionary.getRank("passw"));
+        assertEquals(0, dictionary.getRank("passwords"));
+        assertEquals(0, dictionary.getRank(""));
+        assertEquals(0, dictionary.getRank("x"));
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to retrieve the rank of a word, if the
+     * dictionary is empty.
+     */
+    public final void testGetRankWhenDictionaryIsEmpty() {
+        RankedDictionary dictionary = RankedDictionary.create(Arrays.<String>asList());
+        assertEquals(0, dictionary.getRank("password"));
+    }
+
+    /**
+     * Tests, if the data of a dictionary is loaded lazily and only once.
+     */
+    public final void testLoadsDataLazily() {
+        final int[] loadCount = new int[1];
+        RankedDictionary dictionary = new RankedDictionary(new RankedDictionary.Source() {
+
+            @Override
+            public ByteBuffer load() {
+                loadCount[0]++;
+                return RankedDictionary.compile(Arrays.asList("dragon"));
+            }
+
+        });
+
+        assertEquals(0, loadCount[0]);
+        assertEquals(1, dictionary.getRank("dragon"));
+        assertEquals(0, dictionary.getRank("monkey"));
+        assertEquals(1, loadCount[0]);
+    }
+
+    /**
+     * Tests, if the data of a dictionary, which has been written to a stream, can be used to
+     * create a dictionary.
+     *
+     * @throws IOException
+     *         The exception, which is thrown, if an error occurs
+     */
+    public final void testWriteAndRead() throws IOException {
+        byte[] input = "monkey\n\n letmein \nshadow".getBytes("UTF-8");
+        List<String> words = RankedDictionary.readWords(new ByteArrayInputStream(input));
+        assertEquals(Arrays.asList("monkey", "letmein", "shadow"), words);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        RankedDictionary.write(RankedDictionary.compile(words), outputStream);
+        final byte[] bytes = outputStream.toByteArray();
+        RankedDictionary dictionary = new RankedDictionary(new RankedDictionary.Source() {
+
+            @Override
+            public ByteBuffer load() {
+                return ByteBuffer.wrap(bytes);
+            }
+
+        });
+
+        assertEquals(1, dictionary.getRank("monkey"));
+        assertEquals(2, dictionary.getRank("letmein"));
+        assertEquals(3, dictionary.getRank("shadow"));
+    }
+
+    /**
+     * Ensures, that an {@link IllegalStateException} is thrown, if the data of a dictionary is
+     * invalid.
+     */
+    public final void testThrowsExceptionWhenDataIsInvalid() {
+        RankedDictionary dictionary = new RankedDictionary(new RankedDictionary.Source() {
+
+            @Override
+            public ByteBuffer load() {
+                return ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+            }
+
+        });
+
+        try {
+            dictionary.getRank("password");
+            fail();
+        } catch (IllegalStateException e) {
+
+        }
+    }
+
+    /**
+     * Ensures, that a {@link NullPointerException} is thrown, if the source, which is passed to
+     * the constructor, is null.
+     */
+    public final void testConstructorThrowsExceptionWhenSourceIsNull() {
+        try {
+            new RankedDictionary(null);
+            fail();
+        } catch (NullPointerException e) {
+
+        }
+    }
+
+}
\ No newline at end of file
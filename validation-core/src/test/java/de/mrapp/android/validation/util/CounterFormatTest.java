@@ -0,0 +1,101 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.util;
+
+import junit.framework.TestCase;
+
+import java.util.Locale;
+
+/**
+ * Tests the functionality of the class {@link CounterFormat}.
+ *
+ * @author Michael Rapp
+ */
+public class CounterFormatTest extends TestCase {
+
+    /**
+     * Tests the functionality of the format-method.
+     */
+    public final void testFormat() {
+        CounterFormat counterFormat = new CounterFormat("%d / %d", '0');
+        assertEquals(6, counterFormat.format(0, 10));
+        assertEquals("0 / 10", counterFormat.toString());
+        char[] chars = counterFormat.getChars();
+        assertEquals(23, counterFormat.format(Integer.MAX_VALUE, Integer.MAX_VALUE));
+        assertEquals("2147483647 / 2147483647", counterFormat.toString());
+        assertSame(chars, counterFormat.getChars());
+        counterFormat.format(7, 5);
+        assertEquals("7 / 5", new String(chars, 0, counterFormat.length()));
+    }
+
+    /**
+     * Tests the functionality of the format-method, if the pattern contains positional
+     * placeholders and escape sequences.
+     */
+    public final void testFormatWithPositionalPlaceholders() {
+        CounterFormat counterFormat = new CounterFormat("%2$d%% (%1$d)", '0');
+        counterFormat.format(42, 100);
+        assertEquals("100% (42)", counterFormat.toString());
+    }
+
+    /**
+     * Tests, if the format-method produces the same result as the method
+     * String#format(String, Object...).
+     */
+    public final void testFormatMatchesStringFormat() {
+        CounterFormat counterFormat = new CounterFormat("%d / %d", '0');
+
+        for (int i = 0; i < 1000; i += 7) {
+            counterFormat.format(i, 999);
+            assertEquals(String.format(Locale.ROOT, "%d / %d", i, 999),
+                    counterFormat.toString());
+        }
+    }
+
+    /**
+     * Tests the functionality of the format-method, if a different zero digit is used.
+     */
+    public final void testFormatWithZeroDigit() {
+        CounterFormat counterFormat = new CounterFormat("%d/%d", '\u0660');
+        counterFormat.format(19, 20);
+        assertEquals("\u0661\u0669/\u0662\u0660", counterFormat.toString());
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the constructor, if the
+     * pattern contains an unsupported format specifier.
+     */
+    public final void testConstructorThrowsExceptionWhenPatternIsNotSupported() {
+        try {
+            new CounterFormat("%s / %d", '0');
+            fail();
+        } catch (IllegalArgumentException e) {
+
+        }
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the format-method, if a value
+     * is negative.
+     */
+    public final void testFormatThrowsExceptionWhenValueIsNegative() {
+        try {
+            new CounterFormat("%d / %d", '0').format(-1, 10);
+            fail();
+        } catch (IllegalArgumentException e) {
+
+        }
+    }
+
+}
\ No newline at end of file
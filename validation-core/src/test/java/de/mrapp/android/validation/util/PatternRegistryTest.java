@@ -0,0 +1,61 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.util;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.util.regex.Pattern;
+
+/**
+ * Tests the functionality of the class {@link PatternRegistry}.
+ *
+ * @author Michael Rapp
+ */
+public class PatternRegistryTest extends TestCase {
+
+    /**
+     * Ensures, that the same instance is returned for identical regular expressions.
+     */
+    public final void testCompileReturnsSameInstance() {
+        Pattern pattern = PatternRegistry.compile("[a-z]+");
+        assertEquals("[a-z]+", pattern.pattern());
+        assertSame(pattern, PatternRegistry.compile("[a-z]+"));
+    }
+
+    /**
+     * Ensures, that different instances are returned for identical regular expressions, if they
+     * are compiled with different flags.
+     */
+    public final void testCompileWithFlags() {
+        Pattern pattern = PatternRegistry.compile("[a-z]+", Pattern.CASE_INSENSITIVE);
+        assertEquals(Pattern.CASE_INSENSITIVE, pattern.flags());
+        assertNotSame(PatternRegistry.compile("[a-z]+"), pattern);
+        assertSame(pattern, PatternRegistry.compile("[a-z]+", Pattern.CASE_INSENSITIVE));
+    }
+
+    /**
+     * Ensures, that a {@link NullPointerException} is thrown by the compile-method, if the
+     * regular expression is null.
+     */
+    public final void testCompileThrowsException() {
+        try {
+            PatternRegistry.compile(null);
+            Assert.fail();
+        } catch (NullPointerException e) {
+
+        }
+    }
+
+}
\ No newline at end of file
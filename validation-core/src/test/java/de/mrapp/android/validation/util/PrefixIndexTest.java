@@ -0,0 +1,110 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.util;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Tests the functionality of the class {@link PrefixIndex}.
+ *
+ * @author Michael Rapp
+ */
+public class PrefixIndexTest extends TestCase {
+
+    /**
+     * Tests the functionality of the find-method.
+     */
+    public final void testFind() {
+        PrefixIndex index = new PrefixIndex(
+                Arrays.asList("Germany", "United States", "Korea, Republic of", "United Kingdom",
+                        "", "Georgia"));
+        assertEquals(6, index.size());
+        assertTrue(Arrays.equals(new int[]{0, 5}, index.find("ge")));
+        assertTrue(Arrays.equals(new int[]{0}, index.find("GERMANY")));
+        assertTrue(Arrays.equals(new int[]{1, 3}, index.find("united")));
+        assertTrue(Arrays.equals(new int[]{1}, index.find("sta")));
+        assertTrue(Arrays.equals(new int[]{2}, index.find("republic o")));
+        assertTrue(Arrays.equals(new int[]{2}, index.find("of")));
+        assertTrue(Arrays.equals(new int[]{}, index.find("nited")));
+        assertTrue(Arrays.equals(new int[]{}, index.find("germanyy")));
+        assertTrue(Arrays.equals(new int[]{0, 1, 2, 3, 4, 5}, index.find("")));
+    }
+
+    /**
+     * Tests the functionality of the find-method by comparing its results to a linear search.
+     */
+    public final void testFindMatchesLinearSearch() {
+        Random random = new Random(0);
+        List<String> labels = new ArrayList<>();
+
+        for (int i = 0; i < 500; i++) {
+            StringBuilder label = new StringBuilder();
+            int length = random.nextInt(8);
+
+            for (int j = 0; j < length; j++) {
+                label.append("abAB -".charAt(random.nextInt(6)));
+            }
+
+            labels.add(label.toString());
+        }
+
+        PrefixIndex index = new PrefixIndex(labels);
+
+        for (String prefix : new String[]{"a", "b", "ab", "ba", "aab", "b-a", "a b", "bbb"}) {
+            List<Integer> expected = new ArrayList<>();
+
+            for (int i = 0; i < labels.size(); i++) {
+                String label = labels.get(i).toLowerCase(Locale.ROOT);
+
+                for (int offset = 0; offset < label.length(); offset++) {
+                    boolean wordStart = offset == 0 ||
+                            (Character.isLetterOrDigit(label.charAt(offset)) &&
+                                    !Character.isLetterOrDigit(label.charAt(offset - 1)));
+
+                    if (wordStart && label.startsWith(prefix, offset)) {
+                        expected.add(i);
+                        break;
+                    }
+                }
+            }
+
+            int[] actual = index.find(prefix);
+            assertEquals(expected.size(), actual.length);
+
+            for (int i = 0; i < actual.length; i++) {
+                assertEquals((int) expected.get(i), actual[i]);
+            }
+        }
+    }
+
+    /**
+     * Ensures, that a {@link NullPointerException} is thrown, if the prefix, which is passed to
+     * the find-method, is null.
+     */
+    public final void testFindThrowsExceptionWhenPrefixIsNull() {
+        try {
+            new PrefixIndex(Arrays.asList("label")).find(null);
+            fail();
+        } catch (NullPointerException e) {
+
+        }
+    }
+
+}
\ No newline at end of file
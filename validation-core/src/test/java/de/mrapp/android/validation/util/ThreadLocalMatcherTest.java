@@ -0,0 +1,132 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.util;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.util.regex.Pattern;
+
+import de.mrapp.android.validation.ValidationOutcome;
+
+/**
+ * Tests the functionality of the class {@link ThreadLocalMatcher}.
+ *
+ * @author Michael Rapp
+ */
+public class ThreadLocalMatcherTest extends TestCase {
+
+    /**
+     * Tests, if all properties are set correctly by the constructor.
+     */
+    public final void testConstructor() {
+        Pattern pattern = Pattern.compile("[0-9]+");
+        ThreadLocalMatcher matcher = new ThreadLocalMatcher(pattern);
+        assertEquals(pattern, matcher.getPattern());
+    }
+
+    /**
+     * Ensures, that a {@link NullPointerException} is thrown by the constructor, if the pattern
+     * is null.
+     */
+    public final void testConstructorThrowsException() {
+        try {
+            new ThreadLocalMatcher(null);
+            Assert.fail();
+        } catch (NullPointerException e) {
+
+        }
+    }
+
+    /**
+     * Tests the functionality of the matches-method, when it is called multiple times.
+     */
+    public final void testMatches() {
+        ThreadLocalMatcher matcher = new ThreadLocalMatcher(Pattern.compile("[0-9]+"));
+        assertTrue(matcher.matches("0123"));
+        assertFalse(matcher.matches("01a3"));
+        assertFalse(matcher.matches(""));
+        assertTrue(matcher.matches("9"));
+    }
+
+    /**
+     * Tests the functionality of the find-method, when it is called multiple times.
+     */
+    public final void testFind() {
+        ThreadLocalMatcher matcher = new ThreadLocalMatcher(Pattern.compile("[0-9]"));
+        assertTrue(matcher.find("ab1"));
+        assertFalse(matcher.find("abc"));
+        assertTrue(matcher.find("2"));
+    }
+
+    /**
+     * Tests the functionality of the matches-method, which allows to specify a budget.
+     */
+    public final void testMatchesWithBudget() {
+        ThreadLocalMatcher matcher = new ThreadLocalMatcher(Pattern.compile("(.*a){8}"));
+        assertEquals(ValidationOutcome.VALID, matcher.matches("aaaaaaaa", 10000));
+        assertEquals(ValidationOutcome.INVALID, matcher.matches("aac", 10000));
+        assertEquals(ValidationOutcome.BUDGET_EXCEEDED,
+                matcher.matches("aaaaaaaaaaaaaaaaaaaaaaaaaaaaac", 10000));
+        assertTrue(matcher.matches("aaaaaaaa"));
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the matches-method, if the
+     * budget is less than 0.
+     */
+    public final void testMatchesWithBudgetThrowsException() {
+        try {
+            new ThreadLocalMatcher(Pattern.compile("a")).matches("a", -1);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+
+        }
+    }
+
+    /**
+     * Ensures, that the matcher can be used by multiple threads concurrently.
+     *
+     * @throws InterruptedException
+     *         The exception, which is thrown, if the current thread is interrupted
+     */
+    public final void testMatchesConcurrently() throws InterruptedException {
+        final ThreadLocalMatcher matcher = new ThreadLocalMatcher(Pattern.compile("[0-9]+"));
+        final boolean[] failed = new boolean[1];
+        Thread[] threads = new Thread[4];
+
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(new Runnable() {
+
+                @Override
+                public void run() {
+                    for (int j = 0; j < 10000; j++) {
+                        if (!matcher.matches(Integer.toString(j)) || matcher.matches("a" + j)) {
+                            failed[0] = true;
+                        }
+                    }
+                }
+
+            });
+            threads[i].start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertFalse(failed[0]);
+    }
+
+}
\ No newline at end of file
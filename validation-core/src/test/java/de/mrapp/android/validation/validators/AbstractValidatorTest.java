@@ -0,0 +1,131 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.validators;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+ * Tests the functionality of the class {@link AbstractValidator}.
+ *
+ * @author Michael Rapp
+ */
+public class AbstractValidatorTest extends TestCase {
+
+    /**
+     * An implementation of the abstract class {@link AbstractValidator}, which is needed for test
+     * purposes.
+     */
+    private class AbstractValidatorImplementation extends AbstractValidator<Object> {
+
+        /**
+         * Creates a new validator, which should be able to validate values.
+         *
+         * @param errorMessage
+         *         The error message, which should be shown, if the validation fails, as an instance
+         *         of the type {@link CharSequence}. The error message may not be null
+         */
+        public AbstractValidatorImplementation(final CharSequence errorMessage) {
+            super(errorMessage);
+        }
+
+        @Override
+        public boolean validate(final Object value) {
+            return false;
+        }
+
+    }
+
+    /**
+     * Tests, if all properties are correctly initialized by the constructor, which expects a char
+     * sequence as a parameter.
+     */
+    public final void testConstructorWithCharSequenceParameter() {
+        CharSequence errorMessage = "errorMessage";
+        AbstractValidatorImplementation abstractValidator =
+                new AbstractValidatorImplementation(errorMessage);
+        assertEquals(errorMessage, abstractValidator.getErrorMessage());
+    }
+
+    /**
+     * Ensures, that a {@link NullPointerException} is thrown by the constructor, which expects a
+     * char sequence as a parameter, if the char sequence is null.
+     */
+    public final void testConstructorWithCharSequenceParameterThrowsNullPointerException() {
+        try {
+            new AbstractValidatorImplementation(null);
+            Assert.fail();
+        } catch (NullPointerException e) {
+
+        }
+    }
+
+    /**
+     * Ensures, that a {@link IllegalArgumentException} is thrown by the constructor, which expects
+     * a char sequence as a parameter, if the char sequence is empty.
+     */
+    public final void testConstructorWithCharSequenceParameterThrowsIllegalArgumentException() {
+        try {
+            new AbstractValidatorImplementation("");
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+
+        }
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to set the validator's error message by
+     * passing a char sequence as a parameter.
+     */
+    public final void testSetErrorMessageWithCharSequenceParameter() {
+        CharSequence errorMessage = "errorMessage";
+        AbstractValidatorImplementation abstractValidator =
+                new AbstractValidatorImplementation("foo");
+        abstractValidator.setErrorMessage(errorMessage);
+        assertEquals(errorMessage, abstractValidator.getErrorMessage());
+    }
+
+    /**
+     * Ensures, that a {@link NullPointerException} is thrown by the method, which allows to set the
+     * validator's error message by passing a char sequence as a parameter, if the error message is
+     * null.
+     */
+    public final void testSetErrorMessageWithCharSequenceParameterThrowsNullPointerException() {
+        try {
+            AbstractValidatorImplementation abstractValidator =
+                    new AbstractValidatorImplementation("foo");
+            abstractValidator.setErrorMessage(null);
+            Assert.fail();
+        } catch (NullPointerException e) {
+
+        }
+    }
+
+    /**
+     * Ensures, that a {@link IllegalArgumentException} is thrown by the method, which allows to set
+     * the validator's error message by passing a char sequence as a parameter, if the error message
+     * is empty.
+     */
+    public final void testSetErrorMessageWithCharSequenceParameterThrowsIllegalArgumentException() {
+        try {
+            AbstractValidatorImplementation abstractValidator =
+                    new AbstractValidatorImplementation("foo");
+            abstractValidator.setErrorMessage("");
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+
+        }
+    }
+
+}
\ No newline at end of file
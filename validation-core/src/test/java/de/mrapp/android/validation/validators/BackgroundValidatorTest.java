@@ -0,0 +1,63 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.validators;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import de.mrapp.android.validation.Validator;
+import de.mrapp.android.validation.validators.text.NotEmptyValidator;
+
+/**
+ * Tests the functionality of the class {@link BackgroundValidator}.
+ *
+ * @author Michael Rapp
+ */
+public class BackgroundValidatorTest extends TestCase {
+
+    /**
+     * Tests, if all properties are correctly initialized by the constructor.
+     */
+    public final void testConstructor() {
+        Validator<CharSequence> validator = new NotEmptyValidator("foo");
+        BackgroundValidator<CharSequence> backgroundValidator =
+                new BackgroundValidator<>(validator);
+        assertEquals(validator, backgroundValidator.getValidator());
+        assertEquals(validator.getErrorMessage(), backgroundValidator.getErrorMessage());
+    }
+
+    /**
+     * Ensures, that a {@link NullPointerException} is thrown by the constructor, if the validator
+     * is null.
+     */
+    public final void testConstructorThrowsException() {
+        try {
+            new BackgroundValidator<>(null);
+            Assert.fail();
+        } catch (NullPointerException e) {
+
+        }
+    }
+
+    /**
+     * Tests the functionality of the validate-method.
+     */
+    public final void testValidate() {
+        BackgroundValidator<CharSequence> backgroundValidator =
+                BackgroundValidator.create(new NotEmptyValidator("foo"));
+        assertTrue(backgroundValidator.validate("a"));
+        assertFalse(backgroundValidator.validate(""));
+    }
+
+}
\ No newline at end of file
@@ -13,10 +13,8 @@
  */
 package de.mrapp.android.validation.validators;
 
-import android.content.Context;
-import android.test.AndroidTestCase;
-
 import junit.framework.Assert;
+import junit.framework.TestCase;
 
 import de.mrapp.android.validation.Validator;
 
@@ -25,7 +23,7 @@ import de.mrapp.android.validation.Validator;
  *
  * @author Michael Rapp
  */
-public class ConjunctiveValidatorTest extends AndroidTestCase {
+public class ConjunctiveValidatorTest extends TestCase {
 
     /**
      * An implementation of the abstract class {@link AbstractValidator}, which is needed for test
@@ -53,25 +51,6 @@ public class ConjunctiveValidatorTest extends AndroidTestCase {
             this.result = result;
         }
 
-        /**
-         * Creates a new validator, which should be able to validate values.
-         *
-         * @param context
-         *         The context, which should be used to retrieve the error message, as an instance
-         *         of the class {@link Context}. The context may not be null
-         * @param resourceId
-         *         The resource ID of the string resource, which contains the error message, which
-         *         should be set, as an {@link Integer} value. The resource ID must correspond to a
-         *         valid string resource
-         * @param result
-         *         The result, which should be returned by the validator
-         */
-        public AbstractValidatorImplementation(final Context context, final int resourceId,
-                                               final boolean result) {
-            super(context, resourceId);
-            this.result = result;
-        }
-
         @Override
         public boolean validate(final Object value) {
             return result;
@@ -126,53 +105,6 @@ public class ConjunctiveValidatorTest extends AndroidTestCase {
         }
     }
 
-    /**
-     * Tests, if all properties are correctly initialized by the constructor, which expects a
-     * context and a resource ID as parameters.
-     */
-    @SuppressWarnings("unchecked")
-    public final void testConstructorWithContextAndResourceIdParameters() {
-        CharSequence errorMessage = getContext().getText(android.R.string.cancel);
-        Validator<Object> validator1 = new AbstractValidatorImplementation("foo", true);
-        Validator<Object> validator2 = new AbstractValidatorImplementation("bar", true);
-        Validator<Object>[] validators = new Validator[2];
-        validators[0] = validator1;
-        validators[1] = validator2;
-        ConjunctiveValidator<Object> conjunctiveValidator =
-                new ConjunctiveValidator<>(getContext(), android.R.string.cancel, validators);
-        assertEquals(errorMessage, conjunctiveValidator.getErrorMessage());
-        assertEquals(validators, conjunctiveValidator.getValidators());
-    }
-
-    /**
-     * Ensures, that a {@link NullPointerException} is thrown by the constructor, which expects a
-     * context and a resource ID as parameters, if the validators are null.
-     */
-    public final void testConstructorWithContextAndResourceIdParametersThrowsNullPointerException() {
-        try {
-            Validator<Object>[] validators = null;
-            new ConjunctiveValidator<>(getContext(), android.R.string.cancel, validators);
-            Assert.fail();
-        } catch (NullPointerException e) {
-
-        }
-    }
-
-    /**
-     * Ensures, that an {@link IllegalArgumentException} is thrown by the constructor, which expects
-     * a context and a resource ID as parameters, if the validators are empty.
-     */
-    @SuppressWarnings("unchecked")
-    public final void testConstructorWithContextAndResourceIdParametersThrowsIllegalArgumentException() {
-        try {
-            Validator<Object>[] validators = new Validator[0];
-            new ConjunctiveValidator<>(getContext(), android.R.string.cancel, validators);
-            Assert.fail();
-        } catch (IllegalArgumentException e) {
-
-        }
-    }
-
     /**
      * Tests, if all properties are correctly initialized by the factory method, which expects a
      * char sequence as a parameter.
@@ -220,53 +152,6 @@ public class ConjunctiveValidatorTest extends AndroidTestCase {
         }
     }
 
-    /**
-     * Tests, if all properties are correctly initialized by the factory method, which expects a
-     * context and a resource ID as parameters.
-     */
-    @SuppressWarnings("unchecked")
-    public final void testFactoryMethodWithContextAndResourceIdParameters() {
-        CharSequence errorMessage = getContext().getText(android.R.string.cancel);
-        Validator<Object> validator1 = new AbstractValidatorImplementation("foo", true);
-        Validator<Object> validator2 = new AbstractValidatorImplementation("bar", true);
-        Validator<Object>[] validators = new Validator[2];
-        validators[0] = validator1;
-        validators[1] = validator2;
-        ConjunctiveValidator<Object> conjunctiveValidator =
-                ConjunctiveValidator.create(getContext(), android.R.string.cancel, validators);
-        assertEquals(errorMessage, conjunctiveValidator.getErrorMessage());
-        assertEquals(validators, conjunctiveValidator.getValidators());
-    }
-
-    /**
-     * Ensures, that a {@link NullPointerException} is throw by the factory method, which expects a
-     * context and a resource ID as parameters, if the validators are null.
-     */
-    public final void testFactoryMethodWithContextAndResourceIdParametersThrowsNullPointerException() {
-        try {
-            Validator<Object>[] validators = null;
-            ConjunctiveValidator.create(getContext(), android.R.string.cancel, validators);
-            Assert.fail();
-        } catch (NullPointerException e) {
-
-        }
-    }
-
-    /**
-     * Ensures, that an {@link IllegalArgumentException} is throw by the factory method, which
-     * expects a context and a resource ID as parameters, if the validators are empty.
-     */
-    @SuppressWarnings("unchecked")
-    public final void testFactoryMethodWithContextAndResourceIdParametersThrowsIllegalArgumentException() {
-        try {
-            Validator<Object>[] validators = new Validator[0];
-            ConjunctiveValidator.create(getContext(), android.R.string.cancel, validators);
-            Assert.fail();
-        } catch (IllegalArgumentException e) {
-
-        }
-    }
-
     /**
      * Tests the functionality of the method, which allows to set the validators.
      */
@@ -358,4 +243,24 @@ public class ConjunctiveValidatorTest extends AndroidTestCase {
         assertFalse(conjunctiveValidator.validate(new Object()));
     }
 
+    /**
+     * Tests the functionality of the validate-method, if the single validators are reordered
+     * adaptively.
+     */
+    @SuppressWarnings("unchecked")
+    public final void testValidateWhenReorderedAdaptively() {
+        Validator<Object>[] validators = new Validator[2];
+        validators[0] = new AbstractValidatorImplementation("foo", true);
+        validators[1] = new AbstractValidatorImplementation("bar", false);
+        ConjunctiveValidator<Object> conjunctiveValidator =
+                new ConjunctiveValidator<>("foo", validators);
+        assertFalse(conjunctiveValidator.isReorderedAdaptively());
+        conjunctiveValidator.reorderAdaptively(true);
+        assertTrue(conjunctiveValidator.isReorderedAdaptively());
+
+        for (int i = 0; i < 100; i++) {
+            assertFalse(conjunctiveValidator.validate(new Object()));
+        }
+    }
+
 }
\ No newline at end of file
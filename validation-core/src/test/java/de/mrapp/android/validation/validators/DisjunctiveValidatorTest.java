@@ -13,9 +13,8 @@
  */
 package de.mrapp.android.validation.validators;
 
-import android.test.AndroidTestCase;
-
 import junit.framework.Assert;
+import junit.framework.TestCase;
 
 import de.mrapp.android.validation.Validator;
 
@@ -24,7 +23,7 @@ import de.mrapp.android.validation.Validator;
  *
  * @author Michael Rapp
  */
-public class DisjunctiveValidatorTest extends AndroidTestCase {
+public class DisjunctiveValidatorTest extends TestCase {
 
     /**
      * An implementation of the abstract class {@link AbstractValidator}, which is needed for test
@@ -106,52 +105,6 @@ public class DisjunctiveValidatorTest extends AndroidTestCase {
         }
     }
 
-    /**
-     * Tests, if all properties are correctly initialized by the constructor, which expects a
-     * context and a resource ID as parameters.
-     */
-    @SuppressWarnings("unchecked")
-    public final void testConstructorWithContextAndResourceIdParameters() {
-        CharSequence errorMessage = getContext().getText(android.R.string.cancel);
-        Validator<Object> validator1 = new AbstractValidatorImplementation("foo", true);
-        Validator<Object> validator2 = new AbstractValidatorImplementation("bar", true);
-        Validator<Object>[] validators = new Validator[2];
-        validators[0] = validator1;
-        validators[1] = validator2;
-        DisjunctiveValidator<Object> disjunctiveValidator =
-                new DisjunctiveValidator<>(getContext(), android.R.string.cancel, validators);
-        assertEquals(errorMessage, disjunctiveValidator.getErrorMessage());
-        assertEquals(validators, disjunctiveValidator.getValidators());
-    }
-
-    /**
-     * Ensures, that a {@link NullPointerException} is thrown by the constructor, which expects a
-     * context and a resource ID as parameters, if the validators are null.
-     */
-    public final void testConstructorWithContextAndResourceIdParametersThrowsNullPointerException() {
-        try {
-            Validator<Object>[] validators = null;
-            new DisjunctiveValidator<>(getContext(), android.R.string.cancel, validators);
-            Assert.fail();
-        } catch (NullPointerException e) {
-
-        }
-    }
-
-    /**
-     * Ensures, that an {@link IllegalArgumentException} is thrown by the constructor, which expects
-     * a context and a resource ID as parameters, if the validators are empty.
-     */
-    public final void testConstructorWithContextAndResourceIdParametersThrowsIllegalArgumentException() {
-        try {
-            @SuppressWarnings("unchecked") Validator<Object>[] validators = new Validator[0];
-            new DisjunctiveValidator<>(getContext(), android.R.string.cancel, validators);
-            Assert.fail();
-        } catch (IllegalArgumentException e) {
-
-        }
-    }
-
     /**
      * Tests, if all properties are correctly initialized by the factory method, which expects a
      * char sequence as a parameter.
@@ -199,53 +152,6 @@ public class DisjunctiveValidatorTest extends AndroidTestCase {
         }
     }
 
-    /**
-     * Tests, if all properties are correctly initialized by the factory method, which expects a
-     * context and a resource ID as parameters.
-     */
-    @SuppressWarnings("unchecked")
-    public final void testFactoryMethodWithContextAndResourceIdParameters() {
-        CharSequence errorMessage = getContext().getText(android.R.string.cancel);
-        Validator<Object> validator1 = new AbstractValidatorImplementation("foo", true);
-        Validator<Object> validator2 = new AbstractValidatorImplementation("bar", true);
-        Validator<Object>[] validators = new Validator[2];
-        validators[0] = validator1;
-        validators[1] = validator2;
-        DisjunctiveValidator<Object> disjunctiveValidator =
-                DisjunctiveValidator.create(getContext(), android.R.string.cancel, validators);
-        assertEquals(errorMessage, disjunctiveValidator.getErrorMessage());
-        assertEquals(validators, disjunctiveValidator.getValidators());
-    }
-
-    /**
-     * Ensures, that a {@link NullPointerException} is throw by the factory method, which expects a
-     * context and a resource ID as parameters, if the validators are null.
-     */
-    public final void testFactoryMethodWithContextAndResourceIdParametersThrowsNullPointerException() {
-        try {
-            Validator<Object>[] validators = null;
-            DisjunctiveValidator.create(getContext(), android.R.string.cancel, validators);
-            Assert.fail();
-        } catch (NullPointerException e) {
-
-        }
-    }
-
-    /**
-     * Ensures, that an {@link IllegalArgumentException} is throw by the factory method, which
-     * expects a context and a resource ID as parameters, if the validators are empty.
-     */
-    @SuppressWarnings("unchecked")
-    public final void testFactoryMethodWithContextAndResourceIdParametersThrowsIllegalArgumentException() {
-        try {
-            Validator<Object>[] validators = new Validator[0];
-            DisjunctiveValidator.create(getContext(), android.R.string.cancel, validators);
-            Assert.fail();
-        } catch (IllegalArgumentException e) {
-
-        }
-    }
-
     /**
      * Tests the functionality of the method, which allows to set the validators.
      */
@@ -331,4 +237,24 @@ public class DisjunctiveValidatorTest extends AndroidTestCase {
         assertFalse(disjunctiveValidator.validate(new Object()));
     }
 
+    /**
+     * Tests the functionality of the validate-method, if the single validators are reordered
+     * adaptively.
+     */
+    @SuppressWarnings("unchecked")
+    public final void testValidateWhenReorderedAdaptively() {
+        Validator<Object>[] validators = new Validator[2];
+        validators[0] = new AbstractValidatorImplementation("foo", false);
+        validators[1] = new AbstractValidatorImplementation("bar", true);
+        DisjunctiveValidator<Object> disjunctiveValidator =
+                new DisjunctiveValidator<>("foo", validators);
+        assertFalse(disjunctiveValidator.isReorderedAdaptively());
+        disjunctiveValidator.reorderAdaptively(true);
+        assertTrue(disjunctiveValidator.isReorderedAdaptively());
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(disjunctiveValidator.validate(new Object()));
+        }
+    }
+
 }
\ No newline at end of file
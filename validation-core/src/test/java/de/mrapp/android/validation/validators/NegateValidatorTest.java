@@ -13,9 +13,8 @@
  */
 package de.mrapp.android.validation.validators;
 
-import android.test.AndroidTestCase;
-
 import junit.framework.Assert;
+import junit.framework.TestCase;
 
 import de.mrapp.android.validation.Validator;
 
@@ -24,7 +23,7 @@ import de.mrapp.android.validation.Validator;
  *
  * @author Michael Rapp
  */
-public class NegateValidatorTest extends AndroidTestCase {
+public class NegateValidatorTest extends TestCase {
 
     /**
      * An implementation of the abstract class {@link AbstractValidator}, which is needed for test
@@ -85,33 +84,6 @@ public class NegateValidatorTest extends AndroidTestCase {
         }
     }
 
-    /**
-     * Tests, if all properties are correctly initialized by the constructor, which expects a
-     * context and a resource ID as parameters.
-     */
-    public final void testConstructorWithContextAndResourceIdParameters() {
-        CharSequence errorMessage = getContext().getText(android.R.string.cancel);
-        Validator<Object> validator = new AbstractValidatorImplementation("foo", true);
-        NegateValidator<Object> negateValidator =
-                new NegateValidator<>(getContext(), android.R.string.cancel, validator);
-        assertEquals(errorMessage, negateValidator.getErrorMessage());
-        assertEquals(validator, negateValidator.getValidator());
-    }
-
-    /**
-     * Ensures, that a {@link NullPointerException} is thrown by the constructor, which expects a
-     * context and a resource ID as parameters, if the validators are null.
-     */
-    public final void testConstructorWithContextAndResourceIdParametersThrowsException() {
-        try {
-            Validator<Object> validator = null;
-            new NegateValidator<>(getContext(), android.R.string.cancel, validator);
-            Assert.fail();
-        } catch (NullPointerException e) {
-
-        }
-    }
-
     /**
      * Tests, if all properties are correctly initialized by the factory method, which expects a
      * char sequence as a parameter.
@@ -138,33 +110,6 @@ public class NegateValidatorTest extends AndroidTestCase {
         }
     }
 
-    /**
-     * Tests, if all properties are correctly initialized by the factory method, which expects a
-     * context and a resource ID as parameters.
-     */
-    public final void testFactoryMethodWithContextAndResourceIdParameters() {
-        CharSequence errorMessage = getContext().getText(android.R.string.cancel);
-        Validator<Object> validator = new AbstractValidatorImplementation("foo", true);
-        NegateValidator<Object> negateValidator =
-                NegateValidator.create(getContext(), android.R.string.cancel, validator);
-        assertEquals(errorMessage, negateValidator.getErrorMessage());
-        assertEquals(validator, negateValidator.getValidator());
-    }
-
-    /**
-     * Ensures, that a {@link NullPointerException} is throw by the factory method, which expects a
-     * context and a resource ID as parameters, if the validator is null.
-     */
-    public final void testFactoryMethodWithContextAndResourceIdParametersThrowsException() {
-        try {
-            Validator<Object> validator = null;
-            NegateValidator.create(getContext(), android.R.string.cancel, validator);
-            Assert.fail();
-        } catch (NullPointerException e) {
-
-        }
-    }
-
     /**
      * Tests the functionality of the method, which allows to set a validator.
      */
@@ -13,16 +13,16 @@
  */
 package de.mrapp.android.validation.validators;
 
-import android.test.AndroidTestCase;
+import junit.framework.TestCase;
 
-import de.mrapp.android.validation.R;
+import de.mrapp.android.validation.CostAware;
 
 /**
  * Tests the functionality of the class {@link NotNullValidator}.
  *
  * @author Michael Rapp
  */
-public class NotNullValidatorTest extends AndroidTestCase {
+public class NotNullValidatorTest extends TestCase {
 
     /**
      * Tests, if all properties are correctly initialized by the constructor, which expects a char
@@ -34,17 +34,6 @@ public class NotNullValidatorTest extends AndroidTestCase {
         assertEquals(errorMessage, notNullValidator.getErrorMessage());
     }
 
-    /**
-     * Tests, if all properties are correctly initialized by the constructor, which expects a
-     * context and a resource ID as parameters.
-     */
-    public final void testConstructorWithContextAndResourceIdParameters() {
-        CharSequence errorMessage = getContext().getText(android.R.string.cancel);
-        NotNullValidator notNullValidator =
-                new NotNullValidator(getContext(), android.R.string.cancel);
-        assertEquals(errorMessage, notNullValidator.getErrorMessage());
-    }
-
     /**
      * Tests the functionality of the validate-method, if it succeeds.
      */
@@ -61,4 +50,11 @@ public class NotNullValidatorTest extends AndroidTestCase {
         assertFalse(notNullValidator.validate(null));
     }
 
+    /**
+     * Tests the functionality of the getCost-method.
+     */
+    public final void testGetCost() {
+        assertEquals(CostAware.COST_LOW, new NotNullValidator("foo").getCost());
+    }
+
 }
\ No newline at end of file
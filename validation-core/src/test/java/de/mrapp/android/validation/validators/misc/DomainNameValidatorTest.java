@@ -13,14 +13,14 @@
  */
 package de.mrapp.android.validation.validators.misc;
 
-import android.test.AndroidTestCase;
+import junit.framework.TestCase;
 
 /**
  * Tests the functionality of the class {@link DomainNameValidator}.
  *
  * @author Michael Rapp
  */
-public class DomainNameValidatorTest extends AndroidTestCase {
+public class DomainNameValidatorTest extends TestCase {
 
     /**
      * Tests, if all properties are correctly initialized by the constructor, which expects a char
@@ -32,17 +32,6 @@ public class DomainNameValidatorTest extends AndroidTestCase {
         assertEquals(errorMessage, domainNameValidator.getErrorMessage());
     }
 
-    /**
-     * Tests, if all properties are correctly initialized by the constructor, which expects a
-     * context and a resource ID as parameters.
-     */
-    public final void testConstructorWithContextAndResourceIdParameters() {
-        CharSequence errorMessage = getContext().getText(android.R.string.cancel);
-        DomainNameValidator domainNameValidator =
-                new DomainNameValidator(getContext(), android.R.string.cancel);
-        assertEquals(errorMessage, domainNameValidator.getErrorMessage());
-    }
-
     /**
      * Tests the functionality of the validate-method, if it succeeds.
      */
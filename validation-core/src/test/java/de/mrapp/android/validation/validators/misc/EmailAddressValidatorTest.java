@@ -13,14 +13,14 @@
  */
 package de.mrapp.android.validation.validators.misc;
 
-import android.test.AndroidTestCase;
+import junit.framework.TestCase;
 
 /**
  * Tests the functionality of the class {@link EmailAddressValidator}.
  *
  * @author Michael Rapp
  */
-public class EmailAddressValidatorTest extends AndroidTestCase {
+public class EmailAddressValidatorTest extends TestCase {
 
     /**
      * Tests, if all properties are correctly initialized by the constructor, which expects a char
@@ -32,17 +32,6 @@ public class EmailAddressValidatorTest extends AndroidTestCase {
         assertEquals(errorMessage, emailAddressValidator.getErrorMessage());
     }
 
-    /**
-     * Tests, if all properties are correctly initialized by the constructor, which expects a
-     * context and a resource ID as parameters.
-     */
-    public final void testConstructorWithContextAndResourceIdParameters() {
-        CharSequence errorMessage = getContext().getText(android.R.string.cancel);
-        EmailAddressValidator emailAddressValidator =
-                new EmailAddressValidator(getContext(), android.R.string.cancel);
-        assertEquals(errorMessage, emailAddressValidator.getErrorMessage());
-    }
-
     /**
      * Tests the functionality of the validate-method, if it succeeds.
      */
@@ -13,14 +13,17 @@
  */
 package de.mrapp.android.validation.validators.misc;
 
-import android.test.AndroidTestCase;
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import de.mrapp.android.validation.CostAware;
 
 /**
  * Tests the functionality of the class {@link IPv4AddressValidator}.
  *
  * @author Michael Rapp
  */
-public class IPv4AddressValidatorTest extends AndroidTestCase {
+public class IPv4AddressValidatorTest extends TestCase {
 
     /**
      * Tests, if all properties are correctly initialized by the constructor, which expects a char
@@ -32,17 +35,6 @@ public class IPv4AddressValidatorTest extends AndroidTestCase {
         assertEquals(errorMessage, iPv4AddressValidator.getErrorMessage());
     }
 
-    /**
-     * Tests, if all properties are correctly initialized by the constructor, which expects a
-     * context and a resource ID as parameters.
-     */
-    public final void testConstructorWithContextAndResourceIdParameters() {
-        CharSequence errorMessage = getContext().getText(android.R.string.cancel);
-        IPv4AddressValidator iPv4AddressValidator =
-                new IPv4AddressValidator(getContext(), android.R.string.cancel);
-        assertEquals(errorMessage, iPv4AddressValidator.getErrorMessage());
-    }
-
     /**
      * Tests the functionality of the validate-method, if it succeeds.
      */
@@ -73,6 +65,53 @@ public class IPv4AddressValidatorTest extends AndroidTestCase {
         assertFalse(iPv4AddressValidator.validate("999.10.10.20"));
         assertFalse(iPv4AddressValidator.validate("2222.22.22.22"));
         assertFalse(iPv4AddressValidator.validate("22.2222.22.2"));
+        assertFalse(iPv4AddressValidator.validate("10.10.10.10."));
+        assertFalse(iPv4AddressValidator.validate(".10.10.10.10"));
+        assertFalse(iPv4AddressValidator.validate("10..10.10"));
+        assertFalse(iPv4AddressValidator.validate("10.10.10.10\n"));
+    }
+
+    /**
+     * Tests the functionality of the parse-method, if it succeeds.
+     */
+    public final void testParseSucceeds() {
+        int[] address = new int[1];
+        assertTrue(IPv4AddressValidator.parse("192.168.1.10", address));
+        assertEquals(0xC0A8010A, address[0]);
+        assertTrue(IPv4AddressValidator.parse("255.255.255.255", address));
+        assertEquals(0xFFFFFFFF, address[0]);
+        assertTrue(IPv4AddressValidator.parse("000.0.00.1", address));
+        assertEquals(1, address[0]);
+    }
+
+    /**
+     * Tests the functionality of the parse-method, if it fails.
+     */
+    public final void testParseFails() {
+        int[] address = new int[]{42};
+        assertFalse(IPv4AddressValidator.parse("", address));
+        assertFalse(IPv4AddressValidator.parse("10.10.10.256", address));
+        assertEquals(42, address[0]);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the parse-method, if the
+     * array is empty.
+     */
+    public final void testParseThrowsExceptionWhenArrayIsEmpty() {
+        try {
+            IPv4AddressValidator.parse("127.0.0.1", new int[0]);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+
+        }
+    }
+
+    /**
+     * Tests the functionality of the getCost-method.
+     */
+    public final void testGetCost() {
+        assertEquals(CostAware.COST_LOW, new IPv4AddressValidator("foo").getCost());
     }
 
 }
\ No newline at end of file
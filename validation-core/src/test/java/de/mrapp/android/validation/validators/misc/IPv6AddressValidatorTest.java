@@ -0,0 +1,117 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.validators.misc;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import de.mrapp.android.validation.CostAware;
+
+/**
+ * Tests the functionality of the class {@link IPv6AddressValidator}.
+ *
+ * @author Michael Rapp
+ */
+public class IPv6AddressValidatorTest extends TestCase {
+
+    /**
+     * Tests, if all properties are correctly initialized by the constructor, which expects a char
+     * sequence as a parameter.
+     */
+    public final void testConstructorWithCharSequenceParameter() {
+        CharSequence errorMessage = "errorMessage";
+        IPv6AddressValidator iPv6AddressValidator = new IPv6AddressValidator(errorMessage);
+        assertEquals(errorMessage, iPv6AddressValidator.getErrorMessage());
+    }
+
+    /**
+     * Tests the functionality of the validate-method, if it succeeds.
+     */
+    public final void testValidateSucceeds() {
+        IPv6AddressValidator iPv4AddressValidator = new IPv6AddressValidator("foo");
+        assertTrue(iPv4AddressValidator.validate(""));
+        assertTrue(iPv4AddressValidator.validate("FE80:0000:0000:0000:0202:B3FF:FE1E:8329"));
+        assertTrue(iPv4AddressValidator.validate("FE80::0202:B3FF:FE1E:8329"));
+        assertTrue(iPv4AddressValidator.validate("::"));
+        assertTrue(iPv4AddressValidator.validate("::1"));
+        assertTrue(iPv4AddressValidator.validate("fe80::"));
+    }
+
+    /**
+     * Tests the functionality of the validate-method, if it fails.
+     */
+    public final void testValidateFails() {
+        IPv6AddressValidator iPv4AddressValidator = new IPv6AddressValidator("foo");
+        assertFalse(iPv4AddressValidator.validate("FE80:0000:0000:0000:0202:B3XX:FE1E:8329"));
+        assertFalse(iPv4AddressValidator.validate("FE80:0000:0000:0000:0202:B3FF:FE1E:8329:3492"));
+        assertFalse(iPv4AddressValidator.validate("FE80:0000:0000:0000:0202:B3FF:FE1E"));
+        assertFalse(iPv4AddressValidator.validate("FE80::0202::8329"));
+        assertFalse(iPv4AddressValidator.validate("FE80:::8329"));
+        assertFalse(iPv4AddressValidator.validate("FE80:"));
+        assertFalse(iPv4AddressValidator.validate(":FE80::"));
+        assertFalse(iPv4AddressValidator.validate("FE800::1"));
+    }
+
+    /**
+     * Tests the functionality of the parse-method, if it succeeds.
+     */
+    public final void testParseSucceeds() {
+        long[] address = new long[2];
+        assertTrue(IPv6AddressValidator.parse("FE80:0000:0000:0000:0202:B3FF:FE1E:8329", address));
+        assertEquals(0xFE80000000000000L, address[0]);
+        assertEquals(0x0202B3FFFE1E8329L, address[1]);
+        assertTrue(IPv6AddressValidator.parse("fe80::202:b3ff:fe1e:8329", address));
+        assertEquals(0xFE80000000000000L, address[0]);
+        assertEquals(0x0202B3FFFE1E8329L, address[1]);
+        assertTrue(IPv6AddressValidator.parse("::1", address));
+        assertEquals(0L, address[0]);
+        assertEquals(1L, address[1]);
+        assertTrue(IPv6AddressValidator.parse("1:2:3:4:5::6", address));
+        assertEquals(0x0001000200030004L, address[0]);
+        assertEquals(0x0005000000000006L, address[1]);
+    }
+
+    /**
+     * Tests the functionality of the parse-method, if it fails.
+     */
+    public final void testParseFails() {
+        long[] address = new long[]{42, 42};
+        assertFalse(IPv6AddressValidator.parse("", address));
+        assertFalse(IPv6AddressValidator.parse("1:2:3:4::5:6:7:8", address));
+        assertFalse(IPv6AddressValidator.parse("FE80::0202::8329", address));
+        assertEquals(42, address[0]);
+        assertEquals(42, address[1]);
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the parse-method, if the
+     * array contains less than two elements.
+     */
+    public final void testParseThrowsExceptionWhenArrayIsTooSmall() {
+        try {
+            IPv6AddressValidator.parse("::1", new long[1]);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+
+        }
+    }
+
+    /**
+     * Tests the functionality of the getCost-method.
+     */
+    public final void testGetCost() {
+        assertEquals(CostAware.COST_MEDIUM, new IPv6AddressValidator("foo").getCost());
+    }
+
+}
\ No newline at end of file
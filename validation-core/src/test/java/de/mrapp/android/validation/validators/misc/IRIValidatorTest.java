@@ -13,14 +13,14 @@
  */
 package de.mrapp.android.validation.validators.misc;
 
-import android.test.AndroidTestCase;
+import junit.framework.TestCase;
 
 /**
  * Tests the functionality of the class {@link IRIValidator}.
  *
  * @author Michael Rapp
  */
-public class IRIValidatorTest extends AndroidTestCase {
+public class IRIValidatorTest extends TestCase {
 
     /**
      * Tests, if all properties are correctly initialized by the constructor, which expects a char
@@ -32,16 +32,6 @@ public class IRIValidatorTest extends AndroidTestCase {
         assertEquals(errorMessage, iriValidator.getErrorMessage());
     }
 
-    /**
-     * Tests, if all properties are correctly initialized by the constructor, which expects a
-     * context and a resource ID as parameters.
-     */
-    public final void testConstructorWithContextAndResourceIdParameters() {
-        CharSequence errorMessage = getContext().getText(android.R.string.cancel);
-        IRIValidator iriValidator = new IRIValidator(getContext(), android.R.string.cancel);
-        assertEquals(errorMessage, iriValidator.getErrorMessage());
-    }
-
     /**
      * Tests the functionality of the validate-method, if it succeeds.
      */
@@ -13,14 +13,14 @@
  */
 package de.mrapp.android.validation.validators.text;
 
-import android.test.AndroidTestCase;
+import junit.framework.TestCase;
 
 /**
  * Tests the functionality of the class {@link BeginsWithUppercaseLetterValidator}.
  *
  * @author Michael Rapp
  */
-public class BeginsWithUppercaseLetterValidatorTest extends AndroidTestCase {
+public class BeginsWithUppercaseLetterValidatorTest extends TestCase {
 
     /**
      * Tests, if all properties are correctly initialized by the constructor, which expects a char
@@ -33,17 +33,6 @@ public class BeginsWithUppercaseLetterValidatorTest extends AndroidTestCase {
         assertEquals(errorMessage, beginsWithUppercaseLetterValidator.getErrorMessage());
     }
 
-    /**
-     * Tests, if all properties are correctly initialized by the constructor, which expects a
-     * context and a resource ID as parameters.
-     */
-    public final void testConstructorWithContextAndResourceIdParameters() {
-        CharSequence errorMessage = getContext().getText(android.R.string.cancel);
-        BeginsWithUppercaseLetterValidator beginsWithUppercaseLetterValidator =
-                new BeginsWithUppercaseLetterValidator(getContext(), android.R.string.cancel);
-        assertEquals(errorMessage, beginsWithUppercaseLetterValidator.getErrorMessage());
-    }
-
     /**
      * Tests the functionality of the validate-method, if it succeeds.
      */
@@ -0,0 +1,340 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.validators.text;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import de.mrapp.android.validation.BudgetedValidator;
+import de.mrapp.android.validation.CostAware;
+import de.mrapp.android.validation.ValidationOutcome;
+import de.mrapp.android.validation.Validator;
+
+/**
+ * Tests the functionality of the class {@link CachingValidator}.
+ *
+ * @author Michael Rapp
+ */
+public class CachingValidatorTest extends TestCase {
+
+    /**
+     * A validator, which ensures, that texts are not empty, and counts how often it has been
+     * invoked.
+     */
+    private static class CountingValidator implements Validator<CharSequence> {
+
+        /**
+         * The number of times, the validator has been invoked.
+         */
+        private int invocations;
+
+        @Override
+        public CharSequence getErrorMessage() {
+            return "foo";
+        }
+
+        @Override
+        public boolean validate(final CharSequence value) {
+            invocations++;
+            return value != null && value.length() > 0;
+        }
+
+    }
+
+    /**
+     * A validator, which ensures, that texts are not empty, counts how often it has been invoked
+     * and exceeds its budget as long as it is told to.
+     */
+    private static class BudgetValidator implements BudgetedValidator<CharSequence> {
+
+        /**
+         * The number of times, the validator has been invoked.
+         */
+        private int invocations;
+
+        /**
+         * True, if the validator exceeds its budget, false otherwise.
+         */
+        private boolean budgetExceeded = true;
+
+        @Override
+        public CharSequence getErrorMessage() {
+            return "foo";
+        }
+
+        @Override
+        public boolean validate(final CharSequence value) {
+            invocations++;
+            return value != null && value.length() > 0;
+        }
+
+        @Override
+        public ValidationOutcome validateWithinBudget(final CharSequence value) {
+            boolean valid = validate(value);
+            return budgetExceeded ? ValidationOutcome.BUDGET_EXCEEDED :
+                    (valid ? ValidationOutcome.VALID : ValidationOutcome.INVALID);
+        }
+
+    }
+
+    /**
+     * A validator, which ensures, that texts are not empty, and blocks while validating the text
+     * "slow" until it is released.
+     */
+    private static class BlockingValidator implements Validator<CharSequence> {
+
+        /**
+         * The latch, which is counted down, when the validation of the text "slow" has started.
+         */
+        private final CountDownLatch started = new CountDownLatch(1);
+
+        /**
+         * The latch, which releases the validation of the text "slow".
+         */
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        @Override
+        public CharSequence getErrorMessage() {
+            return "foo";
+        }
+
+        @Override
+        public boolean validate(final CharSequence value) {
+            if ("slow".equals(String.valueOf(value))) {
+                started.countDown();
+
+                try {
+                    released.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            return value != null && value.length() > 0;
+        }
+
+    }
+
+    /**
+     * Starts a thread, which validates the text "slow" by using a specific validator.
+     *
+     * @param cachingValidator
+     *         The validator, which should be used, as an instance of the class {@link
+     *         CachingValidator}
+     * @return The thread, which has been started, as an instance of the class {@link Thread}
+     */
+    private Thread validateInBackground(final CachingValidator cachingValidator) {
+        Thread thread = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                cachingValidator.validate("slow");
+            }
+
+        });
+
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * Tests, if all properties are correctly initialized by the constructor.
+     */
+    public final void testConstructor() {
+        Validator<CharSequence> validator = new NotEmptyValidator("foo");
+        CachingValidator cachingValidator = new CachingValidator(validator, 2);
+        assertEquals(validator, cachingValidator.getValidator());
+        assertEquals(2, cachingValidator.getCapacity());
+        assertEquals(0, cachingValidator.getSize());
+        assertEquals(0, cachingValidator.getHitCount());
+        assertEquals(0, cachingValidator.getMissCount());
+        assertEquals(validator.getErrorMessage(), cachingValidator.getErrorMessage());
+        assertEquals(CostAware.COST_LOW, cachingValidator.getCost());
+    }
+
+    /**
+     * Ensures, that a {@link NullPointerException} is thrown by the constructor, if the validator
+     * is null.
+     */
+    public final void testConstructorThrowsExceptionWhenValidatorIsNull() {
+        try {
+            new CachingValidator(null, 1);
+            Assert.fail();
+        } catch (NullPointerException e) {
+
+        }
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown by the constructor, if the
+     * capacity is less than 1.
+     */
+    public final void testConstructorThrowsExceptionWhenCapacityIsLessThanOne() {
+        try {
+            new CachingValidator(new NotEmptyValidator("foo"), 0);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+
+        }
+    }
+
+    /**
+     * Tests the functionality of the validate-method, if mutable texts are validated.
+     */
+    public final void testValidate() {
+        CountingValidator validator = new CountingValidator();
+        CachingValidator cachingValidator = CachingValidator.create(validator, 2);
+        StringBuilder text = new StringBuilder("abc");
+        assertTrue(cachingValidator.validate(text));
+        text.setLength(0);
+        assertFalse(cachingValidator.validate(text));
+        text.append("abc");
+        assertTrue(cachingValidator.validate(text));
+        assertTrue(cachingValidator.validate("abc"));
+        assertFalse(cachingValidator.validate(""));
+        assertEquals(2, validator.invocations);
+        assertEquals(3, cachingValidator.getHitCount());
+        assertEquals(2, cachingValidator.getMissCount());
+        assertEquals(2, cachingValidator.getSize());
+    }
+
+    /**
+     * Tests, if the least recently used results are evicted, if the capacity is exceeded.
+     */
+    public final void testValidateEvictsLeastRecentlyUsedResult() {
+        CountingValidator validator = new CountingValidator();
+        CachingValidator cachingValidator = new CachingValidator(validator, 2);
+        cachingValidator.validate("a");
+        cachingValidator.validate("b");
+        cachingValidator.validate("a");
+        cachingValidator.validate("c");
+        assertEquals(3, validator.invocations);
+        cachingValidator.validate("a");
+        assertEquals(3, validator.invocations);
+        cachingValidator.validate("b");
+        assertEquals(4, validator.invocations);
+        assertEquals(2, cachingValidator.getSize());
+    }
+
+    /**
+     * Tests the functionality of the methods, which allow to invalidate cached results.
+     */
+    public final void testInvalidate() {
+        CountingValidator validator = new CountingValidator();
+        CachingValidator cachingValidator = new CachingValidator(validator, 4);
+        cachingValidator.validate("a");
+        cachingValidator.validate("b");
+        cachingValidator.invalidate(new StringBuilder("a"));
+        assertEquals(1, cachingValidator.getSize());
+        cachingValidator.validate("a");
+        cachingValidator.validate("b");
+        assertEquals(3, validator.invocations);
+        cachingValidator.invalidate();
+        assertEquals(0, cachingValidator.getSize());
+        cachingValidator.validate("b");
+        assertEquals(4, validator.invocations);
+    }
+
+    /**
+     * Tests, if null values are passed to the encapsulated validator without being cached.
+     */
+    public final void testValidateNull() {
+        CountingValidator validator = new CountingValidator();
+        CachingValidator cachingValidator = new CachingValidator(validator, 2);
+        assertFalse(cachingValidator.validate(null));
+        assertFalse(cachingValidator.validate(null));
+        assertEquals(2, validator.invocations);
+        assertEquals(0, cachingValidator.getSize());
+    }
+
+    /**
+     * Tests, if validations, which exceeded their budget, are not cached.
+     */
+    public final void testValidateWithinBudgetWhenBudgetIsExceeded() {
+        BudgetValidator validator = new BudgetValidator();
+        CachingValidator cachingValidator = new CachingValidator(validator, 2);
+        assertEquals(ValidationOutcome.BUDGET_EXCEEDED, cachingValidator.validateWithinBudget("a"));
+        assertEquals(0, cachingValidator.getSize());
+        validator.budgetExceeded = false;
+        assertEquals(ValidationOutcome.VALID, cachingValidator.validateWithinBudget("a"));
+        assertEquals(ValidationOutcome.VALID, cachingValidator.validateWithinBudget("a"));
+        assertEquals(2, validator.invocations);
+        assertEquals(2, cachingValidator.getMissCount());
+        assertEquals(1, cachingValidator.getHitCount());
+        assertTrue(cachingValidator.validate("a"));
+        assertEquals(2, validator.invocations);
+    }
+
+    /**
+     * Tests, if other texts can be validated, while the encapsulated validator is applied.
+     *
+     * @throws InterruptedException
+     *         The exception, which is thrown, if the current thread has been interrupted
+     */
+    public final void testValidateDoesNotBlockWhileValidating() throws InterruptedException {
+        BlockingValidator validator = new BlockingValidator();
+        final CachingValidator cachingValidator = new CachingValidator(validator, 2);
+        Thread slowThread = validateInBackground(cachingValidator);
+
+        try {
+            assertTrue(validator.started.await(5, TimeUnit.SECONDS));
+            Thread fastThread = new Thread(new Runnable() {
+
+                @Override
+                public void run() {
+                    cachingValidator.validate("a");
+                }
+
+            });
+
+            fastThread.start();
+            fastThread.join(5000);
+            assertFalse(fastThread.isAlive());
+            assertEquals(1, cachingValidator.getSize());
+        } finally {
+            validator.released.countDown();
+            slowThread.join(5000);
+        }
+
+        assertEquals(2, cachingValidator.getSize());
+    }
+
+    /**
+     * Tests, if a result is not cached, if the cache has been invalidated, while it has been
+     * computed.
+     *
+     * @throws InterruptedException
+     *         The exception, which is thrown, if the current thread has been interrupted
+     */
+    public final void testInvalidateWhileValidating() throws InterruptedException {
+        BlockingValidator validator = new BlockingValidator();
+        CachingValidator cachingValidator = new CachingValidator(validator, 2);
+        Thread slowThread = validateInBackground(cachingValidator);
+
+        try {
+            assertTrue(validator.started.await(5, TimeUnit.SECONDS));
+            cachingValidator.invalidate();
+        } finally {
+            validator.released.countDown();
+            slowThread.join(5000);
+        }
+
+        assertFalse(slowThread.isAlive());
+        assertEquals(0, cachingValidator.getSize());
+    }
+
+}
\ No newline at end of file
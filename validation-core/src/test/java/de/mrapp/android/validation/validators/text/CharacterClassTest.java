@@ -0,0 +1,121 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.validators.text;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+/**
+ * Tests the functionality of the class {@link CharacterClass}.
+ */
+public class CharacterClassTest extends TestCase {
+
+    /**
+     * Ensures, that a {@link NullPointerException} is thrown by the constructor, if the case
+     * sensitivity is null.
+     */
+    public final void testConstructorThrowsExceptionWhenCaseSensitivityIsNull() {
+        try {
+            new CharacterClass(null, false, false);
+            Assert.fail();
+        } catch (NullPointerException e) {
+
+        }
+    }
+
+    /**
+     * Ensures, that a {@link NullPointerException} is thrown by the constructor, if the additional
+     * characters are null.
+     */
+    public final void testConstructorThrowsExceptionWhenAdditionalCharactersAreNull() {
+        try {
+            new CharacterClass(Case.CASE_INSENSITIVE, false, false, null);
+            Assert.fail();
+        } catch (NullPointerException e) {
+
+        }
+    }
+
+    /**
+     * Tests the functionality of the contains-method, when using uppercase letters.
+     */
+    public final void testContainsUppercase() {
+        CharacterClass characterClass = new CharacterClass(Case.UPPERCASE, false, false);
+        assertTrue(characterClass.contains('A'));
+        assertTrue(characterClass.contains('Z'));
+        assertFalse(characterClass.contains('a'));
+        assertFalse(characterClass.contains('0'));
+        assertFalse(characterClass.contains(' '));
+    }
+
+    /**
+     * Tests the functionality of the contains-method, when using lowercase letters and digits.
+     */
+    public final void testContainsLowercaseAndDigits() {
+        CharacterClass characterClass = new CharacterClass(Case.LOWERCASE, true, false);
+        assertTrue(characterClass.contains('a'));
+        assertTrue(characterClass.contains('z'));
+        assertTrue(characterClass.contains('0'));
+        assertTrue(characterClass.contains('9'));
+        assertFalse(characterClass.contains('A'));
+    }
+
+    /**
+     * Tests the functionality of the contains-method, when whitespace is allowed.
+     */
+    public final void testContainsWhitespace() {
+        CharacterClass characterClass = new CharacterClass(Case.CASE_INSENSITIVE, false, true);
+        assertTrue(characterClass.contains(' '));
+        assertTrue(characterClass.contains('\t'));
+        assertTrue(characterClass.contains('\n'));
+        assertTrue(characterClass.contains('\r'));
+        assertFalse(characterClass.contains('\u00A0'));
+    }
+
+    /**
+     * Tests the functionality of the contains-method, when using additional ASCII and non-ASCII
+     * characters.
+     */
+    public final void testContainsAdditionalCharacters() {
+        CharacterClass characterClass =
+                new CharacterClass(Case.CASE_INSENSITIVE, false, false, '\u00FC', '-', '.');
+        assertTrue(characterClass.contains('-'));
+        assertTrue(characterClass.contains('.'));
+        assertTrue(characterClass.contains('\u00FC'));
+        assertFalse(characterClass.contains('\u00E4'));
+        assertFalse(characterClass.contains('_'));
+    }
+
+    /**
+     * Tests the functionality of the containsAll-method.
+     */
+    public final void testContainsAll() {
+        CharacterClass characterClass = new CharacterClass(Case.CASE_INSENSITIVE, false, true, '-');
+        assertTrue(characterClass.containsAll(""));
+        assertTrue(characterClass.containsAll("Ab C-"));
+        assertFalse(characterClass.containsAll("Ab C2-"));
+    }
+
+    /**
+     * Tests the functionality of the indexOfMismatch-method.
+     */
+    public final void testIndexOfMismatch() {
+        CharacterClass characterClass = new CharacterClass(Case.CASE_INSENSITIVE, false, false);
+        assertEquals(-1, characterClass.indexOfMismatch("abc", 0, 3));
+        assertEquals(1, characterClass.indexOfMismatch("a1c2", 0, 4));
+        assertEquals(3, characterClass.indexOfMismatch("a1c2", 2, 4));
+        assertEquals(-1, characterClass.indexOfMismatch("a1c2", 2, 3));
+    }
+
+}
\ No newline at end of file
@@ -13,14 +13,13 @@
  */
 package de.mrapp.android.validation.validators.text;
 
-import android.test.AndroidTestCase;
-
 import junit.framework.Assert;
+import junit.framework.TestCase;
 
 /**
  * Tests the functionality of the class {@link LetterOrNumberValidator}.
  */
-public class LetterOrNumberValidatorTest extends AndroidTestCase {
+public class LetterOrNumberValidatorTest extends TestCase {
 
     /**
      * Tests, if all properties are correctly initialized by the constructor, which expects a char
@@ -66,51 +65,6 @@ public class LetterOrNumberValidatorTest extends AndroidTestCase {
         }
     }
 
-    /**
-     * Tests, if all properties are correctly initialized by the constructor, which expects a
-     * context and a resource ID as parameters.
-     */
-    public final void testConstructorWithContextAndResourceIdParameters() {
-        CharSequence errorMessage = getContext().getText(android.R.string.cancel);
-        Case caseSensitivity = Case.CASE_INSENSITIVE;
-        boolean allowSpaces = true;
-        char[] allowedCharacters = new char[]{'-'};
-        LetterOrNumberValidator characterOrNumberValidator =
-                new LetterOrNumberValidator(getContext(), android.R.string.cancel, caseSensitivity,
-                        allowSpaces, allowedCharacters);
-        assertEquals(errorMessage, characterOrNumberValidator.getErrorMessage());
-        assertEquals(caseSensitivity, characterOrNumberValidator.getCaseSensitivity());
-        assertEquals(allowSpaces, characterOrNumberValidator.areSpacesAllowed());
-        assertEquals(allowedCharacters, characterOrNumberValidator.getAllowedCharacters());
-    }
-
-    /**
-     * Ensures, that a {@link NullPointerException} is thrown by the constructor, which expects a
-     * context and a resource ID as parameters, if the case sensitivity is null.
-     */
-    public final void testConstructorWithContextAndResourceIdParametersThrowsExceptionWhenCaseSensitivityIsNull() {
-        try {
-            new LetterOrNumberValidator(getContext(), android.R.string.cancel, null, true);
-            Assert.fail();
-        } catch (NullPointerException e) {
-
-        }
-    }
-
-    /**
-     * Ensures, that a {@link NullPointerException} is thrown by the constructor, which expects a
-     * context and a resource ID as parameters, if the allowed characters are null.
-     */
-    public final void testConstructorWithContextAndResourceIdParametersThrowsExceptionWhenAllowedCharactersAreNull() {
-        try {
-            new LetterOrNumberValidator(getContext(), android.R.string.cancel,
-                    Case.CASE_INSENSITIVE, true, null);
-            Assert.fail();
-        } catch (NullPointerException e) {
-
-        }
-    }
-
     /**
      * Tests the functionality of the method, which allows to set the case sensitivity.
      */
@@ -327,4 +281,19 @@ public class LetterOrNumberValidatorTest extends AndroidTestCase {
         assertTrue(characterOrNumberValidator.validate(""));
     }
 
+    /**
+     * Tests the functionality of the validate-method, which expects the number of matching
+     * characters and the length of a text as parameters.
+     */
+    public final void testValidateIncrementally() {
+        LetterOrNumberValidator letterOrNumberValidator =
+                new LetterOrNumberValidator("foo", Case.LOWERCASE, false);
+        CharacterSet characterSet = letterOrNumberValidator.getCharacterSet();
+        assertTrue(characterSet.contains('a'));
+        assertTrue(characterSet.contains('1'));
+        assertFalse(characterSet.contains('A'));
+        assertTrue(letterOrNumberValidator.validate(3, 3));
+        assertFalse(letterOrNumberValidator.validate(2, 3));
+    }
+
 }
\ No newline at end of file
@@ -13,14 +13,13 @@
  */
 package de.mrapp.android.validation.validators.text;
 
-import android.test.AndroidTestCase;
-
 import junit.framework.Assert;
+import junit.framework.TestCase;
 
 /**
  * Tests the functionality of the class {@link LetterValidator}.
  */
-public class LetterValidatorTest extends AndroidTestCase {
+public class LetterValidatorTest extends TestCase {
 
     /**
      * Tests, if all properties are correctly initialized by the constructor, which expects a char
@@ -65,51 +64,6 @@ public class LetterValidatorTest extends AndroidTestCase {
         }
     }
 
-    /**
-     * Tests, if all properties are correctly initialized by the constructor, which expects a
-     * context and a resource ID as parameters.
-     */
-    public final void testConstructorWithContextAndResourceIdParameters() {
-        CharSequence errorMessage = getContext().getText(android.R.string.cancel);
-        Case caseSensitivity = Case.CASE_INSENSITIVE;
-        boolean allowSpaces = true;
-        char[] allowedCharacters = new char[]{'-'};
-        LetterValidator characterValidator =
-                new LetterValidator(getContext(), android.R.string.cancel, caseSensitivity,
-                        allowSpaces, allowedCharacters);
-        assertEquals(errorMessage, characterValidator.getErrorMessage());
-        assertEquals(caseSensitivity, characterValidator.getCaseSensitivity());
-        assertEquals(allowSpaces, characterValidator.areSpacesAllowed());
-        assertEquals(allowedCharacters, characterValidator.getAllowedCharacters());
-    }
-
-    /**
-     * Ensures, that a {@link NullPointerException} is thrown by the constructor, which expects a
-     * context and a resource ID as parameters, if the case sensitivity is null.
-     */
-    public final void testConstructorWithContextAndResourceIdParametersThrowsExceptionWhenCaseSensitivityIsNull() {
-        try {
-            new LetterValidator(getContext(), android.R.string.cancel, null, true);
-            Assert.fail();
-        } catch (NullPointerException e) {
-
-        }
-    }
-
-    /**
-     * Ensures, that a {@link NullPointerException} is thrown by the constructor, which expects a
-     * context and a resource ID as parameters, if the allowed characters are is null.
-     */
-    public final void testConstructorWithContextAndResourceIdParametersThrowsExceptionWhenAllowedCharactersAreNull() {
-        try {
-            new LetterValidator(getContext(), android.R.string.cancel, Case.CASE_INSENSITIVE, true,
-                    null);
-            Assert.fail();
-        } catch (NullPointerException e) {
-
-        }
-    }
-
     /**
      * Tests the functionality of the method, which allows to set the case sensitivity.
      */
@@ -325,4 +279,33 @@ public class LetterValidatorTest extends AndroidTestCase {
         assertTrue(characterValidator.validate(""));
     }
 
+    /**
+     * Tests the functionality of the validate-method, when allowed special characters are changed
+     * after the validator has been created.
+     */
+    public final void testValidateAfterAllowedCharactersChanged() {
+        LetterValidator characterValidator = new LetterValidator("foo", Case.LOWERCASE, false);
+        assertFalse(characterValidator.validate("a.b"));
+        characterValidator.setAllowedCharacters(new char[]{'.'});
+        assertTrue(characterValidator.validate("a.b"));
+        assertFalse(characterValidator.validate("a-b"));
+    }
+
+    /**
+     * Tests the functionality of the validate-method, which expects the number of matching
+     * characters and the length of a text as parameters.
+     */
+    public final void testValidateIncrementally() {
+        LetterValidator characterValidator =
+                new LetterValidator("foo", Case.LOWERCASE, false, '-');
+        CharacterSet characterSet = characterValidator.getCharacterSet();
+        assertTrue(characterSet.contains('a'));
+        assertTrue(characterSet.contains('-'));
+        assertFalse(characterSet.contains('A'));
+        assertTrue(characterValidator.validate(3, 3));
+        assertFalse(characterValidator.validate(2, 3));
+        characterValidator.setCaseSensitivity(Case.UPPERCASE);
+        assertNotSame(characterSet, characterValidator.getCharacterSet());
+    }
+
 }
\ No newline at end of file
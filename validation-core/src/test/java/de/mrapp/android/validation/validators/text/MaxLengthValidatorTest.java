@@ -13,16 +13,17 @@
  */
 package de.mrapp.android.validation.validators.text;
 
-import android.test.AndroidTestCase;
-
 import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import de.mrapp.android.validation.CostAware;
 
 /**
  * Tests the functionality of the class {@link MaxLengthValidator}.
  *
  * @author Michael Rapp
  */
-public class MaxLengthValidatorTest extends AndroidTestCase {
+public class MaxLengthValidatorTest extends TestCase {
 
     /**
      * Tests, if all properties are correctly initialized by the constructor, which expects a char
@@ -49,32 +50,6 @@ public class MaxLengthValidatorTest extends AndroidTestCase {
         }
     }
 
-    /**
-     * Tests, if all properties are correctly initialized by the constructor, which expects a
-     * context and a resource ID as parameters.
-     */
-    public final void testConstructorWithContextAndResourceIdParameters() {
-        CharSequence errorMessage = getContext().getText(android.R.string.cancel);
-        int maxLength = 2;
-        MaxLengthValidator maxLengthValidator =
-                new MaxLengthValidator(getContext(), android.R.string.cancel, maxLength);
-        assertEquals(errorMessage, maxLengthValidator.getErrorMessage());
-        assertEquals(maxLength, maxLengthValidator.getMaxLength());
-    }
-
-    /**
-     * Ensures, that an {@link IllegalArgumentException} is thrown by the constructor, which expects
-     * a context and a resource ID as parameters, if the maximum value is less than 1.
-     */
-    public final void testConstructorWithContextAndResourceIdParametersThrowsException() {
-        try {
-            new MaxLengthValidator(getContext(), android.R.string.cancel, 0);
-            Assert.fail();
-        } catch (IllegalArgumentException e) {
-
-        }
-    }
-
     /**
      * Tests the functionality of the method, which allows to set the maximum length.
      */
@@ -115,4 +90,11 @@ public class MaxLengthValidatorTest extends AndroidTestCase {
         assertFalse(maxLengthValidator.validate("abc"));
     }
 
+    /**
+     * Tests the functionality of the getCost-method.
+     */
+    public final void testGetCost() {
+        assertEquals(CostAware.COST_LOW, new MaxLengthValidator("foo", 1).getCost());
+    }
+
 }
\ No newline at end of file
@@ -13,16 +13,17 @@
  */
 package de.mrapp.android.validation.validators.text;
 
-import android.test.AndroidTestCase;
-
 import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import de.mrapp.android.validation.CostAware;
 
 /**
  * Tests the functionality of the class {@link MinLengthValidator}.
  *
  * @author Michael Rapp
  */
-public class MinLengthValidatorTest extends AndroidTestCase {
+public class MinLengthValidatorTest extends TestCase {
 
     /**
      * Tests, if all properties are correctly initialized by the constructor, which expects a char
@@ -49,32 +50,6 @@ public class MinLengthValidatorTest extends AndroidTestCase {
         }
     }
 
-    /**
-     * Tests, if all properties are correctly initialized by the constructor, which expects a
-     * context and a resource ID as parameters.
-     */
-    public final void testConstructorWithContextAndResourceIdParameters() {
-        CharSequence errorMessage = getContext().getText(android.R.string.cancel);
-        int minLength = 2;
-        MinLengthValidator minLengthValidator =
-                new MinLengthValidator(getContext(), android.R.string.cancel, minLength);
-        assertEquals(errorMessage, minLengthValidator.getErrorMessage());
-        assertEquals(minLength, minLengthValidator.getMinLength());
-    }
-
-    /**
-     * Ensures, that an {@link IllegalArgumentException} is thrown by the constructor, which expects
-     * a context and a resource ID as parameters, if the minimum value is less than 1.
-     */
-    public final void testConstructorWithContextAndResourceIdParametersThrowsException() {
-        try {
-            new MinLengthValidator(getContext(), android.R.string.cancel, 0);
-            Assert.fail();
-        } catch (IllegalArgumentException e) {
-
-        }
-    }
-
     /**
      * Tests the functionality of the method, which allows to set the minimum length.
      */
@@ -115,4 +90,11 @@ public class MinLengthValidatorTest extends AndroidTestCase {
         assertFalse(minLengthValidator.validate("a"));
     }
 
+    /**
+     * Tests the functionality of the getCost-method.
+     */
+    public final void testGetCost() {
+        assertEquals(CostAware.COST_LOW, new MinLengthValidator("foo", 1).getCost());
+    }
+
 }
\ No newline at end of file
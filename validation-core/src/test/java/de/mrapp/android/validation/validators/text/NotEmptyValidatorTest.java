@@ -13,14 +13,16 @@
  */
 package de.mrapp.android.validation.validators.text;
 
-import android.test.AndroidTestCase;
+import junit.framework.TestCase;
+
+import de.mrapp.android.validation.CostAware;
 
 /**
  * Tests the functionality of the class {@link NotEmptyValidator}.
  *
  * @author Michael Rapp
  */
-public class NotEmptyValidatorTest extends AndroidTestCase {
+public class NotEmptyValidatorTest extends TestCase {
 
     /**
      * Tests, if all properties are correctly initialized by the constructor, which expects a char
@@ -32,17 +34,6 @@ public class NotEmptyValidatorTest extends AndroidTestCase {
         assertEquals(errorMessage, notEmptyValidator.getErrorMessage());
     }
 
-    /**
-     * Tests, if all properties are correctly initialized by the constructor, which expects a
-     * context and a resource ID as parameters.
-     */
-    public final void testConstructorWithContextAndResourceIdParameters() {
-        CharSequence errorMessage = getContext().getText(android.R.string.cancel);
-        NotEmptyValidator notEmptyValidator =
-                new NotEmptyValidator(getContext(), android.R.string.cancel);
-        assertEquals(errorMessage, notEmptyValidator.getErrorMessage());
-    }
-
     /**
      * Tests the functionality of the validate-method, if it succeeds.
      */
@@ -59,4 +50,11 @@ public class NotEmptyValidatorTest extends AndroidTestCase {
         assertFalse(notEmptyValidator.validate(""));
     }
 
+    /**
+     * Tests the functionality of the getCost-method.
+     */
+    public final void testGetCost() {
+        assertEquals(CostAware.COST_LOW, new NotEmptyValidator("foo").getCost());
+    }
+
 }
\ No newline at end of file
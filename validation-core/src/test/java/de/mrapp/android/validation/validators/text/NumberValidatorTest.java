@@ -13,14 +13,16 @@
  */
 package de.mrapp.android.validation.validators.text;
 
-import android.test.AndroidTestCase;
+import junit.framework.TestCase;
+
+import java.util.regex.Pattern;
 
 /**
  * Tests the functionality of the class {@link NumberValidator}.
  *
  * @author Michael Rapp
  */
-public class NumberValidatorTest extends AndroidTestCase {
+public class NumberValidatorTest extends TestCase {
 
     /**
      * Tests, if all properties are correctly initialized by the constructor, which expects a char
@@ -32,17 +34,6 @@ public class NumberValidatorTest extends AndroidTestCase {
         assertEquals(errorMessage, numberValidator.getErrorMessage());
     }
 
-    /**
-     * Tests, if all properties are correctly initialized by the constructor, which expects a
-     * context and a resource ID as parameters.
-     */
-    public final void testConstructorWithContextAndResourceIdParameters() {
-        CharSequence errorMessage = getContext().getText(android.R.string.cancel);
-        NumberValidator numberValidator =
-                new NumberValidator(getContext(), android.R.string.cancel);
-        assertEquals(errorMessage, numberValidator.getErrorMessage());
-    }
-
     /**
      * Tests the functionality of the validate-method, if it succeeds.
      */
@@ -61,4 +52,31 @@ public class NumberValidatorTest extends AndroidTestCase {
         assertFalse(numberValidator.validate("123abc"));
     }
 
+    /**
+     * Tests the functionality of the validate-method, which expects the number of matching
+     * characters and the length of a text as parameters.
+     */
+    public final void testValidateIncrementally() {
+        NumberValidator numberValidator = new NumberValidator("foo");
+        assertTrue(numberValidator.getCharacterSet().contains('0'));
+        assertFalse(numberValidator.getCharacterSet().contains('a'));
+        assertTrue(numberValidator.validate(3, 3));
+        assertTrue(numberValidator.validate(0, 0));
+        assertFalse(numberValidator.validate(2, 3));
+    }
+
+    /**
+     * Ensures, that texts are not validated incrementally, if the regular expression or the
+     * matching budget of the validator have been changed.
+     */
+    public final void testValidateIncrementallyWhenPropertiesHaveBeenChanged() {
+        NumberValidator numberValidator = new NumberValidator("foo");
+        numberValidator.setRegex(Pattern.compile("[0-9]{0,3}"));
+        assertNull(numberValidator.getCharacterSet());
+        assertFalse(numberValidator.validate("1234"));
+        numberValidator = new NumberValidator("foo");
+        numberValidator.setMatchingBudget(100);
+        assertNull(numberValidator.getCharacterSet());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2015 - 2017 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.validation.validators.text;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.util.regex.Pattern;
+
+import de.mrapp.android.validation.CostAware;
+import de.mrapp.android.validation.ValidationOutcome;
+
+/**
+ * Tests the functionality of the class {@link RegexValidator}.
+ *
+ * @author Michael Rapp
+ */
+public class RegexValidatorTest extends TestCase {
+
+    /**
+     * The pattern, which is used for test purposes.
+     */
+    private static final Pattern REGEX = Pattern.compile("[0-9]+");
+
+    /**
+     * Tests, if all properties are correctly initialized by the constructor, which expects a char
+     * sequence as a parameter.
+     */
+    public final void testConstructorWithCharSequenceParameter() {
+        CharSequence errorMessage = "errorMessage";
+        RegexValidator regexValidator = new RegexValidator(errorMessage, REGEX);
+        assertEquals(errorMessage, regexValidator.getErrorMessage());
+        assertEquals(REGEX, regexValidator.getRegex());
+    }
+
+    /**
+     * Ensures, that a {@link NullPointerException} is thrown by the constructor, which expects a
+     * char sequence as a parameter, if a regular expression, which is null, is passed.
+     */
+    public final void testConstructorWithCharSequenceParameterThrowsExeption() {
+        try {
+            new RegexValidator("foo", (Pattern) null);
+            Assert.fail();
+        } catch (NullPointerException e) {
+
+        }
+    }
+
+    /**
+     * Tests, if all properties are correctly initialized by the constructor, which expects a
+     * string as a regular expression.
+     */
+    public final void testConstructorWithStringParameter() {
+        RegexValidator regexValidator = new RegexValidator("foo", "[0-9]+");
+        assertEquals("[0-9]+", regexValidator.getRegex().pattern());
+        assertSame(regexValidator.getRegex(), new RegexValidator("bar", "[0-9]+").getRegex());
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to set a regular expression.
+     */
+    public final void testSetRegex() {
+        RegexValidator regexValidator = new RegexValidator("foo", Pattern.compile("."));
+        regexValidator.setRegex(REGEX);
+        assertEquals(REGEX, regexValidator.getRegex());
+    }
+
+    /**
+     * Ensures, that a {@link NullPointerException} is thrown, if the regular expression is set to
+     * null.
+     */
+    public final void testSetRegexThrowsException() {
+        try {
+            RegexValidator regexValidator = new RegexValidator("foo", Pattern.compile("."));
+            regexValidator.setRegex(null);
+            Assert.fail();
+        } catch (NullPointerException e) {
+
+        }
+    }
+
+    /**
+     * Tests the functionality of the validate-method, if it succeeds.
+     */
+    public final void testValidateSucceeds() {
+        RegexValidator regexValidator = new RegexValidator("foo", REGEX);
+        assertTrue(regexValidator.validate("0123456789"));
+    }
+
+    /**
+     * Tests the functionality of the validate-method, if it fails.
+     */
+    public final void testValidateFails() {
+        RegexValidator regexValidator = new RegexValidator("foo", REGEX);
+        assertFalse(regexValidator.validate("abcdefghijkl"));
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to set the matching budget.
+     */
+    public final void testSetMatchingBudget() {
+        RegexValidator regexValidator = new RegexValidator("foo", REGEX);
+        assertEquals(RegexValidator.NO_BUDGET, regexValidator.getMatchingBudget());
+        assertFalse(regexValidator.isLinear());
+        regexValidator.setMatchingBudget(100);
+        assertEquals(100, regexValidator.getMatchingBudget());
+        assertTrue(regexValidator.isLinear());
+        regexValidator.setRegex(Pattern.compile("(a)\\1"));
+        assertFalse(regexValidator.isLinear());
+        regexValidator.setMatchingBudget(RegexValidator.NO_BUDGET);
+        assertFalse(regexValidator.isLinear());
+    }
+
+    /**
+     * Ensures, that an {@link IllegalArgumentException} is thrown, if the matching budget is set
+     * to a value less than 0.
+     */
+    public final void testSetMatchingBudgetThrowsException() {
+        try {
+            new RegexValidator("foo", REGEX).setMatchingBudget(-1);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+
+        }
+    }
+
+    /**
+     * Tests the functionality of the validateWithinBudget-method, if the regular expression is
+     * matched in linear time.
+     */
+    public final void testValidateWithinBudgetLinear() {
+        RegexValidator regexValidator = new RegexValidator("foo", Pattern.compile("(a+)+b"));
+        regexValidator.setMatchingBudget(1000);
+        assertEquals(ValidationOutcome.VALID, regexValidator.validateWithinBudget("aaab"));
+        assertEquals(ValidationOutcome.INVALID,
+                regexValidator.validateWithinBudget("aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaac"));
+        regexValidator.setMatchingBudget(10);
+        assertEquals(ValidationOutcome.BUDGET_EXCEEDED,
+                regexValidator.validateWithinBudget("aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaab"));
+        assertFalse(regexValidator.validate("aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaab"));
+    }
+
+    /**
+     * Tests the functionality of the validateWithinBudget-method, if the regular expression is not
+     * supported to be matched in linear time.
+     */
+    public final void testValidateWithinBudgetNotLinear() {
+        RegexValidator regexValidator =
+                new RegexValidator("foo", Pattern.compile("(.*a){8}|(c)\\2"));
+        regexValidator.setMatchingBudget(10000);
+        assertFalse(regexValidator.isLinear());
+        assertEquals(ValidationOutcome.VALID, regexValidator.validateWithinBudget("aaaaaaaa"));
+        assertEquals(ValidationOutcome.VALID, regexValidator.validateWithinBudget("cc"));
+        assertEquals(ValidationOutcome.INVALID, regexValidator.validateWithinBudget("aac"));
+        assertEquals(ValidationOutcome.BUDGET_EXCEEDED,
+                regexValidator.validateWithinBudget("aaaaaaaaaaaaaaaaaaaaaaaaaaaaac"));
+    }
+
+    /**
+     * Tests the functionality of the validateWithinBudget-method, if no budget is set.
+     */
+    public final void testValidateWithinBudgetWithoutBudget() {
+        RegexValidator regexValidator = new RegexValidator("foo", REGEX);
+        assertEquals(ValidationOutcome.VALID, regexValidator.validateWithinBudget("0123"));
+        assertEquals(ValidationOutcome.INVALID, regexValidator.validateWithinBudget("abc"));
+    }
+
+    /**
+     * Tests the functionality of the getCost-method.
+     */
+    public final void testGetCost() {
+        assertEquals(CostAware.COST_HIGH, new RegexValidator("foo", REGEX).getCost());
+    }
+
+}
\ No newline at end of file